@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# Prépare le démarrage rapide en mode JVM : jar traité par Spring AOT + archive AppCDS.
+#
+#   ./scripts/build-cds-archive.sh
+#   java -XX:SharedArchiveFile=target/cds/tax-calculator.jsa -Dspring.aot.enabled=true \
+#        --add-modules jdk.incubator.vector -jar target/cds/tax-calculator-0.0.1-SNAPSHOT.jar
+#
+# L'archive est propre à la JVM et au classpath utilisés : la régénérer après chaque build ou changement de JDK.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+JAVA_OPTS_COMMON=(--add-modules jdk.incubator.vector -Dspring.aot.enabled=true)
+CDS_DIR=target/cds
+
+# Jar contenant le code généré par Spring AOT (le profil native ajoute l'étape process-aot)
+./mvnw -B -q -Pnative -DskipTests package
+
+JAR=$(ls target/*.jar | grep -v -- '-plain\.jar$' | head -n 1)
+rm -rf "$CDS_DIR"
+# Extraction en jar "léger" + lib/ : CDS ne sait pas archiver les classes d'un jar imbriqué
+java -Djarmode=tools -jar "$JAR" extract --destination "$CDS_DIR"
+
+APP_JAR="$CDS_DIR/$(basename "$JAR")"
+ARCHIVE="$CDS_DIR/tax-calculator.jsa"
+
+# Exécution d'entraînement : le contexte est démarré puis l'application s'arrête dès la fin du rafraîchissement,
+# les classes chargées jusque-là sont écrites dans l'archive
+java "${JAVA_OPTS_COMMON[@]}" -XX:ArchiveClassesAtExit="$ARCHIVE" -Dspring.context.exit=onRefresh \
+     -jar "$APP_JAR" --server.port=0
+
+echo "CDS archive written to $ARCHIVE"
+echo "Run with: java -XX:SharedArchiveFile=$ARCHIVE ${JAVA_OPTS_COMMON[*]} -jar $APP_JAR"
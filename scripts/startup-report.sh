@@ -0,0 +1,106 @@
+#!/usr/bin/env bash
+# Compare le temps de démarrage et la mémoire résidente (RSS) des variantes disponibles :
+#   jar     : le fat jar, lancé tel quel (référence)
+#   jar+cds : le jar traité par Spring AOT avec son archive AppCDS (scripts/build-cds-archive.sh)
+#   native  : l'exécutable GraalVM (./mvnw -Pnative -DskipTests native:compile)
+#
+#   ./scripts/startup-report.sh [nombre d'exécutions par variante, 5 par défaut]
+#
+# Le démarrage est mesuré du lancement du processus à la première réponse 200 de /actuator/health,
+# c'est-à-dire au moment où une nouvelle instance peut recevoir du trafic. La RSS est relevée après
+# une première requête métier. Le rapport (médianes) est écrit dans target/startup/report.md.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+PORT=${PORT:-18080}
+MANAGEMENT_PORT=${MANAGEMENT_PORT:-18081}
+REPORT_DIR=target/startup
+REPORT="$REPORT_DIR/report.md"
+BASE_URL="http://localhost:$PORT"
+MANAGEMENT_URL="http://localhost:$MANAGEMENT_PORT"
+
+mkdir -p "$REPORT_DIR"
+
+declare -a NAMES=()
+declare -A COMMANDS=()
+
+FAT_JAR=$(ls target/*.jar 2>/dev/null | grep -v -- '-plain\.jar$' | head -n 1 || true)
+if [[ -n "$FAT_JAR" ]]; then
+    NAMES+=(jar)
+    COMMANDS[jar]="java --add-modules jdk.incubator.vector -jar $FAT_JAR"
+fi
+if [[ -f target/cds/tax-calculator.jsa ]]; then
+    NAMES+=(jar+cds)
+    COMMANDS[jar+cds]="java -XX:SharedArchiveFile=target/cds/tax-calculator.jsa -Dspring.aot.enabled=true \
+--add-modules jdk.incubator.vector -jar target/cds/$(basename "$FAT_JAR")"
+fi
+if [[ -x target/tax-calculator ]]; then
+    NAMES+=(native)
+    COMMANDS[native]="target/tax-calculator"
+fi
+
+if [[ ${#NAMES[@]} -eq 0 ]]; then
+    echo "Nothing to measure: build the jar (./mvnw package) and optionally the CDS archive or native image" >&2
+    exit 1
+fi
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+# Lance une variante, attend qu'elle soit prête et affiche "<démarrage ms> <RSS Ko>"
+measure() {
+    local command=$1
+    local start pid rss
+    start=$(now_ms)
+    $command --server.port="$PORT" --management.server.port="$MANAGEMENT_PORT" > "$REPORT_DIR/last-run.log" 2>&1 &
+    pid=$!
+
+    until curl -sf -o /dev/null "$MANAGEMENT_URL/actuator/health"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Process exited before becoming ready, see $REPORT_DIR/last-run.log" >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+    local ready=$(( $(now_ms) - start ))
+
+    curl -sf -o /dev/null "$BASE_URL/api/products"
+    rss=$(awk '/^VmRSS:/ { print $2 }' "/proc/$pid/status")
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$ready $rss"
+}
+
+{
+    echo "# Startup report"
+    echo
+    echo "$(date -u +%Y-%m-%dT%H:%M:%SZ), $RUNS runs per variant, $(nproc) CPUs, $(java -version 2>&1 | head -n 1)"
+    echo
+    echo "| Variant | Startup to ready (ms, median) | RSS after first request (MB, median) |"
+    echo "|---------|-------------------------------|--------------------------------------|"
+} > "$REPORT"
+
+for name in "${NAMES[@]}"; do
+    startups=()
+    rss=()
+    for ((i = 1; i <= RUNS; i++)); do
+        read -r ready kb < <(measure "${COMMANDS[$name]}")
+        echo "$name run $i: ready in $ready ms, RSS $((kb / 1024)) MB"
+        startups+=("$ready")
+        rss+=("$kb")
+    done
+    startup_median=$(printf '%s\n' "${startups[@]}" | median)
+    rss_median=$(printf '%s\n' "${rss[@]}" | median)
+    echo "| $name | $startup_median | $((rss_median / 1024)) |" >> "$REPORT"
+done
+
+echo
+cat "$REPORT"
@@ -2,8 +2,12 @@ package com.euodia.tax_calculator;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@ImportRuntimeHints(TaxCalculatorRuntimeHints.class)
 public class TaxCalculatorApplication {
 
 	public static void main(String[] args) {
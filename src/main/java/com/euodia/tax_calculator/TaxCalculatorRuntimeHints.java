@@ -0,0 +1,92 @@
+package com.euodia.tax_calculator;
+
+import com.euodia.tax_calculator.dto.BulkImportResponse;
+import com.euodia.tax_calculator.dto.CountryOrderTotal;
+import com.euodia.tax_calculator.dto.CountryTaxSimulation;
+import com.euodia.tax_calculator.dto.CreateProductRequest;
+import com.euodia.tax_calculator.dto.OrderLineQuote;
+import com.euodia.tax_calculator.dto.OrderLineRequest;
+import com.euodia.tax_calculator.dto.OrderQuoteRequest;
+import com.euodia.tax_calculator.dto.OrderQuoteResponse;
+import com.euodia.tax_calculator.dto.ProductChangesResponse;
+import com.euodia.tax_calculator.dto.ProductSearchResponse;
+import com.euodia.tax_calculator.dto.ProductTaxImpact;
+import com.euodia.tax_calculator.dto.ProductWithTaxResponse;
+import com.euodia.tax_calculator.dto.TaxSimulationRequest;
+import com.euodia.tax_calculator.dto.TaxSimulationResponse;
+import com.euodia.tax_calculator.dto.UpdateProductRequest;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Currency;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.model.ProductChange;
+import com.euodia.tax_calculator.strategy.CanadaTaxStrategy;
+import com.euodia.tax_calculator.strategy.FranceTaxStrategy;
+import com.euodia.tax_calculator.strategy.UsTaxStrategy;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+/**
+ * Indications pour l'image native GraalVM : tout ce que l'analyse statique ne voit pas.
+ * Les DTO et le modèle sont lus et écrits par Jackson via les accesseurs générés par Lombok
+ * (GET /api/products retourne un ResponseEntity<?> dont le type ne peut pas être déduit),
+ * les énumérations sont converties depuis les paramètres de requête et les clés JSON,
+ * et la table de change est chargée depuis le classpath.
+ */
+class TaxCalculatorRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<Class<?>> BINDING_TYPES = List.of(
+            Product.class,
+            Country.class,
+            Currency.class,
+            ProductChange.class,
+            CreateProductRequest.class,
+            UpdateProductRequest.class,
+            ProductChangesResponse.class,
+            BulkImportResponse.class,
+            ProductWithTaxResponse.class,
+            ProductSearchResponse.class,
+            TaxSimulationRequest.class,
+            TaxSimulationResponse.class,
+            CountryTaxSimulation.class,
+            ProductTaxImpact.class,
+            OrderQuoteRequest.class,
+            OrderLineRequest.class,
+            OrderQuoteResponse.class,
+            OrderLineQuote.class,
+            CountryOrderTotal.class
+    );
+
+    static final List<Class<?>> STRATEGY_TYPES = List.of(
+            UsTaxStrategy.class,
+            CanadaTaxStrategy.class,
+            FranceTaxStrategy.class
+    );
+
+    static final String FX_RATES_RESOURCE = "fx-rates.csv";
+    static final String TAX_RULES_RESOURCE = "tax-rules.csv";
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Constructeurs, champs et accesseurs des types (dé)sérialisés, types imbriqués compris
+        bindingRegistrar.registerReflectionHints(hints.reflection(), BINDING_TYPES.toArray(Class<?>[]::new));
+
+        // Les énumérations sont sérialisables : elles peuvent transiter par la sérialisation Java (sessions, caches)
+        hints.serialization().registerType(Country.class);
+        hints.serialization().registerType(Currency.class);
+
+        // Les stratégies restent instanciables et introspectables par réflexion (proxys, outils de diagnostic)
+        for (Class<?> strategy : STRATEGY_TYPES) {
+            hints.reflection().registerType(strategy,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        hints.resources().registerPattern(FX_RATES_RESOURCE);
+        hints.resources().registerPattern(TAX_RULES_RESOURCE);
+    }
+}
@@ -0,0 +1,121 @@
+package com.euodia.tax_calculator.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limite adaptative du nombre de requêtes traitées simultanément (algorithme de type gradient).
+ *
+ * La latence minimale observée sert de référence sans file d'attente. À chaque fenêtre d'échantillons,
+ * le rapport entre cette référence et la latence moyenne (le gradient) réduit la limite quand les requêtes
+ * commencent à attendre, et la laisse croître d'environ √limite quand la latence reste stable.
+ * Au-delà de l'objectif de latence, la limite est réduite quel que soit le gradient.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    // Latence moyenne tolérée par rapport à la latence minimale avant de réduire la limite
+    private static final double RTT_TOLERANCE = 2.0;
+    // Poids de la nouvelle estimation dans la limite lissée
+    private static final double SMOOTHING = 0.2;
+    private static final int WINDOW_SAMPLES = 50;
+    // Réinitialisation périodique de la latence minimale, pour suivre un changement de référence
+    private static final int WINDOWS_PER_MIN_RTT_RESET = 20;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyObjectiveNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // État de la fenêtre courante, protégé par le verrou de l'instance
+    private double estimatedLimit;
+    private long minRttNanos = Long.MAX_VALUE;
+    private long windowMinRttNanos = Long.MAX_VALUE;
+    private long windowRttSumNanos;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private int windowsSinceMinRttReset;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long latencyObjectiveNanos) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Invalid concurrency limits: initial=" + initialLimit
+                    + ", min=" + minLimit + ", max=" + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyObjectiveNanos = latencyObjectiveNanos;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    /**
+     * Réserve une place si la limite courante n'est pas atteinte
+     *
+     * @return true si la requête est admise ; elle doit alors appeler {@link #release(long)}
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libère la place d'une requête admise et prend en compte sa latence
+     *
+     * @param rttNanos la durée de traitement de la requête
+     */
+    public void release(long rttNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        onSample(Math.max(1, rttNanos), inFlightBefore);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtCompletion) {
+        minRttNanos = Math.min(minRttNanos, rttNanos);
+        windowMinRttNanos = Math.min(windowMinRttNanos, rttNanos);
+        windowRttSumNanos += rttNanos;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtCompletion);
+
+        if (++windowSamples < WINDOW_SAMPLES) {
+            return;
+        }
+
+        double averageRtt = (double) windowRttSumNanos / windowSamples;
+        double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * minRttNanos / averageRtt));
+        if (averageRtt > latencyObjectiveNanos) {
+            gradient = Math.min(gradient, Math.max(0.5, latencyObjectiveNanos / averageRtt));
+        }
+
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        // Une limite que le trafic n'approche pas n'a pas de raison de croître
+        if (newLimit > estimatedLimit && windowMaxInFlight < estimatedLimit / 2) {
+            newLimit = estimatedLimit;
+        }
+
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit,
+                (1 - SMOOTHING) * estimatedLimit + SMOOTHING * newLimit));
+        limit = (int) estimatedLimit;
+
+        if (++windowsSinceMinRttReset >= WINDOWS_PER_MIN_RTT_RESET) {
+            minRttNanos = windowMinRttNanos;
+            windowsSinceMinRttReset = 0;
+        }
+        windowMinRttNanos = Long.MAX_VALUE;
+        windowRttSumNanos = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+    }
+}
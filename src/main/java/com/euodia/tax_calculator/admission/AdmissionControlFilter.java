@@ -0,0 +1,204 @@
+package com.euodia.tax_calculator.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Contrôle d'admission des requêtes de l'API.
+ * Chaque classe d'endpoint a sa propre limite de concurrence adaptative ; au-delà, la requête est refusée
+ * immédiatement (503 + Retry-After) au lieu d'attendre un thread et de dégrader la latence des requêtes admises.
+ * Un seau à jetons par client peut en plus limiter le débit de chaque client (429 + Retry-After).
+ * Le client est identifié par son adresse IP ; l'en-tête X-Client-Id n'est pris en compte que s'il est posé
+ * par un proxy de confiance, sans quoi un client obtiendrait un seau neuf à chaque nouvelle valeur.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final String CLIENT_ID_HEADER = "X-Client-Id";
+    // Au-delà, les seaux des clients les moins récemment vus sont oubliés
+    private static final int MAX_TRACKED_CLIENTS = 10_000;
+
+    private final boolean enabled;
+    private final Map<EndpointClass, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> overloadRejections = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rateLimitRejections = new EnumMap<>(EndpointClass.class);
+
+    private final boolean clientRateLimitEnabled;
+    private final double clientRequestsPerSecond;
+    private final double clientBurst;
+    private final Set<String> trustedProxies;
+    // LRU bornée, protégée par elle-même : une recherche et un déplacement en tête, O(1) par requête
+    private final Map<String, TokenBucket> clientBuckets = new LinkedHashMap<>(1024, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+            return size() > MAX_TRACKED_CLIENTS;
+        }
+    };
+
+    public AdmissionControlFilter(
+            MeterRegistry meterRegistry,
+            @Value("${admission.enabled:true}") boolean enabled,
+            @Value("${admission.initial-limit:20}") int initialLimit,
+            @Value("${admission.min-limit:4}") int minLimit,
+            @Value("${admission.max-limit:200}") int maxLimit,
+            @Value("${admission.latency-objective:100ms}") Duration latencyObjective,
+            @Value("${admission.client-rate-limit.enabled:false}") boolean clientRateLimitEnabled,
+            @Value("${admission.client-rate-limit.requests-per-second:100}") double clientRequestsPerSecond,
+            @Value("${admission.client-rate-limit.burst:200}") double clientBurst,
+            @Value("${admission.client-rate-limit.trusted-proxies:}") List<String> trustedProxies) {
+        this.enabled = enabled;
+        this.clientRateLimitEnabled = clientRateLimitEnabled;
+        this.clientRequestsPerSecond = clientRequestsPerSecond;
+        this.clientBurst = clientBurst;
+        this.trustedProxies = trustedProxies.stream().map(String::trim).filter(proxy -> !proxy.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+
+        for (EndpointClass endpoint : EndpointClass.values()) {
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                    initialLimit, minLimit, maxLimit, latencyObjective.toNanos());
+            limiters.put(endpoint, limiter);
+
+            String tag = endpoint.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("admission.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .tag("endpoint", tag).register(meterRegistry);
+            Gauge.builder("admission.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .tag("endpoint", tag).register(meterRegistry);
+            overloadRejections.put(endpoint, Counter.builder("admission.rejected")
+                    .tag("endpoint", tag).tag("reason", "overload").register(meterRegistry));
+            rateLimitRejections.put(endpoint, Counter.builder("admission.rejected")
+                    .tag("endpoint", tag).tag("reason", "client-rate-limit").register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || classify(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EndpointClass endpoint = classify(request);
+
+        if (clientRateLimitEnabled) {
+            long waitNanos = bucketFor(clientKey(request)).tryConsume(System.nanoTime());
+            if (waitNanos > 0) {
+                rateLimitRejections.get(endpoint).increment();
+                reject(response, HttpStatus.TOO_MANY_REQUESTS, waitNanos, "Client request rate exceeded");
+                return;
+            }
+        }
+
+        AdaptiveConcurrencyLimiter limiter = limiters.get(endpoint);
+        if (!limiter.tryAcquire()) {
+            overloadRejections.get(endpoint).increment();
+            log.debug("Rejecting {} request: concurrency limit {} reached", endpoint, limiter.getLimit());
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, TimeUnit.SECONDS.toNanos(1), "Server overloaded");
+            return;
+        }
+
+        long start = System.nanoTime();
+        AtomicBoolean released = new AtomicBoolean();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // Traitement asynchrone (streaming) : la place est rendue à la fin réelle de la requête
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(limiter, start, released));
+            } else if (released.compareAndSet(false, true)) {
+                limiter.release(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private EndpointClass classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return EndpointClass.of(request.getMethod(), path);
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String remoteAddress = request.getRemoteAddr();
+        if (!trustedProxies.contains(remoteAddress)) {
+            return remoteAddress;
+        }
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        return clientId != null && !clientId.isBlank() ? "id:" + clientId : remoteAddress;
+    }
+
+    private TokenBucket bucketFor(String clientKey) {
+        synchronized (clientBuckets) {
+            return clientBuckets.computeIfAbsent(clientKey,
+                    key -> new TokenBucket(clientBurst, clientRequestsPerSecond, System.nanoTime()));
+        }
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, long retryAfterNanos, String message)
+            throws IOException {
+        long retryAfterSeconds = Math.max(1, (retryAfterNanos + 999_999_999L) / 1_000_000_000L);
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"status\":" + status.value() + ",\"error\":\"" + message + "\"}");
+    }
+
+    private record ReleaseOnCompletion(AdaptiveConcurrencyLimiter limiter, long start, AtomicBoolean released)
+            implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Nouveau cycle asynchrone : la place est rendue à sa propre fin
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                limiter.release(System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.euodia.tax_calculator.admission;
+
+import java.util.regex.Pattern;
+
+/**
+ * Classes d'endpoints soumises chacune à leur propre limite de concurrence :
+ * une rafale de listes ou d'écritures ne consomme pas la capacité réservée aux calculs de taxes.
+ */
+public enum EndpointClass {
+
+    /** GET /api/products/{id} */
+    LOOKUP,
+    /** GET /api/products/{id}/with-tax */
+    WITH_TAX,
+    /** Autres lectures : liste, recherche, index de prix */
+    CATALOG,
+    /** POST /api/orders/quote : calcul d'un panier, sans écriture */
+    ORDER_QUOTE,
+    /** Créations et imports */
+    WRITE;
+
+    private static final Pattern LOOKUP_PATH = Pattern.compile("/api/products/\\d+");
+    private static final Pattern WITH_TAX_PATH = Pattern.compile("/api/products/\\d+/with-tax");
+    private static final String ORDER_QUOTE_PATH = "/api/orders/quote";
+    // Abonnement SSE : une connexion ouverte pendant des minutes n'est ni une charge ni une mesure de latence,
+    // le nombre d'abonnés est borné par le flux lui-même
+    private static final String CHANGE_STREAM_PATH = "/api/products/changes/stream";
+
+    /**
+     * @param method la méthode HTTP
+     * @param path le chemin de la requête, hors contexte applicatif
+     * @return la classe de l'endpoint, ou null si la requête n'est pas soumise au contrôle d'admission
+     */
+    public static EndpointClass of(String method, String path) {
+        if (!path.startsWith("/api/") || CHANGE_STREAM_PATH.equals(path)) {
+            return null;
+        }
+        if (ORDER_QUOTE_PATH.equals(path)) {
+            return ORDER_QUOTE;
+        }
+        if (!"GET".equals(method)) {
+            return WRITE;
+        }
+        if (WITH_TAX_PATH.matcher(path).matches()) {
+            return WITH_TAX;
+        }
+        if (LOOKUP_PATH.matcher(path).matches()) {
+            return LOOKUP;
+        }
+        return CATALOG;
+    }
+}
@@ -0,0 +1,53 @@
+package com.euodia.tax_calculator.admission;
+
+/**
+ * Seau à jetons : autorise des rafales jusqu'à sa capacité, puis un débit moyen constant.
+ * Les instants sont fournis par l'appelant (System.nanoTime()), ce qui rend le seau testable.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * @param capacity le nombre maximum de jetons (taille de rafale)
+     * @param tokensPerSecond le débit de remplissage
+     * @param nowNanos l'instant de création
+     */
+    public TokenBucket(double capacity, double tokensPerSecond, long nowNanos) {
+        if (capacity < 1 || tokensPerSecond <= 0) {
+            throw new IllegalArgumentException("Invalid token bucket: capacity=" + capacity
+                    + ", tokensPerSecond=" + tokensPerSecond);
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / 1_000_000_000.0;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * Consomme un jeton s'il y en a un
+     *
+     * @param nowNanos l'instant courant
+     * @return 0 si un jeton a été consommé, sinon le délai avant le prochain jeton, en nanosecondes
+     */
+    public synchronized long tryConsume(long nowNanos) {
+        refill(nowNanos);
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.euodia.tax_calculator.audit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * État du registre d'audit dans /actuator/health : DOWN quand les écritures ont été abandonnées,
+ * les cotations avec taxe étant alors refusées
+ */
+@Component
+@RequiredArgsConstructor
+public class QuoteAuditHealthIndicator implements HealthIndicator {
+
+    private final QuoteAuditLedger quoteAuditLedger;
+
+    @Override
+    public Health health() {
+        if (!quoteAuditLedger.isEnabled()) {
+            return Health.up().withDetail("enabled", false).build();
+        }
+        String failure = quoteAuditLedger.getFailure();
+        Health.Builder health = failure != null ? Health.down().withDetail("error", failure) : Health.up();
+        return health.withDetail("queued", quoteAuditLedger.getQueued())
+                .withDetail("segments", quoteAuditLedger.getSegmentCount())
+                .build();
+    }
+}
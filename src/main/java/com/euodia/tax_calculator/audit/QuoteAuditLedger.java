@@ -0,0 +1,453 @@
+package com.euodia.tax_calculator.audit;
+
+import com.euodia.tax_calculator.dto.ProductWithTaxResponse;
+import com.euodia.tax_calculator.model.Country;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Registre d'audit des cotations avec taxe (/with-tax), en ajout seul.
+ * <p>
+ * L'enregistrement ne coûte qu'un dépôt dans une file bornée : un thread unique regroupe les cotations
+ * et les écrit en segments compressés par colonne ({@link QuoteSegment}), à intervalle régulier
+ * (audit.flush-interval) ou dès que audit.segment.max-records cotations attendent. Si la file est pleine,
+ * l'appelant attend au plus audit.max-enqueue-wait qu'elle se libère, puis la cotation est refusée
+ * ({@link #record} retourne false, la requête reçoit 503) plutôt que retournée sans être conservée.
+ * Une écriture en échec est retentée audit.max-write-attempts fois ; au-delà (disque plein ou en lecture seule),
+ * le registre passe en échec : les cotations sont refusées et l'état de santé ({@link #getFailure()}) l'indique.
+ * <p>
+ * Les segments sont rangés par tranche de temps (audit.partition), un répertoire par tranche,
+ * et ne sont jamais réécrits. Leurs en-têtes (intervalle de temps, pays présents) forment l'index
+ * des recherches, chargé au démarrage : un segment hors de l'intervalle demandé ou sans le pays demandé
+ * n'est pas lu. Les recherches ne voient que les cotations déjà écrites ({@link #flush()}).
+ *
+ * Configuration :
+ * audit.enabled, audit.directory, audit.partition, audit.flush-interval, audit.segment.max-records,
+ * audit.queue-capacity, audit.max-enqueue-wait, audit.max-write-attempts
+ */
+@Component
+@Slf4j
+public class QuoteAuditLedger implements AutoCloseable {
+
+    private static final DateTimeFormatter PARTITION_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmm").withZone(ZoneOffset.UTC);
+    private static final long POLL_TIMEOUT_MS = 100;
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+
+    private final boolean enabled;
+    private final Path directory;
+    private final long partitionMillis;
+    private final long flushIntervalNanos;
+    private final int maxSegmentRecords;
+    private final long maxEnqueueWaitNanos;
+    private final int maxWriteAttempts;
+
+    private final BlockingQueue<QuoteAuditRecord> queue;
+    // Cotations déposées dans la file, et cotations écrites en segment (ou abandonnées après l'arrêt)
+    private final AtomicLong accepted = new AtomicLong();
+    private volatile long written;
+    // Plus grand nombre de cotations demandé par flush() : écrit sans attendre l'intervalle
+    private final AtomicLong flushRequested = new AtomicLong();
+
+    // Index des segments par premier instant, et plus grande durée couverte par un segment
+    private final NavigableMap<Long, List<QuoteSegment.Info>> segments = new ConcurrentSkipListMap<>();
+    private volatile long maxSegmentSpan;
+    private final AtomicLong segmentNumber = new AtomicLong();
+
+    private final Counter recordedCounter;
+    // Cotations dont l'appelant a attendu une place dans la file, refusées, ou perdues après l'échec du registre
+    private final Counter blockedCounter;
+    private final Counter rejectedCounter;
+    private final Counter lostCounter;
+    private final Counter segmentsCounter;
+    private final Counter bytesCounter;
+
+    private final Thread writer;
+    private volatile boolean running;
+    // Cause de l'abandon des écritures, null tant que le registre fonctionne
+    private volatile String failure;
+
+    public QuoteAuditLedger(boolean enabled, String directory, Duration partition, Duration flushInterval,
+                            int maxSegmentRecords, int queueCapacity, MeterRegistry meterRegistry) {
+        this(enabled, directory, partition, flushInterval, maxSegmentRecords, queueCapacity,
+                Duration.ofMillis(100), 10, meterRegistry);
+    }
+
+    @Autowired
+    public QuoteAuditLedger(@Value("${audit.enabled:true}") boolean enabled,
+                            @Value("${audit.directory:audit}") String directory,
+                            @Value("${audit.partition:1h}") Duration partition,
+                            @Value("${audit.flush-interval:10s}") Duration flushInterval,
+                            @Value("${audit.segment.max-records:100000}") int maxSegmentRecords,
+                            @Value("${audit.queue-capacity:65536}") int queueCapacity,
+                            @Value("${audit.max-enqueue-wait:100ms}") Duration maxEnqueueWait,
+                            @Value("${audit.max-write-attempts:10}") int maxWriteAttempts,
+                            MeterRegistry meterRegistry) {
+        if (partition.toMillis() <= 0 || flushInterval.isNegative() || maxSegmentRecords <= 0 || queueCapacity <= 0
+                || maxEnqueueWait.isNegative() || maxWriteAttempts <= 0) {
+            throw new IllegalArgumentException("Invalid audit ledger configuration");
+        }
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        this.partitionMillis = partition.toMillis();
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.maxSegmentRecords = maxSegmentRecords;
+        this.maxEnqueueWaitNanos = maxEnqueueWait.toNanos();
+        this.maxWriteAttempts = maxWriteAttempts;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        recordedCounter = meterRegistry.counter("audit.quotes.recorded");
+        blockedCounter = meterRegistry.counter("audit.quotes.blocked");
+        rejectedCounter = meterRegistry.counter("audit.quotes.rejected");
+        lostCounter = meterRegistry.counter("audit.quotes.lost");
+        segmentsCounter = meterRegistry.counter("audit.segments.written");
+        bytesCounter = meterRegistry.counter("audit.segments.bytes");
+        Gauge.builder("audit.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+
+        if (!enabled) {
+            writer = null;
+            return;
+        }
+        loadSegments();
+        running = true;
+        writer = Thread.ofPlatform().name("quote-audit-writer").daemon().start(this::writeLoop);
+        log.info("Quote audit ledger in {} ({} segments, partitions of {})", this.directory.toAbsolutePath(),
+                getSegmentCount(), partition);
+    }
+
+    /**
+     * @return un registre inactif : les cotations ne sont pas enregistrées
+     */
+    public static QuoteAuditLedger disabled() {
+        return new QuoteAuditLedger(false, "audit", Duration.ofHours(1), Duration.ofSeconds(10), 1, 1,
+                new SimpleMeterRegistry());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return la cause de l'arrêt des écritures, ou null si le registre fonctionne
+     */
+    public String getFailure() {
+        return failure;
+    }
+
+    /**
+     * @return le nombre de cotations en attente d'écriture
+     */
+    public int getQueued() {
+        return queue.size();
+    }
+
+    /**
+     * Enregistre une cotation retournée à un client, à l'instant présent
+     *
+     * @param quote la cotation
+     * @return false si la cotation n'a pas pu être enregistrée (file pleine, registre en échec ou arrêté) :
+     *         elle ne doit pas être retournée
+     */
+    public boolean record(ProductWithTaxResponse quote) {
+        return !enabled || record(quote, System.currentTimeMillis());
+    }
+
+    boolean record(ProductWithTaxResponse quote, long timestampMillis) {
+        if (!running || failure != null) {
+            rejectedCounter.increment();
+            return false;
+        }
+        QuoteAuditRecord record = QuoteAuditRecord.of(quote, timestampMillis);
+        if (!queue.offer(record)) {
+            // File pleine : le thread d'écriture est en retard, l'appelant attend un peu avant de refuser la cotation
+            blockedCounter.increment();
+            try {
+                if (!queue.offer(record, maxEnqueueWaitNanos, TimeUnit.NANOSECONDS)) {
+                    rejectedCounter.increment();
+                    log.warn("Audit queue full, rejecting quote of product {}", quote.getId());
+                    return false;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                rejectedCounter.increment();
+                log.warn("Interrupted while recording quote of product {}", quote.getId());
+                return false;
+            }
+        }
+        accepted.incrementAndGet();
+        recordedCounter.increment();
+        return true;
+    }
+
+    /**
+     * Recherche les cotations d'un intervalle de temps, dans l'ordre chronologique
+     *
+     * @param from début de l'intervalle (inclus)
+     * @param to fin de l'intervalle (exclue)
+     * @param country le pays recherché, ou null pour tous
+     * @param limit le nombre maximal de cotations retournées
+     * @return les premières cotations de l'intervalle
+     * @throws IllegalArgumentException si l'intervalle est vide ou la limite négative
+     */
+    public QueryResult query(Instant from, Instant to, Country country, int limit) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Invalid audit interval: " + from + " - " + to);
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive: " + limit);
+        }
+        long fromMillis = from.toEpochMilli();
+        long toMillis = to.toEpochMilli();
+
+        List<QuoteAuditRecord> records = new ArrayList<>();
+        int scanned = 0;
+        int total = getSegmentCount();
+        boolean truncated = false;
+        // Seuls les segments commençant avant la fin de l'intervalle, et au plus une durée de segment avant son début
+        for (List<QuoteSegment.Info> started : segments.subMap(fromMillis - maxSegmentSpan, true, toMillis, false)
+                .values()) {
+            for (QuoteSegment.Info info : started) {
+                if (!info.overlaps(fromMillis, toMillis) || !info.contains(country)) {
+                    continue;
+                }
+                // Segments parcourus par premier instant : la suite ne peut précéder la dernière cotation gardée
+                if (records.size() >= limit && info.minTimestamp() > records.get(limit - 1).timestamp().toEpochMilli()) {
+                    truncated = true;
+                    continue;
+                }
+                try {
+                    QuoteSegment.scan(info, fromMillis, toMillis, country, records::add);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Unable to read audit segment " + info.file(), e);
+                }
+                scanned++;
+                if (records.size() >= limit) {
+                    records.sort(Comparator.comparing(QuoteAuditRecord::timestamp));
+                    if (records.size() > limit) {
+                        records.subList(limit, records.size()).clear();
+                        truncated = true;
+                    }
+                }
+            }
+        }
+        records.sort(Comparator.comparing(QuoteAuditRecord::timestamp));
+        return new QueryResult(records, scanned, total - scanned, truncated);
+    }
+
+    /**
+     * Résultat d'une recherche
+     *
+     * @param records les cotations trouvées
+     * @param segmentsScanned le nombre de segments lus
+     * @param segmentsSkipped le nombre de segments écartés par l'index
+     * @param truncated true si d'autres cotations correspondent au-delà de la limite
+     */
+    public record QueryResult(List<QuoteAuditRecord> records, int segmentsScanned, int segmentsSkipped,
+                              boolean truncated) {
+    }
+
+    /**
+     * Écrit sans attendre l'intervalle toutes les cotations enregistrées jusqu'ici
+     *
+     * @throws IllegalStateException si le thread d'écriture est arrêté avant
+     */
+    public void flush() {
+        if (writer == null) {
+            return;
+        }
+        long target = accepted.get();
+        flushRequested.accumulateAndGet(target, Math::max);
+        while (written < target) {
+            if (!writer.isAlive()) {
+                throw new IllegalStateException((target - written) + " quotes could not be written to the audit ledger");
+            }
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+    }
+
+    /**
+     * @return le nombre de segments écrits
+     */
+    public int getSegmentCount() {
+        return segments.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Écrit les dernières cotations puis arrête le thread d'écriture
+     */
+    @PreDestroy
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        try {
+            flush();
+        } catch (IllegalStateException e) {
+            log.error("Closing the audit ledger: {}", e.getMessage());
+        }
+        running = false;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeLoop() {
+        List<QuoteAuditRecord> buffer = new ArrayList<>();
+        long consumed = 0;
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (running) {
+            QuoteAuditRecord first;
+            try {
+                first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first != null) {
+                buffer.add(first);
+                consumed += 1 + queue.drainTo(buffer);
+            }
+            if (buffer.isEmpty()) {
+                written = consumed;
+                deadline = System.nanoTime() + flushIntervalNanos;
+                continue;
+            }
+            boolean due = System.nanoTime() - deadline >= 0 || flushRequested.get() > written;
+            if (due || buffer.size() >= maxSegmentRecords) {
+                // Avant l'échéance, seuls des segments complets sont écrits ; le reste attend la suite
+                List<QuoteAuditRecord> batch = buffer.subList(0,
+                        due ? buffer.size() : buffer.size() - buffer.size() % maxSegmentRecords);
+                // Une écriture en échec est retentée telle quelle : les cotations restent en mémoire
+                int attempts = 1;
+                while (!writeSegments(batch)) {
+                    if (attempts++ >= maxWriteAttempts) {
+                        fail(buffer.size());
+                        return;
+                    }
+                    LockSupport.parkNanos(RETRY_DELAY.toNanos());
+                }
+                batch.clear();
+                if (due) {
+                    written = consumed;
+                    deadline = System.nanoTime() + flushIntervalNanos;
+                }
+            }
+        }
+    }
+
+    // Plus de nouvelle tentative : les cotations non écrites sont perdues, les suivantes refusées
+    private void fail(int unwritten) {
+        failure = "Unable to write audit segments after " + maxWriteAttempts + " attempts";
+        List<QuoteAuditRecord> dropped = new ArrayList<>();
+        queue.drainTo(dropped);
+        long lost = unwritten + dropped.size();
+        lostCounter.increment(lost);
+        log.error("{}, {} quotes lost; quotes are rejected until restart", failure, lost);
+    }
+
+    private boolean writeSegments(List<QuoteAuditRecord> buffer) {
+        // Une tranche de temps par répertoire ; un segment ne dépasse pas audit.segment.max-records cotations
+        Map<Long, List<QuoteAuditRecord>> partitions = new TreeMap<>();
+        for (QuoteAuditRecord record : buffer) {
+            partitions.computeIfAbsent(partitionOf(record.timestamp().toEpochMilli()), p -> new ArrayList<>())
+                    .add(record);
+        }
+        try {
+            for (Map.Entry<Long, List<QuoteAuditRecord>> partition : partitions.entrySet()) {
+                Path partitionDirectory = directory.resolve(PARTITION_FORMAT.format(
+                        Instant.ofEpochMilli(partition.getKey())));
+                Files.createDirectories(partitionDirectory);
+                List<QuoteAuditRecord> records = partition.getValue();
+                while (!records.isEmpty()) {
+                    List<QuoteAuditRecord> chunk = records.subList(0, Math.min(records.size(), maxSegmentRecords));
+                    Path file = partitionDirectory.resolve(
+                            String.format("segment-%08d%s", segmentNumber.incrementAndGet(), QuoteSegment.EXTENSION));
+                    index(QuoteSegment.write(file, new ArrayList<>(chunk)));
+                    // Un segment écrit est retiré du lot : une nouvelle tentative ne l'écrit pas deux fois
+                    chunk.clear();
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            log.error("Unable to write audit segment: {}", e.getMessage());
+            buffer.clear();
+            partitions.values().forEach(buffer::addAll);
+            return false;
+        }
+    }
+
+    private void index(QuoteSegment.Info info) {
+        maxSegmentSpan = Math.max(maxSegmentSpan, info.maxTimestamp() - info.minTimestamp());
+        segments.computeIfAbsent(info.minTimestamp(), t -> new CopyOnWriteArrayList<>()).add(info);
+        segmentsCounter.increment();
+        bytesCounter.increment(info.size());
+        log.debug("Wrote audit segment {} ({} quotes, {} bytes)", info.file(), info.count(), info.size());
+    }
+
+    private long partitionOf(long timestampMillis) {
+        return timestampMillis - Math.floorMod(timestampMillis, partitionMillis);
+    }
+
+    private void loadSegments() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory, 2)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(QuoteSegment.EXTENSION + ".tmp")) {
+                    // Écriture interrompue : le segment n'a jamais été visible
+                    Files.delete(file);
+                } else if (name.endsWith(QuoteSegment.EXTENSION)) {
+                    QuoteSegment.Info info = QuoteSegment.readInfo(file);
+                    maxSegmentSpan = Math.max(maxSegmentSpan, info.maxTimestamp() - info.minTimestamp());
+                    segments.computeIfAbsent(info.minTimestamp(), t -> new CopyOnWriteArrayList<>()).add(info);
+                    segmentNumber.accumulateAndGet(segmentNumberOf(name), Math::max);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to load audit segments from " + directory, e);
+        }
+    }
+
+    private static long segmentNumberOf(String name) {
+        try {
+            return Long.parseLong(name.substring("segment-".length(), name.length() - QuoteSegment.EXTENSION.length()));
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.euodia.tax_calculator.audit;
+
+import com.euodia.tax_calculator.dto.ProductWithTaxResponse;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Currency;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Cotation avec taxe retournée à un client, telle qu'enregistrée dans le registre d'audit
+ *
+ * @param timestamp l'instant de la cotation (à la milliseconde)
+ * @param productId l'ID du produit
+ * @param productName le nom du produit au moment de la cotation
+ * @param country le pays de taxation
+ * @param currency la devise des montants
+ * @param taxStrategy la stratégie (et la règle de catégorie) appliquée
+ * @param basePrice le prix hors taxes
+ * @param taxAmount le montant des taxes
+ * @param finalPrice le prix final
+ */
+public record QuoteAuditRecord(Instant timestamp, Long productId, String productName, Country country,
+                               Currency currency, String taxStrategy, BigDecimal basePrice, BigDecimal taxAmount,
+                               BigDecimal finalPrice) {
+
+    /**
+     * @param quote la cotation retournée
+     * @param timestampMillis l'instant de la cotation, en millisecondes depuis l'epoch
+     * @return l'enregistrement d'audit correspondant
+     */
+    public static QuoteAuditRecord of(ProductWithTaxResponse quote, long timestampMillis) {
+        return new QuoteAuditRecord(Instant.ofEpochMilli(timestampMillis), quote.getId(), quote.getName(),
+                quote.getCountry(), quote.getCurrency(), quote.getTaxStrategyUsed(), quote.getBasePrice(),
+                quote.getTaxAmount(), quote.getFinalPrice());
+    }
+}
@@ -0,0 +1,449 @@
+package com.euodia.tax_calculator.audit;
+
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Currency;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Fichier segment du registre d'audit : un lot de cotations, triées par instant, stockées colonne par colonne.
+ * Chaque colonne est compressée (deflate) séparément, après un encodage qui la rend très compressible :
+ * instants et IDs en deltas (varint), noms et stratégies par dictionnaire, pays et devises sur un octet,
+ * montants en (échelle, valeur non mise à l'échelle).
+ * <p>
+ * L'en-tête sert d'index : nombre de cotations, premier et dernier instant, pays présents (masque de bits)
+ * et taille de chaque colonne. Il suffit pour écarter un segment d'une recherche sans le décompresser ;
+ * un segment retenu ne décompresse que les colonnes d'instants et de pays tant qu'aucune cotation ne correspond.
+ */
+final class QuoteSegment {
+
+    static final String EXTENSION = ".qseg";
+
+    private static final int MAGIC = 0x51414C31; // "QAL1"
+    private static final byte VERSION = 1;
+
+    private static final int TIMESTAMP = 0;
+    private static final int PRODUCT_ID = 1;
+    private static final int PRODUCT_NAME = 2;
+    private static final int COUNTRY = 3;
+    private static final int CURRENCY = 4;
+    private static final int TAX_STRATEGY = 5;
+    private static final int BASE_PRICE = 6;
+    private static final int TAX_AMOUNT = 7;
+    private static final int FINAL_PRICE = 8;
+    private static final int COLUMN_COUNT = 9;
+
+    // magic, version, nombre, premier et dernier instant, masque des pays, puis (taille brute, taille compressée)
+    private static final int HEADER_SIZE = 4 + 1 + 4 + 8 + 8 + 8 + COLUMN_COUNT * 8;
+
+    private static final byte NO_ENUM = -1;
+    private static final byte NULL_DECIMAL = 0;
+    private static final byte LONG_DECIMAL = 1;
+    private static final byte TEXT_DECIMAL = 2;
+
+    private static final Country[] COUNTRIES = Country.values();
+    private static final Currency[] CURRENCIES = Currency.values();
+
+    private QuoteSegment() {
+    }
+
+    /**
+     * Index d'un segment, lu dans son en-tête
+     *
+     * @param file le fichier du segment
+     * @param count le nombre de cotations
+     * @param minTimestamp le premier instant (ms)
+     * @param maxTimestamp le dernier instant (ms)
+     * @param countryMask les pays présents, bit n pour l'ordinal n
+     * @param size la taille du fichier en octets
+     */
+    record Info(Path file, int count, long minTimestamp, long maxTimestamp, long countryMask, long size) {
+
+        boolean overlaps(long fromMillis, long toMillis) {
+            return maxTimestamp >= fromMillis && minTimestamp < toMillis;
+        }
+
+        boolean contains(Country country) {
+            return country == null || (countryMask & 1L << country.ordinal()) != 0;
+        }
+    }
+
+    /**
+     * Écrit un segment. Le fichier est écrit à côté puis renommé : un segment visible est toujours complet.
+     *
+     * @param file le fichier à écrire
+     * @param records les cotations, dans n'importe quel ordre (la liste est triée)
+     * @return l'index du segment écrit
+     * @throws IOException si l'écriture échoue
+     */
+    static Info write(Path file, List<QuoteAuditRecord> records) throws IOException {
+        if (records.isEmpty()) {
+            throw new IllegalArgumentException("Empty segment");
+        }
+        records.sort(Comparator.comparing(QuoteAuditRecord::timestamp));
+        long minTimestamp = records.get(0).timestamp().toEpochMilli();
+        long maxTimestamp = records.get(records.size() - 1).timestamp().toEpochMilli();
+
+        ColumnWriter[] columns = new ColumnWriter[COLUMN_COUNT];
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            columns[i] = new ColumnWriter();
+        }
+        Dictionary names = new Dictionary();
+        Dictionary strategies = new Dictionary();
+        long countryMask = 0;
+        long previousTimestamp = minTimestamp;
+        long previousId = 0;
+        for (QuoteAuditRecord record : records) {
+            long timestamp = record.timestamp().toEpochMilli();
+            columns[TIMESTAMP].writeVarLong(timestamp - previousTimestamp);
+            previousTimestamp = timestamp;
+
+            long id = record.productId() != null ? record.productId() : 0;
+            columns[PRODUCT_ID].writeVarLong(zigZag(id - previousId));
+            previousId = id;
+
+            columns[PRODUCT_NAME].writeVarLong(names.indexOf(record.productName()));
+            columns[TAX_STRATEGY].writeVarLong(strategies.indexOf(record.taxStrategy()));
+
+            columns[COUNTRY].write(record.country() != null ? record.country().ordinal() : NO_ENUM);
+            if (record.country() != null) {
+                countryMask |= 1L << record.country().ordinal();
+            }
+            columns[CURRENCY].write(record.currency() != null ? record.currency().ordinal() : NO_ENUM);
+
+            columns[BASE_PRICE].writeDecimal(record.basePrice());
+            columns[TAX_AMOUNT].writeDecimal(record.taxAmount());
+            columns[FINAL_PRICE].writeDecimal(record.finalPrice());
+        }
+        // Les dictionnaires précèdent les indices de leur colonne
+        columns[PRODUCT_NAME] = names.prependTo(columns[PRODUCT_NAME]);
+        columns[TAX_STRATEGY] = strategies.prependTo(columns[TAX_STRATEGY]);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).put(VERSION).putInt(records.size())
+                .putLong(minTimestamp).putLong(maxTimestamp).putLong(countryMask);
+        List<byte[]> compressed = new ArrayList<>(COLUMN_COUNT);
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            for (ColumnWriter column : columns) {
+                byte[] data = column.compress(deflater);
+                header.putInt(column.size()).putInt(data.length);
+                compressed.add(data);
+            }
+        } finally {
+            deflater.end();
+        }
+        header.flip();
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        long size;
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(header);
+            for (byte[] data : compressed) {
+                channel.write(ByteBuffer.wrap(data));
+            }
+            channel.force(true);
+            size = channel.size();
+        }
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return new Info(file, records.size(), minTimestamp, maxTimestamp, countryMask, size);
+    }
+
+    /**
+     * Lit l'index d'un segment, sans lire ses colonnes
+     *
+     * @param file le fichier du segment
+     * @return l'index
+     * @throws IOException si le fichier est illisible ou n'est pas un segment
+     */
+    static Info readInfo(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // lecture de l'en-tête complet
+            }
+            header.flip();
+            return readHeader(file, header, channel.size());
+        }
+    }
+
+    /**
+     * Transmet les cotations d'un segment comprises dans un intervalle, dans l'ordre des instants
+     *
+     * @param info l'index du segment
+     * @param fromMillis début de l'intervalle (inclus)
+     * @param toMillis fin de l'intervalle (exclue)
+     * @param country le pays recherché, ou null pour tous
+     * @param target reçoit les cotations retenues
+     * @return le nombre de cotations retenues
+     * @throws IOException si le segment est illisible
+     */
+    static int scan(Info info, long fromMillis, long toMillis, Country country, Consumer<QuoteAuditRecord> target)
+            throws IOException {
+        ByteBuffer file = ByteBuffer.wrap(Files.readAllBytes(info.file()));
+        readHeader(info.file(), file.duplicate(), file.capacity());
+        int count = info.count();
+
+        int[] rawSizes = new int[COLUMN_COUNT];
+        int[] offsets = new int[COLUMN_COUNT];
+        int[] compressedSizes = new int[COLUMN_COUNT];
+        int offset = HEADER_SIZE;
+        file.position(HEADER_SIZE - COLUMN_COUNT * 8);
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            rawSizes[i] = file.getInt();
+            compressedSizes[i] = file.getInt();
+            offsets[i] = offset;
+            offset += compressedSizes[i];
+        }
+        Columns columns = new Columns(file, offsets, compressedSizes, rawSizes);
+
+        // Instants triés : sélection de la plage [first, last)
+        long[] timestamps = new long[count];
+        ByteBuffer timestampColumn = columns.get(TIMESTAMP);
+        long timestamp = info.minTimestamp();
+        for (int i = 0; i < count; i++) {
+            timestamp += readVarLong(timestampColumn);
+            timestamps[i] = timestamp;
+        }
+        int first = 0;
+        while (first < count && timestamps[first] < fromMillis) {
+            first++;
+        }
+        int last = first;
+        while (last < count && timestamps[last] < toMillis) {
+            last++;
+        }
+
+        boolean[] selected = new boolean[count];
+        ByteBuffer countryColumn = columns.get(COUNTRY);
+        int matches = 0;
+        for (int i = first; i < last; i++) {
+            byte ordinal = countryColumn.get(i);
+            if (country == null || ordinal == country.ordinal()) {
+                selected[i] = true;
+                matches++;
+            }
+        }
+        if (matches == 0) {
+            return 0;
+        }
+
+        // Matérialisation tardive : les autres colonnes ne sont décodées que si une cotation est retenue
+        ByteBuffer ids = columns.get(PRODUCT_ID);
+        ByteBuffer currencies = columns.get(CURRENCY);
+        ByteBuffer nameColumn = columns.get(PRODUCT_NAME);
+        String[] names = readDictionary(nameColumn);
+        ByteBuffer strategyColumn = columns.get(TAX_STRATEGY);
+        String[] strategies = readDictionary(strategyColumn);
+        ByteBuffer basePrices = columns.get(BASE_PRICE);
+        ByteBuffer taxAmounts = columns.get(TAX_AMOUNT);
+        ByteBuffer finalPrices = columns.get(FINAL_PRICE);
+
+        long id = 0;
+        for (int i = 0; i < count && i < last; i++) {
+            id += unZigZag(readVarLong(ids));
+            String name = names[(int) readVarLong(nameColumn)];
+            String strategy = strategies[(int) readVarLong(strategyColumn)];
+            BigDecimal basePrice = readDecimal(basePrices);
+            BigDecimal taxAmount = readDecimal(taxAmounts);
+            BigDecimal finalPrice = readDecimal(finalPrices);
+            if (selected[i]) {
+                byte countryOrdinal = countryColumn.get(i);
+                byte currencyOrdinal = currencies.get(i);
+                target.accept(new QuoteAuditRecord(Instant.ofEpochMilli(timestamps[i]), id, name,
+                        countryOrdinal != NO_ENUM ? COUNTRIES[countryOrdinal] : null,
+                        currencyOrdinal != NO_ENUM ? CURRENCIES[currencyOrdinal] : null,
+                        strategy, basePrice, taxAmount, finalPrice));
+            }
+        }
+        return matches;
+    }
+
+    private static Info readHeader(Path file, ByteBuffer header, long size) throws IOException {
+        if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC || header.get() != VERSION) {
+            throw new IOException("Not an audit segment: " + file);
+        }
+        int count = header.getInt();
+        long minTimestamp = header.getLong();
+        long maxTimestamp = header.getLong();
+        long countryMask = header.getLong();
+        return new Info(file, count, minTimestamp, maxTimestamp, countryMask, size);
+    }
+
+    private static String[] readDictionary(ByteBuffer column) {
+        int size = (int) readVarLong(column);
+        // Indice 0 : valeur absente
+        String[] entries = new String[size + 1];
+        for (int i = 1; i <= size; i++) {
+            byte[] bytes = new byte[(int) readVarLong(column)];
+            column.get(bytes);
+            entries[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return entries;
+    }
+
+    private static BigDecimal readDecimal(ByteBuffer column) {
+        byte tag = column.get();
+        if (tag == NULL_DECIMAL) {
+            return null;
+        }
+        if (tag == LONG_DECIMAL) {
+            int scale = (int) unZigZag(readVarLong(column));
+            return BigDecimal.valueOf(unZigZag(readVarLong(column)), scale);
+        }
+        byte[] text = new byte[(int) readVarLong(column)];
+        column.get(text);
+        return new BigDecimal(new String(text, StandardCharsets.US_ASCII));
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // Colonnes décompressées à la demande
+    private static final class Columns {
+        private final ByteBuffer file;
+        private final int[] offsets;
+        private final int[] compressedSizes;
+        private final int[] rawSizes;
+
+        Columns(ByteBuffer file, int[] offsets, int[] compressedSizes, int[] rawSizes) {
+            this.file = file;
+            this.offsets = offsets;
+            this.compressedSizes = compressedSizes;
+            this.rawSizes = rawSizes;
+        }
+
+        ByteBuffer get(int column) throws IOException {
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(file.array(), offsets[column], compressedSizes[column]);
+                byte[] raw = new byte[rawSizes[column]];
+                int read = 0;
+                while (read < raw.length) {
+                    int n = inflater.inflate(raw, read, raw.length - read);
+                    if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+                        throw new IOException("Truncated audit segment column " + column);
+                    }
+                    read += n;
+                }
+                return ByteBuffer.wrap(raw);
+            } catch (DataFormatException e) {
+                throw new IOException("Corrupted audit segment column " + column, e);
+            } finally {
+                inflater.end();
+            }
+        }
+    }
+
+    // Colonne en cours d'écriture
+    private static final class ColumnWriter extends ByteArrayOutputStream {
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        void writeBytes(byte[] bytes, boolean withLength) {
+            if (withLength) {
+                writeVarLong(bytes.length);
+            }
+            write(bytes, 0, bytes.length);
+        }
+
+        void writeDecimal(BigDecimal value) {
+            if (value == null) {
+                write(NULL_DECIMAL);
+                return;
+            }
+            BigInteger unscaled = value.unscaledValue();
+            if (unscaled.bitLength() < 64) {
+                write(LONG_DECIMAL);
+                writeVarLong(zigZag(value.scale()));
+                writeVarLong(zigZag(unscaled.longValue()));
+            } else {
+                write(TEXT_DECIMAL);
+                writeBytes(value.toString().getBytes(StandardCharsets.US_ASCII), true);
+            }
+        }
+
+        byte[] compress(Deflater deflater) {
+            deflater.reset();
+            deflater.setInput(buf, 0, count);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, count / 4));
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(chunk);
+                out.write(chunk, 0, n);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    // Dictionnaire d'une colonne de chaînes : indice 0 pour une valeur absente, puis les valeurs distinctes
+    private static final class Dictionary {
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<String> entries = new ArrayList<>();
+
+        int indexOf(String value) {
+            if (value == null) {
+                return 0;
+            }
+            return indexes.computeIfAbsent(value, v -> {
+                entries.add(v);
+                return entries.size();
+            });
+        }
+
+        ColumnWriter prependTo(ColumnWriter indices) {
+            ColumnWriter column = new ColumnWriter();
+            column.writeVarLong(entries.size());
+            for (String entry : entries) {
+                column.writeBytes(entry.getBytes(StandardCharsets.UTF_8), true);
+            }
+            column.writeBytes(indices.toByteArray(), false);
+            return column;
+        }
+    }
+}
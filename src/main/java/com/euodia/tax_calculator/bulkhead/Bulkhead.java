@@ -0,0 +1,225 @@
+package com.euodia.tax_calculator.bulkhead;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Compartiment d'exécution : un nombre fixe de threads et une file bornée, réservés à une classe d'opérations.
+ * Une opération d'un compartiment ne peut occuper ni les threads ni la file d'un autre : une rafale
+ * d'opérations lourdes sature son propre compartiment sans retarder les autres.
+ * <p>
+ * File pleine, la politique de refus choisit la tâche sacrifiée : la nouvelle ({@link RejectionPolicy#REJECT})
+ * ou la plus ancienne en attente ({@link RejectionPolicy#SHED_OLDEST}, qui a déjà le plus attendu et dont
+ * le client a peut-être abandonné). Une tâche restée en file plus de maxQueueWait n'est pas exécutée,
+ * pas plus qu'une tâche dont le résultat a été annulé pendant son attente.
+ * Une tâche sacrifiée échoue avec {@link BulkheadRejectedException}.
+ * <p>
+ * Métriques, étiquetées bulkhead=nom : bulkhead.active, bulkhead.queued, bulkhead.queue.wait
+ * et bulkhead.rejected (reason=full, shed ou expired).
+ */
+@Slf4j
+public class Bulkhead {
+
+    /**
+     * Tâche sacrifiée quand la file est pleine
+     */
+    public enum RejectionPolicy {
+        /** La nouvelle tâche est refusée */
+        REJECT,
+        /** La plus ancienne tâche en attente est refusée, la nouvelle prend sa place */
+        SHED_OLDEST
+    }
+
+    private final String name;
+    private final long maxQueueWaitNanos;
+    private final RejectionPolicy rejectionPolicy;
+    private final Duration retryAfter;
+    // null : exécution directe dans le thread appelant (compartiments désactivés)
+    private final ThreadPoolExecutor executor;
+
+    private final Timer queueWait;
+    private final Counter fullRejections;
+    private final Counter shedRejections;
+    private final Counter expiredRejections;
+
+    /**
+     * @param name le nom du compartiment (noms des threads, étiquette des métriques)
+     * @param threads le nombre de threads
+     * @param queueCapacity le nombre de tâches en attente au plus
+     * @param maxQueueWait l'attente en file au-delà de laquelle une tâche n'est plus exécutée
+     * @param rejectionPolicy la tâche sacrifiée quand la file est pleine
+     * @param meterRegistry le registre des métriques
+     */
+    public Bulkhead(String name, int threads, int queueCapacity, Duration maxQueueWait,
+                    RejectionPolicy rejectionPolicy, MeterRegistry meterRegistry) {
+        this(name, threads, queueCapacity, maxQueueWait, rejectionPolicy, meterRegistry, true);
+    }
+
+    private Bulkhead(String name, int threads, int queueCapacity, Duration maxQueueWait,
+                     RejectionPolicy rejectionPolicy, MeterRegistry meterRegistry, boolean pooled) {
+        if (threads <= 0 || queueCapacity <= 0 || maxQueueWait.isNegative() || maxQueueWait.isZero()) {
+            throw new IllegalArgumentException("Invalid bulkhead " + name + " configuration");
+        }
+        this.name = name;
+        this.maxQueueWaitNanos = maxQueueWait.toNanos();
+        this.rejectionPolicy = rejectionPolicy;
+        // Retry-After des refus : l'attente maximale en file, au moins une seconde
+        this.retryAfter = Duration.ofSeconds(Math.max(1, maxQueueWait.toSeconds()));
+
+        if (pooled) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    task -> Thread.ofPlatform().name("bulkhead-" + name + "-" + threadNumber.incrementAndGet())
+                            .daemon().unstarted(task),
+                    (task, pool) -> onQueueFull((Job<?>) task, pool));
+            executor.prestartAllCoreThreads();
+            Gauge.builder("bulkhead.active", executor, ThreadPoolExecutor::getActiveCount)
+                    .tag("bulkhead", name).register(meterRegistry);
+            Gauge.builder("bulkhead.queued", executor, e -> e.getQueue().size())
+                    .tag("bulkhead", name).register(meterRegistry);
+            Gauge.builder("bulkhead.threads", executor, ThreadPoolExecutor::getMaximumPoolSize)
+                    .tag("bulkhead", name).register(meterRegistry);
+        } else {
+            executor = null;
+        }
+        queueWait = Timer.builder("bulkhead.queue.wait").tag("bulkhead", name).register(meterRegistry);
+        fullRejections = rejectionCounter(meterRegistry, "full");
+        shedRejections = rejectionCounter(meterRegistry, "shed");
+        expiredRejections = rejectionCounter(meterRegistry, "expired");
+    }
+
+    /**
+     * @param name le nom du compartiment
+     * @param meterRegistry le registre des métriques
+     * @return un compartiment inactif : les tâches s'exécutent dans le thread appelant, sans limite
+     */
+    public static Bulkhead inline(String name, MeterRegistry meterRegistry) {
+        return new Bulkhead(name, 1, 1, Duration.ofSeconds(1), RejectionPolicy.REJECT, meterRegistry, false);
+    }
+
+    /**
+     * Exécute une tâche dans le compartiment
+     *
+     * @param task la tâche
+     * @return son résultat, ou une exception {@link BulkheadRejectedException} si elle a été sacrifiée
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        if (executor == null) {
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        Job<T> job = new Job<>(task, System.nanoTime());
+        executor.execute(job);
+        return job.result;
+    }
+
+    /**
+     * Refuse d'emblée une opération quand la file est pleine. Utile pour les réponses en flux,
+     * dont la tâche n'est soumise qu'après le choix du statut HTTP.
+     *
+     * @throws BulkheadRejectedException si la file est pleine
+     */
+    public void ensureCapacity() {
+        if (executor != null && executor.getQueue().remainingCapacity() == 0
+                && rejectionPolicy == RejectionPolicy.REJECT) {
+            fullRejections.increment();
+            throw new BulkheadRejectedException(name, "queue full", retryAfter);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return le nombre de tâches en attente
+     */
+    public int getQueued() {
+        return executor != null ? executor.getQueue().size() : 0;
+    }
+
+    /**
+     * Refuse les nouvelles tâches et laisse les threads terminer celles en cours et en attente
+     */
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("bulkhead.rejected").tag("bulkhead", name)
+                .tag("reason", reason).register(meterRegistry);
+    }
+
+    // Appelé par l'exécuteur quand la file est pleine (ou l'exécuteur arrêté)
+    private void onQueueFull(Job<?> job, ThreadPoolExecutor pool) {
+        if (!pool.isShutdown() && rejectionPolicy == RejectionPolicy.SHED_OLDEST) {
+            BlockingQueue<Runnable> queue = pool.getQueue();
+            Runnable oldest = queue.poll();
+            if (oldest != null) {
+                shedRejections.increment();
+                ((Job<?>) oldest).reject("shed for a newer task");
+            }
+            if (queue.offer(job)) {
+                return;
+            }
+        }
+        fullRejections.increment();
+        log.debug("Bulkhead {} is full ({} queued), rejecting task", name, pool.getQueue().size());
+        job.reject("queue full");
+    }
+
+    // Tâche en file, avec son instant d'arrivée
+    private final class Job<T> implements Runnable {
+        private final Supplier<T> task;
+        private final long enqueuedAt;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        Job(Supplier<T> task, long enqueuedAt) {
+            this.task = task;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        @Override
+        public void run() {
+            long waited = System.nanoTime() - enqueuedAt;
+            queueWait.record(waited, TimeUnit.NANOSECONDS);
+            if (result.isCancelled()) {
+                // Abandonnée par l'appelant pendant l'attente (délai de la requête dépassé)
+                return;
+            }
+            if (waited > maxQueueWaitNanos) {
+                // Réponse déjà trop tardive : le thread passe à la suivante plutôt que d'allonger la file
+                expiredRejections.increment();
+                reject("waited " + TimeUnit.NANOSECONDS.toMillis(waited) + " ms in queue");
+                return;
+            }
+            try {
+                result.complete(task.get());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }
+
+        void reject(String reason) {
+            result.completeExceptionally(new BulkheadRejectedException(name, reason, retryAfter));
+        }
+    }
+}
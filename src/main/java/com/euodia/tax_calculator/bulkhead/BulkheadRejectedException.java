@@ -0,0 +1,28 @@
+package com.euodia.tax_calculator.bulkhead;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Tâche refusée par un {@link Bulkhead} : file pleine, place cédée à une tâche plus récente,
+ * ou attente en file au-delà du délai maximal. Traduite en 503 + Retry-After par l'API.
+ */
+public class BulkheadRejectedException extends RejectedExecutionException {
+
+    private final String bulkhead;
+    private final Duration retryAfter;
+
+    public BulkheadRejectedException(String bulkhead, String reason, Duration retryAfter) {
+        super("Bulkhead " + bulkhead + " rejected the task: " + reason);
+        this.bulkhead = bulkhead;
+        this.retryAfter = retryAfter;
+    }
+
+    public String getBulkhead() {
+        return bulkhead;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
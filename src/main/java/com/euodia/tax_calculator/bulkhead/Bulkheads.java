@@ -0,0 +1,73 @@
+package com.euodia.tax_calculator.bulkhead;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Compartiments d'exécution de l'API :
+ * "point" pour les lectures d'un produit (GET /api/products/{id}, /with-tax), nombreuses et courtes ;
+ * "scan" pour les opérations qui parcourent tout le catalogue (liste, export, import par lot).
+ * Les requêtes ne sont plus traitées par les threads du serveur, qui ne font que les transmettre :
+ * quelques parcours du catalogue saturent leur propre compartiment (2 threads par défaut) et sont refusés
+ * au-delà de sa file, sans jamais retarder les lectures.
+ *
+ * Configuration :
+ * bulkhead.enabled, bulkhead.point.*, bulkhead.scan.* (threads, queue-capacity, max-queue-wait, rejection-policy)
+ */
+@Component
+@Slf4j
+public class Bulkheads {
+
+    private final Bulkhead point;
+    private final Bulkhead scan;
+
+    public Bulkheads(
+            MeterRegistry meterRegistry,
+            @Value("${bulkhead.enabled:true}") boolean enabled,
+            @Value("${bulkhead.point.threads:32}") int pointThreads,
+            @Value("${bulkhead.point.queue-capacity:1000}") int pointQueueCapacity,
+            @Value("${bulkhead.point.max-queue-wait:200ms}") Duration pointMaxQueueWait,
+            @Value("${bulkhead.point.rejection-policy:SHED_OLDEST}") Bulkhead.RejectionPolicy pointRejectionPolicy,
+            @Value("${bulkhead.scan.threads:2}") int scanThreads,
+            @Value("${bulkhead.scan.queue-capacity:8}") int scanQueueCapacity,
+            @Value("${bulkhead.scan.max-queue-wait:30s}") Duration scanMaxQueueWait,
+            @Value("${bulkhead.scan.rejection-policy:REJECT}") Bulkhead.RejectionPolicy scanRejectionPolicy) {
+        if (!enabled) {
+            point = Bulkhead.inline("point", meterRegistry);
+            scan = Bulkhead.inline("scan", meterRegistry);
+            log.info("Bulkheads disabled: requests run on server threads");
+            return;
+        }
+        point = new Bulkhead("point", pointThreads, pointQueueCapacity, pointMaxQueueWait, pointRejectionPolicy,
+                meterRegistry);
+        scan = new Bulkhead("scan", scanThreads, scanQueueCapacity, scanMaxQueueWait, scanRejectionPolicy,
+                meterRegistry);
+        log.info("Bulkheads: point {} threads (queue {}), scan {} threads (queue {})",
+                pointThreads, pointQueueCapacity, scanThreads, scanQueueCapacity);
+    }
+
+    /**
+     * @return le compartiment des lectures d'un produit
+     */
+    public Bulkhead point() {
+        return point;
+    }
+
+    /**
+     * @return le compartiment des parcours du catalogue
+     */
+    public Bulkhead scan() {
+        return scan;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        point.shutdown();
+        scan.shutdown();
+    }
+}
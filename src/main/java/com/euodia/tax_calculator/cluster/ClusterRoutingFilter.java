@@ -0,0 +1,293 @@
+package com.euodia.tax_calculator.cluster;
+
+import com.euodia.tax_calculator.dto.CreateProductRequest;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.service.ProductService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Routage des requêtes en mode cluster, avant les contrôleurs :
+ * - GET /api/products/{id} et /{id}/with-tax, PUT, PATCH et DELETE /api/products/{id}
+ *   sont transmis au nœud propriétaire du produit ;
+ * - POST /api/products est transmis au nœud propriétaire de la clé naturelle du produit ;
+ * - GET /api/products interroge tous les nœuds en parallèle et fusionne leurs catalogues.
+ * Les requêtes transmises portent l'en-tête X-Cluster-Forwarded-By et sont toujours traitées localement
+ * par le nœud qui les reçoit : une requête n'est jamais transmise deux fois.
+ * Les autres endpoints (index de prix, recherche, export...) portent sur le catalogue local.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@Slf4j
+public class ClusterRoutingFilter extends OncePerRequestFilter {
+
+    static final String FORWARDED_HEADER = "X-Cluster-Forwarded-By";
+
+    private static final String PRODUCTS_PATH = "/api/products";
+    private static final Pattern PRODUCT_PATH = Pattern.compile("/api/products/(\\d{1,18})(/with-tax)?");
+    private static final Set<String> PRODUCT_WRITE_METHODS = Set.of("PUT", "PATCH", "DELETE");
+    // En-têtes de réponse recopiés depuis le nœud propriétaire
+    private static final List<String> RESPONSE_HEADERS =
+            List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.LOCATION, HttpHeaders.RETRY_AFTER, HttpHeaders.ETAG);
+
+    private final ClusterTopology topology;
+    private final ProductService productService;
+    private final ObjectMapper objectMapper;
+    private final Duration requestTimeout;
+    private final HttpClient client;
+
+    public ClusterRoutingFilter(ClusterTopology topology,
+                                ProductService productService,
+                                ObjectMapper objectMapper,
+                                @Value("${cluster.request-timeout-ms:2000}") long requestTimeoutMillis) {
+        this.topology = topology;
+        this.productService = productService;
+        this.objectMapper = objectMapper;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMillis);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(requestTimeout)
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !topology.isEnabled() || request.getHeader(FORWARDED_HEADER) != null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+
+        Matcher productPath = PRODUCT_PATH.matcher(path);
+        boolean productRead = "GET".equals(method) && productPath.matches();
+        boolean productWrite = PRODUCT_WRITE_METHODS.contains(method) && productPath.matches()
+                && productPath.group(2) == null;
+        if (productRead || productWrite) {
+            String owner = topology.ownerOfProduct(Long.parseLong(productPath.group(1)));
+            if (topology.isLocal(owner)) {
+                chain.doFilter(request, response);
+            } else {
+                forward(owner, request, productWrite ? request.getInputStream().readAllBytes() : null, response);
+            }
+        } else if ("POST".equals(method) && PRODUCTS_PATH.equals(path)) {
+            byte[] body = request.getInputStream().readAllBytes();
+            String owner = ownerOfCreate(body);
+            if (topology.isLocal(owner)) {
+                chain.doFilter(new CachedBodyRequest(request, body), response);
+            } else {
+                forward(owner, request, body, response);
+            }
+        } else if ("GET".equals(method) && PRODUCTS_PATH.equals(path)) {
+            listAllNodes(request, response);
+        } else {
+            chain.doFilter(request, response);
+        }
+    }
+
+    // Un corps invalide est traité localement : le contrôleur produit la réponse d'erreur habituelle
+    private String ownerOfCreate(byte[] body) {
+        try {
+            CreateProductRequest create = objectMapper.readValue(body, CreateProductRequest.class);
+            Product product = new Product(create.getName(), create.getPrice(), create.getCountry())
+                    .withCurrency(create.getCurrency());
+            return product.isValid() ? topology.ownerOfNewProduct(product) : topology.getSelf();
+        } catch (IOException e) {
+            return topology.getSelf();
+        }
+    }
+
+    private void forward(String owner, HttpServletRequest request, byte[] body, HttpServletResponse response)
+            throws IOException {
+        String target = owner + request.getRequestURI().substring(request.getContextPath().length())
+                + (request.getQueryString() != null ? "?" + request.getQueryString() : "");
+        HttpRequest.Builder forwarded = HttpRequest.newBuilder(URI.create(target))
+                .timeout(requestTimeout)
+                .header(FORWARDED_HEADER, topology.getSelf())
+                .method(request.getMethod(), body != null
+                        ? HttpRequest.BodyPublishers.ofByteArray(body)
+                        : HttpRequest.BodyPublishers.noBody());
+        if (request.getContentType() != null) {
+            forwarded.header(HttpHeaders.CONTENT_TYPE, request.getContentType());
+        }
+        for (String header : List.of(HttpHeaders.ACCEPT, HttpHeaders.IF_MATCH)) {
+            if (request.getHeader(header) != null) {
+                forwarded.header(header, request.getHeader(header));
+            }
+        }
+
+        HttpResponse<byte[]> ownerResponse;
+        try {
+            ownerResponse = client.send(forwarded.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            log.warn("Forwarding {} {} to {} failed: {}", request.getMethod(), target, owner, e.getMessage());
+            reject(response, "Owner node unavailable: " + owner);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reject(response, "Interrupted while forwarding to " + owner);
+            return;
+        }
+
+        response.setStatus(ownerResponse.statusCode());
+        for (String header : RESPONSE_HEADERS) {
+            ownerResponse.headers().firstValue(header).ifPresent(value -> response.setHeader(header, value));
+        }
+        response.getOutputStream().write(ownerResponse.body());
+    }
+
+    // Scatter/gather : les nœuds distants sont interrogés en parallèle pendant la copie du catalogue local
+    private void listAllNodes(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Map<String, CompletableFuture<HttpResponse<byte[]>>> remote = new LinkedHashMap<>();
+        for (String node : topology.getNodes()) {
+            if (!topology.isLocal(node)) {
+                HttpRequest list = HttpRequest.newBuilder(URI.create(node + PRODUCTS_PATH))
+                        .timeout(requestTimeout)
+                        .header(FORWARDED_HEADER, topology.getSelf())
+                        .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                        .GET()
+                        .build();
+                remote.put(node, client.sendAsync(list, HttpResponse.BodyHandlers.ofByteArray()));
+            }
+        }
+
+        ObjectNode merged = objectMapper.valueToTree(productService.getProductsView());
+        for (Map.Entry<String, CompletableFuture<HttpResponse<byte[]>>> entry : remote.entrySet()) {
+            try {
+                HttpResponse<byte[]> nodeResponse = entry.getValue()
+                        .get(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                JsonNode products = nodeResponse.statusCode() == HttpStatus.OK.value()
+                        ? objectMapper.readTree(nodeResponse.body())
+                        : null;
+                if (!(products instanceof ObjectNode nodeProducts)) {
+                    throw new IOException("HTTP " + nodeResponse.statusCode());
+                }
+                merged.setAll(nodeProducts);
+            } catch (IOException | ExecutionException | TimeoutException e) {
+                // Un catalogue partiel passerait pour complet : la liste échoue
+                log.warn("Listing products on {} failed: {}", entry.getKey(), e.getMessage());
+                remote.values().forEach(future -> future.cancel(true));
+                reject(response, "Node unavailable: " + entry.getKey());
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                reject(response, "Interrupted while listing products");
+                return;
+            }
+        }
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), merged);
+    }
+
+    private void reject(HttpServletResponse response, String message) throws IOException {
+        response.setStatus(HttpStatus.BAD_GATEWAY.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try {
+            response.getWriter().write("{\"status\":502,\"error\":" + objectMapper.writeValueAsString(message) + "}");
+        } catch (JsonProcessingException e) {
+            response.getWriter().write("{\"status\":502}");
+        }
+    }
+
+    /**
+     * Requête dont le corps, déjà lu pour le routage, est relu par le contrôleur
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Cached request body is read synchronously");
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
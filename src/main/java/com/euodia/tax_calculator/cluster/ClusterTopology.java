@@ -0,0 +1,103 @@
+package com.euodia.tax_calculator.cluster;
+
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.service.ProductDeduplicator;
+import com.euodia.tax_calculator.service.ProductService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Topologie du mode cluster : plusieurs instances se partagent le catalogue, chaque produit appartenant
+ * au nœud désigné par l'anneau de hachage cohérent sur son ID.
+ * Un produit est créé par le propriétaire de sa clé naturelle (les doublons arrivent donc sur le même nœud),
+ * qui lui attribue un ID dont il est lui-même propriétaire : les IDs sont uniques dans tout le cluster
+ * sans coordination, tant que la liste des nœuds ne change pas.
+ *
+ * Configuration :
+ * cluster.enabled (false par défaut), cluster.self (URL de ce nœud), cluster.nodes (URLs de tous les nœuds),
+ * cluster.virtual-nodes
+ */
+@Component
+@Slf4j
+public class ClusterTopology {
+
+    private final boolean enabled;
+    private final String self;
+    private final ConsistentHashRing ring;
+    private final ProductDeduplicator deduplicator;
+
+    public ClusterTopology(ProductService productService,
+                           ProductDeduplicator deduplicator,
+                           @Value("${cluster.enabled:false}") boolean enabled,
+                           @Value("${cluster.self:}") String self,
+                           @Value("${cluster.nodes:}") List<String> nodes,
+                           @Value("${cluster.virtual-nodes:160}") int virtualNodes) {
+        this.enabled = enabled;
+        this.deduplicator = deduplicator;
+
+        if (!enabled) {
+            this.self = null;
+            this.ring = null;
+            return;
+        }
+
+        this.self = normalize(self);
+        this.ring = new ConsistentHashRing(nodes.stream().map(ClusterTopology::normalize).toList(), virtualNodes);
+        if (!ring.getNodes().contains(this.self)) {
+            throw new IllegalArgumentException("cluster.self (" + self + ") must be one of cluster.nodes " + nodes);
+        }
+
+        productService.setLocalIdFilter(id -> isLocal(ring.ownerOf(id)));
+        log.info("Cluster mode enabled: node {} of {}", this.self, ring.getNodes());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return l'URL de ce nœud
+     */
+    public String getSelf() {
+        return self;
+    }
+
+    /**
+     * @return les URLs de tous les nœuds, y compris celui-ci
+     */
+    public List<String> getNodes() {
+        return ring.getNodes();
+    }
+
+    /**
+     * @param productId l'ID d'un produit
+     * @return l'URL du nœud qui stocke le produit
+     */
+    public String ownerOfProduct(long productId) {
+        return ring.ownerOf(productId);
+    }
+
+    /**
+     * @param product un produit valide, pas encore créé
+     * @return l'URL du nœud qui doit le créer
+     */
+    public String ownerOfNewProduct(Product product) {
+        return ring.ownerOf(deduplicator.naturalKey(product));
+    }
+
+    /**
+     * @param node l'URL d'un nœud
+     * @return true s'il s'agit de ce nœud
+     */
+    public boolean isLocal(String node) {
+        return self.equals(node);
+    }
+
+    private static String normalize(String node) {
+        String trimmed = node.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+}
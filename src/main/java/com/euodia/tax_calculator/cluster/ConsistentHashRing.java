@@ -0,0 +1,113 @@
+package com.euodia.tax_calculator.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Anneau de hachage cohérent : chaque nœud occupe plusieurs points (nœuds virtuels) sur un anneau de 2^64 positions,
+ * et une clé appartient au premier nœud rencontré après sa propre position.
+ * Ajouter ou retirer un nœud ne déplace que les clés de ses propres segments (environ 1/n des clés).
+ * Immuable : les points sont triés une fois pour toutes, une recherche est une recherche dichotomique.
+ */
+public final class ConsistentHashRing {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final List<String> nodes;
+    private final long[] points;
+    private final String[] owners;
+
+    /**
+     * @param nodes les identifiants des nœuds (par exemple leur URL)
+     * @param virtualNodes le nombre de points par nœud ; plus il est élevé, plus la répartition est homogène
+     */
+    public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("At least one node is required");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("Virtual nodes must be positive: " + virtualNodes);
+        }
+        this.nodes = List.copyOf(new LinkedHashSet<>(nodes));
+        if (this.nodes.size() != nodes.size()) {
+            throw new IllegalArgumentException("Duplicate nodes: " + nodes);
+        }
+
+        List<Point> ring = new ArrayList<>(this.nodes.size() * virtualNodes);
+        for (String node : this.nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.add(new Point(hash(node + '#' + i), node));
+            }
+        }
+        // Départage des collisions par nom : l'anneau est le même sur tous les nœuds
+        ring.sort(Comparator.comparingLong(Point::position).thenComparing(Point::node));
+
+        this.points = new long[ring.size()];
+        this.owners = new String[ring.size()];
+        for (int i = 0; i < ring.size(); i++) {
+            points[i] = ring.get(i).position();
+            owners[i] = ring.get(i).node();
+        }
+    }
+
+    /**
+     * @param key une clé numérique (ID de produit)
+     * @return le nœud propriétaire de la clé
+     */
+    public String ownerOf(long key) {
+        return ownerAt(mix(key));
+    }
+
+    /**
+     * @param key une clé textuelle (clé naturelle d'un produit)
+     * @return le nœud propriétaire de la clé
+     */
+    public String ownerOf(String key) {
+        return ownerAt(hash(key));
+    }
+
+    /**
+     * @return les nœuds de l'anneau
+     */
+    public List<String> getNodes() {
+        return nodes;
+    }
+
+    private String ownerAt(long position) {
+        int index = Arrays.binarySearch(points, position);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        // Au-delà du dernier point, l'anneau reboucle sur le premier
+        return owners[index == points.length ? 0 : index];
+    }
+
+    // FNV-1a 64 bits sur l'UTF-8, suivi d'un brassage : stable d'une JVM à l'autre, contrairement à String.hashCode
+    static long hash(String key) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    // Finaliseur 64 bits de MurmurHash3 : des clés consécutives sont réparties sur tout l'anneau
+    static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    private record Point(long position, String node) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.euodia.tax_calculator.controller;
+
+import com.euodia.tax_calculator.bulkhead.BulkheadRejectedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Traduit le refus d'un compartiment d'exécution saturé en 503 + Retry-After,
+ * avec le même corps que le contrôle d'admission
+ */
+@RestControllerAdvice
+@Slf4j
+public class BulkheadExceptionHandler {
+
+    @ExceptionHandler(BulkheadRejectedException.class)
+    public ResponseEntity<String> handleRejected(BulkheadRejectedException e) {
+        log.debug("Rejecting request: {}", e.getMessage());
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfter().toSeconds()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body(e));
+    }
+
+    // Corps JSON du refus, partagé avec les réponses en flux refusées après le passage en mode asynchrone
+    static String body(BulkheadRejectedException e) {
+        return "{\"status\":" + HttpStatus.SERVICE_UNAVAILABLE.value() + ",\"error\":\"Server busy ("
+                + e.getBulkhead() + ")\"}";
+    }
+}
@@ -0,0 +1,211 @@
+package com.euodia.tax_calculator.controller;
+
+import com.euodia.tax_calculator.bulkhead.Bulkhead;
+import com.euodia.tax_calculator.bulkhead.BulkheadRejectedException;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+
+/**
+ * Réponses en flux écrites directement par un thread d'un compartiment d'exécution.
+ * La requête passe en mode asynchrone et la tâche du compartiment écrit le corps puis termine la requête :
+ * ni le thread du serveur ni l'exécuteur asynchrone de Spring MVC n'attendent la fin du parcours.
+ * Le statut et les en-têtes sont posés par l'appelant avant {@link #stream} ; la saturation du compartiment
+ * est vérifiée avant le passage en mode asynchrone (503 + Retry-After par {@link BulkheadExceptionHandler}).
+ * Le délai de ces réponses (bulkhead.streaming.timeout) ne s'applique qu'à elles.
+ */
+@Component
+@Slf4j
+public class BulkheadStreaming {
+
+    /**
+     * Écriture du corps de la réponse
+     */
+    @FunctionalInterface
+    public interface BodyWriter {
+
+        /**
+         * @param outputStream le flux de la réponse, fermé par le conteneur à la fin de la requête
+         * @throws IOException si l'écriture échoue (client parti, par exemple)
+         */
+        void write(OutputStream outputStream) throws IOException;
+    }
+
+    private final long timeoutMillis;
+
+    public BulkheadStreaming(@Value("${bulkhead.streaming.timeout:30m}") Duration timeout) {
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * Écrit le corps de la réponse dans le compartiment, sans attendre la fin de l'écriture
+     *
+     * @param bulkhead le compartiment qui exécute l'écriture
+     * @param request la requête, passée en mode asynchrone
+     * @param response la réponse, statut et en-têtes déjà posés
+     * @param writer l'écriture du corps
+     * @throws BulkheadRejectedException si la file du compartiment est pleine
+     */
+    public void stream(Bulkhead bulkhead, HttpServletRequest request, HttpServletResponse response,
+                       BodyWriter writer) {
+        bulkhead.ensureCapacity();
+
+        AsyncContext async = request.startAsync(request, response);
+        async.setTimeout(timeoutMillis);
+        AbortOnTimeout timeout = new AbortOnTimeout(request.getRequestURI(), response);
+        async.addListener(timeout);
+
+        CompletableFuture<Void> task = bulkhead.submit(() -> {
+            try {
+                writer.write(timeout.outputStream());
+                return null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        timeout.task = task;
+        task.whenComplete((ignored, failure) -> {
+            if (task.isCancelled()) {
+                // Délai dépassé : réponse prise en charge par AbortOnTimeout
+                return;
+            }
+            try {
+                if (failure != null) {
+                    onFailure(request, response, failure instanceof CompletionException && failure.getCause() != null
+                            ? failure.getCause() : failure);
+                }
+                async.complete();
+            } catch (IllegalStateException e) {
+                // Requête déjà terminée (délai dépassé)
+                log.debug("Streaming response for {} already completed", request.getRequestURI());
+            }
+        });
+    }
+
+    private static void onFailure(HttpServletRequest request, HttpServletResponse response, Throwable failure) {
+        if (response.isCommitted()) {
+            // Corps partiellement envoyé : rien à ajouter, le client voit un flux interrompu ou incomplet
+            if (failure instanceof UncheckedIOException) {
+                log.debug("Streaming response for {} interrupted: {}", request.getRequestURI(), failure.getMessage());
+            } else {
+                log.error("Streaming response for " + request.getRequestURI() + " failed", failure);
+            }
+            return;
+        }
+
+        response.reset();
+        try {
+            if (failure instanceof BulkheadRejectedException rejected) {
+                // Tâche sacrifiée après le contrôle préalable (attente trop longue dans la file)
+                log.debug("Rejecting request: {}", rejected.getMessage());
+                response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(rejected.getRetryAfter().toSeconds()));
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                response.getWriter().write(BulkheadExceptionHandler.body(rejected));
+            } else {
+                log.error("Streaming response for " + request.getRequestURI() + " failed", failure);
+                response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+            }
+        } catch (IOException e) {
+            log.debug("Could not send error response for {}: {}", request.getRequestURI(), e.getMessage());
+        }
+    }
+
+    /**
+     * Délai dépassé : la tâche est annulée (sautée si elle attend encore en file, ses écritures suivantes
+     * échouent si elle s'exécute) et le client ne reçoit jamais une réponse tronquée terminée normalement.
+     * Rien d'envoyé, il reçoit un 503 ; corps déjà commencé, la connexion est interrompue.
+     */
+    private static final class AbortOnTimeout implements AsyncListener {
+        private final String uri;
+        private final HttpServletResponse response;
+        private volatile boolean timedOut;
+        private volatile Future<?> task;
+
+        AbortOnTimeout(String uri, HttpServletResponse response) {
+            this.uri = uri;
+            this.response = response;
+        }
+
+        // Flux de la réponse, refusé à la tâche une fois le délai dépassé
+        OutputStream outputStream() throws IOException {
+            return new FilterOutputStream(response.getOutputStream()) {
+                @Override
+                public void write(int b) throws IOException {
+                    checkTimeout();
+                    out.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    checkTimeout();
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    checkTimeout();
+                    out.flush();
+                }
+            };
+        }
+
+        private void checkTimeout() throws IOException {
+            if (timedOut) {
+                throw new IOException("Streaming response for " + uri + " timed out");
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) throws IOException {
+            timedOut = true;
+            Future<?> running = task;
+            if (running != null) {
+                running.cancel(false);
+            }
+            if (!response.isCommitted()) {
+                log.warn("Streaming response for {} timed out before sending anything", uri);
+                response.reset();
+                response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                response.getWriter().write("{\"status\":" + HttpStatus.SERVICE_UNAVAILABLE.value()
+                        + ",\"error\":\"Streaming response timed out\"}");
+                event.getAsyncContext().complete();
+            } else {
+                // Requête laissée inachevée : le conteneur la termine en erreur et, la réponse étant
+                // déjà commencée, ferme la connexion sans envoyer la fin du corps
+                log.warn("Streaming response for {} timed out, aborting the connection", uri);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.euodia.tax_calculator.controller;
+
+import com.euodia.tax_calculator.bulkhead.Bulkheads;
+import com.euodia.tax_calculator.export.CatalogExportFormat;
+import com.euodia.tax_calculator.export.CatalogExportService;
+import com.euodia.tax_calculator.model.Currency;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.channels.Channels;
+import java.time.LocalDate;
+
+/**
+ * Contrôleur REST pour l'export du catalogue avec prix taxés
+ */
+@RestController
+@RequestMapping("/api/products")
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogExportController {
+
+    private final CatalogExportService catalogExportService;
+    private final Bulkheads bulkheads;
+    private final BulkheadStreaming bulkheadStreaming;
+
+    /**
+     * GET /api/products/export?format=CSV&gzip=true
+     * Exporte tout le catalogue avec taxes et prix finaux. La réponse est écrite au fil du parcours du catalogue,
+     * par un thread du compartiment des parcours (503 + Retry-After s'il est saturé).
+     *
+     * @param format le format (CSV ou NDJSON)
+     * @param gzip true pour une réponse compressée (fichier .gz)
+     * @param currency la devise des montants (par défaut, celle de chaque produit)
+     * @param request la requête, terminée à la fin de l'export
+     * @param response la réponse, écrite par le compartiment des parcours
+     */
+    @GetMapping("/export")
+    public void exportCatalog(
+            @RequestParam(defaultValue = "CSV") CatalogExportFormat format,
+            @RequestParam(defaultValue = "true") boolean gzip,
+            @RequestParam(required = false) Currency currency,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        log.info("Received catalog export request: format={}, gzip={}", format, gzip);
+
+        String fileName = "catalog-" + LocalDate.now() + "." + format.getExtension() + (gzip ? ".gz" : "");
+        String contentType = gzip ? "application/gzip" : format.getContentType() + ";charset=UTF-8";
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName).build().toString());
+        bulkheadStreaming.stream(bulkheads.scan(), request, response, outputStream ->
+                catalogExportService.export(Channels.newChannel(outputStream), format, gzip, currency));
+    }
+}
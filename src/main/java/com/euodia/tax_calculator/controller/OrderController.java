@@ -0,0 +1,47 @@
+package com.euodia.tax_calculator.controller;
+
+import com.euodia.tax_calculator.dto.OrderQuoteRequest;
+import com.euodia.tax_calculator.dto.OrderQuoteResponse;
+import com.euodia.tax_calculator.service.OrderQuoteService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Contrôleur REST pour le calcul des paniers
+ */
+@RestController
+@RequestMapping("/api/orders")
+@RequiredArgsConstructor
+@Slf4j
+public class OrderController {
+
+    private final OrderQuoteService orderQuoteService;
+
+    /**
+     * POST /api/orders/quote
+     * Calcule un panier en un seul appel, sans rien enregistrer
+     *
+     * @param request les lignes du panier (ID de produit et quantité) et la devise souhaitée
+     * @return les taxes et prix finaux par ligne, les totaux par pays et le total général
+     */
+    @PostMapping("/quote")
+    public ResponseEntity<OrderQuoteResponse> quoteOrder(@Valid @RequestBody OrderQuoteRequest request) {
+        log.info("Received order quote request with {} lines", request.getLines().size());
+
+        try {
+            return ResponseEntity.ok(orderQuoteService.quote(request.getLines(), request.getCurrency()));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid order quote request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error quoting order", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.euodia.tax_calculator.controller;
+
+import com.euodia.tax_calculator.dto.ProductChangesResponse;
+import com.euodia.tax_calculator.service.ProductChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Contrôleur REST du journal des mutations du catalogue
+ */
+@RestController
+@RequestMapping("/api/products/changes")
+@RequiredArgsConstructor
+@Slf4j
+public class ProductChangeController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final ProductChangeFeedService productChangeFeedService;
+
+    /**
+     * GET /api/products/changes?after=42&limit=500
+     * Retourne les mutations qui suivent un numéro donné
+     *
+     * @param after le numéro de la dernière mutation déjà traitée (0 pour tout lire)
+     * @param limit le nombre maximum de mutations (1 à 1000)
+     * @return les mutations, ou resyncRequired=true si le client doit relire tout le catalogue
+     */
+    @GetMapping
+    public ResponseEntity<ProductChangesResponse> getChanges(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "500") int limit) {
+        log.debug("Received change feed request after sequence {}", after);
+
+        if (after < 0 || limit < 1 || limit > MAX_LIMIT) {
+            log.warn("Invalid change feed request: after={}, limit={}", after, limit);
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(productChangeFeedService.poll(after, limit));
+    }
+
+    /**
+     * GET /api/products/changes/stream?after=42
+     * Abonnement Server-Sent Events aux mutations. À la reconnexion, l'en-tête standard Last-Event-ID
+     * (envoyé automatiquement par EventSource) l'emporte sur le paramètre after.
+     *
+     * @param after le numéro de la dernière mutation déjà traitée (0 pour tout recevoir)
+     * @param lastEventId le numéro du dernier événement reçu avant une reconnexion
+     * @return le flux d'événements "change", ou un événement "resync" si le client doit relire tout le catalogue
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChanges(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        long afterSequence = lastEventId != null ? lastEventId : after;
+        log.info("Received change feed subscription after sequence {}", afterSequence);
+
+        if (afterSequence < 0) {
+            log.warn("Invalid change feed sequence: {}", afterSequence);
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            return ResponseEntity.ok(productChangeFeedService.subscribe(afterSequence));
+        } catch (IllegalStateException e) {
+            log.warn("Change feed subscription rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+        }
+    }
+}
@@ -1,20 +1,40 @@
 package com.euodia.tax_calculator.controller;
 
+import com.euodia.tax_calculator.audit.QuoteAuditLedger;
+import com.euodia.tax_calculator.bulkhead.Bulkheads;
+import com.euodia.tax_calculator.dto.BulkImportResponse;
 import com.euodia.tax_calculator.dto.CreateProductRequest;
+import com.euodia.tax_calculator.dto.ProductField;
+import com.euodia.tax_calculator.dto.ProductSearchResponse;
 import com.euodia.tax_calculator.dto.ProductWithTaxResponse;
+import com.euodia.tax_calculator.dto.QuoteField;
+import com.euodia.tax_calculator.dto.UpdateProductRequest;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Currency;
 import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.service.PriceIndexService;
+import com.euodia.tax_calculator.service.ProductQuoteService;
+import com.euodia.tax_calculator.service.ProductSearchService;
 import com.euodia.tax_calculator.service.ProductService;
-import com.euodia.tax_calculator.service.TaxCalculationService;
-import com.euodia.tax_calculator.strategy.TaxStrategy;
+import com.euodia.tax_calculator.util.FieldSet;
+import com.euodia.tax_calculator.util.SparseJson;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Contrôleur REST pour la gestion des produits et calculs de taxes
@@ -26,8 +46,23 @@ import java.util.Optional;
 @Slf4j
 public class ProductController {
 
+    static final String CATALOG_SEQUENCE_HEADER = "X-Catalog-Sequence";
+
+    // Borne du nombre de produits retournés par les requêtes sur l'index de prix
+    private static final int MAX_INDEX_QUERY_LIMIT = 1000;
+
+    // Bornes de pagination de la recherche : au plus 10 000 résultats classés par requête
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_RESULTS = 10_000;
+
     private final ProductService productService;
-    private final TaxCalculationService taxCalculationService;
+    private final ProductQuoteService productQuoteService;
+    private final PriceIndexService priceIndexService;
+    private final ProductSearchService productSearchService;
+    private final QuoteAuditLedger quoteAuditLedger;
+    private final Bulkheads bulkheads;
+    private final BulkheadStreaming bulkheadStreaming;
+    private final ObjectMapper objectMapper;
 
     /**
      * POST /api/products
@@ -43,10 +78,17 @@ public class ProductController {
         try {
             // Conversion DTO -> Entity
             // Dans le cadre de plus gros projet, on utiliserait mapstruct ...
-            Product product = new Product(request.getName(), request.getPrice(), request.getCountry());
+            Product product = toProduct(request);
 
             // Sauvegarde
-            Product savedProduct = productService.addProduct(product);
+            ProductService.WriteResult result = productService.createProduct(product);
+            Product savedProduct = result.product();
+
+            // Dédoublonnage actif : le service renvoie le produit déjà enregistré
+            if (result.status() == ProductService.WriteStatus.DUPLICATE) {
+                log.info("Product already exists with ID: {}", savedProduct.getId());
+                return ResponseEntity.ok(savedProduct);
+            }
 
             log.info("Product created successfully with ID: {}", savedProduct.getId());
             return ResponseEntity.status(HttpStatus.CREATED).body(savedProduct);
@@ -60,6 +102,30 @@ public class ProductController {
         }
     }
 
+    /**
+     * POST /api/products/bulk
+     * Importe un lot de produits (flux catalogue). Les produits invalides sont ignorés
+     * et, si le dédoublonnage est actif, les produits déjà connus ne sont pas recréés.
+     *
+     * @param requests les produits à importer
+     * @return le bilan de l'import
+     */
+    @PostMapping("/bulk")
+    public CompletableFuture<ResponseEntity<BulkImportResponse>> importProducts(
+            @RequestBody List<CreateProductRequest> requests) {
+        log.info("Received bulk import of {} products", requests.size());
+
+        return bulkheads.scan().submit(() -> {
+            List<Product> batch = requests.stream()
+                    .map(request -> request == null ? null : toProduct(request))
+                    .toList();
+
+            ProductService.ImportSummary summary = productService.importProducts(batch);
+            return ResponseEntity.ok(new BulkImportResponse(
+                    summary.received(), summary.created(), summary.duplicates(), summary.rejected()));
+        });
+    }
+
     /**
      * GET /api/products/{id}
      * Récupère les détails d'un produit par son ID
@@ -68,18 +134,87 @@ public class ProductController {
      * @return les détails du produit
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Product> getProductById(@PathVariable Long id) {
+    public CompletableFuture<ResponseEntity<Product>> getProductById(@PathVariable Long id) {
         log.info("Received request to get product with ID: {}", id);
 
-        Optional<Product> product = productService.getProductById(id);
+        return bulkheads.point().submit(() -> {
+            Optional<Product> product = productService.getProductById(id);
 
-        if (product.isPresent()) {
-            log.info("Product found: {}", product.get().getName());
-            return ResponseEntity.ok(product.get());
-        } else {
-            log.info("Product not found with ID: {}", id);
-            return ResponseEntity.notFound().build();
+            if (product.isPresent()) {
+                log.info("Product found: {}", product.get().getName());
+                return ResponseEntity.ok().eTag(Long.toString(product.get().getVersion())).body(product.get());
+            } else {
+                log.info("Product not found with ID: {}", id);
+                return ResponseEntity.notFound().build();
+            }
+        });
+    }
+
+    /**
+     * PUT /api/products/{id}
+     * Remplace les valeurs d'un produit. La mise à jour n'est appliquée que si la version du produit
+     * est celle attendue (en-tête If-Match ou champ version, sinon la version lue au début de la requête).
+     *
+     * @param id l'ID du produit
+     * @param request toutes les valeurs du produit
+     * @param ifMatch la version attendue, entre guillemets (ETag de GET /api/products/{id})
+     * @return le produit mis à jour, 404 s'il n'existe pas, 409 et la version courante en cas de conflit
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<Product> replaceProduct(
+            @PathVariable Long id,
+            @RequestBody UpdateProductRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("Received request to replace product {}", id);
+        return update(id, request, ifMatch, false);
+    }
+
+    /**
+     * PATCH /api/products/{id}
+     * Modifie certaines valeurs d'un produit, avec le même contrôle de version que PUT
+     *
+     * @param id l'ID du produit
+     * @param request les valeurs à modifier (les champs absents sont conservés)
+     * @param ifMatch la version attendue, entre guillemets (ETag de GET /api/products/{id})
+     * @return le produit mis à jour, 404 s'il n'existe pas, 409 et la version courante en cas de conflit
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<Product> patchProduct(
+            @PathVariable Long id,
+            @RequestBody UpdateProductRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("Received request to patch product {}", id);
+        return update(id, request, ifMatch, true);
+    }
+
+    /**
+     * DELETE /api/products/{id}
+     * Supprime un produit ; avec If-Match, seulement s'il est toujours à la version attendue
+     *
+     * @param id l'ID du produit
+     * @param ifMatch la version attendue, entre guillemets (optionnelle)
+     * @return 204, 404 s'il n'existe pas, 409 et la version courante en cas de conflit
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Product> deleteProduct(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("Received request to delete product {}", id);
+
+        Long expectedVersion;
+        try {
+            expectedVersion = parseVersion(ifMatch);
+        } catch (NumberFormatException e) {
+            log.warn("Invalid If-Match header: {}", ifMatch);
+            return ResponseEntity.badRequest().build();
         }
+
+        ProductService.WriteResult result = productService.deleteProduct(id, expectedVersion);
+        return switch (result.status()) {
+            case APPLIED -> ResponseEntity.noContent().build();
+            case NOT_FOUND -> ResponseEntity.notFound().build();
+            case VERSION_CONFLICT, DUPLICATE -> conflict(result.product());
+        };
     }
 
     /**
@@ -87,72 +222,278 @@ public class ProductController {
      * Calcule et retourne le prix final d'un produit incluant les taxes
      *
      * @param id l'ID du produit
+     * @param currency la devise des montants retournés (par défaut, celle du produit)
+     * @param fields les champs retournés, séparés par des virgules (par défaut, tous)
      * @return les détails du produit avec calcul des taxes
      */
     @GetMapping("/{id}/with-tax")
-    public ResponseEntity<ProductWithTaxResponse> getProductWithTax(@PathVariable Long id) {
+    public CompletableFuture<ResponseEntity<?>> getProductWithTax(
+            @PathVariable Long id,
+            @RequestParam(required = false) Currency currency,
+            @RequestParam(required = false) String fields) {
         log.info("Received request to calculate tax for product ID: {}", id);
 
-        Optional<Product> productOpt = productService.getProductById(id);
+        return bulkheads.point().submit(() -> {
+            try {
+                FieldSet<ProductWithTaxResponse> fieldSet = fields != null
+                        ? QuoteField.SCHEMA.parse(fields) : QuoteField.SCHEMA.all();
+                // Le registre d'audit conserve la cotation complète : la projection ne réduit alors que la réponse
+                FieldSet<ProductWithTaxResponse> computed = quoteAuditLedger.isEnabled()
+                        ? QuoteField.SCHEMA.all() : fieldSet;
 
-        if (productOpt.isEmpty()) {
-            log.info("Product not found with ID: {}", id);
-            return ResponseEntity.notFound().build();
-        }
+                // Les demandes simultanées pour le même produit partagent un seul calcul
+                Optional<ProductWithTaxResponse> responseOpt = productQuoteService.quoteProduct(id, currency, computed);
 
-        Product product = productOpt.get();
+                if (responseOpt.isEmpty()) {
+                    log.info("Product not found with ID: {}", id);
+                    return ResponseEntity.notFound().build();
+                }
 
-        try {
-            // Calcul des taxes
-            BigDecimal taxAmount = taxCalculationService.calculateTax(product);
-            BigDecimal finalPrice = taxCalculationService.calculateFinalPrice(product);
-
-            // Récupération du nom de la stratégie utilisée
-            TaxStrategy strategy = taxCalculationService.getStrategyForCountry(product.getCountry());
-            String strategyName = strategy != null ? strategy.getStrategyName() : "Unknown strategy";
-
-            // Construction de la réponse
-            ProductWithTaxResponse response = new ProductWithTaxResponse(
-                    product.getId(),
-                    product.getName(),
-                    product.getPrice(),
-                    product.getCountry(),
-                    taxAmount,
-                    finalPrice,
-                    strategyName
-            );
-
-            log.info("Tax calculation completed for product {}: base={}, tax={}, final={}",
-                    product.getName(), product.getPrice(), taxAmount, finalPrice);
-
-            return ResponseEntity.ok(response);
+                ProductWithTaxResponse response = responseOpt.get();
+                log.info("Tax calculation completed for product {}: base={}, tax={}, final={}",
+                        response.getName(), response.getBasePrice(), response.getTaxAmount(), response.getFinalPrice());
 
-        } catch (IllegalArgumentException e) {
-            log.warn("Error calculating tax for product {}: {}", id, e.getMessage());
-            return ResponseEntity.badRequest().build();
-        } catch (Exception e) {
-            log.error("Error calculating tax for product " + id, e);
-            return ResponseEntity.internalServerError().build();
-        }
+                // Chaque cotation retournée est conservée dans le registre d'audit (écriture asynchrone).
+                // Registre saturé ou en échec : la cotation n'est pas retournée sans avoir été conservée
+                if (!quoteAuditLedger.record(response)) {
+                    HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+                    return ResponseEntity.status(status)
+                            .header(HttpHeaders.RETRY_AFTER, "1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body("{\"status\":" + status.value() + ",\"error\":\"Quote audit unavailable\"}");
+                }
+                return ResponseEntity.ok(fields != null ? SparseJson.of(response, fieldSet) : response);
+
+            } catch (IllegalArgumentException e) {
+                log.warn("Error calculating tax for product {}: {}", id, e.getMessage());
+                return ResponseEntity.badRequest().build();
+            } catch (Exception e) {
+                log.error("Error calculating tax for product " + id, e);
+                return ResponseEntity.internalServerError().build();
+            }
+        });
     }
 
     /**
      * GET /api/products
-     * Endpoint bonus pour lister tous les produits
+     * Endpoint bonus pour lister tous les produits.
+     * L'en-tête X-Catalog-Sequence donne le numéro de mutation à partir duquel reprendre
+     * le journal (/api/products/changes) après ce parcours complet. Le catalogue est parcouru tel qu'il est
+     * pendant l'écriture (vue faiblement cohérente, pas un instantané) : il contient au moins toutes les mutations
+     * jusqu'à ce numéro, et peut-être certaines des suivantes, rejouées sans effet depuis le journal.
+     * Le catalogue est sérialisé au fil du parcours, directement dans la réponse, par un thread
+     * du compartiment des parcours : sa taille ne détermine ni la mémoire ni les threads servlet utilisés.
      *
-     * @return la liste de tous les produits
+     * @param fields les champs retournés pour chaque produit, séparés par des virgules (par défaut, tous)
+     * @param request la requête, terminée à la fin du parcours
+     * @param response la réponse : tous les produits, indexés par ID
      */
     @GetMapping
-    public ResponseEntity<?> getAllProducts() {
+    public void getAllProducts(@RequestParam(required = false) String fields,
+                               HttpServletRequest request, HttpServletResponse response) {
         log.info("Received request to get all products");
 
+        FieldSet<Product> fieldSet;
         try {
-            var allProducts = productService.getAllProducts();
-            log.info("Returning {} products", allProducts.size());
-            return ResponseEntity.ok(allProducts);
-        } catch (Exception e) {
-            log.error("Error getting all products", e);
-            return ResponseEntity.internalServerError().build();
+            fieldSet = fields != null ? ProductField.SCHEMA.parse(fields) : null;
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid fields for product list: {}", e.getMessage());
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            return;
         }
+
+        // Numéro lu avant le parcours : la réponse contient au moins toutes les mutations jusqu'à ce numéro
+        long sequence = productService.getLastSequence();
+        response.setStatus(HttpStatus.OK.value());
+        response.setHeader(CATALOG_SEQUENCE_HEADER, Long.toString(sequence));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        bulkheadStreaming.stream(bulkheads.scan(), request, response, outputStream -> {
+            // Pas de taille annoncée : la vue suit le catalogue, le parcours peut en voir plus ou moins
+            log.info("Streaming all products from sequence {}", sequence);
+            Map<Long, Product> allProducts = productService.getProductsView();
+            objectMapper.writeValue(outputStream,
+                    fieldSet != null ? SparseJson.map(allProducts, fieldSet) : allProducts);
+        });
+    }
+
+    /**
+     * GET /api/products/top?country=FRANCE&limit=10
+     * Retourne les produits d'un pays ayant les prix finaux (taxes incluses) les plus élevés
+     *
+     * @param country le pays
+     * @param limit le nombre maximum de produits (1 à 1000)
+     * @param currency la devise des montants retournés (par défaut, celle de chaque produit)
+     * @param fields les champs retournés pour chaque produit, séparés par des virgules (par défaut, tous)
+     * @return les produits avec taxes, triés par prix final décroissant
+     */
+    @GetMapping("/top")
+    public ResponseEntity<?> getTopProductsByFinalPrice(
+            @RequestParam Country country,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) Currency currency,
+            @RequestParam(required = false) String fields) {
+        log.info("Received request for top {} products by final price in {}", limit, country);
+
+        if (limit < 1 || limit > MAX_INDEX_QUERY_LIMIT) {
+            log.warn("Invalid limit for top products: {}", limit);
+            return ResponseEntity.badRequest().build();
+        }
+
+        FieldSet<ProductWithTaxResponse> fieldSet = parseQuoteFields(fields);
+        if (fieldSet == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<ProductWithTaxResponse> responses = priceIndexService.findTopByFinalPrice(country, limit).stream()
+                .map(product -> productQuoteService.quote(product, currency, fieldSet))
+                .toList();
+        return ResponseEntity.ok(fields != null ? SparseJson.list(responses, fieldSet) : responses);
+    }
+
+    /**
+     * GET /api/products/price-range?country=FRANCE&minFinalPrice=100&maxFinalPrice=500&limit=50
+     * Retourne les produits d'un pays dont le prix final est compris dans l'intervalle (bornes incluses)
+     *
+     * @param country le pays
+     * @param minFinalPrice borne basse du prix final, dans la devise du pays
+     * @param maxFinalPrice borne haute du prix final, dans la devise du pays
+     * @param limit le nombre maximum de produits (1 à 1000)
+     * @param currency la devise des montants retournés (par défaut, celle de chaque produit)
+     * @param fields les champs retournés pour chaque produit, séparés par des virgules (par défaut, tous)
+     * @return les produits avec taxes, triés par prix final croissant
+     */
+    @GetMapping("/price-range")
+    public ResponseEntity<?> getProductsByFinalPriceRange(
+            @RequestParam Country country,
+            @RequestParam BigDecimal minFinalPrice,
+            @RequestParam BigDecimal maxFinalPrice,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) Currency currency,
+            @RequestParam(required = false) String fields) {
+        log.info("Received request for products in {} with final price between {} and {}",
+                country, minFinalPrice, maxFinalPrice);
+
+        if (limit < 1 || limit > MAX_INDEX_QUERY_LIMIT || minFinalPrice.compareTo(maxFinalPrice) > 0) {
+            log.warn("Invalid price range query: min={}, max={}, limit={}", minFinalPrice, maxFinalPrice, limit);
+            return ResponseEntity.badRequest().build();
+        }
+
+        FieldSet<ProductWithTaxResponse> fieldSet = parseQuoteFields(fields);
+        if (fieldSet == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<ProductWithTaxResponse> responses = priceIndexService
+                .findByFinalPriceRange(country, minFinalPrice, maxFinalPrice, limit).stream()
+                .map(product -> productQuoteService.quote(product, currency, fieldSet))
+                .toList();
+        return ResponseEntity.ok(fields != null ? SparseJson.list(responses, fieldSet) : responses);
+    }
+
+    /**
+     * GET /api/products/search?q=iphone pro&page=0&size=20
+     * Recherche les produits par mots du nom, classés par pertinence
+     *
+     * @param query les mots recherchés
+     * @param page le numéro de page (à partir de 0)
+     * @param size la taille d'une page (1 à 100)
+     * @return la page de résultats
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ProductSearchResponse> searchProducts(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("Received search request: '{}' (page {}, size {})", query, page, size);
+
+        if (page < 0 || size < 1 || size > MAX_SEARCH_PAGE_SIZE || (long) (page + 1) * size > MAX_SEARCH_RESULTS) {
+            log.warn("Invalid search pagination: page={}, size={}", page, size);
+            return ResponseEntity.badRequest().build();
+        }
+
+        ProductSearchService.SearchPage result = productSearchService.search(query, page, size);
+        return ResponseEntity.ok(new ProductSearchResponse(query, page, size, result.totalHits(), result.products()));
+    }
+
+    private ResponseEntity<Product> update(Long id, UpdateProductRequest request, String ifMatch, boolean partial) {
+        Optional<Product> current = productService.getProductById(id);
+        if (current.isEmpty()) {
+            log.info("Product not found with ID: {}", id);
+            return ResponseEntity.notFound().build();
+        }
+
+        Long expectedVersion;
+        try {
+            expectedVersion = parseVersion(ifMatch);
+        } catch (NumberFormatException e) {
+            log.warn("Invalid If-Match header: {}", ifMatch);
+            return ResponseEntity.badRequest().build();
+        }
+        if (expectedVersion == null) {
+            expectedVersion = request.getVersion() != null ? request.getVersion() : current.get().getVersion();
+        }
+
+        // Les valeurs de PATCH sont fusionnées avec la version lue : si elle a changé entre-temps, conflit
+        Product base = current.get();
+        // Sans devise explicite, un produit qui change de pays prend la devise de son nouveau pays
+        Product replacement = new Product(
+                partial && request.getName() == null ? base.getName() : request.getName(),
+                partial && request.getPrice() == null ? base.getPrice() : request.getPrice(),
+                partial && request.getCountry() == null ? base.getCountry() : request.getCountry())
+                .withCurrency(partial && request.getCurrency() == null && request.getCountry() == null
+                        ? base.getCurrency()
+                        : request.getCurrency())
+                .withCategory(partial && request.getCategory() == null ? base.getCategory() : request.getCategory());
+
+        try {
+            ProductService.WriteResult result = productService.updateProduct(id, expectedVersion, replacement);
+            return switch (result.status()) {
+                case APPLIED -> ResponseEntity.ok()
+                        .eTag(Long.toString(result.product().getVersion()))
+                        .body(result.product());
+                case NOT_FOUND -> ResponseEntity.notFound().build();
+                case VERSION_CONFLICT, DUPLICATE -> conflict(result.product());
+            };
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid product data: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 409 : le corps donne la version courante (ou le produit qui a déjà la clé naturelle), pour réessayer
+    private ResponseEntity<Product> conflict(Product current) {
+        log.info("Write conflict on product {} (version {})", current.getId(), current.getVersion());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .eTag(Long.toString(current.getVersion()))
+                .body(current);
+    }
+
+    // If-Match : "3", W/"3" ou * (toute version)
+    private static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        return Long.parseLong(tag.replace("\"", ""));
+    }
+
+    // ?fields= : tous les champs si absent, null si un champ est inconnu
+    private static FieldSet<ProductWithTaxResponse> parseQuoteFields(String fields) {
+        if (fields == null) {
+            return QuoteField.SCHEMA.all();
+        }
+        try {
+            return QuoteField.SCHEMA.parse(fields);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid fields for product quotes: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private Product toProduct(CreateProductRequest request) {
+        return new Product(request.getName(), request.getPrice(), request.getCountry())
+                .withCurrency(request.getCurrency())
+                .withCategory(request.getCategory());
     }
-}
\ No newline at end of file
+}
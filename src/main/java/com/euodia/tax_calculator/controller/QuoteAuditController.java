@@ -0,0 +1,65 @@
+package com.euodia.tax_calculator.controller;
+
+import com.euodia.tax_calculator.audit.QuoteAuditLedger;
+import com.euodia.tax_calculator.dto.QuoteAuditResponse;
+import com.euodia.tax_calculator.model.Country;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Contrôleur REST du registre d'audit des cotations
+ */
+@RestController
+@RequestMapping("/api/audit/quotes")
+@RequiredArgsConstructor
+@Slf4j
+public class QuoteAuditController {
+
+    private static final int MAX_LIMIT = 10_000;
+
+    private final QuoteAuditLedger quoteAuditLedger;
+
+    /**
+     * GET /api/audit/quotes?from=2025-01-01T00:00:00Z&to=2025-01-02T00:00:00Z&country=FRANCE&limit=1000
+     * Retourne les cotations avec taxe d'un intervalle de temps, éventuellement pour un seul pays
+     *
+     * @param from début de l'intervalle (ISO-8601, inclus)
+     * @param to fin de l'intervalle (ISO-8601, exclue)
+     * @param country le pays de taxation, ou tous si absent
+     * @param limit le nombre maximum de cotations (1 à 10 000)
+     * @return les premières cotations de l'intervalle, 404 si le registre est désactivé
+     */
+    @GetMapping
+    public ResponseEntity<QuoteAuditResponse> getQuotes(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(required = false) Country country,
+            @RequestParam(defaultValue = "1000") int limit) {
+        log.info("Received audit query from {} to {} (country {})", from, to, country);
+
+        if (!quoteAuditLedger.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            log.warn("Invalid audit query limit: {}", limit);
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            QuoteAuditLedger.QueryResult result = quoteAuditLedger.query(Instant.parse(from), Instant.parse(to),
+                    country, limit);
+            return ResponseEntity.ok(new QuoteAuditResponse(result.records(), result.segmentsScanned(),
+                    result.segmentsSkipped(), result.truncated()));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            log.warn("Invalid audit query: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.euodia.tax_calculator.controller;
+
+import com.euodia.tax_calculator.dto.TaxSimulationRequest;
+import com.euodia.tax_calculator.dto.TaxSimulationResponse;
+import com.euodia.tax_calculator.service.TaxSimulationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Contrôleur REST pour les simulations de changement de taux de taxe
+ */
+@RestController
+@RequestMapping("/api/simulations")
+@RequiredArgsConstructor
+@Slf4j
+public class TaxSimulationController {
+
+    private static final int DEFAULT_TOP = 10;
+    private static final int MAX_TOP = 100;
+
+    private final TaxSimulationService taxSimulationService;
+
+    /**
+     * POST /api/simulations/tax-rates
+     * Simule l'effet de nouveaux taux sur tout le catalogue, sans rien modifier
+     *
+     * @param request les taux hypothétiques par pays et le nombre de produits les plus touchés à retourner
+     * @return les totaux de taxes actuels et simulés par pays, et les produits les plus touchés
+     */
+    @PostMapping("/tax-rates")
+    public ResponseEntity<TaxSimulationResponse> simulateTaxRates(@Valid @RequestBody TaxSimulationRequest request) {
+        log.info("Received tax rate simulation request: {}", request.getRates());
+
+        int top = request.getTop() != null ? request.getTop() : DEFAULT_TOP;
+        if (top < 0 || top > MAX_TOP) {
+            log.warn("Invalid simulation top: {}", top);
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            return ResponseEntity.ok(taxSimulationService.simulate(request.getRates(), top));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid simulation request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            log.warn("Simulation rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+        } catch (Exception e) {
+            log.error("Error running tax rate simulation", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
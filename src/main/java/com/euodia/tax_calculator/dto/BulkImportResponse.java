@@ -0,0 +1,20 @@
+package com.euodia.tax_calculator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO pour le bilan d'un import de produits en masse
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResponse {
+
+    private int received;
+    private int created;
+    private int duplicates;
+    private int rejected;
+
+}
@@ -0,0 +1,26 @@
+package com.euodia.tax_calculator.dto;
+
+import com.euodia.tax_calculator.model.Country;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO pour les totaux des lignes d'un panier taxées dans un même pays
+ * Les montants sont exprimés dans la devise du panier
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CountryOrderTotal {
+
+    private Country country;
+    private String taxStrategyUsed;
+    private int lineCount;
+    private BigDecimal netTotal;
+    private BigDecimal taxTotal;
+    private BigDecimal finalTotal;
+
+}
@@ -0,0 +1,32 @@
+package com.euodia.tax_calculator.dto;
+
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Currency;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO pour l'effet d'un changement de taux sur les produits d'un pays
+ * Les montants sont exprimés dans la devise du pays
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CountryTaxSimulation {
+
+    private Country country;
+    private Currency currency;
+    private BigDecimal currentRate;
+    private BigDecimal simulatedRate;
+    private long productCount;
+    private BigDecimal currentTaxTotal;
+    private BigDecimal simulatedTaxTotal;
+    private BigDecimal taxDelta;
+    // Produits dont la taxe varie le plus, en valeur absolue
+    private List<ProductTaxImpact> mostAffected;
+
+}
@@ -1,9 +1,13 @@
 package com.euodia.tax_calculator.dto;
 
 import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Currency;
+import com.euodia.tax_calculator.model.Product;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -20,12 +24,26 @@ import java.math.BigDecimal;
 public class CreateProductRequest {
 
     @NotBlank(message = "Product name is required and cannot be blank")
+    @Size(max = Product.MAX_NAME_LENGTH, message = "Product name cannot exceed 1024 characters")
     private String name;
 
     @NotNull(message = "Price is required")
     @DecimalMin(value = "0.0", inclusive = true, message = "Price must be greater than or equal to 0")
+    @Digits(integer = Product.MAX_PRICE_PRECISION - Product.MAX_PRICE_SCALE, fraction = Product.MAX_PRICE_SCALE,
+            message = "Price cannot exceed 28 digits and 10 decimals")
     private BigDecimal price;
 
     @NotNull(message = "Country is required")
     private Country country;
+
+    // Optionnelle : par défaut, la devise du pays
+    private Currency currency;
+
+    // Optionnelle : catégorie fiscale (taux réduit ou exemption selon les règles du pays)
+    @Size(max = Product.MAX_CATEGORY_LENGTH, message = "Category cannot exceed 255 characters")
+    private String category;
+
+    public CreateProductRequest(String name, BigDecimal price, Country country) {
+        this(name, price, country, null, null);
+    }
 }
\ No newline at end of file
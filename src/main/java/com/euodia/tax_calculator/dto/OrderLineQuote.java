@@ -0,0 +1,28 @@
+package com.euodia.tax_calculator.dto;
+
+import com.euodia.tax_calculator.model.Country;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO pour une ligne de panier calculée
+ * Les montants sont exprimés dans la devise du panier ; la taxe porte sur le montant de la ligne
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderLineQuote {
+
+    private Long productId;
+    private String name;
+    private Country country;
+    private int quantity;
+    private BigDecimal unitPrice;
+    private BigDecimal netAmount;
+    private BigDecimal taxAmount;
+    private BigDecimal finalAmount;
+
+}
@@ -0,0 +1,18 @@
+package com.euodia.tax_calculator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO pour une ligne de panier : un produit et sa quantité
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderLineRequest {
+
+    private Long productId;
+    private Integer quantity;
+
+}
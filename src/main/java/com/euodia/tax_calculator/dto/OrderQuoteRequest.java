@@ -0,0 +1,30 @@
+package com.euodia.tax_calculator.dto;
+
+import com.euodia.tax_calculator.model.Currency;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO pour le calcul d'un panier
+ * Exemple : {"lines": [{"productId": 1, "quantity": 3}], "currency": "EUR"}
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderQuoteRequest {
+
+    // Les lignes sont contrôlées par le service : pas de validation en cascade, coûteuse sur les gros paniers
+    @NotEmpty(message = "At least one order line is required")
+    private List<OrderLineRequest> lines;
+
+    // Optionnelle : par défaut, la devise commune aux produits du panier
+    private Currency currency;
+
+    public OrderQuoteRequest(List<OrderLineRequest> lines) {
+        this(lines, null);
+    }
+}
@@ -0,0 +1,27 @@
+package com.euodia.tax_calculator.dto;
+
+import com.euodia.tax_calculator.model.Currency;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO pour le calcul d'un panier : lignes dans l'ordre de la demande, totaux par pays et total général
+ * Chaque total est la somme exacte des montants des lignes correspondantes
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderQuoteResponse {
+
+    private Currency currency;
+    private List<OrderLineQuote> lines;
+    private List<CountryOrderTotal> countries;
+    private BigDecimal netTotal;
+    private BigDecimal taxTotal;
+    private BigDecimal grandTotal;
+
+}
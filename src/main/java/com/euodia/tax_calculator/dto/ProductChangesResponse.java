@@ -0,0 +1,24 @@
+package com.euodia.tax_calculator.dto;
+
+import com.euodia.tax_calculator.model.ProductChange;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO pour une page du journal des mutations du catalogue
+ * Si resyncRequired vaut true, les mutations demandées ne sont plus conservées :
+ * le client doit relire tout le catalogue (GET /api/products, en-tête X-Catalog-Sequence) puis reprendre le journal.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductChangesResponse {
+
+    private List<ProductChange> changes;
+    private long lastSequence;
+    private boolean resyncRequired;
+
+}
@@ -0,0 +1,70 @@
+package com.euodia.tax_calculator.dto;
+
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.util.FieldSet;
+import com.euodia.tax_calculator.util.JsonField;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * Champs de {@link Product} sélectionnables avec ?fields=, dans l'ordre de la réponse complète
+ */
+public enum ProductField implements JsonField<Product> {
+
+    ID("id") {
+        @Override
+        public void write(JsonGenerator generator, Product value) throws IOException {
+            JsonField.writeNumber(generator, jsonName(), value.getId());
+        }
+    },
+    NAME("name") {
+        @Override
+        public void write(JsonGenerator generator, Product value) throws IOException {
+            JsonField.writeString(generator, jsonName(), value.getName());
+        }
+    },
+    PRICE("price") {
+        @Override
+        public void write(JsonGenerator generator, Product value) throws IOException {
+            JsonField.writeNumber(generator, jsonName(), value.getPrice());
+        }
+    },
+    COUNTRY("country") {
+        @Override
+        public void write(JsonGenerator generator, Product value) throws IOException {
+            JsonField.writeEnum(generator, jsonName(), value.getCountry());
+        }
+    },
+    CURRENCY("currency") {
+        @Override
+        public void write(JsonGenerator generator, Product value) throws IOException {
+            JsonField.writeEnum(generator, jsonName(), value.getCurrency());
+        }
+    },
+    CATEGORY("category") {
+        @Override
+        public void write(JsonGenerator generator, Product value) throws IOException {
+            JsonField.writeString(generator, jsonName(), value.getCategory());
+        }
+    },
+    VERSION("version") {
+        @Override
+        public void write(JsonGenerator generator, Product value) throws IOException {
+            generator.writeNumberField(jsonName(), value.getVersion());
+        }
+    };
+
+    public static final FieldSet.Schema<Product> SCHEMA = new FieldSet.Schema<>(values());
+
+    private final String jsonName;
+
+    ProductField(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    @Override
+    public String jsonName() {
+        return jsonName;
+    }
+}
@@ -0,0 +1,25 @@
+package com.euodia.tax_calculator.dto;
+
+import com.euodia.tax_calculator.model.Product;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO pour la réponse d'une recherche de produits par nom
+ * Les produits sont triés par pertinence décroissante
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchResponse {
+
+    private String query;
+    private int page;
+    private int size;
+    private long totalHits;
+    private List<Product> products;
+
+}
@@ -0,0 +1,24 @@
+package com.euodia.tax_calculator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO pour l'effet d'un changement de taux sur la taxe d'un produit
+ * Les taxes sont exprimées dans la devise du pays du produit
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductTaxImpact {
+
+    private Long id;
+    private String name;
+    private BigDecimal currentTax;
+    private BigDecimal simulatedTax;
+    private BigDecimal taxDelta;
+
+}
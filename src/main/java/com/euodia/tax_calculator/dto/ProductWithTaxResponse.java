@@ -1,6 +1,7 @@
 package com.euodia.tax_calculator.dto;
 
 import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Currency;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -10,6 +11,7 @@ import java.math.BigDecimal;
 /**
  * DTO pour la réponse avec calcul de taxes
  * Contient le produit original plus les informations de taxation
+ * Les montants sont exprimés dans la devise indiquée
  */
 @Data
 @NoArgsConstructor
@@ -20,6 +22,7 @@ public class ProductWithTaxResponse {
     private String name;
     private BigDecimal basePrice;
     private Country country;
+    private Currency currency;
     private BigDecimal taxAmount;
     private BigDecimal finalPrice;
     private String taxStrategyUsed;
@@ -0,0 +1,25 @@
+package com.euodia.tax_calculator.dto;
+
+import com.euodia.tax_calculator.audit.QuoteAuditRecord;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO pour une recherche dans le registre d'audit des cotations
+ * Les cotations sont triées par instant ; truncated vaut true si d'autres cotations
+ * correspondent au-delà de la limite (reprendre avec from = instant de la dernière cotation retournée).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteAuditResponse {
+
+    private List<QuoteAuditRecord> quotes;
+    private int segmentsScanned;
+    private int segmentsSkipped;
+    private boolean truncated;
+
+}
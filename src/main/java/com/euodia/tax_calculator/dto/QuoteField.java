@@ -0,0 +1,75 @@
+package com.euodia.tax_calculator.dto;
+
+import com.euodia.tax_calculator.util.FieldSet;
+import com.euodia.tax_calculator.util.JsonField;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * Champs de {@link ProductWithTaxResponse} sélectionnables avec ?fields=, dans l'ordre de la réponse complète
+ */
+public enum QuoteField implements JsonField<ProductWithTaxResponse> {
+
+    ID("id") {
+        @Override
+        public void write(JsonGenerator generator, ProductWithTaxResponse value) throws IOException {
+            JsonField.writeNumber(generator, jsonName(), value.getId());
+        }
+    },
+    NAME("name") {
+        @Override
+        public void write(JsonGenerator generator, ProductWithTaxResponse value) throws IOException {
+            JsonField.writeString(generator, jsonName(), value.getName());
+        }
+    },
+    BASE_PRICE("basePrice") {
+        @Override
+        public void write(JsonGenerator generator, ProductWithTaxResponse value) throws IOException {
+            JsonField.writeNumber(generator, jsonName(), value.getBasePrice());
+        }
+    },
+    COUNTRY("country") {
+        @Override
+        public void write(JsonGenerator generator, ProductWithTaxResponse value) throws IOException {
+            JsonField.writeEnum(generator, jsonName(), value.getCountry());
+        }
+    },
+    CURRENCY("currency") {
+        @Override
+        public void write(JsonGenerator generator, ProductWithTaxResponse value) throws IOException {
+            JsonField.writeEnum(generator, jsonName(), value.getCurrency());
+        }
+    },
+    TAX_AMOUNT("taxAmount") {
+        @Override
+        public void write(JsonGenerator generator, ProductWithTaxResponse value) throws IOException {
+            JsonField.writeNumber(generator, jsonName(), value.getTaxAmount());
+        }
+    },
+    FINAL_PRICE("finalPrice") {
+        @Override
+        public void write(JsonGenerator generator, ProductWithTaxResponse value) throws IOException {
+            JsonField.writeNumber(generator, jsonName(), value.getFinalPrice());
+        }
+    },
+    TAX_STRATEGY_USED("taxStrategyUsed") {
+        @Override
+        public void write(JsonGenerator generator, ProductWithTaxResponse value) throws IOException {
+            JsonField.writeString(generator, jsonName(), value.getTaxStrategyUsed());
+        }
+    };
+
+    public static final FieldSet.Schema<ProductWithTaxResponse> SCHEMA = new FieldSet.Schema<>(values());
+
+    private final String jsonName;
+
+    QuoteField(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    @Override
+    public String jsonName() {
+        return jsonName;
+    }
+}
@@ -0,0 +1,26 @@
+package com.euodia.tax_calculator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO pour l'état de l'enregistrement JFR (endpoint /actuator/flightrecorder)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordingStatusResponse {
+
+    private boolean running;
+    // Configuration JFR utilisée ("default" ou "profile")
+    private String settings;
+    // Durée minimale des événements de l'application enregistrés (ex. "PT0.00001S")
+    private String threshold;
+    private Instant startedAt;
+    // Chemin du dernier fichier .jfr écrit, ou null
+    private String lastDump;
+
+}
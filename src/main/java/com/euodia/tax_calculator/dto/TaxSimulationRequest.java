@@ -0,0 +1,26 @@
+package com.euodia.tax_calculator.dto;
+
+import com.euodia.tax_calculator.model.Country;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * DTO pour une simulation de changement de taux de taxe
+ * Exemple : {"rates": {"FRANCE": 0.21}, "top": 10}
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaxSimulationRequest {
+
+    @NotEmpty(message = "At least one hypothetical rate is required")
+    private Map<Country, BigDecimal> rates;
+
+    // Nombre de produits les plus touchés retournés par pays
+    private Integer top;
+}
@@ -0,0 +1,23 @@
+package com.euodia.tax_calculator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO pour le résultat d'une simulation de changement de taux de taxe
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaxSimulationResponse {
+
+    private long simulatedProducts;
+    // Produits ignorés : montants hors de portée d'un calcul en centimes
+    private long skippedProducts;
+    private long durationMillis;
+    private List<CountryTaxSimulation> countries;
+
+}
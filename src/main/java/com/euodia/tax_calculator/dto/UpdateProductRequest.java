@@ -0,0 +1,29 @@
+package com.euodia.tax_calculator.dto;
+
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Currency;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO pour la modification d'un produit (PUT : tous les champs, PATCH : les champs à modifier)
+ * La version attendue peut être donnée ici ou dans l'en-tête If-Match ; l'en-tête l'emporte.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdateProductRequest {
+
+    private String name;
+    private BigDecimal price;
+    private Country country;
+    private Currency currency;
+    private String category;
+
+    // Version sur laquelle la modification a été préparée (optionnelle)
+    private Long version;
+
+}
@@ -0,0 +1,17 @@
+package com.euodia.tax_calculator.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Formats d'export du catalogue
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CatalogExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+}
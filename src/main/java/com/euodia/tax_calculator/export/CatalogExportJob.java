@@ -0,0 +1,74 @@
+package com.euodia.tax_calculator.export;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * Export quotidien du catalogue dans un répertoire local (désactivé par défaut : export.job.cron=-).
+ * Le fichier est écrit sous un nom temporaire puis renommé d'un bloc : un système aval
+ * ne lit jamais un export incomplet.
+ */
+@Component
+@Slf4j
+public class CatalogExportJob {
+
+    private final CatalogExportService catalogExportService;
+    private final Path directory;
+    private final CatalogExportFormat format;
+    private final boolean gzip;
+    private final Clock clock;
+
+    public CatalogExportJob(CatalogExportService catalogExportService,
+                            @Value("${export.job.directory:exports}") Path directory,
+                            @Value("${export.job.format:CSV}") CatalogExportFormat format,
+                            @Value("${export.job.gzip:true}") boolean gzip) {
+        this.catalogExportService = catalogExportService;
+        this.directory = directory;
+        this.format = format;
+        this.gzip = gzip;
+        this.clock = Clock.systemDefaultZone();
+    }
+
+    @Scheduled(cron = "${export.job.cron:-}")
+    public void exportCatalog() {
+        try {
+            Path file = run();
+            log.info("Daily catalog export written to {}", file);
+        } catch (IOException e) {
+            log.error("Daily catalog export failed", e);
+        }
+    }
+
+    /**
+     * Exporte le catalogue dans le répertoire configuré
+     *
+     * @return le fichier écrit
+     * @throws IOException si l'écriture échoue
+     */
+    public Path run() throws IOException {
+        Files.createDirectories(directory);
+        String fileName = "catalog-" + LocalDate.now(clock) + "." + format.getExtension() + (gzip ? ".gz" : "");
+        Path target = directory.resolve(fileName);
+        Path temporary = directory.resolve("." + fileName + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            catalogExportService.export(channel, format, gzip, null);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        return Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
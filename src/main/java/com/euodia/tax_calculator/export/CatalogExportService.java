@@ -0,0 +1,221 @@
+package com.euodia.tax_calculator.export;
+
+import com.euodia.tax_calculator.dto.ProductWithTaxResponse;
+import com.euodia.tax_calculator.model.Currency;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.service.ProductQuoteService;
+import com.euodia.tax_calculator.service.ProductService;
+import com.euodia.tax_calculator.util.GzipWritableByteChannel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Spliterators;
+import java.util.zip.Deflater;
+
+/**
+ * Export du catalogue avec prix taxés (mêmes champs que /with-tax), en CSV ou NDJSON, compressé ou non.
+ * Le catalogue est parcouru sans copie et chaque ligne est encodée dans un tampon réutilisé,
+ * vidé dans le canal de sortie dès qu'il est plein : la mémoire utilisée ne dépend pas de la taille du catalogue.
+ */
+@Service
+@Slf4j
+public class CatalogExportService {
+
+    static final String CSV_HEADER = "id,name,basePrice,country,currency,taxAmount,finalPrice,taxStrategyUsed";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ProductService productService;
+    private final ProductQuoteService productQuoteService;
+
+    public CatalogExportService(ProductService productService, ProductQuoteService productQuoteService) {
+        this.productService = productService;
+        this.productQuoteService = productQuoteService;
+    }
+
+    /**
+     * Exporte tout le catalogue dans un canal, puis ferme le canal
+     *
+     * @param channel le canal de sortie
+     * @param format le format des lignes
+     * @param gzip true pour compresser la sortie au format gzip
+     * @param currency la devise des montants, ou null pour la devise de chaque produit
+     * @return le nombre de produits exportés
+     * @throws IOException si l'écriture échoue
+     */
+    public long export(WritableByteChannel channel, CatalogExportFormat format, boolean gzip, Currency currency)
+            throws IOException {
+        long start = System.nanoTime();
+        long count = 0;
+
+        try (WritableByteChannel output = gzip
+                ? new GzipWritableByteChannel(channel, Deflater.BEST_SPEED, BUFFER_SIZE)
+                : channel) {
+            RecordWriter writer = new RecordWriter(output);
+            if (format == CatalogExportFormat.CSV) {
+                writer.line().append(CSV_HEADER);
+                writer.endLine();
+            }
+
+            Iterator<Product> products = Spliterators.iterator(productService.productSpliterator());
+            while (products.hasNext()) {
+                ProductWithTaxResponse quote = productQuoteService.quote(products.next(), currency);
+                if (format == CatalogExportFormat.CSV) {
+                    appendCsv(writer.line(), quote);
+                } else {
+                    appendJson(writer.line(), quote);
+                }
+                writer.endLine();
+                count++;
+            }
+            writer.flush();
+        }
+
+        log.info("Exported {} products as {}{} in {} ms", count, format, gzip ? " (gzip)" : "",
+                (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+
+    private static void appendCsv(StringBuilder line, ProductWithTaxResponse quote) {
+        line.append(quote.getId()).append(',');
+        appendCsvField(line, quote.getName());
+        line.append(',').append(quote.getBasePrice().toPlainString())
+                .append(',').append(quote.getCountry())
+                .append(',').append(quote.getCurrency())
+                .append(',').append(quote.getTaxAmount().toPlainString())
+                .append(',').append(quote.getFinalPrice().toPlainString())
+                .append(',');
+        appendCsvField(line, quote.getTaxStrategyUsed());
+    }
+
+    // Champ entre guillemets (guillemets doublés) s'il contient un séparateur, un guillemet ou un saut de ligne
+    private static void appendCsvField(StringBuilder line, String value) {
+        if (value == null) {
+            return;
+        }
+        boolean quoted = false;
+        for (int i = 0; i < value.length() && !quoted; i++) {
+            char c = value.charAt(i);
+            quoted = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quoted) {
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+
+    private static void appendJson(StringBuilder line, ProductWithTaxResponse quote) {
+        line.append("{\"id\":").append(quote.getId()).append(",\"name\":");
+        appendJsonString(line, quote.getName());
+        line.append(",\"basePrice\":").append(quote.getBasePrice().toPlainString())
+                .append(",\"country\":\"").append(quote.getCountry())
+                .append("\",\"currency\":\"").append(quote.getCurrency())
+                .append("\",\"taxAmount\":").append(quote.getTaxAmount().toPlainString())
+                .append(",\"finalPrice\":").append(quote.getFinalPrice().toPlainString())
+                .append(",\"taxStrategyUsed\":");
+        appendJsonString(line, quote.getTaxStrategyUsed());
+        line.append('}');
+    }
+
+    private static void appendJsonString(StringBuilder line, String value) {
+        if (value == null) {
+            line.append("null");
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+                }
+            }
+        }
+        line.append('"');
+    }
+
+    /**
+     * Écriture ligne à ligne : la ligne est construite dans un StringBuilder réutilisé,
+     * encodée en UTF-8 dans un tampon d'octets réutilisé, lui-même vidé dans le canal quand il est plein
+     */
+    private static final class RecordWriter {
+
+        private final WritableByteChannel channel;
+        private final StringBuilder line = new StringBuilder(256);
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final ByteBuffer bytes = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private char[] chars = new char[256];
+        private CharBuffer charBuffer = CharBuffer.wrap(chars);
+
+        RecordWriter(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        StringBuilder line() {
+            line.setLength(0);
+            return line;
+        }
+
+        void endLine() throws IOException {
+            line.append('\n');
+            int length = line.length();
+            if (length > chars.length) {
+                chars = new char[Math.max(length, chars.length * 2)];
+                charBuffer = CharBuffer.wrap(chars);
+            }
+            line.getChars(0, length, chars, 0);
+            charBuffer.clear().limit(length);
+
+            // Une ligne complète ne se termine jamais au milieu d'une paire de substitution
+            CoderResult result = encoder.encode(charBuffer, bytes, false);
+            while (result.isOverflow()) {
+                drain();
+                result = encoder.encode(charBuffer, bytes, false);
+            }
+            if (result.isError()) {
+                result.throwException();
+            }
+        }
+
+        void flush() throws IOException {
+            drain();
+        }
+
+        private void drain() throws IOException {
+            bytes.flip();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            bytes.clear();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.euodia.tax_calculator.fx;
+
+import com.euodia.tax_calculator.model.Currency;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Service de conversion de devises.
+ * La table de change est chargée depuis un fichier local au démarrage puis relue périodiquement ;
+ * une nouvelle table est compilée à part puis publiée d'un bloc, les lectures ne prennent donc aucun verrou
+ * et ne voient jamais une table à moitié chargée.
+ */
+@Service
+@Slf4j
+public class FxRateService {
+
+    private final Resource location;
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+
+    public FxRateService(@Value("${fx.rates.location:classpath:fx-rates.csv}") Resource location) {
+        this.location = location;
+        try {
+            current.set(new Snapshot(load(), 1));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load FX rates from " + location, e);
+        }
+        log.info("FX rates loaded from {}", location);
+    }
+
+    /**
+     * Relit le fichier de taux et publie la nouvelle table si elle a changé.
+     * En cas d'erreur, la table courante reste en service.
+     */
+    @Scheduled(fixedDelayString = "${fx.rates.refresh-interval-ms:60000}",
+            initialDelayString = "${fx.rates.refresh-interval-ms:60000}")
+    public void refresh() {
+        FxRateTable table;
+        try {
+            table = load();
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("FX rates refresh failed, keeping current rates: {}", e.getMessage());
+            return;
+        }
+
+        Snapshot previous = current.get();
+        if (!table.equals(previous.table())) {
+            current.set(new Snapshot(table, previous.version() + 1));
+            log.info("FX rates updated from {} (version {})", location, previous.version() + 1);
+        }
+    }
+
+    /**
+     * Convertit un montant, arrondi aux unités mineures de la devise cible
+     *
+     * @param amount le montant
+     * @param from la devise du montant
+     * @param to la devise souhaitée
+     * @return le montant converti
+     */
+    public BigDecimal convert(BigDecimal amount, Currency from, Currency to) {
+        return current.get().table().convert(amount, from, to);
+    }
+
+    /**
+     * @return la table de change en service
+     */
+    public FxRateTable getRates() {
+        return current.get().table();
+    }
+
+    /**
+     * @return la version de la table en service, incrémentée à chaque changement de taux
+     */
+    public long getVersion() {
+        return current.get().version();
+    }
+
+    private FxRateTable load() throws IOException {
+        try (Reader reader = new InputStreamReader(location.getInputStream(), StandardCharsets.UTF_8)) {
+            return FxRateTable.parse(reader);
+        }
+    }
+
+    private record Snapshot(FxRateTable table, long version) {
+    }
+}
@@ -0,0 +1,197 @@
+package com.euodia.tax_calculator.fx;
+
+import com.euodia.tax_calculator.model.Currency;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Table de change immuable, compilée en une matrice de taux à virgule fixe.
+ * Chaque taux est stocké en entier (taux × 10^9), indexé par (devise source, devise cible) :
+ * une conversion se fait en unités mineures (centimes), sur des longs, sans BigDecimal intermédiaire.
+ * <p>
+ * Format du fichier source (une paire par ligne, '#' pour les commentaires) :
+ * <pre>
+ * USD,EUR,0.92
+ * </pre>
+ * Le taux inverse est déduit lorsqu'il n'est pas fourni.
+ */
+public final class FxRateTable {
+
+    static final int RATE_DIGITS = 9;
+    static final long RATE_SCALE = 1_000_000_000L;
+
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final int CURRENCY_COUNT = CURRENCIES.length;
+
+    // rates[source * CURRENCY_COUNT + cible] = taux × RATE_SCALE
+    private final long[] rates;
+    // Mêmes taux en BigDecimal, pour les montants hors de portée d'un long
+    private final BigDecimal[] exactRates;
+
+    private FxRateTable(long[] rates) {
+        this.rates = rates;
+        this.exactRates = new BigDecimal[rates.length];
+        for (int i = 0; i < rates.length; i++) {
+            exactRates[i] = BigDecimal.valueOf(rates[i], RATE_DIGITS);
+        }
+    }
+
+    /**
+     * Lit et compile une table de change
+     *
+     * @param source le contenu du fichier de taux
+     * @return la table compilée
+     * @throws IOException si la lecture échoue
+     * @throws IllegalArgumentException si une ligne est invalide ou si une paire de devises n'a pas de taux
+     */
+    public static FxRateTable parse(Reader source) throws IOException {
+        long[] rates = new long[CURRENCY_COUNT * CURRENCY_COUNT];
+        boolean[] explicit = new boolean[rates.length];
+
+        BufferedReader reader = new BufferedReader(source);
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            String[] fields = line.split(",");
+            if (fields.length != 3) {
+                throw new IllegalArgumentException("Invalid FX rate at line " + lineNumber + ": " + line);
+            }
+            Currency from = parseCurrency(fields[0], lineNumber);
+            Currency to = parseCurrency(fields[1], lineNumber);
+            BigDecimal rate;
+            try {
+                rate = new BigDecimal(fields[2].strip());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid FX rate at line " + lineNumber + ": " + line);
+            }
+            if (rate.signum() <= 0 || from == to) {
+                throw new IllegalArgumentException("Invalid FX rate at line " + lineNumber + ": " + line);
+            }
+
+            int index = index(from, to);
+            rates[index] = toFixedPoint(rate);
+            explicit[index] = true;
+
+            // Taux inverse déduit, sauf s'il est fourni explicitement (avant ou après)
+            int inverse = index(to, from);
+            if (!explicit[inverse]) {
+                rates[inverse] = toFixedPoint(BigDecimal.ONE.divide(rate, RATE_DIGITS, RoundingMode.HALF_UP));
+            }
+        }
+
+        for (Currency from : CURRENCIES) {
+            for (Currency to : CURRENCIES) {
+                if (from == to) {
+                    rates[index(from, to)] = RATE_SCALE;
+                } else if (rates[index(from, to)] == 0) {
+                    throw new IllegalArgumentException("Missing FX rate " + from + " -> " + to);
+                }
+            }
+        }
+        return new FxRateTable(rates);
+    }
+
+    /**
+     * Convertit un montant exprimé en unités mineures (arrondi HALF_UP)
+     *
+     * @param minorUnits le montant en unités mineures de la devise source
+     * @param from la devise source
+     * @param to la devise cible
+     * @return le montant en unités mineures de la devise cible
+     * @throws ArithmeticException si le résultat dépasse la capacité d'un long
+     */
+    public long convertMinorUnits(long minorUnits, Currency from, Currency to) {
+        if (from == to) {
+            return minorUnits;
+        }
+        if (from.getMinorUnitDigits() != to.getMinorUnitDigits()) {
+            return convertExact(BigDecimal.valueOf(minorUnits, from.getMinorUnitDigits()), from, to)
+                    .unscaledValue().longValueExact();
+        }
+        return divideHalfUp(Math.multiplyExact(minorUnits, rates[index(from, to)]), RATE_SCALE);
+    }
+
+    /**
+     * Convertit un montant, arrondi aux unités mineures de la devise cible
+     *
+     * @param amount le montant dans la devise source
+     * @param from la devise source
+     * @param to la devise cible
+     * @return le montant converti, ou le montant lui-même si les devises sont identiques
+     */
+    public BigDecimal convert(BigDecimal amount, Currency from, Currency to) {
+        if (amount == null || from == to) {
+            return amount;
+        }
+
+        // Cas courant : montant en centimes tenant dans un long, conversion sur entiers
+        BigDecimal minor = amount.setScale(from.getMinorUnitDigits(), RoundingMode.HALF_UP);
+        if (minor.precision() <= 18 && from.getMinorUnitDigits() == to.getMinorUnitDigits()) {
+            long minorUnits = minor.unscaledValue().longValue();
+            if (Math.abs(minorUnits) <= Long.MAX_VALUE / rates[index(from, to)]) {
+                return BigDecimal.valueOf(convertMinorUnits(minorUnits, from, to), to.getMinorUnitDigits());
+            }
+        }
+        return convertExact(minor, from, to);
+    }
+
+    /**
+     * @param from la devise source
+     * @param to la devise cible
+     * @return le taux de change, à 9 décimales
+     */
+    public BigDecimal getRate(Currency from, Currency to) {
+        return exactRates[index(from, to)];
+    }
+
+    private BigDecimal convertExact(BigDecimal amount, Currency from, Currency to) {
+        return amount.multiply(exactRates[index(from, to)]).setScale(to.getMinorUnitDigits(), RoundingMode.HALF_UP);
+    }
+
+    private static long divideHalfUp(long value, long divisor) {
+        long quotient = value / divisor;
+        long remainder = value % divisor;
+        if (Math.abs(remainder) * 2 >= divisor) {
+            quotient += Long.signum(value);
+        }
+        return quotient;
+    }
+
+    private static long toFixedPoint(BigDecimal rate) {
+        return rate.setScale(RATE_DIGITS, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static Currency parseCurrency(String code, int lineNumber) {
+        try {
+            return Currency.valueOf(code.strip().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported currency at line " + lineNumber + ": " + code);
+        }
+    }
+
+    private static int index(Currency from, Currency to) {
+        return from.ordinal() * CURRENCY_COUNT + to.ordinal();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof FxRateTable other && Arrays.equals(rates, other.rates));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(rates);
+    }
+}
@@ -0,0 +1,89 @@
+package com.euodia.tax_calculator.grpc;
+
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serveur gRPC (HTTP/2, sans TLS) démarré avec l'application, à côté du serveur web.
+ * Les appels gRPC ne passent pas par les filtres de l'API REST (admission, routage du cluster,
+ * redirection des écritures des suiveurs) : ils servent le catalogue local.
+ */
+@Component
+@Slf4j
+public class GrpcServer implements SmartLifecycle {
+
+    private final TaxQuoteGrpcService taxQuoteService;
+    private final boolean enabled;
+    private final int port;
+    private final Duration shutdownGrace;
+
+    private volatile Server server;
+
+    public GrpcServer(TaxQuoteGrpcService taxQuoteService,
+                      @Value("${grpc.server.enabled:true}") boolean enabled,
+                      @Value("${grpc.server.port:9090}") int port,
+                      @Value("${grpc.server.shutdown-grace:10s}") Duration shutdownGrace) {
+        this.taxQuoteService = taxQuoteService;
+        this.enabled = enabled;
+        this.port = port;
+        this.shutdownGrace = shutdownGrace;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            server = Grpc.newServerBuilderForPort(port, InsecureServerCredentials.create())
+                    .addService(taxQuoteService)
+                    .build()
+                    .start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to start gRPC server on port " + port, e);
+        }
+        log.info("gRPC server listening on port {}", server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        Server running = server;
+        if (running == null) {
+            return;
+        }
+        running.shutdown();
+        try {
+            if (!running.awaitTermination(shutdownGrace.toMillis(), TimeUnit.MILLISECONDS)) {
+                running.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            running.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+        log.info("gRPC server stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * @return le port d'écoute effectif (utile avec grpc.server.port=0), ou -1 si le serveur est arrêté
+     */
+    public int getPort() {
+        Server running = server;
+        return running != null ? running.getPort() : -1;
+    }
+}
@@ -0,0 +1,185 @@
+package com.euodia.tax_calculator.grpc;
+
+import com.euodia.tax_calculator.dto.ProductWithTaxResponse;
+import com.euodia.tax_calculator.grpc.proto.CountryCode;
+import com.euodia.tax_calculator.grpc.proto.CurrencyCode;
+import com.euodia.tax_calculator.grpc.proto.GetProductRequest;
+import com.euodia.tax_calculator.grpc.proto.ProductReply;
+import com.euodia.tax_calculator.grpc.proto.QuoteReply;
+import com.euodia.tax_calculator.grpc.proto.QuoteRequest;
+import com.euodia.tax_calculator.grpc.proto.QuoteStatus;
+import com.euodia.tax_calculator.grpc.proto.TaxQuoteServiceGrpc;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Currency;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.pricing.MinorUnits;
+import com.euodia.tax_calculator.service.ProductQuoteService;
+import com.euodia.tax_calculator.service.ProductService;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Service gRPC de cotation (src/main/proto/tax_quote.proto), branché sur les mêmes services que l'API REST :
+ * recherche d'un produit et cotations /with-tax en flux bidirectionnel, montants en centimes exacts.
+ * Le flux applique un contrôle de flux manuel : une nouvelle demande n'est lue que lorsque l'appelant
+ * peut recevoir la réponse précédente, un client lent ne fait donc pas grossir la mémoire du serveur.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaxQuoteGrpcService extends TaxQuoteServiceGrpc.TaxQuoteServiceImplBase {
+
+    private final ProductService productService;
+    private final ProductQuoteService productQuoteService;
+
+    @Override
+    public void getProduct(GetProductRequest request, StreamObserver<ProductReply> responseObserver) {
+        Optional<Product> found = productService.getProductById(request.getId());
+        if (found.isEmpty()) {
+            responseObserver.onError(Status.NOT_FOUND
+                    .withDescription("Unknown product: " + request.getId()).asRuntimeException());
+            return;
+        }
+
+        Product product = found.get();
+        long price = MinorUnits.of(product.getPrice());
+        if (price == MinorUnits.NOT_REPRESENTABLE) {
+            responseObserver.onError(Status.OUT_OF_RANGE
+                    .withDescription("Price of product " + product.getId() + " is not representable in minor units")
+                    .asRuntimeException());
+            return;
+        }
+
+        responseObserver.onNext(ProductReply.newBuilder()
+                .setId(product.getId())
+                .setName(product.getName())
+                .setPriceMinor(price)
+                .setCurrency(toCode(product.getCurrency()))
+                .setCountry(toCode(product.getCountry()))
+                .setCategory(product.getCategory() != null ? product.getCategory() : "")
+                .setVersion(product.getVersion())
+                .build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public StreamObserver<QuoteRequest> streamQuotes(StreamObserver<QuoteReply> responseObserver) {
+        ServerCallStreamObserver<QuoteReply> replies = (ServerCallStreamObserver<QuoteReply>) responseObserver;
+        replies.disableAutoRequest();
+        QuoteStream stream = new QuoteStream(replies);
+        replies.setOnReadyHandler(stream::onReady);
+        return stream;
+    }
+
+    /**
+     * Calcule la réponse à une demande de cotation
+     *
+     * @param request la demande
+     * @return la cotation, ou un statut NOT_FOUND ou INVALID
+     */
+    QuoteReply quote(QuoteRequest request) {
+        QuoteReply.Builder reply = QuoteReply.newBuilder()
+                .setRequestId(request.getRequestId())
+                .setProductId(request.getProductId());
+        try {
+            Optional<ProductWithTaxResponse> quote =
+                    productQuoteService.quoteProduct(request.getProductId(), toCurrency(request.getCurrency()));
+            if (quote.isEmpty()) {
+                return reply.setStatus(QuoteStatus.NOT_FOUND).setError("Unknown product").build();
+            }
+
+            ProductWithTaxResponse response = quote.get();
+            long basePrice = MinorUnits.of(response.getBasePrice());
+            long tax = MinorUnits.of(response.getTaxAmount());
+            long finalPrice = MinorUnits.of(response.getFinalPrice());
+            if (basePrice == MinorUnits.NOT_REPRESENTABLE || tax == MinorUnits.NOT_REPRESENTABLE
+                    || finalPrice == MinorUnits.NOT_REPRESENTABLE) {
+                return reply.setStatus(QuoteStatus.INVALID).setError("Amount not representable in minor units").build();
+            }
+            return reply.setStatus(QuoteStatus.OK)
+                    .setCurrency(toCode(response.getCurrency()))
+                    .setBasePriceMinor(basePrice)
+                    .setTaxMinor(tax)
+                    .setFinalPriceMinor(finalPrice)
+                    .setTaxStrategy(response.getTaxStrategyUsed())
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return reply.setStatus(QuoteStatus.INVALID).setError(String.valueOf(e.getMessage())).build();
+        }
+    }
+
+    /**
+     * Flux de cotations d'un appelant : une demande lue à la fois, lue seulement si le transport
+     * peut accepter la réponse
+     */
+    private final class QuoteStream implements StreamObserver<QuoteRequest> {
+
+        private final ServerCallStreamObserver<QuoteReply> replies;
+        // Vrai tant qu'une demande a été réclamée au transport depuis le dernier passage à l'état prêt
+        private boolean requested;
+
+        QuoteStream(ServerCallStreamObserver<QuoteReply> replies) {
+            this.replies = replies;
+        }
+
+        // Appelé par gRPC, en série avec onNext, quand le transport peut de nouveau envoyer
+        void onReady() {
+            if (replies.isReady() && !requested) {
+                requested = true;
+                replies.request(1);
+            }
+        }
+
+        @Override
+        public void onNext(QuoteRequest request) {
+            replies.onNext(quote(request));
+            if (replies.isReady()) {
+                replies.request(1);
+            } else {
+                requested = false;
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            log.debug("Quote stream cancelled by client: {}", t.getMessage());
+        }
+
+        @Override
+        public void onCompleted() {
+            replies.onCompleted();
+        }
+    }
+
+    private static Currency toCurrency(CurrencyCode code) {
+        return switch (code) {
+            case CURRENCY_UNSPECIFIED -> null;
+            case USD -> Currency.USD;
+            case CAD -> Currency.CAD;
+            case EUR -> Currency.EUR;
+            case UNRECOGNIZED -> throw new IllegalArgumentException("Unsupported currency");
+        };
+    }
+
+    private static CurrencyCode toCode(Currency currency) {
+        return switch (currency) {
+            case USD -> CurrencyCode.USD;
+            case CAD -> CurrencyCode.CAD;
+            case EUR -> CurrencyCode.EUR;
+        };
+    }
+
+    private static CountryCode toCode(Country country) {
+        return switch (country) {
+            case US -> CountryCode.US;
+            case CANADA -> CountryCode.CANADA;
+            case FRANCE -> CountryCode.FRANCE;
+        };
+    }
+}
@@ -0,0 +1,132 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tax_quote.proto
+
+// Protobuf Java Version: 3.25.5
+package com.euodia.tax_calculator.grpc.proto;
+
+/**
+ * Protobuf enum {@code euodia.tax.v1.CountryCode}
+ */
+public enum CountryCode
+    implements com.google.protobuf.ProtocolMessageEnum {
+  /**
+   * <code>COUNTRY_UNSPECIFIED = 0;</code>
+   */
+  COUNTRY_UNSPECIFIED(0),
+  /**
+   * <code>US = 1;</code>
+   */
+  US(1),
+  /**
+   * <code>CANADA = 2;</code>
+   */
+  CANADA(2),
+  /**
+   * <code>FRANCE = 3;</code>
+   */
+  FRANCE(3),
+  UNRECOGNIZED(-1),
+  ;
+
+  /**
+   * <code>COUNTRY_UNSPECIFIED = 0;</code>
+   */
+  public static final int COUNTRY_UNSPECIFIED_VALUE = 0;
+  /**
+   * <code>US = 1;</code>
+   */
+  public static final int US_VALUE = 1;
+  /**
+   * <code>CANADA = 2;</code>
+   */
+  public static final int CANADA_VALUE = 2;
+  /**
+   * <code>FRANCE = 3;</code>
+   */
+  public static final int FRANCE_VALUE = 3;
+
+
+  public final int getNumber() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalArgumentException(
+          "Can't get the number of an unknown enum value.");
+    }
+    return value;
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   * @deprecated Use {@link #forNumber(int)} instead.
+   */
+  @java.lang.Deprecated
+  public static CountryCode valueOf(int value) {
+    return forNumber(value);
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   */
+  public static CountryCode forNumber(int value) {
+    switch (value) {
+      case 0: return COUNTRY_UNSPECIFIED;
+      case 1: return US;
+      case 2: return CANADA;
+      case 3: return FRANCE;
+      default: return null;
+    }
+  }
+
+  public static com.google.protobuf.Internal.EnumLiteMap<CountryCode>
+      internalGetValueMap() {
+    return internalValueMap;
+  }
+  private static final com.google.protobuf.Internal.EnumLiteMap<
+      CountryCode> internalValueMap =
+        new com.google.protobuf.Internal.EnumLiteMap<CountryCode>() {
+          public CountryCode findValueByNumber(int number) {
+            return CountryCode.forNumber(number);
+          }
+        };
+
+  public final com.google.protobuf.Descriptors.EnumValueDescriptor
+      getValueDescriptor() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalStateException(
+          "Can't get the descriptor of an unrecognized enum value.");
+    }
+    return getDescriptor().getValues().get(ordinal());
+  }
+  public final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptorForType() {
+    return getDescriptor();
+  }
+  public static final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptor() {
+    return com.euodia.tax_calculator.grpc.proto.TaxQuoteProto.getDescriptor().getEnumTypes().get(0);
+  }
+
+  private static final CountryCode[] VALUES = values();
+
+  public static CountryCode valueOf(
+      com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    if (desc.getType() != getDescriptor()) {
+      throw new java.lang.IllegalArgumentException(
+        "EnumValueDescriptor is not for this type.");
+    }
+    if (desc.getIndex() == -1) {
+      return UNRECOGNIZED;
+    }
+    return VALUES[desc.getIndex()];
+  }
+
+  private final int value;
+
+  private CountryCode(int value) {
+    this.value = value;
+  }
+
+  // @@protoc_insertion_point(enum_scope:euodia.tax.v1.CountryCode)
+}
+
@@ -0,0 +1,132 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tax_quote.proto
+
+// Protobuf Java Version: 3.25.5
+package com.euodia.tax_calculator.grpc.proto;
+
+/**
+ * Protobuf enum {@code euodia.tax.v1.CurrencyCode}
+ */
+public enum CurrencyCode
+    implements com.google.protobuf.ProtocolMessageEnum {
+  /**
+   * <code>CURRENCY_UNSPECIFIED = 0;</code>
+   */
+  CURRENCY_UNSPECIFIED(0),
+  /**
+   * <code>USD = 1;</code>
+   */
+  USD(1),
+  /**
+   * <code>CAD = 2;</code>
+   */
+  CAD(2),
+  /**
+   * <code>EUR = 3;</code>
+   */
+  EUR(3),
+  UNRECOGNIZED(-1),
+  ;
+
+  /**
+   * <code>CURRENCY_UNSPECIFIED = 0;</code>
+   */
+  public static final int CURRENCY_UNSPECIFIED_VALUE = 0;
+  /**
+   * <code>USD = 1;</code>
+   */
+  public static final int USD_VALUE = 1;
+  /**
+   * <code>CAD = 2;</code>
+   */
+  public static final int CAD_VALUE = 2;
+  /**
+   * <code>EUR = 3;</code>
+   */
+  public static final int EUR_VALUE = 3;
+
+
+  public final int getNumber() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalArgumentException(
+          "Can't get the number of an unknown enum value.");
+    }
+    return value;
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   * @deprecated Use {@link #forNumber(int)} instead.
+   */
+  @java.lang.Deprecated
+  public static CurrencyCode valueOf(int value) {
+    return forNumber(value);
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   */
+  public static CurrencyCode forNumber(int value) {
+    switch (value) {
+      case 0: return CURRENCY_UNSPECIFIED;
+      case 1: return USD;
+      case 2: return CAD;
+      case 3: return EUR;
+      default: return null;
+    }
+  }
+
+  public static com.google.protobuf.Internal.EnumLiteMap<CurrencyCode>
+      internalGetValueMap() {
+    return internalValueMap;
+  }
+  private static final com.google.protobuf.Internal.EnumLiteMap<
+      CurrencyCode> internalValueMap =
+        new com.google.protobuf.Internal.EnumLiteMap<CurrencyCode>() {
+          public CurrencyCode findValueByNumber(int number) {
+            return CurrencyCode.forNumber(number);
+          }
+        };
+
+  public final com.google.protobuf.Descriptors.EnumValueDescriptor
+      getValueDescriptor() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalStateException(
+          "Can't get the descriptor of an unrecognized enum value.");
+    }
+    return getDescriptor().getValues().get(ordinal());
+  }
+  public final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptorForType() {
+    return getDescriptor();
+  }
+  public static final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptor() {
+    return com.euodia.tax_calculator.grpc.proto.TaxQuoteProto.getDescriptor().getEnumTypes().get(1);
+  }
+
+  private static final CurrencyCode[] VALUES = values();
+
+  public static CurrencyCode valueOf(
+      com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    if (desc.getType() != getDescriptor()) {
+      throw new java.lang.IllegalArgumentException(
+        "EnumValueDescriptor is not for this type.");
+    }
+    if (desc.getIndex() == -1) {
+      return UNRECOGNIZED;
+    }
+    return VALUES[desc.getIndex()];
+  }
+
+  private final int value;
+
+  private CurrencyCode(int value) {
+    this.value = value;
+  }
+
+  // @@protoc_insertion_point(enum_scope:euodia.tax.v1.CurrencyCode)
+}
+
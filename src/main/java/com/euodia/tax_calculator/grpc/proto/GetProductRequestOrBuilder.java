@@ -0,0 +1,16 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tax_quote.proto
+
+// Protobuf Java Version: 3.25.5
+package com.euodia.tax_calculator.grpc.proto;
+
+public interface GetProductRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:euodia.tax.v1.GetProductRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 id = 1;</code>
+   * @return The id.
+   */
+  long getId();
+}
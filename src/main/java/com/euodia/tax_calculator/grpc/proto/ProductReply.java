@@ -0,0 +1,1111 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tax_quote.proto
+
+// Protobuf Java Version: 3.25.5
+package com.euodia.tax_calculator.grpc.proto;
+
+/**
+ * Protobuf type {@code euodia.tax.v1.ProductReply}
+ */
+public final class ProductReply extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:euodia.tax.v1.ProductReply)
+    ProductReplyOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ProductReply.newBuilder() to construct.
+  private ProductReply(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ProductReply() {
+    name_ = "";
+    currency_ = 0;
+    country_ = 0;
+    category_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new ProductReply();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.euodia.tax_calculator.grpc.proto.TaxQuoteProto.internal_static_euodia_tax_v1_ProductReply_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.euodia.tax_calculator.grpc.proto.TaxQuoteProto.internal_static_euodia_tax_v1_ProductReply_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.euodia.tax_calculator.grpc.proto.ProductReply.class, com.euodia.tax_calculator.grpc.proto.ProductReply.Builder.class);
+  }
+
+  public static final int ID_FIELD_NUMBER = 1;
+  private long id_ = 0L;
+  /**
+   * <code>int64 id = 1;</code>
+   * @return The id.
+   */
+  @java.lang.Override
+  public long getId() {
+    return id_;
+  }
+
+  public static final int NAME_FIELD_NUMBER = 2;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object name_ = "";
+  /**
+   * <code>string name = 2;</code>
+   * @return The name.
+   */
+  @java.lang.Override
+  public java.lang.String getName() {
+    java.lang.Object ref = name_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      name_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string name = 2;</code>
+   * @return The bytes for name.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getNameBytes() {
+    java.lang.Object ref = name_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      name_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int PRICE_MINOR_FIELD_NUMBER = 3;
+  private long priceMinor_ = 0L;
+  /**
+   * <pre>
+   * Prix en centimes de la devise du produit
+   * </pre>
+   *
+   * <code>int64 price_minor = 3;</code>
+   * @return The priceMinor.
+   */
+  @java.lang.Override
+  public long getPriceMinor() {
+    return priceMinor_;
+  }
+
+  public static final int CURRENCY_FIELD_NUMBER = 4;
+  private int currency_ = 0;
+  /**
+   * <code>.euodia.tax.v1.CurrencyCode currency = 4;</code>
+   * @return The enum numeric value on the wire for currency.
+   */
+  @java.lang.Override public int getCurrencyValue() {
+    return currency_;
+  }
+  /**
+   * <code>.euodia.tax.v1.CurrencyCode currency = 4;</code>
+   * @return The currency.
+   */
+  @java.lang.Override public com.euodia.tax_calculator.grpc.proto.CurrencyCode getCurrency() {
+    com.euodia.tax_calculator.grpc.proto.CurrencyCode result = com.euodia.tax_calculator.grpc.proto.CurrencyCode.forNumber(currency_);
+    return result == null ? com.euodia.tax_calculator.grpc.proto.CurrencyCode.UNRECOGNIZED : result;
+  }
+
+  public static final int COUNTRY_FIELD_NUMBER = 5;
+  private int country_ = 0;
+  /**
+   * <code>.euodia.tax.v1.CountryCode country = 5;</code>
+   * @return The enum numeric value on the wire for country.
+   */
+  @java.lang.Override public int getCountryValue() {
+    return country_;
+  }
+  /**
+   * <code>.euodia.tax.v1.CountryCode country = 5;</code>
+   * @return The country.
+   */
+  @java.lang.Override public com.euodia.tax_calculator.grpc.proto.CountryCode getCountry() {
+    com.euodia.tax_calculator.grpc.proto.CountryCode result = com.euodia.tax_calculator.grpc.proto.CountryCode.forNumber(country_);
+    return result == null ? com.euodia.tax_calculator.grpc.proto.CountryCode.UNRECOGNIZED : result;
+  }
+
+  public static final int CATEGORY_FIELD_NUMBER = 6;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object category_ = "";
+  /**
+   * <pre>
+   * Catégorie fiscale, vide si aucune
+   * </pre>
+   *
+   * <code>string category = 6;</code>
+   * @return The category.
+   */
+  @java.lang.Override
+  public java.lang.String getCategory() {
+    java.lang.Object ref = category_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      category_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * Catégorie fiscale, vide si aucune
+   * </pre>
+   *
+   * <code>string category = 6;</code>
+   * @return The bytes for category.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getCategoryBytes() {
+    java.lang.Object ref = category_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      category_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int VERSION_FIELD_NUMBER = 7;
+  private long version_ = 0L;
+  /**
+   * <code>int64 version = 7;</code>
+   * @return The version.
+   */
+  @java.lang.Override
+  public long getVersion() {
+    return version_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (id_ != 0L) {
+      output.writeInt64(1, id_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, name_);
+    }
+    if (priceMinor_ != 0L) {
+      output.writeInt64(3, priceMinor_);
+    }
+    if (currency_ != com.euodia.tax_calculator.grpc.proto.CurrencyCode.CURRENCY_UNSPECIFIED.getNumber()) {
+      output.writeEnum(4, currency_);
+    }
+    if (country_ != com.euodia.tax_calculator.grpc.proto.CountryCode.COUNTRY_UNSPECIFIED.getNumber()) {
+      output.writeEnum(5, country_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(category_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 6, category_);
+    }
+    if (version_ != 0L) {
+      output.writeInt64(7, version_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (id_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, id_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, name_);
+    }
+    if (priceMinor_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(3, priceMinor_);
+    }
+    if (currency_ != com.euodia.tax_calculator.grpc.proto.CurrencyCode.CURRENCY_UNSPECIFIED.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(4, currency_);
+    }
+    if (country_ != com.euodia.tax_calculator.grpc.proto.CountryCode.COUNTRY_UNSPECIFIED.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(5, country_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(category_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, category_);
+    }
+    if (version_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(7, version_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.euodia.tax_calculator.grpc.proto.ProductReply)) {
+      return super.equals(obj);
+    }
+    com.euodia.tax_calculator.grpc.proto.ProductReply other = (com.euodia.tax_calculator.grpc.proto.ProductReply) obj;
+
+    if (getId()
+        != other.getId()) return false;
+    if (!getName()
+        .equals(other.getName())) return false;
+    if (getPriceMinor()
+        != other.getPriceMinor()) return false;
+    if (currency_ != other.currency_) return false;
+    if (country_ != other.country_) return false;
+    if (!getCategory()
+        .equals(other.getCategory())) return false;
+    if (getVersion()
+        != other.getVersion()) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + ID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getId());
+    hash = (37 * hash) + NAME_FIELD_NUMBER;
+    hash = (53 * hash) + getName().hashCode();
+    hash = (37 * hash) + PRICE_MINOR_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getPriceMinor());
+    hash = (37 * hash) + CURRENCY_FIELD_NUMBER;
+    hash = (53 * hash) + currency_;
+    hash = (37 * hash) + COUNTRY_FIELD_NUMBER;
+    hash = (53 * hash) + country_;
+    hash = (37 * hash) + CATEGORY_FIELD_NUMBER;
+    hash = (53 * hash) + getCategory().hashCode();
+    hash = (37 * hash) + VERSION_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getVersion());
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.euodia.tax_calculator.grpc.proto.ProductReply parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.ProductReply parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.ProductReply parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.ProductReply parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.ProductReply parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.ProductReply parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.ProductReply parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.ProductReply parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static com.euodia.tax_calculator.grpc.proto.ProductReply parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static com.euodia.tax_calculator.grpc.proto.ProductReply parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.ProductReply parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.ProductReply parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.euodia.tax_calculator.grpc.proto.ProductReply prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code euodia.tax.v1.ProductReply}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:euodia.tax.v1.ProductReply)
+      com.euodia.tax_calculator.grpc.proto.ProductReplyOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.euodia.tax_calculator.grpc.proto.TaxQuoteProto.internal_static_euodia_tax_v1_ProductReply_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.euodia.tax_calculator.grpc.proto.TaxQuoteProto.internal_static_euodia_tax_v1_ProductReply_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.euodia.tax_calculator.grpc.proto.ProductReply.class, com.euodia.tax_calculator.grpc.proto.ProductReply.Builder.class);
+    }
+
+    // Construct using com.euodia.tax_calculator.grpc.proto.ProductReply.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      id_ = 0L;
+      name_ = "";
+      priceMinor_ = 0L;
+      currency_ = 0;
+      country_ = 0;
+      category_ = "";
+      version_ = 0L;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.euodia.tax_calculator.grpc.proto.TaxQuoteProto.internal_static_euodia_tax_v1_ProductReply_descriptor;
+    }
+
+    @java.lang.Override
+    public com.euodia.tax_calculator.grpc.proto.ProductReply getDefaultInstanceForType() {
+      return com.euodia.tax_calculator.grpc.proto.ProductReply.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.euodia.tax_calculator.grpc.proto.ProductReply build() {
+      com.euodia.tax_calculator.grpc.proto.ProductReply result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.euodia.tax_calculator.grpc.proto.ProductReply buildPartial() {
+      com.euodia.tax_calculator.grpc.proto.ProductReply result = new com.euodia.tax_calculator.grpc.proto.ProductReply(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(com.euodia.tax_calculator.grpc.proto.ProductReply result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.id_ = id_;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.name_ = name_;
+      }
+      if (((from_bitField0_ & 0x00000004) != 0)) {
+        result.priceMinor_ = priceMinor_;
+      }
+      if (((from_bitField0_ & 0x00000008) != 0)) {
+        result.currency_ = currency_;
+      }
+      if (((from_bitField0_ & 0x00000010) != 0)) {
+        result.country_ = country_;
+      }
+      if (((from_bitField0_ & 0x00000020) != 0)) {
+        result.category_ = category_;
+      }
+      if (((from_bitField0_ & 0x00000040) != 0)) {
+        result.version_ = version_;
+      }
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.euodia.tax_calculator.grpc.proto.ProductReply) {
+        return mergeFrom((com.euodia.tax_calculator.grpc.proto.ProductReply)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.euodia.tax_calculator.grpc.proto.ProductReply other) {
+      if (other == com.euodia.tax_calculator.grpc.proto.ProductReply.getDefaultInstance()) return this;
+      if (other.getId() != 0L) {
+        setId(other.getId());
+      }
+      if (!other.getName().isEmpty()) {
+        name_ = other.name_;
+        bitField0_ |= 0x00000002;
+        onChanged();
+      }
+      if (other.getPriceMinor() != 0L) {
+        setPriceMinor(other.getPriceMinor());
+      }
+      if (other.currency_ != 0) {
+        setCurrencyValue(other.getCurrencyValue());
+      }
+      if (other.country_ != 0) {
+        setCountryValue(other.getCountryValue());
+      }
+      if (!other.getCategory().isEmpty()) {
+        category_ = other.category_;
+        bitField0_ |= 0x00000020;
+        onChanged();
+      }
+      if (other.getVersion() != 0L) {
+        setVersion(other.getVersion());
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              id_ = input.readInt64();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 8
+            case 18: {
+              name_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 18
+            case 24: {
+              priceMinor_ = input.readInt64();
+              bitField0_ |= 0x00000004;
+              break;
+            } // case 24
+            case 32: {
+              currency_ = input.readEnum();
+              bitField0_ |= 0x00000008;
+              break;
+            } // case 32
+            case 40: {
+              country_ = input.readEnum();
+              bitField0_ |= 0x00000010;
+              break;
+            } // case 40
+            case 50: {
+              category_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000020;
+              break;
+            } // case 50
+            case 56: {
+              version_ = input.readInt64();
+              bitField0_ |= 0x00000040;
+              break;
+            } // case 56
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private long id_ ;
+    /**
+     * <code>int64 id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public long getId() {
+      return id_;
+    }
+    /**
+     * <code>int64 id = 1;</code>
+     * @param value The id to set.
+     * @return This builder for chaining.
+     */
+    public Builder setId(long value) {
+
+      id_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 id = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearId() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      id_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object name_ = "";
+    /**
+     * <code>string name = 2;</code>
+     * @return The name.
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string name = 2;</code>
+     * @return The bytes for name.
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string name = 2;</code>
+     * @param value The name to set.
+     * @return This builder for chaining.
+     */
+    public Builder setName(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      name_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string name = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearName() {
+      name_ = getDefaultInstance().getName();
+      bitField0_ = (bitField0_ & ~0x00000002);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string name = 2;</code>
+     * @param value The bytes for name to set.
+     * @return This builder for chaining.
+     */
+    public Builder setNameBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      name_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+
+    private long priceMinor_ ;
+    /**
+     * <pre>
+     * Prix en centimes de la devise du produit
+     * </pre>
+     *
+     * <code>int64 price_minor = 3;</code>
+     * @return The priceMinor.
+     */
+    @java.lang.Override
+    public long getPriceMinor() {
+      return priceMinor_;
+    }
+    /**
+     * <pre>
+     * Prix en centimes de la devise du produit
+     * </pre>
+     *
+     * <code>int64 price_minor = 3;</code>
+     * @param value The priceMinor to set.
+     * @return This builder for chaining.
+     */
+    public Builder setPriceMinor(long value) {
+
+      priceMinor_ = value;
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Prix en centimes de la devise du produit
+     * </pre>
+     *
+     * <code>int64 price_minor = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearPriceMinor() {
+      bitField0_ = (bitField0_ & ~0x00000004);
+      priceMinor_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private int currency_ = 0;
+    /**
+     * <code>.euodia.tax.v1.CurrencyCode currency = 4;</code>
+     * @return The enum numeric value on the wire for currency.
+     */
+    @java.lang.Override public int getCurrencyValue() {
+      return currency_;
+    }
+    /**
+     * <code>.euodia.tax.v1.CurrencyCode currency = 4;</code>
+     * @param value The enum numeric value on the wire for currency to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCurrencyValue(int value) {
+      currency_ = value;
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.euodia.tax.v1.CurrencyCode currency = 4;</code>
+     * @return The currency.
+     */
+    @java.lang.Override
+    public com.euodia.tax_calculator.grpc.proto.CurrencyCode getCurrency() {
+      com.euodia.tax_calculator.grpc.proto.CurrencyCode result = com.euodia.tax_calculator.grpc.proto.CurrencyCode.forNumber(currency_);
+      return result == null ? com.euodia.tax_calculator.grpc.proto.CurrencyCode.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.euodia.tax.v1.CurrencyCode currency = 4;</code>
+     * @param value The currency to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCurrency(com.euodia.tax_calculator.grpc.proto.CurrencyCode value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      bitField0_ |= 0x00000008;
+      currency_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.euodia.tax.v1.CurrencyCode currency = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearCurrency() {
+      bitField0_ = (bitField0_ & ~0x00000008);
+      currency_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int country_ = 0;
+    /**
+     * <code>.euodia.tax.v1.CountryCode country = 5;</code>
+     * @return The enum numeric value on the wire for country.
+     */
+    @java.lang.Override public int getCountryValue() {
+      return country_;
+    }
+    /**
+     * <code>.euodia.tax.v1.CountryCode country = 5;</code>
+     * @param value The enum numeric value on the wire for country to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCountryValue(int value) {
+      country_ = value;
+      bitField0_ |= 0x00000010;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.euodia.tax.v1.CountryCode country = 5;</code>
+     * @return The country.
+     */
+    @java.lang.Override
+    public com.euodia.tax_calculator.grpc.proto.CountryCode getCountry() {
+      com.euodia.tax_calculator.grpc.proto.CountryCode result = com.euodia.tax_calculator.grpc.proto.CountryCode.forNumber(country_);
+      return result == null ? com.euodia.tax_calculator.grpc.proto.CountryCode.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.euodia.tax.v1.CountryCode country = 5;</code>
+     * @param value The country to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCountry(com.euodia.tax_calculator.grpc.proto.CountryCode value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      bitField0_ |= 0x00000010;
+      country_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.euodia.tax.v1.CountryCode country = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearCountry() {
+      bitField0_ = (bitField0_ & ~0x00000010);
+      country_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object category_ = "";
+    /**
+     * <pre>
+     * Catégorie fiscale, vide si aucune
+     * </pre>
+     *
+     * <code>string category = 6;</code>
+     * @return The category.
+     */
+    public java.lang.String getCategory() {
+      java.lang.Object ref = category_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        category_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Catégorie fiscale, vide si aucune
+     * </pre>
+     *
+     * <code>string category = 6;</code>
+     * @return The bytes for category.
+     */
+    public com.google.protobuf.ByteString
+        getCategoryBytes() {
+      java.lang.Object ref = category_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        category_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Catégorie fiscale, vide si aucune
+     * </pre>
+     *
+     * <code>string category = 6;</code>
+     * @param value The category to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCategory(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      category_ = value;
+      bitField0_ |= 0x00000020;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Catégorie fiscale, vide si aucune
+     * </pre>
+     *
+     * <code>string category = 6;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearCategory() {
+      category_ = getDefaultInstance().getCategory();
+      bitField0_ = (bitField0_ & ~0x00000020);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Catégorie fiscale, vide si aucune
+     * </pre>
+     *
+     * <code>string category = 6;</code>
+     * @param value The bytes for category to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCategoryBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      category_ = value;
+      bitField0_ |= 0x00000020;
+      onChanged();
+      return this;
+    }
+
+    private long version_ ;
+    /**
+     * <code>int64 version = 7;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public long getVersion() {
+      return version_;
+    }
+    /**
+     * <code>int64 version = 7;</code>
+     * @param value The version to set.
+     * @return This builder for chaining.
+     */
+    public Builder setVersion(long value) {
+
+      version_ = value;
+      bitField0_ |= 0x00000040;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 version = 7;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearVersion() {
+      bitField0_ = (bitField0_ & ~0x00000040);
+      version_ = 0L;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:euodia.tax.v1.ProductReply)
+  }
+
+  // @@protoc_insertion_point(class_scope:euodia.tax.v1.ProductReply)
+  private static final com.euodia.tax_calculator.grpc.proto.ProductReply DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.euodia.tax_calculator.grpc.proto.ProductReply();
+  }
+
+  public static com.euodia.tax_calculator.grpc.proto.ProductReply getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ProductReply>
+      PARSER = new com.google.protobuf.AbstractParser<ProductReply>() {
+    @java.lang.Override
+    public ProductReply parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<ProductReply> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ProductReply> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.euodia.tax_calculator.grpc.proto.ProductReply getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,86 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tax_quote.proto
+
+// Protobuf Java Version: 3.25.5
+package com.euodia.tax_calculator.grpc.proto;
+
+public interface ProductReplyOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:euodia.tax.v1.ProductReply)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 id = 1;</code>
+   * @return The id.
+   */
+  long getId();
+
+  /**
+   * <code>string name = 2;</code>
+   * @return The name.
+   */
+  java.lang.String getName();
+  /**
+   * <code>string name = 2;</code>
+   * @return The bytes for name.
+   */
+  com.google.protobuf.ByteString
+      getNameBytes();
+
+  /**
+   * <pre>
+   * Prix en centimes de la devise du produit
+   * </pre>
+   *
+   * <code>int64 price_minor = 3;</code>
+   * @return The priceMinor.
+   */
+  long getPriceMinor();
+
+  /**
+   * <code>.euodia.tax.v1.CurrencyCode currency = 4;</code>
+   * @return The enum numeric value on the wire for currency.
+   */
+  int getCurrencyValue();
+  /**
+   * <code>.euodia.tax.v1.CurrencyCode currency = 4;</code>
+   * @return The currency.
+   */
+  com.euodia.tax_calculator.grpc.proto.CurrencyCode getCurrency();
+
+  /**
+   * <code>.euodia.tax.v1.CountryCode country = 5;</code>
+   * @return The enum numeric value on the wire for country.
+   */
+  int getCountryValue();
+  /**
+   * <code>.euodia.tax.v1.CountryCode country = 5;</code>
+   * @return The country.
+   */
+  com.euodia.tax_calculator.grpc.proto.CountryCode getCountry();
+
+  /**
+   * <pre>
+   * Catégorie fiscale, vide si aucune
+   * </pre>
+   *
+   * <code>string category = 6;</code>
+   * @return The category.
+   */
+  java.lang.String getCategory();
+  /**
+   * <pre>
+   * Catégorie fiscale, vide si aucune
+   * </pre>
+   *
+   * <code>string category = 6;</code>
+   * @return The bytes for category.
+   */
+  com.google.protobuf.ByteString
+      getCategoryBytes();
+
+  /**
+   * <code>int64 version = 7;</code>
+   * @return The version.
+   */
+  long getVersion();
+}
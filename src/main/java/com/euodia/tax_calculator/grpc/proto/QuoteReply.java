@@ -0,0 +1,1229 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tax_quote.proto
+
+// Protobuf Java Version: 3.25.5
+package com.euodia.tax_calculator.grpc.proto;
+
+/**
+ * Protobuf type {@code euodia.tax.v1.QuoteReply}
+ */
+public final class QuoteReply extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:euodia.tax.v1.QuoteReply)
+    QuoteReplyOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use QuoteReply.newBuilder() to construct.
+  private QuoteReply(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private QuoteReply() {
+    status_ = 0;
+    currency_ = 0;
+    taxStrategy_ = "";
+    error_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new QuoteReply();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.euodia.tax_calculator.grpc.proto.TaxQuoteProto.internal_static_euodia_tax_v1_QuoteReply_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.euodia.tax_calculator.grpc.proto.TaxQuoteProto.internal_static_euodia_tax_v1_QuoteReply_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.euodia.tax_calculator.grpc.proto.QuoteReply.class, com.euodia.tax_calculator.grpc.proto.QuoteReply.Builder.class);
+  }
+
+  public static final int REQUEST_ID_FIELD_NUMBER = 1;
+  private long requestId_ = 0L;
+  /**
+   * <code>int64 request_id = 1;</code>
+   * @return The requestId.
+   */
+  @java.lang.Override
+  public long getRequestId() {
+    return requestId_;
+  }
+
+  public static final int PRODUCT_ID_FIELD_NUMBER = 2;
+  private long productId_ = 0L;
+  /**
+   * <code>int64 product_id = 2;</code>
+   * @return The productId.
+   */
+  @java.lang.Override
+  public long getProductId() {
+    return productId_;
+  }
+
+  public static final int STATUS_FIELD_NUMBER = 3;
+  private int status_ = 0;
+  /**
+   * <code>.euodia.tax.v1.QuoteStatus status = 3;</code>
+   * @return The enum numeric value on the wire for status.
+   */
+  @java.lang.Override public int getStatusValue() {
+    return status_;
+  }
+  /**
+   * <code>.euodia.tax.v1.QuoteStatus status = 3;</code>
+   * @return The status.
+   */
+  @java.lang.Override public com.euodia.tax_calculator.grpc.proto.QuoteStatus getStatus() {
+    com.euodia.tax_calculator.grpc.proto.QuoteStatus result = com.euodia.tax_calculator.grpc.proto.QuoteStatus.forNumber(status_);
+    return result == null ? com.euodia.tax_calculator.grpc.proto.QuoteStatus.UNRECOGNIZED : result;
+  }
+
+  public static final int CURRENCY_FIELD_NUMBER = 4;
+  private int currency_ = 0;
+  /**
+   * <code>.euodia.tax.v1.CurrencyCode currency = 4;</code>
+   * @return The enum numeric value on the wire for currency.
+   */
+  @java.lang.Override public int getCurrencyValue() {
+    return currency_;
+  }
+  /**
+   * <code>.euodia.tax.v1.CurrencyCode currency = 4;</code>
+   * @return The currency.
+   */
+  @java.lang.Override public com.euodia.tax_calculator.grpc.proto.CurrencyCode getCurrency() {
+    com.euodia.tax_calculator.grpc.proto.CurrencyCode result = com.euodia.tax_calculator.grpc.proto.CurrencyCode.forNumber(currency_);
+    return result == null ? com.euodia.tax_calculator.grpc.proto.CurrencyCode.UNRECOGNIZED : result;
+  }
+
+  public static final int BASE_PRICE_MINOR_FIELD_NUMBER = 5;
+  private long basePriceMinor_ = 0L;
+  /**
+   * <code>int64 base_price_minor = 5;</code>
+   * @return The basePriceMinor.
+   */
+  @java.lang.Override
+  public long getBasePriceMinor() {
+    return basePriceMinor_;
+  }
+
+  public static final int TAX_MINOR_FIELD_NUMBER = 6;
+  private long taxMinor_ = 0L;
+  /**
+   * <code>int64 tax_minor = 6;</code>
+   * @return The taxMinor.
+   */
+  @java.lang.Override
+  public long getTaxMinor() {
+    return taxMinor_;
+  }
+
+  public static final int FINAL_PRICE_MINOR_FIELD_NUMBER = 7;
+  private long finalPriceMinor_ = 0L;
+  /**
+   * <code>int64 final_price_minor = 7;</code>
+   * @return The finalPriceMinor.
+   */
+  @java.lang.Override
+  public long getFinalPriceMinor() {
+    return finalPriceMinor_;
+  }
+
+  public static final int TAX_STRATEGY_FIELD_NUMBER = 8;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object taxStrategy_ = "";
+  /**
+   * <code>string tax_strategy = 8;</code>
+   * @return The taxStrategy.
+   */
+  @java.lang.Override
+  public java.lang.String getTaxStrategy() {
+    java.lang.Object ref = taxStrategy_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      taxStrategy_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string tax_strategy = 8;</code>
+   * @return The bytes for taxStrategy.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getTaxStrategyBytes() {
+    java.lang.Object ref = taxStrategy_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      taxStrategy_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int ERROR_FIELD_NUMBER = 9;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object error_ = "";
+  /**
+   * <pre>
+   * Cause de l'échec si status n'est pas OK
+   * </pre>
+   *
+   * <code>string error = 9;</code>
+   * @return The error.
+   */
+  @java.lang.Override
+  public java.lang.String getError() {
+    java.lang.Object ref = error_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      error_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * Cause de l'échec si status n'est pas OK
+   * </pre>
+   *
+   * <code>string error = 9;</code>
+   * @return The bytes for error.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getErrorBytes() {
+    java.lang.Object ref = error_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      error_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (requestId_ != 0L) {
+      output.writeInt64(1, requestId_);
+    }
+    if (productId_ != 0L) {
+      output.writeInt64(2, productId_);
+    }
+    if (status_ != com.euodia.tax_calculator.grpc.proto.QuoteStatus.QUOTE_STATUS_UNSPECIFIED.getNumber()) {
+      output.writeEnum(3, status_);
+    }
+    if (currency_ != com.euodia.tax_calculator.grpc.proto.CurrencyCode.CURRENCY_UNSPECIFIED.getNumber()) {
+      output.writeEnum(4, currency_);
+    }
+    if (basePriceMinor_ != 0L) {
+      output.writeInt64(5, basePriceMinor_);
+    }
+    if (taxMinor_ != 0L) {
+      output.writeInt64(6, taxMinor_);
+    }
+    if (finalPriceMinor_ != 0L) {
+      output.writeInt64(7, finalPriceMinor_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(taxStrategy_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 8, taxStrategy_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(error_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 9, error_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (requestId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, requestId_);
+    }
+    if (productId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(2, productId_);
+    }
+    if (status_ != com.euodia.tax_calculator.grpc.proto.QuoteStatus.QUOTE_STATUS_UNSPECIFIED.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(3, status_);
+    }
+    if (currency_ != com.euodia.tax_calculator.grpc.proto.CurrencyCode.CURRENCY_UNSPECIFIED.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(4, currency_);
+    }
+    if (basePriceMinor_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(5, basePriceMinor_);
+    }
+    if (taxMinor_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(6, taxMinor_);
+    }
+    if (finalPriceMinor_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(7, finalPriceMinor_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(taxStrategy_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(8, taxStrategy_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(error_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(9, error_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.euodia.tax_calculator.grpc.proto.QuoteReply)) {
+      return super.equals(obj);
+    }
+    com.euodia.tax_calculator.grpc.proto.QuoteReply other = (com.euodia.tax_calculator.grpc.proto.QuoteReply) obj;
+
+    if (getRequestId()
+        != other.getRequestId()) return false;
+    if (getProductId()
+        != other.getProductId()) return false;
+    if (status_ != other.status_) return false;
+    if (currency_ != other.currency_) return false;
+    if (getBasePriceMinor()
+        != other.getBasePriceMinor()) return false;
+    if (getTaxMinor()
+        != other.getTaxMinor()) return false;
+    if (getFinalPriceMinor()
+        != other.getFinalPriceMinor()) return false;
+    if (!getTaxStrategy()
+        .equals(other.getTaxStrategy())) return false;
+    if (!getError()
+        .equals(other.getError())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getRequestId());
+    hash = (37 * hash) + PRODUCT_ID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getProductId());
+    hash = (37 * hash) + STATUS_FIELD_NUMBER;
+    hash = (53 * hash) + status_;
+    hash = (37 * hash) + CURRENCY_FIELD_NUMBER;
+    hash = (53 * hash) + currency_;
+    hash = (37 * hash) + BASE_PRICE_MINOR_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getBasePriceMinor());
+    hash = (37 * hash) + TAX_MINOR_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getTaxMinor());
+    hash = (37 * hash) + FINAL_PRICE_MINOR_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getFinalPriceMinor());
+    hash = (37 * hash) + TAX_STRATEGY_FIELD_NUMBER;
+    hash = (53 * hash) + getTaxStrategy().hashCode();
+    hash = (37 * hash) + ERROR_FIELD_NUMBER;
+    hash = (53 * hash) + getError().hashCode();
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.euodia.tax_calculator.grpc.proto.QuoteReply parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.QuoteReply parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.QuoteReply parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.QuoteReply parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.QuoteReply parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.QuoteReply parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.QuoteReply parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.QuoteReply parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static com.euodia.tax_calculator.grpc.proto.QuoteReply parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static com.euodia.tax_calculator.grpc.proto.QuoteReply parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.QuoteReply parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.QuoteReply parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.euodia.tax_calculator.grpc.proto.QuoteReply prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code euodia.tax.v1.QuoteReply}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:euodia.tax.v1.QuoteReply)
+      com.euodia.tax_calculator.grpc.proto.QuoteReplyOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.euodia.tax_calculator.grpc.proto.TaxQuoteProto.internal_static_euodia_tax_v1_QuoteReply_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.euodia.tax_calculator.grpc.proto.TaxQuoteProto.internal_static_euodia_tax_v1_QuoteReply_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.euodia.tax_calculator.grpc.proto.QuoteReply.class, com.euodia.tax_calculator.grpc.proto.QuoteReply.Builder.class);
+    }
+
+    // Construct using com.euodia.tax_calculator.grpc.proto.QuoteReply.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      requestId_ = 0L;
+      productId_ = 0L;
+      status_ = 0;
+      currency_ = 0;
+      basePriceMinor_ = 0L;
+      taxMinor_ = 0L;
+      finalPriceMinor_ = 0L;
+      taxStrategy_ = "";
+      error_ = "";
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.euodia.tax_calculator.grpc.proto.TaxQuoteProto.internal_static_euodia_tax_v1_QuoteReply_descriptor;
+    }
+
+    @java.lang.Override
+    public com.euodia.tax_calculator.grpc.proto.QuoteReply getDefaultInstanceForType() {
+      return com.euodia.tax_calculator.grpc.proto.QuoteReply.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.euodia.tax_calculator.grpc.proto.QuoteReply build() {
+      com.euodia.tax_calculator.grpc.proto.QuoteReply result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.euodia.tax_calculator.grpc.proto.QuoteReply buildPartial() {
+      com.euodia.tax_calculator.grpc.proto.QuoteReply result = new com.euodia.tax_calculator.grpc.proto.QuoteReply(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(com.euodia.tax_calculator.grpc.proto.QuoteReply result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.requestId_ = requestId_;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.productId_ = productId_;
+      }
+      if (((from_bitField0_ & 0x00000004) != 0)) {
+        result.status_ = status_;
+      }
+      if (((from_bitField0_ & 0x00000008) != 0)) {
+        result.currency_ = currency_;
+      }
+      if (((from_bitField0_ & 0x00000010) != 0)) {
+        result.basePriceMinor_ = basePriceMinor_;
+      }
+      if (((from_bitField0_ & 0x00000020) != 0)) {
+        result.taxMinor_ = taxMinor_;
+      }
+      if (((from_bitField0_ & 0x00000040) != 0)) {
+        result.finalPriceMinor_ = finalPriceMinor_;
+      }
+      if (((from_bitField0_ & 0x00000080) != 0)) {
+        result.taxStrategy_ = taxStrategy_;
+      }
+      if (((from_bitField0_ & 0x00000100) != 0)) {
+        result.error_ = error_;
+      }
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.euodia.tax_calculator.grpc.proto.QuoteReply) {
+        return mergeFrom((com.euodia.tax_calculator.grpc.proto.QuoteReply)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.euodia.tax_calculator.grpc.proto.QuoteReply other) {
+      if (other == com.euodia.tax_calculator.grpc.proto.QuoteReply.getDefaultInstance()) return this;
+      if (other.getRequestId() != 0L) {
+        setRequestId(other.getRequestId());
+      }
+      if (other.getProductId() != 0L) {
+        setProductId(other.getProductId());
+      }
+      if (other.status_ != 0) {
+        setStatusValue(other.getStatusValue());
+      }
+      if (other.currency_ != 0) {
+        setCurrencyValue(other.getCurrencyValue());
+      }
+      if (other.getBasePriceMinor() != 0L) {
+        setBasePriceMinor(other.getBasePriceMinor());
+      }
+      if (other.getTaxMinor() != 0L) {
+        setTaxMinor(other.getTaxMinor());
+      }
+      if (other.getFinalPriceMinor() != 0L) {
+        setFinalPriceMinor(other.getFinalPriceMinor());
+      }
+      if (!other.getTaxStrategy().isEmpty()) {
+        taxStrategy_ = other.taxStrategy_;
+        bitField0_ |= 0x00000080;
+        onChanged();
+      }
+      if (!other.getError().isEmpty()) {
+        error_ = other.error_;
+        bitField0_ |= 0x00000100;
+        onChanged();
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              requestId_ = input.readInt64();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 8
+            case 16: {
+              productId_ = input.readInt64();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 16
+            case 24: {
+              status_ = input.readEnum();
+              bitField0_ |= 0x00000004;
+              break;
+            } // case 24
+            case 32: {
+              currency_ = input.readEnum();
+              bitField0_ |= 0x00000008;
+              break;
+            } // case 32
+            case 40: {
+              basePriceMinor_ = input.readInt64();
+              bitField0_ |= 0x00000010;
+              break;
+            } // case 40
+            case 48: {
+              taxMinor_ = input.readInt64();
+              bitField0_ |= 0x00000020;
+              break;
+            } // case 48
+            case 56: {
+              finalPriceMinor_ = input.readInt64();
+              bitField0_ |= 0x00000040;
+              break;
+            } // case 56
+            case 66: {
+              taxStrategy_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000080;
+              break;
+            } // case 66
+            case 74: {
+              error_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000100;
+              break;
+            } // case 74
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private long requestId_ ;
+    /**
+     * <code>int64 request_id = 1;</code>
+     * @return The requestId.
+     */
+    @java.lang.Override
+    public long getRequestId() {
+      return requestId_;
+    }
+    /**
+     * <code>int64 request_id = 1;</code>
+     * @param value The requestId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRequestId(long value) {
+
+      requestId_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 request_id = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRequestId() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      requestId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long productId_ ;
+    /**
+     * <code>int64 product_id = 2;</code>
+     * @return The productId.
+     */
+    @java.lang.Override
+    public long getProductId() {
+      return productId_;
+    }
+    /**
+     * <code>int64 product_id = 2;</code>
+     * @param value The productId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setProductId(long value) {
+
+      productId_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 product_id = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearProductId() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      productId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private int status_ = 0;
+    /**
+     * <code>.euodia.tax.v1.QuoteStatus status = 3;</code>
+     * @return The enum numeric value on the wire for status.
+     */
+    @java.lang.Override public int getStatusValue() {
+      return status_;
+    }
+    /**
+     * <code>.euodia.tax.v1.QuoteStatus status = 3;</code>
+     * @param value The enum numeric value on the wire for status to set.
+     * @return This builder for chaining.
+     */
+    public Builder setStatusValue(int value) {
+      status_ = value;
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.euodia.tax.v1.QuoteStatus status = 3;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public com.euodia.tax_calculator.grpc.proto.QuoteStatus getStatus() {
+      com.euodia.tax_calculator.grpc.proto.QuoteStatus result = com.euodia.tax_calculator.grpc.proto.QuoteStatus.forNumber(status_);
+      return result == null ? com.euodia.tax_calculator.grpc.proto.QuoteStatus.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.euodia.tax.v1.QuoteStatus status = 3;</code>
+     * @param value The status to set.
+     * @return This builder for chaining.
+     */
+    public Builder setStatus(com.euodia.tax_calculator.grpc.proto.QuoteStatus value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      bitField0_ |= 0x00000004;
+      status_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.euodia.tax.v1.QuoteStatus status = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearStatus() {
+      bitField0_ = (bitField0_ & ~0x00000004);
+      status_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private int currency_ = 0;
+    /**
+     * <code>.euodia.tax.v1.CurrencyCode currency = 4;</code>
+     * @return The enum numeric value on the wire for currency.
+     */
+    @java.lang.Override public int getCurrencyValue() {
+      return currency_;
+    }
+    /**
+     * <code>.euodia.tax.v1.CurrencyCode currency = 4;</code>
+     * @param value The enum numeric value on the wire for currency to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCurrencyValue(int value) {
+      currency_ = value;
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.euodia.tax.v1.CurrencyCode currency = 4;</code>
+     * @return The currency.
+     */
+    @java.lang.Override
+    public com.euodia.tax_calculator.grpc.proto.CurrencyCode getCurrency() {
+      com.euodia.tax_calculator.grpc.proto.CurrencyCode result = com.euodia.tax_calculator.grpc.proto.CurrencyCode.forNumber(currency_);
+      return result == null ? com.euodia.tax_calculator.grpc.proto.CurrencyCode.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.euodia.tax.v1.CurrencyCode currency = 4;</code>
+     * @param value The currency to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCurrency(com.euodia.tax_calculator.grpc.proto.CurrencyCode value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      bitField0_ |= 0x00000008;
+      currency_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.euodia.tax.v1.CurrencyCode currency = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearCurrency() {
+      bitField0_ = (bitField0_ & ~0x00000008);
+      currency_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private long basePriceMinor_ ;
+    /**
+     * <code>int64 base_price_minor = 5;</code>
+     * @return The basePriceMinor.
+     */
+    @java.lang.Override
+    public long getBasePriceMinor() {
+      return basePriceMinor_;
+    }
+    /**
+     * <code>int64 base_price_minor = 5;</code>
+     * @param value The basePriceMinor to set.
+     * @return This builder for chaining.
+     */
+    public Builder setBasePriceMinor(long value) {
+
+      basePriceMinor_ = value;
+      bitField0_ |= 0x00000010;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 base_price_minor = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearBasePriceMinor() {
+      bitField0_ = (bitField0_ & ~0x00000010);
+      basePriceMinor_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long taxMinor_ ;
+    /**
+     * <code>int64 tax_minor = 6;</code>
+     * @return The taxMinor.
+     */
+    @java.lang.Override
+    public long getTaxMinor() {
+      return taxMinor_;
+    }
+    /**
+     * <code>int64 tax_minor = 6;</code>
+     * @param value The taxMinor to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTaxMinor(long value) {
+
+      taxMinor_ = value;
+      bitField0_ |= 0x00000020;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 tax_minor = 6;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTaxMinor() {
+      bitField0_ = (bitField0_ & ~0x00000020);
+      taxMinor_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long finalPriceMinor_ ;
+    /**
+     * <code>int64 final_price_minor = 7;</code>
+     * @return The finalPriceMinor.
+     */
+    @java.lang.Override
+    public long getFinalPriceMinor() {
+      return finalPriceMinor_;
+    }
+    /**
+     * <code>int64 final_price_minor = 7;</code>
+     * @param value The finalPriceMinor to set.
+     * @return This builder for chaining.
+     */
+    public Builder setFinalPriceMinor(long value) {
+
+      finalPriceMinor_ = value;
+      bitField0_ |= 0x00000040;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 final_price_minor = 7;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearFinalPriceMinor() {
+      bitField0_ = (bitField0_ & ~0x00000040);
+      finalPriceMinor_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object taxStrategy_ = "";
+    /**
+     * <code>string tax_strategy = 8;</code>
+     * @return The taxStrategy.
+     */
+    public java.lang.String getTaxStrategy() {
+      java.lang.Object ref = taxStrategy_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        taxStrategy_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string tax_strategy = 8;</code>
+     * @return The bytes for taxStrategy.
+     */
+    public com.google.protobuf.ByteString
+        getTaxStrategyBytes() {
+      java.lang.Object ref = taxStrategy_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        taxStrategy_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string tax_strategy = 8;</code>
+     * @param value The taxStrategy to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTaxStrategy(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      taxStrategy_ = value;
+      bitField0_ |= 0x00000080;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string tax_strategy = 8;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTaxStrategy() {
+      taxStrategy_ = getDefaultInstance().getTaxStrategy();
+      bitField0_ = (bitField0_ & ~0x00000080);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string tax_strategy = 8;</code>
+     * @param value The bytes for taxStrategy to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTaxStrategyBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      taxStrategy_ = value;
+      bitField0_ |= 0x00000080;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object error_ = "";
+    /**
+     * <pre>
+     * Cause de l'échec si status n'est pas OK
+     * </pre>
+     *
+     * <code>string error = 9;</code>
+     * @return The error.
+     */
+    public java.lang.String getError() {
+      java.lang.Object ref = error_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        error_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Cause de l'échec si status n'est pas OK
+     * </pre>
+     *
+     * <code>string error = 9;</code>
+     * @return The bytes for error.
+     */
+    public com.google.protobuf.ByteString
+        getErrorBytes() {
+      java.lang.Object ref = error_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        error_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Cause de l'échec si status n'est pas OK
+     * </pre>
+     *
+     * <code>string error = 9;</code>
+     * @param value The error to set.
+     * @return This builder for chaining.
+     */
+    public Builder setError(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      error_ = value;
+      bitField0_ |= 0x00000100;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Cause de l'échec si status n'est pas OK
+     * </pre>
+     *
+     * <code>string error = 9;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearError() {
+      error_ = getDefaultInstance().getError();
+      bitField0_ = (bitField0_ & ~0x00000100);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Cause de l'échec si status n'est pas OK
+     * </pre>
+     *
+     * <code>string error = 9;</code>
+     * @param value The bytes for error to set.
+     * @return This builder for chaining.
+     */
+    public Builder setErrorBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      error_ = value;
+      bitField0_ |= 0x00000100;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:euodia.tax.v1.QuoteReply)
+  }
+
+  // @@protoc_insertion_point(class_scope:euodia.tax.v1.QuoteReply)
+  private static final com.euodia.tax_calculator.grpc.proto.QuoteReply DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.euodia.tax_calculator.grpc.proto.QuoteReply();
+  }
+
+  public static com.euodia.tax_calculator.grpc.proto.QuoteReply getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<QuoteReply>
+      PARSER = new com.google.protobuf.AbstractParser<QuoteReply>() {
+    @java.lang.Override
+    public QuoteReply parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<QuoteReply> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<QuoteReply> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.euodia.tax_calculator.grpc.proto.QuoteReply getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
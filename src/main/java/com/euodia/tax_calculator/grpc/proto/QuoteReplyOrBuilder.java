@@ -0,0 +1,94 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tax_quote.proto
+
+// Protobuf Java Version: 3.25.5
+package com.euodia.tax_calculator.grpc.proto;
+
+public interface QuoteReplyOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:euodia.tax.v1.QuoteReply)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 request_id = 1;</code>
+   * @return The requestId.
+   */
+  long getRequestId();
+
+  /**
+   * <code>int64 product_id = 2;</code>
+   * @return The productId.
+   */
+  long getProductId();
+
+  /**
+   * <code>.euodia.tax.v1.QuoteStatus status = 3;</code>
+   * @return The enum numeric value on the wire for status.
+   */
+  int getStatusValue();
+  /**
+   * <code>.euodia.tax.v1.QuoteStatus status = 3;</code>
+   * @return The status.
+   */
+  com.euodia.tax_calculator.grpc.proto.QuoteStatus getStatus();
+
+  /**
+   * <code>.euodia.tax.v1.CurrencyCode currency = 4;</code>
+   * @return The enum numeric value on the wire for currency.
+   */
+  int getCurrencyValue();
+  /**
+   * <code>.euodia.tax.v1.CurrencyCode currency = 4;</code>
+   * @return The currency.
+   */
+  com.euodia.tax_calculator.grpc.proto.CurrencyCode getCurrency();
+
+  /**
+   * <code>int64 base_price_minor = 5;</code>
+   * @return The basePriceMinor.
+   */
+  long getBasePriceMinor();
+
+  /**
+   * <code>int64 tax_minor = 6;</code>
+   * @return The taxMinor.
+   */
+  long getTaxMinor();
+
+  /**
+   * <code>int64 final_price_minor = 7;</code>
+   * @return The finalPriceMinor.
+   */
+  long getFinalPriceMinor();
+
+  /**
+   * <code>string tax_strategy = 8;</code>
+   * @return The taxStrategy.
+   */
+  java.lang.String getTaxStrategy();
+  /**
+   * <code>string tax_strategy = 8;</code>
+   * @return The bytes for taxStrategy.
+   */
+  com.google.protobuf.ByteString
+      getTaxStrategyBytes();
+
+  /**
+   * <pre>
+   * Cause de l'échec si status n'est pas OK
+   * </pre>
+   *
+   * <code>string error = 9;</code>
+   * @return The error.
+   */
+  java.lang.String getError();
+  /**
+   * <pre>
+   * Cause de l'échec si status n'est pas OK
+   * </pre>
+   *
+   * <code>string error = 9;</code>
+   * @return The bytes for error.
+   */
+  com.google.protobuf.ByteString
+      getErrorBytes();
+}
@@ -0,0 +1,678 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tax_quote.proto
+
+// Protobuf Java Version: 3.25.5
+package com.euodia.tax_calculator.grpc.proto;
+
+/**
+ * Protobuf type {@code euodia.tax.v1.QuoteRequest}
+ */
+public final class QuoteRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:euodia.tax.v1.QuoteRequest)
+    QuoteRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use QuoteRequest.newBuilder() to construct.
+  private QuoteRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private QuoteRequest() {
+    currency_ = 0;
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new QuoteRequest();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.euodia.tax_calculator.grpc.proto.TaxQuoteProto.internal_static_euodia_tax_v1_QuoteRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.euodia.tax_calculator.grpc.proto.TaxQuoteProto.internal_static_euodia_tax_v1_QuoteRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.euodia.tax_calculator.grpc.proto.QuoteRequest.class, com.euodia.tax_calculator.grpc.proto.QuoteRequest.Builder.class);
+  }
+
+  public static final int REQUEST_ID_FIELD_NUMBER = 1;
+  private long requestId_ = 0L;
+  /**
+   * <pre>
+   * Identifiant choisi par l'appelant, renvoyé tel quel dans la réponse
+   * </pre>
+   *
+   * <code>int64 request_id = 1;</code>
+   * @return The requestId.
+   */
+  @java.lang.Override
+  public long getRequestId() {
+    return requestId_;
+  }
+
+  public static final int PRODUCT_ID_FIELD_NUMBER = 2;
+  private long productId_ = 0L;
+  /**
+   * <code>int64 product_id = 2;</code>
+   * @return The productId.
+   */
+  @java.lang.Override
+  public long getProductId() {
+    return productId_;
+  }
+
+  public static final int CURRENCY_FIELD_NUMBER = 3;
+  private int currency_ = 0;
+  /**
+   * <pre>
+   * Devise des montants ; non précisée : devise du produit
+   * </pre>
+   *
+   * <code>.euodia.tax.v1.CurrencyCode currency = 3;</code>
+   * @return The enum numeric value on the wire for currency.
+   */
+  @java.lang.Override public int getCurrencyValue() {
+    return currency_;
+  }
+  /**
+   * <pre>
+   * Devise des montants ; non précisée : devise du produit
+   * </pre>
+   *
+   * <code>.euodia.tax.v1.CurrencyCode currency = 3;</code>
+   * @return The currency.
+   */
+  @java.lang.Override public com.euodia.tax_calculator.grpc.proto.CurrencyCode getCurrency() {
+    com.euodia.tax_calculator.grpc.proto.CurrencyCode result = com.euodia.tax_calculator.grpc.proto.CurrencyCode.forNumber(currency_);
+    return result == null ? com.euodia.tax_calculator.grpc.proto.CurrencyCode.UNRECOGNIZED : result;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (requestId_ != 0L) {
+      output.writeInt64(1, requestId_);
+    }
+    if (productId_ != 0L) {
+      output.writeInt64(2, productId_);
+    }
+    if (currency_ != com.euodia.tax_calculator.grpc.proto.CurrencyCode.CURRENCY_UNSPECIFIED.getNumber()) {
+      output.writeEnum(3, currency_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (requestId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, requestId_);
+    }
+    if (productId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(2, productId_);
+    }
+    if (currency_ != com.euodia.tax_calculator.grpc.proto.CurrencyCode.CURRENCY_UNSPECIFIED.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(3, currency_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.euodia.tax_calculator.grpc.proto.QuoteRequest)) {
+      return super.equals(obj);
+    }
+    com.euodia.tax_calculator.grpc.proto.QuoteRequest other = (com.euodia.tax_calculator.grpc.proto.QuoteRequest) obj;
+
+    if (getRequestId()
+        != other.getRequestId()) return false;
+    if (getProductId()
+        != other.getProductId()) return false;
+    if (currency_ != other.currency_) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getRequestId());
+    hash = (37 * hash) + PRODUCT_ID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getProductId());
+    hash = (37 * hash) + CURRENCY_FIELD_NUMBER;
+    hash = (53 * hash) + currency_;
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.euodia.tax_calculator.grpc.proto.QuoteRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.QuoteRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.QuoteRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.QuoteRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.QuoteRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.QuoteRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.QuoteRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.QuoteRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static com.euodia.tax_calculator.grpc.proto.QuoteRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static com.euodia.tax_calculator.grpc.proto.QuoteRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.QuoteRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.euodia.tax_calculator.grpc.proto.QuoteRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.euodia.tax_calculator.grpc.proto.QuoteRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code euodia.tax.v1.QuoteRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:euodia.tax.v1.QuoteRequest)
+      com.euodia.tax_calculator.grpc.proto.QuoteRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.euodia.tax_calculator.grpc.proto.TaxQuoteProto.internal_static_euodia_tax_v1_QuoteRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.euodia.tax_calculator.grpc.proto.TaxQuoteProto.internal_static_euodia_tax_v1_QuoteRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.euodia.tax_calculator.grpc.proto.QuoteRequest.class, com.euodia.tax_calculator.grpc.proto.QuoteRequest.Builder.class);
+    }
+
+    // Construct using com.euodia.tax_calculator.grpc.proto.QuoteRequest.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      requestId_ = 0L;
+      productId_ = 0L;
+      currency_ = 0;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.euodia.tax_calculator.grpc.proto.TaxQuoteProto.internal_static_euodia_tax_v1_QuoteRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public com.euodia.tax_calculator.grpc.proto.QuoteRequest getDefaultInstanceForType() {
+      return com.euodia.tax_calculator.grpc.proto.QuoteRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.euodia.tax_calculator.grpc.proto.QuoteRequest build() {
+      com.euodia.tax_calculator.grpc.proto.QuoteRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.euodia.tax_calculator.grpc.proto.QuoteRequest buildPartial() {
+      com.euodia.tax_calculator.grpc.proto.QuoteRequest result = new com.euodia.tax_calculator.grpc.proto.QuoteRequest(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(com.euodia.tax_calculator.grpc.proto.QuoteRequest result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.requestId_ = requestId_;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.productId_ = productId_;
+      }
+      if (((from_bitField0_ & 0x00000004) != 0)) {
+        result.currency_ = currency_;
+      }
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.euodia.tax_calculator.grpc.proto.QuoteRequest) {
+        return mergeFrom((com.euodia.tax_calculator.grpc.proto.QuoteRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.euodia.tax_calculator.grpc.proto.QuoteRequest other) {
+      if (other == com.euodia.tax_calculator.grpc.proto.QuoteRequest.getDefaultInstance()) return this;
+      if (other.getRequestId() != 0L) {
+        setRequestId(other.getRequestId());
+      }
+      if (other.getProductId() != 0L) {
+        setProductId(other.getProductId());
+      }
+      if (other.currency_ != 0) {
+        setCurrencyValue(other.getCurrencyValue());
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              requestId_ = input.readInt64();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 8
+            case 16: {
+              productId_ = input.readInt64();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 16
+            case 24: {
+              currency_ = input.readEnum();
+              bitField0_ |= 0x00000004;
+              break;
+            } // case 24
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private long requestId_ ;
+    /**
+     * <pre>
+     * Identifiant choisi par l'appelant, renvoyé tel quel dans la réponse
+     * </pre>
+     *
+     * <code>int64 request_id = 1;</code>
+     * @return The requestId.
+     */
+    @java.lang.Override
+    public long getRequestId() {
+      return requestId_;
+    }
+    /**
+     * <pre>
+     * Identifiant choisi par l'appelant, renvoyé tel quel dans la réponse
+     * </pre>
+     *
+     * <code>int64 request_id = 1;</code>
+     * @param value The requestId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRequestId(long value) {
+
+      requestId_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Identifiant choisi par l'appelant, renvoyé tel quel dans la réponse
+     * </pre>
+     *
+     * <code>int64 request_id = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRequestId() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      requestId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long productId_ ;
+    /**
+     * <code>int64 product_id = 2;</code>
+     * @return The productId.
+     */
+    @java.lang.Override
+    public long getProductId() {
+      return productId_;
+    }
+    /**
+     * <code>int64 product_id = 2;</code>
+     * @param value The productId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setProductId(long value) {
+
+      productId_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 product_id = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearProductId() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      productId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private int currency_ = 0;
+    /**
+     * <pre>
+     * Devise des montants ; non précisée : devise du produit
+     * </pre>
+     *
+     * <code>.euodia.tax.v1.CurrencyCode currency = 3;</code>
+     * @return The enum numeric value on the wire for currency.
+     */
+    @java.lang.Override public int getCurrencyValue() {
+      return currency_;
+    }
+    /**
+     * <pre>
+     * Devise des montants ; non précisée : devise du produit
+     * </pre>
+     *
+     * <code>.euodia.tax.v1.CurrencyCode currency = 3;</code>
+     * @param value The enum numeric value on the wire for currency to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCurrencyValue(int value) {
+      currency_ = value;
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Devise des montants ; non précisée : devise du produit
+     * </pre>
+     *
+     * <code>.euodia.tax.v1.CurrencyCode currency = 3;</code>
+     * @return The currency.
+     */
+    @java.lang.Override
+    public com.euodia.tax_calculator.grpc.proto.CurrencyCode getCurrency() {
+      com.euodia.tax_calculator.grpc.proto.CurrencyCode result = com.euodia.tax_calculator.grpc.proto.CurrencyCode.forNumber(currency_);
+      return result == null ? com.euodia.tax_calculator.grpc.proto.CurrencyCode.UNRECOGNIZED : result;
+    }
+    /**
+     * <pre>
+     * Devise des montants ; non précisée : devise du produit
+     * </pre>
+     *
+     * <code>.euodia.tax.v1.CurrencyCode currency = 3;</code>
+     * @param value The currency to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCurrency(com.euodia.tax_calculator.grpc.proto.CurrencyCode value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      bitField0_ |= 0x00000004;
+      currency_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Devise des montants ; non précisée : devise du produit
+     * </pre>
+     *
+     * <code>.euodia.tax.v1.CurrencyCode currency = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearCurrency() {
+      bitField0_ = (bitField0_ & ~0x00000004);
+      currency_ = 0;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:euodia.tax.v1.QuoteRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:euodia.tax.v1.QuoteRequest)
+  private static final com.euodia.tax_calculator.grpc.proto.QuoteRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.euodia.tax_calculator.grpc.proto.QuoteRequest();
+  }
+
+  public static com.euodia.tax_calculator.grpc.proto.QuoteRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<QuoteRequest>
+      PARSER = new com.google.protobuf.AbstractParser<QuoteRequest>() {
+    @java.lang.Override
+    public QuoteRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<QuoteRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<QuoteRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.euodia.tax_calculator.grpc.proto.QuoteRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,45 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tax_quote.proto
+
+// Protobuf Java Version: 3.25.5
+package com.euodia.tax_calculator.grpc.proto;
+
+public interface QuoteRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:euodia.tax.v1.QuoteRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * Identifiant choisi par l'appelant, renvoyé tel quel dans la réponse
+   * </pre>
+   *
+   * <code>int64 request_id = 1;</code>
+   * @return The requestId.
+   */
+  long getRequestId();
+
+  /**
+   * <code>int64 product_id = 2;</code>
+   * @return The productId.
+   */
+  long getProductId();
+
+  /**
+   * <pre>
+   * Devise des montants ; non précisée : devise du produit
+   * </pre>
+   *
+   * <code>.euodia.tax.v1.CurrencyCode currency = 3;</code>
+   * @return The enum numeric value on the wire for currency.
+   */
+  int getCurrencyValue();
+  /**
+   * <pre>
+   * Devise des montants ; non précisée : devise du produit
+   * </pre>
+   *
+   * <code>.euodia.tax.v1.CurrencyCode currency = 3;</code>
+   * @return The currency.
+   */
+  com.euodia.tax_calculator.grpc.proto.CurrencyCode getCurrency();
+}
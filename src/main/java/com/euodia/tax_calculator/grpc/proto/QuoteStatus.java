@@ -0,0 +1,140 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tax_quote.proto
+
+// Protobuf Java Version: 3.25.5
+package com.euodia.tax_calculator.grpc.proto;
+
+/**
+ * Protobuf enum {@code euodia.tax.v1.QuoteStatus}
+ */
+public enum QuoteStatus
+    implements com.google.protobuf.ProtocolMessageEnum {
+  /**
+   * <code>QUOTE_STATUS_UNSPECIFIED = 0;</code>
+   */
+  QUOTE_STATUS_UNSPECIFIED(0),
+  /**
+   * <code>OK = 1;</code>
+   */
+  OK(1),
+  /**
+   * <code>NOT_FOUND = 2;</code>
+   */
+  NOT_FOUND(2),
+  /**
+   * <pre>
+   * Demande invalide, pays non supporté ou montant non représentable en centimes
+   * </pre>
+   *
+   * <code>INVALID = 3;</code>
+   */
+  INVALID(3),
+  UNRECOGNIZED(-1),
+  ;
+
+  /**
+   * <code>QUOTE_STATUS_UNSPECIFIED = 0;</code>
+   */
+  public static final int QUOTE_STATUS_UNSPECIFIED_VALUE = 0;
+  /**
+   * <code>OK = 1;</code>
+   */
+  public static final int OK_VALUE = 1;
+  /**
+   * <code>NOT_FOUND = 2;</code>
+   */
+  public static final int NOT_FOUND_VALUE = 2;
+  /**
+   * <pre>
+   * Demande invalide, pays non supporté ou montant non représentable en centimes
+   * </pre>
+   *
+   * <code>INVALID = 3;</code>
+   */
+  public static final int INVALID_VALUE = 3;
+
+
+  public final int getNumber() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalArgumentException(
+          "Can't get the number of an unknown enum value.");
+    }
+    return value;
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   * @deprecated Use {@link #forNumber(int)} instead.
+   */
+  @java.lang.Deprecated
+  public static QuoteStatus valueOf(int value) {
+    return forNumber(value);
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   */
+  public static QuoteStatus forNumber(int value) {
+    switch (value) {
+      case 0: return QUOTE_STATUS_UNSPECIFIED;
+      case 1: return OK;
+      case 2: return NOT_FOUND;
+      case 3: return INVALID;
+      default: return null;
+    }
+  }
+
+  public static com.google.protobuf.Internal.EnumLiteMap<QuoteStatus>
+      internalGetValueMap() {
+    return internalValueMap;
+  }
+  private static final com.google.protobuf.Internal.EnumLiteMap<
+      QuoteStatus> internalValueMap =
+        new com.google.protobuf.Internal.EnumLiteMap<QuoteStatus>() {
+          public QuoteStatus findValueByNumber(int number) {
+            return QuoteStatus.forNumber(number);
+          }
+        };
+
+  public final com.google.protobuf.Descriptors.EnumValueDescriptor
+      getValueDescriptor() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalStateException(
+          "Can't get the descriptor of an unrecognized enum value.");
+    }
+    return getDescriptor().getValues().get(ordinal());
+  }
+  public final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptorForType() {
+    return getDescriptor();
+  }
+  public static final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptor() {
+    return com.euodia.tax_calculator.grpc.proto.TaxQuoteProto.getDescriptor().getEnumTypes().get(2);
+  }
+
+  private static final QuoteStatus[] VALUES = values();
+
+  public static QuoteStatus valueOf(
+      com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    if (desc.getType() != getDescriptor()) {
+      throw new java.lang.IllegalArgumentException(
+        "EnumValueDescriptor is not for this type.");
+    }
+    if (desc.getIndex() == -1) {
+      return UNRECOGNIZED;
+    }
+    return VALUES[desc.getIndex()];
+  }
+
+  private final int value;
+
+  private QuoteStatus(int value) {
+    this.value = value;
+  }
+
+  // @@protoc_insertion_point(enum_scope:euodia.tax.v1.QuoteStatus)
+}
+
@@ -0,0 +1,106 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: tax_quote.proto
+
+// Protobuf Java Version: 3.25.5
+package com.euodia.tax_calculator.grpc.proto;
+
+public final class TaxQuoteProto {
+  private TaxQuoteProto() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_euodia_tax_v1_GetProductRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_euodia_tax_v1_GetProductRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_euodia_tax_v1_ProductReply_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_euodia_tax_v1_ProductReply_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_euodia_tax_v1_QuoteRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_euodia_tax_v1_QuoteRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_euodia_tax_v1_QuoteReply_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_euodia_tax_v1_QuoteReply_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\017tax_quote.proto\022\reuodia.tax.v1\"\037\n\021GetP" +
+      "roductRequest\022\n\n\002id\030\001 \001(\003\"\274\001\n\014ProductRep" +
+      "ly\022\n\n\002id\030\001 \001(\003\022\014\n\004name\030\002 \001(\t\022\023\n\013price_mi" +
+      "nor\030\003 \001(\003\022-\n\010currency\030\004 \001(\0162\033.euodia.tax" +
+      ".v1.CurrencyCode\022+\n\007country\030\005 \001(\0162\032.euod" +
+      "ia.tax.v1.CountryCode\022\020\n\010category\030\006 \001(\t\022" +
+      "\017\n\007version\030\007 \001(\003\"e\n\014QuoteRequest\022\022\n\nrequ" +
+      "est_id\030\001 \001(\003\022\022\n\nproduct_id\030\002 \001(\003\022-\n\010curr" +
+      "ency\030\003 \001(\0162\033.euodia.tax.v1.CurrencyCode\"" +
+      "\374\001\n\nQuoteReply\022\022\n\nrequest_id\030\001 \001(\003\022\022\n\npr" +
+      "oduct_id\030\002 \001(\003\022*\n\006status\030\003 \001(\0162\032.euodia." +
+      "tax.v1.QuoteStatus\022-\n\010currency\030\004 \001(\0162\033.e" +
+      "uodia.tax.v1.CurrencyCode\022\030\n\020base_price_" +
+      "minor\030\005 \001(\003\022\021\n\ttax_minor\030\006 \001(\003\022\031\n\021final_" +
+      "price_minor\030\007 \001(\003\022\024\n\014tax_strategy\030\010 \001(\t\022" +
+      "\r\n\005error\030\t \001(\t*F\n\013CountryCode\022\027\n\023COUNTRY" +
+      "_UNSPECIFIED\020\000\022\006\n\002US\020\001\022\n\n\006CANADA\020\002\022\n\n\006FR" +
+      "ANCE\020\003*C\n\014CurrencyCode\022\030\n\024CURRENCY_UNSPE" +
+      "CIFIED\020\000\022\007\n\003USD\020\001\022\007\n\003CAD\020\002\022\007\n\003EUR\020\003*O\n\013Q" +
+      "uoteStatus\022\034\n\030QUOTE_STATUS_UNSPECIFIED\020\000" +
+      "\022\006\n\002OK\020\001\022\r\n\tNOT_FOUND\020\002\022\013\n\007INVALID\020\0032\252\001\n" +
+      "\017TaxQuoteService\022K\n\nGetProduct\022 .euodia." +
+      "tax.v1.GetProductRequest\032\033.euodia.tax.v1" +
+      ".ProductReply\022J\n\014StreamQuotes\022\033.euodia.t" +
+      "ax.v1.QuoteRequest\032\031.euodia.tax.v1.Quote" +
+      "Reply(\0010\001B7\n$com.euodia.tax_calculator.g" +
+      "rpc.protoB\rTaxQuoteProtoP\001b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_euodia_tax_v1_GetProductRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_euodia_tax_v1_GetProductRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_euodia_tax_v1_GetProductRequest_descriptor,
+        new java.lang.String[] { "Id", });
+    internal_static_euodia_tax_v1_ProductReply_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_euodia_tax_v1_ProductReply_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_euodia_tax_v1_ProductReply_descriptor,
+        new java.lang.String[] { "Id", "Name", "PriceMinor", "Currency", "Country", "Category", "Version", });
+    internal_static_euodia_tax_v1_QuoteRequest_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_euodia_tax_v1_QuoteRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_euodia_tax_v1_QuoteRequest_descriptor,
+        new java.lang.String[] { "RequestId", "ProductId", "Currency", });
+    internal_static_euodia_tax_v1_QuoteReply_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_euodia_tax_v1_QuoteReply_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_euodia_tax_v1_QuoteReply_descriptor,
+        new java.lang.String[] { "RequestId", "ProductId", "Status", "Currency", "BasePriceMinor", "TaxMinor", "FinalPriceMinor", "TaxStrategy", "Error", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
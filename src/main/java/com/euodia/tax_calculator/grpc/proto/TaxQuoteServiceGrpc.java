@@ -0,0 +1,423 @@
+package com.euodia.tax_calculator.grpc.proto;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.73.0)",
+    comments = "Source: tax_quote.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class TaxQuoteServiceGrpc {
+
+  private TaxQuoteServiceGrpc() {}
+
+  public static final java.lang.String SERVICE_NAME = "euodia.tax.v1.TaxQuoteService";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<com.euodia.tax_calculator.grpc.proto.GetProductRequest,
+      com.euodia.tax_calculator.grpc.proto.ProductReply> getGetProductMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "GetProduct",
+      requestType = com.euodia.tax_calculator.grpc.proto.GetProductRequest.class,
+      responseType = com.euodia.tax_calculator.grpc.proto.ProductReply.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<com.euodia.tax_calculator.grpc.proto.GetProductRequest,
+      com.euodia.tax_calculator.grpc.proto.ProductReply> getGetProductMethod() {
+    io.grpc.MethodDescriptor<com.euodia.tax_calculator.grpc.proto.GetProductRequest, com.euodia.tax_calculator.grpc.proto.ProductReply> getGetProductMethod;
+    if ((getGetProductMethod = TaxQuoteServiceGrpc.getGetProductMethod) == null) {
+      synchronized (TaxQuoteServiceGrpc.class) {
+        if ((getGetProductMethod = TaxQuoteServiceGrpc.getGetProductMethod) == null) {
+          TaxQuoteServiceGrpc.getGetProductMethod = getGetProductMethod =
+              io.grpc.MethodDescriptor.<com.euodia.tax_calculator.grpc.proto.GetProductRequest, com.euodia.tax_calculator.grpc.proto.ProductReply>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "GetProduct"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.euodia.tax_calculator.grpc.proto.GetProductRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.euodia.tax_calculator.grpc.proto.ProductReply.getDefaultInstance()))
+              .setSchemaDescriptor(new TaxQuoteServiceMethodDescriptorSupplier("GetProduct"))
+              .build();
+        }
+      }
+    }
+    return getGetProductMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<com.euodia.tax_calculator.grpc.proto.QuoteRequest,
+      com.euodia.tax_calculator.grpc.proto.QuoteReply> getStreamQuotesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "StreamQuotes",
+      requestType = com.euodia.tax_calculator.grpc.proto.QuoteRequest.class,
+      responseType = com.euodia.tax_calculator.grpc.proto.QuoteReply.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+  public static io.grpc.MethodDescriptor<com.euodia.tax_calculator.grpc.proto.QuoteRequest,
+      com.euodia.tax_calculator.grpc.proto.QuoteReply> getStreamQuotesMethod() {
+    io.grpc.MethodDescriptor<com.euodia.tax_calculator.grpc.proto.QuoteRequest, com.euodia.tax_calculator.grpc.proto.QuoteReply> getStreamQuotesMethod;
+    if ((getStreamQuotesMethod = TaxQuoteServiceGrpc.getStreamQuotesMethod) == null) {
+      synchronized (TaxQuoteServiceGrpc.class) {
+        if ((getStreamQuotesMethod = TaxQuoteServiceGrpc.getStreamQuotesMethod) == null) {
+          TaxQuoteServiceGrpc.getStreamQuotesMethod = getStreamQuotesMethod =
+              io.grpc.MethodDescriptor.<com.euodia.tax_calculator.grpc.proto.QuoteRequest, com.euodia.tax_calculator.grpc.proto.QuoteReply>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "StreamQuotes"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.euodia.tax_calculator.grpc.proto.QuoteRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  com.euodia.tax_calculator.grpc.proto.QuoteReply.getDefaultInstance()))
+              .setSchemaDescriptor(new TaxQuoteServiceMethodDescriptorSupplier("StreamQuotes"))
+              .build();
+        }
+      }
+    }
+    return getStreamQuotesMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static TaxQuoteServiceStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<TaxQuoteServiceStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<TaxQuoteServiceStub>() {
+        @java.lang.Override
+        public TaxQuoteServiceStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new TaxQuoteServiceStub(channel, callOptions);
+        }
+      };
+    return TaxQuoteServiceStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports all types of calls on the service
+   */
+  public static TaxQuoteServiceBlockingV2Stub newBlockingV2Stub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<TaxQuoteServiceBlockingV2Stub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<TaxQuoteServiceBlockingV2Stub>() {
+        @java.lang.Override
+        public TaxQuoteServiceBlockingV2Stub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new TaxQuoteServiceBlockingV2Stub(channel, callOptions);
+        }
+      };
+    return TaxQuoteServiceBlockingV2Stub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static TaxQuoteServiceBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<TaxQuoteServiceBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<TaxQuoteServiceBlockingStub>() {
+        @java.lang.Override
+        public TaxQuoteServiceBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new TaxQuoteServiceBlockingStub(channel, callOptions);
+        }
+      };
+    return TaxQuoteServiceBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static TaxQuoteServiceFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<TaxQuoteServiceFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<TaxQuoteServiceFutureStub>() {
+        @java.lang.Override
+        public TaxQuoteServiceFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new TaxQuoteServiceFutureStub(channel, callOptions);
+        }
+      };
+    return TaxQuoteServiceFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public interface AsyncService {
+
+    /**
+     * <pre>
+     * Recherche d'un produit ; NOT_FOUND s'il n'existe pas
+     * </pre>
+     */
+    default void getProduct(com.euodia.tax_calculator.grpc.proto.GetProductRequest request,
+        io.grpc.stub.StreamObserver<com.euodia.tax_calculator.grpc.proto.ProductReply> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetProductMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Cotations en flux bidirectionnel : une réponse par demande, dans l'ordre des demandes
+     * </pre>
+     */
+    default io.grpc.stub.StreamObserver<com.euodia.tax_calculator.grpc.proto.QuoteRequest> streamQuotes(
+        io.grpc.stub.StreamObserver<com.euodia.tax_calculator.grpc.proto.QuoteReply> responseObserver) {
+      return io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall(getStreamQuotesMethod(), responseObserver);
+    }
+  }
+
+  /**
+   * Base class for the server implementation of the service TaxQuoteService.
+   */
+  public static abstract class TaxQuoteServiceImplBase
+      implements io.grpc.BindableService, AsyncService {
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return TaxQuoteServiceGrpc.bindService(this);
+    }
+  }
+
+  /**
+   * A stub to allow clients to do asynchronous rpc calls to service TaxQuoteService.
+   */
+  public static final class TaxQuoteServiceStub
+      extends io.grpc.stub.AbstractAsyncStub<TaxQuoteServiceStub> {
+    private TaxQuoteServiceStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected TaxQuoteServiceStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new TaxQuoteServiceStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * Recherche d'un produit ; NOT_FOUND s'il n'existe pas
+     * </pre>
+     */
+    public void getProduct(com.euodia.tax_calculator.grpc.proto.GetProductRequest request,
+        io.grpc.stub.StreamObserver<com.euodia.tax_calculator.grpc.proto.ProductReply> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetProductMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * Cotations en flux bidirectionnel : une réponse par demande, dans l'ordre des demandes
+     * </pre>
+     */
+    public io.grpc.stub.StreamObserver<com.euodia.tax_calculator.grpc.proto.QuoteRequest> streamQuotes(
+        io.grpc.stub.StreamObserver<com.euodia.tax_calculator.grpc.proto.QuoteReply> responseObserver) {
+      return io.grpc.stub.ClientCalls.asyncBidiStreamingCall(
+          getChannel().newCall(getStreamQuotesMethod(), getCallOptions()), responseObserver);
+    }
+  }
+
+  /**
+   * A stub to allow clients to do synchronous rpc calls to service TaxQuoteService.
+   */
+  public static final class TaxQuoteServiceBlockingV2Stub
+      extends io.grpc.stub.AbstractBlockingStub<TaxQuoteServiceBlockingV2Stub> {
+    private TaxQuoteServiceBlockingV2Stub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected TaxQuoteServiceBlockingV2Stub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new TaxQuoteServiceBlockingV2Stub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * Recherche d'un produit ; NOT_FOUND s'il n'existe pas
+     * </pre>
+     */
+    public com.euodia.tax_calculator.grpc.proto.ProductReply getProduct(com.euodia.tax_calculator.grpc.proto.GetProductRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetProductMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * Cotations en flux bidirectionnel : une réponse par demande, dans l'ordre des demandes
+     * </pre>
+     */
+    @io.grpc.ExperimentalApi("https://github.com/grpc/grpc-java/issues/10918")
+    public io.grpc.stub.BlockingClientCall<com.euodia.tax_calculator.grpc.proto.QuoteRequest, com.euodia.tax_calculator.grpc.proto.QuoteReply>
+        streamQuotes() {
+      return io.grpc.stub.ClientCalls.blockingBidiStreamingCall(
+          getChannel(), getStreamQuotesMethod(), getCallOptions());
+    }
+  }
+
+  /**
+   * A stub to allow clients to do limited synchronous rpc calls to service TaxQuoteService.
+   */
+  public static final class TaxQuoteServiceBlockingStub
+      extends io.grpc.stub.AbstractBlockingStub<TaxQuoteServiceBlockingStub> {
+    private TaxQuoteServiceBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected TaxQuoteServiceBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new TaxQuoteServiceBlockingStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * Recherche d'un produit ; NOT_FOUND s'il n'existe pas
+     * </pre>
+     */
+    public com.euodia.tax_calculator.grpc.proto.ProductReply getProduct(com.euodia.tax_calculator.grpc.proto.GetProductRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetProductMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   * A stub to allow clients to do ListenableFuture-style rpc calls to service TaxQuoteService.
+   */
+  public static final class TaxQuoteServiceFutureStub
+      extends io.grpc.stub.AbstractFutureStub<TaxQuoteServiceFutureStub> {
+    private TaxQuoteServiceFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected TaxQuoteServiceFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new TaxQuoteServiceFutureStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * Recherche d'un produit ; NOT_FOUND s'il n'existe pas
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<com.euodia.tax_calculator.grpc.proto.ProductReply> getProduct(
+        com.euodia.tax_calculator.grpc.proto.GetProductRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetProductMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_GET_PRODUCT = 0;
+  private static final int METHODID_STREAM_QUOTES = 1;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final AsyncService serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(AsyncService serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_GET_PRODUCT:
+          serviceImpl.getProduct((com.euodia.tax_calculator.grpc.proto.GetProductRequest) request,
+              (io.grpc.stub.StreamObserver<com.euodia.tax_calculator.grpc.proto.ProductReply>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_STREAM_QUOTES:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.streamQuotes(
+              (io.grpc.stub.StreamObserver<com.euodia.tax_calculator.grpc.proto.QuoteReply>) responseObserver);
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  public static final io.grpc.ServerServiceDefinition bindService(AsyncService service) {
+    return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+        .addMethod(
+          getGetProductMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              com.euodia.tax_calculator.grpc.proto.GetProductRequest,
+              com.euodia.tax_calculator.grpc.proto.ProductReply>(
+                service, METHODID_GET_PRODUCT)))
+        .addMethod(
+          getStreamQuotesMethod(),
+          io.grpc.stub.ServerCalls.asyncBidiStreamingCall(
+            new MethodHandlers<
+              com.euodia.tax_calculator.grpc.proto.QuoteRequest,
+              com.euodia.tax_calculator.grpc.proto.QuoteReply>(
+                service, METHODID_STREAM_QUOTES)))
+        .build();
+  }
+
+  private static abstract class TaxQuoteServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    TaxQuoteServiceBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return com.euodia.tax_calculator.grpc.proto.TaxQuoteProto.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("TaxQuoteService");
+    }
+  }
+
+  private static final class TaxQuoteServiceFileDescriptorSupplier
+      extends TaxQuoteServiceBaseDescriptorSupplier {
+    TaxQuoteServiceFileDescriptorSupplier() {}
+  }
+
+  private static final class TaxQuoteServiceMethodDescriptorSupplier
+      extends TaxQuoteServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final java.lang.String methodName;
+
+    TaxQuoteServiceMethodDescriptorSupplier(java.lang.String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (TaxQuoteServiceGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new TaxQuoteServiceFileDescriptorSupplier())
+              .addMethod(getGetProductMethod())
+              .addMethod(getStreamQuotesMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,22 @@
+package com.euodia.tax_calculator.ids;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Numéro de nœud fixé par la configuration (ids.node-id, 0 par défaut)
+ */
+@Component
+public class ConfiguredNodeIdProvider implements NodeIdProvider {
+
+    private final int nodeId;
+
+    public ConfiguredNodeIdProvider(@Value("${ids.node-id:0}") int nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public int getNodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,221 @@
+package com.euodia.tax_calculator.ids;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+/**
+ * Attribution des IDs de produits par plages louées.
+ * Un ID porte le numéro du nœud (10 bits, {@link NodeIdProvider}) suivi d'un numéro de séquence (43 bits) :
+ * deux nœuds de numéros différents n'attribuent jamais le même ID, sans coordination. Les IDs restent
+ * inférieurs à 2^53, donc exacts en JSON pour un client JavaScript ; le nœud 0 attribue 1, 2, 3...
+ * <p>
+ * Le nœud loue des plages de séquence (ids.lease-size), dont la fin est écrite sur disque (ids.lease.directory,
+ * data/ids par défaut) avant la première attribution : après un redémarrage, les séquences reprennent
+ * après la dernière plage louée, même si elle n'a pas été épuisée. Un répertoire vide désactive l'écriture :
+ * les séquences repartent alors de 1 à chaque démarrage. Chaque thread découpe ensuite dans cette
+ * location des blocs (ids.block-size) qu'il consomme seul : un ID coûte un incrément sans synchronisation,
+ * et le verrou n'est pris qu'une fois par bloc. Les IDs sont uniques mais pas contigus ni croissants
+ * d'un thread à l'autre.
+ */
+@Component
+@Slf4j
+public class IdAllocator {
+
+    public static final int MAX_NODE_ID = (1 << 10) - 1;
+
+    private static final int SEQUENCE_BITS = 43;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final int DEFAULT_BLOCK_SIZE = 1_000;
+    private static final int DEFAULT_LEASE_SIZE = 100_000;
+    // Un répertoire ne peut pas être ouvert pour fsync sous Windows
+    private static final boolean WINDOWS = System.getProperty("os.name", "").toLowerCase(Locale.ROOT)
+            .startsWith("windows");
+
+    private final int nodeId;
+    private final long nodeBase;
+    private final int blockSize;
+    private final int leaseSize;
+    // Fichier de la fin de la dernière plage louée ; null : location en mémoire seulement
+    private final Path leaseFile;
+
+    // Bloc en cours de chaque thread
+    private final ThreadLocal<Block> blocks = ThreadLocal.withInitial(Block::new);
+
+    // Prochaine séquence à découper et fin (exclue) de la plage louée, protégées par this
+    private long nextSequence;
+    private long leaseEnd;
+    // Plus grande séquence de ce nœud vue dans un ID répliqué : les blocs qui ne la dépassent pas sont abandonnés
+    private volatile long observedSequence;
+
+    /**
+     * Allocation pour le nœud 0, sans persistance des plages (instance seule, tests)
+     */
+    public IdAllocator() {
+        this(() -> 0, (Path) null, DEFAULT_BLOCK_SIZE, DEFAULT_LEASE_SIZE);
+    }
+
+    @Autowired
+    public IdAllocator(NodeIdProvider nodeIdProvider,
+                       @Value("${ids.lease.directory:data/ids}") String leaseDirectory,
+                       @Value("${ids.block-size:1000}") int blockSize,
+                       @Value("${ids.lease-size:100000}") int leaseSize) {
+        this(nodeIdProvider, leaseDirectory == null || leaseDirectory.isBlank() ? null : Path.of(leaseDirectory),
+                blockSize, leaseSize);
+        if (leaseFile == null) {
+            log.warn("ids.lease.directory is empty: id sequences are not persisted and restart at 1, "
+                    + "ids are not unique across restarts");
+        }
+    }
+
+    public IdAllocator(NodeIdProvider nodeIdProvider, Path leaseDirectory, int blockSize, int leaseSize) {
+        this.nodeId = nodeIdProvider.getNodeId();
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        if (blockSize <= 0 || leaseSize < blockSize) {
+            throw new IllegalArgumentException("Invalid id block size " + blockSize + " or lease size " + leaseSize);
+        }
+        this.nodeBase = (long) nodeId << SEQUENCE_BITS;
+        this.blockSize = blockSize;
+        this.leaseSize = leaseSize;
+        this.leaseFile = leaseDirectory != null ? leaseDirectory.resolve("node-" + nodeId + ".lease") : null;
+
+        // La séquence 0 n'est jamais attribuée : le premier ID du nœud 0 est 1
+        this.nextSequence = Math.max(1, readLeaseEnd());
+        this.leaseEnd = nextSequence;
+        log.info("Id allocation for node {} starts at sequence {}", nodeId, nextSequence);
+    }
+
+    /**
+     * Attribue un nouvel ID, sans synchronisation hors des changements de bloc
+     *
+     * @return un ID jamais attribué par ce nœud
+     * @throws IllegalStateException si la séquence du nœud est épuisée ou si la plage louée ne peut être enregistrée
+     */
+    public long nextId() {
+        Block block = blocks.get();
+        if (block.next >= block.end || block.next <= observedSequence) {
+            refill(block);
+        }
+        return nodeBase | block.next++;
+    }
+
+    /**
+     * Signale un ID attribué ailleurs (produit répliqué depuis le leader) : si l'ID porte le numéro de ce nœud,
+     * les IDs attribués ensuite le dépasseront, par exemple après la promotion d'un suiveur
+     *
+     * @param id l'ID attribué
+     */
+    public void observe(long id) {
+        if (nodeOf(id) != nodeId) {
+            return;
+        }
+        long sequence = id & SEQUENCE_MASK;
+        // Lecture sans verrou : le cas courant (séquence déjà dépassée) ne coûte rien
+        if (sequence <= observedSequence) {
+            return;
+        }
+        synchronized (this) {
+            if (sequence > observedSequence) {
+                observedSequence = sequence;
+            }
+        }
+    }
+
+    /**
+     * @return le numéro de ce nœud
+     */
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * @param id un ID attribué par un IdAllocator
+     * @return le numéro du nœud qui l'a attribué
+     */
+    public static int nodeOf(long id) {
+        return (int) (id >>> SEQUENCE_BITS);
+    }
+
+    // Découpe un nouveau bloc pour le thread courant, en louant une nouvelle plage si nécessaire
+    private synchronized void refill(Block block) {
+        nextSequence = Math.max(nextSequence, observedSequence + 1);
+        long end = nextSequence + blockSize;
+        if (end > leaseEnd) {
+            renewLease(end);
+        }
+        block.next = nextSequence;
+        block.end = end;
+        nextSequence = end;
+    }
+
+    private void renewLease(long minEnd) {
+        long newEnd = minEnd + leaseSize - blockSize;
+        if (newEnd > SEQUENCE_MASK + 1) {
+            throw new IllegalStateException("Id sequence exhausted for node " + nodeId);
+        }
+        // Enregistrée avant toute attribution : un redémarrage ne peut réattribuer un ID de cette plage
+        writeLeaseEnd(newEnd);
+        leaseEnd = newEnd;
+        log.debug("Node {} leased id sequences up to {}", nodeId, newEnd);
+    }
+
+    private long readLeaseEnd() {
+        if (leaseFile == null || !Files.exists(leaseFile)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(Files.readString(leaseFile, StandardCharsets.US_ASCII).strip());
+        } catch (IOException | NumberFormatException e) {
+            throw new IllegalStateException("Unable to read id lease " + leaseFile, e);
+        }
+    }
+
+    private void writeLeaseEnd(long end) {
+        if (leaseFile == null) {
+            return;
+        }
+        Path temporary = leaseFile.resolveSibling(leaseFile.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(leaseFile.getParent());
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                channel.write(ByteBuffer.wrap(Long.toString(end).getBytes(StandardCharsets.US_ASCII)));
+                channel.force(true);
+            }
+            Files.move(temporary, leaseFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            // Le renommage n'est durable qu'une fois l'entrée du répertoire écrite
+            syncDirectory(leaseFile.getParent());
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to write id lease " + leaseFile, e);
+        }
+    }
+
+    private static void syncDirectory(Path directory) throws IOException {
+        if (WINDOWS) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    // Bloc de séquences réservé à un thread : [next, end)
+    private static final class Block {
+        long next;
+        long end;
+    }
+}
@@ -0,0 +1,16 @@
+package com.euodia.tax_calculator.ids;
+
+/**
+ * Fournit le numéro de nœud inscrit dans les IDs attribués par cette instance.
+ * Deux instances qui créent des produits en même temps doivent avoir des numéros différents,
+ * stables d'un redémarrage à l'autre.
+ * L'implémentation par défaut lit la configuration ({@link ConfiguredNodeIdProvider}) ; une autre source
+ * (ordinal d'un StatefulSet, registre de nœuds...) se branche en déclarant un bean @Primary.
+ */
+public interface NodeIdProvider {
+
+    /**
+     * @return le numéro de ce nœud, entre 0 et {@link IdAllocator#MAX_NODE_ID}
+     */
+    int getNodeId();
+}
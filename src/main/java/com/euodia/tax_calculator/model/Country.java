@@ -9,9 +9,11 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum Country {
-    US("United States"),
-    CANADA("Canada"),
-    FRANCE("France");
+    US("United States", Currency.USD),
+    CANADA("Canada", Currency.CAD),
+    FRANCE("France", Currency.EUR);
 
     private final String displayName;
+    // Devise des prix d'un produit de ce pays lorsqu'aucune n'est précisée
+    private final Currency defaultCurrency;
 }
@@ -0,0 +1,19 @@
+package com.euodia.tax_calculator.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Énumération représentant les devises de vente supportées
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Currency {
+    USD("US Dollar", 2),
+    CAD("Canadian Dollar", 2),
+    EUR("Euro", 2);
+
+    private final String displayName;
+    // Nombre de décimales de la plus petite unité (centimes)
+    private final int minorUnitDigits;
+}
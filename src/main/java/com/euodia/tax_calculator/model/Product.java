@@ -1,47 +1,90 @@
 package com.euodia.tax_calculator.model;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Value;
+import lombok.With;
 
 import java.math.BigDecimal;
-import java.util.Objects;
 
 /**
- * Représente un produit avec ses propriétés de base
+ * Représente un produit avec ses propriétés de base.
+ * Valeur immuable : l'ID, la version et toute modification produisent une nouvelle instance
+ * (withId, withCurrency, nextVersion...). Une instance peut donc être partagée sans copie entre
+ * le catalogue, les index, les lecteurs concurrents et la sérialisation JSON.
  */
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+@Value
+@With
 public class Product {
 
-    private Long id;
-    private String name;
-    private BigDecimal price;
-    private Country country;
+    // Longueurs maximales du nom et de la catégorie, nombre maximal de chiffres du prix et de ses décimales
+    // (colonnes du catalogue en base : le prix est un DECIMAL(38, 10), soit 28 chiffres avant la virgule)
+    public static final int MAX_NAME_LENGTH = 1024;
+    public static final int MAX_CATEGORY_LENGTH = 255;
+    public static final int MAX_PRICE_PRECISION = 38;
+    public static final int MAX_PRICE_SCALE = 10;
+
+    Long id;
+    String name;
+    BigDecimal price;
+    Country country;
+    Currency currency;
+    // Catégorie fiscale (ex. "food"), qui peut donner un taux réduit ou une exemption ; null : taux normal
+    String category;
+    // Numéro de version, 1 à la création, incrémenté à chaque mise à jour
+    long version;
 
     public Product(String name, BigDecimal price, Country country) {
+        this(null, name, price, country, null, null, 0);
+    }
+
+    public Product(Long id, String name, BigDecimal price, Country country) {
+        this(id, name, price, country, null, null, 0);
+    }
+
+    @JsonCreator
+    public Product(@JsonProperty("id") Long id,
+                   @JsonProperty("name") String name,
+                   @JsonProperty("price") BigDecimal price,
+                   @JsonProperty("country") Country country,
+                   @JsonProperty("currency") Currency currency,
+                   @JsonProperty("category") String category,
+                   @JsonProperty("version") long version) {
+        this.id = id;
         this.name = name;
         this.price = price;
         this.country = country;
+        this.currency = currency;
+        this.category = category;
+        this.version = version;
     }
 
-    public boolean isValid() {
-        return name != null && !name.trim().isEmpty()
-                && price != null && price.compareTo(BigDecimal.ZERO) >= 0
-                && country != null;
+    /**
+     * Construit la version suivante du produit, avec de nouvelles valeurs
+     *
+     * @param changes les nouvelles valeurs (nom, prix, pays, devise, catégorie)
+     * @return une nouvelle instance de même ID, de version incrémentée
+     */
+    public Product nextVersion(Product changes) {
+        return new Product(id, changes.name, changes.price, changes.country, changes.currency, changes.category,
+                version + 1);
     }
 
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        Product product = (Product) o;
-        return Objects.equals(id, product.id);
+    /**
+     * @return la devise du prix ; par défaut celle du pays du produit
+     */
+    public Currency getCurrency() {
+        if (currency == null && country != null) {
+            return country.getDefaultCurrency();
+        }
+        return currency;
     }
 
-    @Override
-    public int hashCode() {
-        return Objects.hash(id);
+    public boolean isValid() {
+        return name != null && !name.trim().isEmpty() && name.length() <= MAX_NAME_LENGTH
+                && price != null && price.compareTo(BigDecimal.ZERO) >= 0 && price.scale() <= MAX_PRICE_SCALE
+                && price.precision() - price.scale() <= MAX_PRICE_PRECISION - MAX_PRICE_SCALE
+                && country != null
+                && (category == null || category.length() <= MAX_CATEGORY_LENGTH);
     }
-}
\ No newline at end of file
+}
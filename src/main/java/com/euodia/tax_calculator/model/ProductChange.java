@@ -0,0 +1,12 @@
+package com.euodia.tax_calculator.model;
+
+/**
+ * Mutation du catalogue, numérotée dans l'ordre où les mutations sont appliquées
+ *
+ * @param sequence le numéro de la mutation, strictement croissant
+ * @param type la nature de la mutation
+ * @param productId l'ID du produit concerné
+ * @param product l'état du produit après la mutation (null pour une suppression)
+ */
+public record ProductChange(long sequence, ProductChangeType type, Long productId, Product product) {
+}
@@ -0,0 +1,10 @@
+package com.euodia.tax_calculator.model;
+
+/**
+ * Nature d'une mutation du catalogue
+ */
+public enum ProductChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,24 @@
+package com.euodia.tax_calculator.pricing;
+
+/**
+ * Noyau de calcul des taxes en masse sur des colonnes de prix en centimes.
+ * Chaque taxe vaut prix × taux arrondi au centime (HALF_UP), exactement comme TaxStrategy.calculateTax,
+ * pour tout prix compris entre 0 et TaxRate.maxMinorUnits().
+ */
+public interface BulkTaxKernel {
+
+    /**
+     * Calcule les taxes de `length` prix
+     *
+     * @param pricesMinor les prix en centimes (positifs ou nuls, au plus rate.maxMinorUnits())
+     * @param taxesMinor le tableau recevant les taxes en centimes
+     * @param length le nombre de prix à traiter
+     * @param rate le taux de taxe
+     */
+    void computeTaxes(long[] pricesMinor, long[] taxesMinor, int length, TaxRate rate);
+
+    /**
+     * @return le nom du noyau (pour les logs et les benchmarks)
+     */
+    String getName();
+}
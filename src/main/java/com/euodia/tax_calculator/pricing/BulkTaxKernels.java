@@ -0,0 +1,33 @@
+package com.euodia.tax_calculator.pricing;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sélection du noyau de calcul des taxes en masse
+ */
+@Slf4j
+public final class BulkTaxKernels {
+
+    private static final BulkTaxKernel BEST = select();
+
+    private BulkTaxKernels() {
+    }
+
+    /**
+     * @return le noyau vectoriel si le module jdk.incubator.vector est chargé, sinon le noyau scalaire
+     */
+    public static BulkTaxKernel best() {
+        return BEST;
+    }
+
+    private static BulkTaxKernel select() {
+        // La classe vectorielle n'est chargée que si le module est présent (option --add-modules)
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            BulkTaxKernel kernel = new VectorBulkTaxKernel();
+            log.info("Using {} bulk tax kernel", kernel.getName());
+            return kernel;
+        }
+        log.info("jdk.incubator.vector not available, using scalar bulk tax kernel");
+        return new ScalarBulkTaxKernel();
+    }
+}
@@ -0,0 +1,45 @@
+package com.euodia.tax_calculator.pricing;
+
+import java.math.BigDecimal;
+
+/**
+ * Conversion des montants entre BigDecimal et unités mineures (centimes)
+ */
+public final class MinorUnits {
+
+    /** Valeur retournée pour un montant non représentable exactement en centimes */
+    public static final long NOT_REPRESENTABLE = Long.MIN_VALUE;
+
+    private static final int DIGITS = 2;
+
+    private MinorUnits() {
+    }
+
+    /**
+     * @param amount le montant
+     * @return le montant en centimes, ou NOT_REPRESENTABLE s'il a plus de deux décimales significatives
+     * ou dépasse la capacité d'un long
+     */
+    public static long of(BigDecimal amount) {
+        if (amount == null) {
+            return NOT_REPRESENTABLE;
+        }
+        BigDecimal scaled = amount.scale() > DIGITS ? amount.stripTrailingZeros() : amount;
+        if (scaled.scale() > DIGITS) {
+            return NOT_REPRESENTABLE;
+        }
+        try {
+            return scaled.movePointRight(DIGITS).longValueExact();
+        } catch (ArithmeticException e) {
+            return NOT_REPRESENTABLE;
+        }
+    }
+
+    /**
+     * @param minorUnits le montant en centimes
+     * @return le montant, à deux décimales
+     */
+    public static BigDecimal toAmount(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, DIGITS);
+    }
+}
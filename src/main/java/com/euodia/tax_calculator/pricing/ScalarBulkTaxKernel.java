@@ -0,0 +1,23 @@
+package com.euodia.tax_calculator.pricing;
+
+/**
+ * Noyau de calcul des taxes en arithmétique entière, un prix à la fois.
+ * Sert de repli lorsque l'API Vector n'est pas disponible et pour la fin des tableaux vectorisés.
+ */
+public final class ScalarBulkTaxKernel implements BulkTaxKernel {
+
+    @Override
+    public void computeTaxes(long[] pricesMinor, long[] taxesMinor, int length, TaxRate rate) {
+        long numerator = rate.numerator();
+        long denominator = rate.denominator();
+        long half = denominator / 2;
+        for (int i = 0; i < length; i++) {
+            taxesMinor[i] = (pricesMinor[i] * numerator + half) / denominator;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+}
@@ -0,0 +1,64 @@
+package com.euodia.tax_calculator.pricing;
+
+import java.math.BigDecimal;
+
+/**
+ * Taux de taxe sous forme de fraction entière (numérateur / 10^n), exploitable sur des prix en centimes.
+ * Exemple : 0.085 devient 85 / 1000.
+ *
+ * @param numerator le numérateur
+ * @param denominator le dénominateur, une puissance de 10
+ */
+public record TaxRate(long numerator, long denominator) {
+
+    // Bornes des calculs intermédiaires exacts (prix × numérateur, y compris en double)
+    private static final long MAX_EXACT_PRODUCT = 1L << 53;
+
+    public TaxRate {
+        if (numerator < 0 || denominator < 1) {
+            throw new IllegalArgumentException("Invalid tax rate: " + numerator + "/" + denominator);
+        }
+    }
+
+    /**
+     * @param rate le taux (ex. 0.20)
+     * @return la fraction correspondante
+     * @throws IllegalArgumentException si le taux est négatif ou trop précis
+     */
+    public static TaxRate of(BigDecimal rate) {
+        if (rate == null || rate.signum() < 0) {
+            throw new IllegalArgumentException("Invalid tax rate: " + rate);
+        }
+        BigDecimal normalized = rate.stripTrailingZeros();
+        int scale = Math.max(0, normalized.scale());
+        if (scale > 15) {
+            throw new IllegalArgumentException("Tax rate too precise: " + rate);
+        }
+        long denominator = BigDecimal.TEN.pow(scale).longValueExact();
+        return new TaxRate(normalized.movePointRight(scale).longValueExact(), denominator);
+    }
+
+    /**
+     * @return le plus grand prix (en centimes) dont la taxe est calculée exactement par les noyaux de calcul
+     */
+    public long maxMinorUnits() {
+        return numerator == 0 ? Long.MAX_VALUE / 2 : (MAX_EXACT_PRODUCT - denominator) / numerator;
+    }
+
+    /**
+     * Taxe d'un prix en centimes, arrondie au centime (HALF_UP), comme les noyaux de calcul
+     *
+     * @param priceMinor le prix en centimes, au plus maxMinorUnits()
+     * @return la taxe en centimes
+     */
+    public long taxOf(long priceMinor) {
+        return (priceMinor * numerator + denominator / 2) / denominator;
+    }
+
+    /**
+     * @return le taux sous forme décimale
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(numerator).divide(BigDecimal.valueOf(denominator));
+    }
+}
@@ -0,0 +1,51 @@
+package com.euodia.tax_calculator.pricing;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Noyau de calcul des taxes avec l'API Vector (SIMD).
+ * Les processeurs n'ont pas de division entière vectorielle : le quotient est estimé en double
+ * (exact à une unité près tant que prix × numérateur reste sous 2^53), puis corrigé en entier
+ * à partir du reste. Le résultat est donc identique à celui du noyau scalaire.
+ * <p>
+ * Ne charger cette classe que si le module jdk.incubator.vector est présent (voir BulkTaxKernels.best()).
+ */
+public final class VectorBulkTaxKernel implements BulkTaxKernel {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    @Override
+    public void computeTaxes(long[] pricesMinor, long[] taxesMinor, int length, TaxRate rate) {
+        long numerator = rate.numerator();
+        long denominator = rate.denominator();
+        long half = denominator / 2;
+        double doubleDenominator = denominator;
+
+        int i = 0;
+        int upperBound = SPECIES.loopBound(length);
+        for (; i < upperBound; i += SPECIES.length()) {
+            LongVector dividend = LongVector.fromArray(SPECIES, pricesMinor, i).mul(numerator).add(half);
+            DoubleVector estimate = (DoubleVector) dividend.convert(VectorOperators.L2D, 0);
+            LongVector quotient = (LongVector) estimate.div(doubleDenominator).convert(VectorOperators.D2L, 0);
+
+            // Correction de l'estimation : le reste doit être dans [0, dénominateur)
+            LongVector remainder = dividend.sub(quotient.mul(denominator));
+            quotient = quotient.sub(1L, remainder.compare(VectorOperators.LT, 0L))
+                    .add(1L, remainder.compare(VectorOperators.GE, denominator));
+            quotient.intoArray(taxesMinor, i);
+        }
+
+        // Fin du tableau (moins d'un vecteur)
+        for (; i < length; i++) {
+            taxesMinor[i] = (pricesMinor[i] * numerator + half) / denominator;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "vector-" + SPECIES.vectorBitSize() + "bit";
+    }
+}
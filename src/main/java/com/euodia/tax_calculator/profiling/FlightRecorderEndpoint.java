@@ -0,0 +1,56 @@
+package com.euodia.tax_calculator.profiling;
+
+import com.euodia.tax_calculator.dto.RecordingStatusResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+
+/**
+ * Endpoint d'administration des enregistrements JFR :
+ * GET /actuator/flightrecorder (état), POST /actuator/flightrecorder/{start|dump|stop}.
+ * Les fichiers sont écrits localement, dans profiling.jfr.directory.
+ */
+@Component
+@Endpoint(id = "flightrecorder")
+@RequiredArgsConstructor
+@Slf4j
+public class FlightRecorderEndpoint {
+
+    private final FlightRecorderService flightRecorderService;
+
+    @ReadOperation
+    public RecordingStatusResponse status() {
+        return flightRecorderService.getStatus();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<RecordingStatusResponse> control(@Selector String action) {
+        try {
+            RecordingStatusResponse status = switch (action) {
+                case "start" -> flightRecorderService.start();
+                case "dump" -> flightRecorderService.dump();
+                case "stop" -> flightRecorderService.stop();
+                default -> null;
+            };
+            if (status == null) {
+                log.warn("Unknown flight recorder action: {}", action);
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+            }
+            return new WebEndpointResponse<>(status);
+        } catch (IllegalStateException e) {
+            log.warn("Flight recorder action '{}' rejected: {}", action, e.getMessage());
+            return new WebEndpointResponse<>(HttpStatus.CONFLICT.value());
+        } catch (UncheckedIOException e) {
+            log.error("Flight recorder action '{}' failed", action, e);
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.euodia.tax_calculator.profiling;
+
+import com.euodia.tax_calculator.dto.RecordingStatusResponse;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Pilotage d'un enregistrement JDK Flight Recorder à la demande : démarrage, vidage dans un fichier local,
+ * arrêt. Un seul enregistrement à la fois.
+ * L'enregistrement utilise une configuration JFR standard ("default" par défaut, conçue pour moins de 1 %
+ * de surcoût en production) et active en plus les événements de l'application (requêtes, catalogue, taxes)
+ * au-delà d'une durée minimale : les opérations très brèves et très nombreuses (lignes d'un panier)
+ * ne sont pas toutes enregistrées.
+ */
+@Service
+@Slf4j
+public class FlightRecorderService {
+
+    static final String RECORDING_NAME = "tax-calculator";
+    static final List<Class<? extends Event>> EVENT_TYPES = List.of(
+            HttpRequestEvent.class,
+            ProductStoreEvent.class,
+            TaxCalculationEvent.class
+    );
+
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+
+    private final Path directory;
+    private final String settings;
+    private final Duration threshold;
+    private final Duration maxAge;
+
+    // Accès sous le verrou de l'instance
+    private Recording recording;
+    private Path lastDump;
+
+    public FlightRecorderService(@Value("${profiling.jfr.directory:recordings}") Path directory,
+                                 @Value("${profiling.jfr.settings:default}") String settings,
+                                 @Value("${profiling.jfr.threshold:10us}") Duration threshold,
+                                 @Value("${profiling.jfr.max-age:30m}") Duration maxAge) {
+        this.directory = directory;
+        this.settings = settings;
+        this.threshold = threshold;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Démarre un enregistrement
+     *
+     * @return l'état de l'enregistrement
+     * @throws IllegalStateException si un enregistrement est déjà en cours, si JFR n'est pas disponible
+     * ou si la configuration JFR est inconnue
+     */
+    public synchronized RecordingStatusResponse start() {
+        if (recording != null) {
+            throw new IllegalStateException("A recording is already running");
+        }
+        if (!FlightRecorder.isAvailable()) {
+            throw new IllegalStateException("Flight recorder is not available in this JVM");
+        }
+
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Unknown flight recorder settings: " + settings, e);
+        }
+
+        Recording started = new Recording(configuration);
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setMaxAge(maxAge);
+        for (Class<? extends Event> type : EVENT_TYPES) {
+            started.enable(type).withThreshold(threshold);
+        }
+        started.start();
+        recording = started;
+
+        log.info("Flight recording started with settings '{}' and a {} threshold", settings, threshold);
+        return getStatus();
+    }
+
+    /**
+     * Écrit le contenu de l'enregistrement en cours dans un fichier, sans l'arrêter
+     *
+     * @return l'état de l'enregistrement, avec le chemin du fichier écrit
+     * @throws IllegalStateException si aucun enregistrement n'est en cours
+     * @throws UncheckedIOException si le fichier ne peut pas être écrit
+     */
+    public synchronized RecordingStatusResponse dump() {
+        if (recording == null) {
+            throw new IllegalStateException("No recording is running");
+        }
+        lastDump = write(recording);
+        return getStatus();
+    }
+
+    /**
+     * Arrête l'enregistrement en cours et écrit son contenu dans un fichier
+     *
+     * @return l'état de l'enregistrement, avec le chemin du fichier écrit
+     * @throws IllegalStateException si aucun enregistrement n'est en cours
+     * @throws UncheckedIOException si le fichier ne peut pas être écrit
+     */
+    public synchronized RecordingStatusResponse stop() {
+        if (recording == null) {
+            throw new IllegalStateException("No recording is running");
+        }
+        try {
+            recording.stop();
+            lastDump = write(recording);
+        } finally {
+            recording.close();
+            recording = null;
+        }
+        log.info("Flight recording stopped");
+        return getStatus();
+    }
+
+    /**
+     * @return l'état de l'enregistrement
+     */
+    public synchronized RecordingStatusResponse getStatus() {
+        return new RecordingStatusResponse(
+                recording != null,
+                settings,
+                threshold.toString(),
+                recording != null ? recording.getStartTime() : null,
+                lastDump != null ? lastDump.toString() : null);
+    }
+
+    @PreDestroy
+    synchronized void shutdown() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private Path write(Recording source) {
+        Path file = directory.resolve(RECORDING_NAME + "-" + FILE_TIMESTAMP.format(Instant.now()) + ".jfr")
+                .toAbsolutePath();
+        try {
+            Files.createDirectories(directory);
+            source.dump(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write flight recording to " + file, e);
+        }
+        log.info("Flight recording written to {}", file);
+        return file;
+    }
+}
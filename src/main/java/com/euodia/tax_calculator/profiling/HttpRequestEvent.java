@@ -0,0 +1,56 @@
+package com.euodia.tax_calculator.profiling;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Événement JFR : traitement d'une requête de l'API, des filtres à l'écriture de la réponse
+ * (contrôleur, sérialisation JSON et logs compris)
+ */
+@Name("com.euodia.tax_calculator.HttpRequest")
+@Label("HTTP Request")
+@Category({"Tax Calculator", "HTTP"})
+@Description("API request handling, including filters, controller, serialization and logging")
+public class HttpRequestEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Route")
+    @Description("Matched route pattern, or the request path when no controller handled it")
+    String route;
+
+    @Label("Handler")
+    String handler;
+
+    @Label("Status")
+    int status;
+
+    /**
+     * Termine la mesure et enregistre l'événement s'il est activé et dépasse le seuil de la recording.
+     * La route et le contrôleur sont lus dans les attributs posés par Spring MVC, seulement à l'enregistrement.
+     *
+     * @param request la requête traitée
+     * @param response sa réponse
+     */
+    public void end(HttpServletRequest request, HttpServletResponse response) {
+        end();
+        if (shouldCommit()) {
+            method = request.getMethod();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            route = pattern != null ? pattern.toString() : request.getRequestURI();
+            Object matched = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+            if (matched instanceof HandlerMethod handlerMethod) {
+                handler = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+            }
+            status = response.getStatus();
+            commit();
+        }
+    }
+}
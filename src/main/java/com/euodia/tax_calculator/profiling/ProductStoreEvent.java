@@ -0,0 +1,73 @@
+package com.euodia.tax_calculator.profiling;
+
+import com.euodia.tax_calculator.model.Product;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Événement JFR : opération sur le catalogue (lecture, création, modification, suppression, import).
+ * Les opérations qui échouent par une exception (produit invalide) ne sont pas enregistrées.
+ */
+@Name("com.euodia.tax_calculator.ProductStore")
+@Label("Product Store Operation")
+@Category({"Tax Calculator", "Store"})
+@Description("Operation on the in-memory product catalog")
+public class ProductStoreEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Product ID")
+    long productId;
+
+    @Label("Country")
+    String country;
+
+    @Label("Status")
+    String status;
+
+    @Label("Product Count")
+    @Description("Number of products handled by a batch operation")
+    int productCount;
+
+    /**
+     * Termine la mesure d'une opération sur un produit et enregistre l'événement
+     * s'il est activé et dépasse le seuil de la recording
+     *
+     * @param operation l'opération (ex. "create")
+     * @param id l'ID demandé, ou null
+     * @param product le produit lu ou écrit, ou null
+     * @param status le résultat (ex. "APPLIED", "NOT_FOUND")
+     */
+    public void end(String operation, Long id, Product product, String status) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            Long productId = product != null && product.getId() != null ? product.getId() : id;
+            this.productId = productId != null ? productId : 0;
+            this.country = product != null && product.getCountry() != null ? product.getCountry().name() : null;
+            this.status = status;
+            this.productCount = product != null ? 1 : 0;
+            commit();
+        }
+    }
+
+    /**
+     * Termine la mesure d'une opération par lot et enregistre l'événement
+     * s'il est activé et dépasse le seuil de la recording
+     *
+     * @param operation l'opération (ex. "import")
+     * @param productCount le nombre de produits traités
+     */
+    public void end(String operation, int productCount) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.status = "APPLIED";
+            this.productCount = productCount;
+            commit();
+        }
+    }
+}
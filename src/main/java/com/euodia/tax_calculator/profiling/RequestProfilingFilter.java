@@ -0,0 +1,79 @@
+package com.euodia.tax_calculator.profiling;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Mesure le traitement des requêtes de l'API par un événement JFR (HttpRequestEvent).
+ * Placé avant tous les autres filtres : l'événement couvre l'admission, le routage, le contrôleur
+ * et la sérialisation. Sans recording JFR en cours, le coût est négligeable.
+ * Pour une réponse asynchrone (compartiment d'exécution, flux), l'événement se termine à la fin réelle
+ * de la requête : il inclut l'attente en file et le traitement dans le compartiment.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestProfilingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        HttpRequestEvent event = new HttpRequestEvent();
+        event.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(
+                        new EndOnCompletion(event, request, response, new AtomicBoolean()));
+            } else {
+                event.end(request, response);
+            }
+        }
+    }
+
+    private record EndOnCompletion(HttpRequestEvent event, HttpServletRequest request, HttpServletResponse response,
+                                   AtomicBoolean ended) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent asyncEvent) {
+            end();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent asyncEvent) {
+            end();
+        }
+
+        @Override
+        public void onError(AsyncEvent asyncEvent) {
+            end();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent asyncEvent) {
+            asyncEvent.getAsyncContext().addListener(this);
+        }
+
+        private void end() {
+            if (ended.compareAndSet(false, true)) {
+                event.end(request, response);
+            }
+        }
+    }
+}
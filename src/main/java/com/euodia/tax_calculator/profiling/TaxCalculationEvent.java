@@ -0,0 +1,52 @@
+package com.euodia.tax_calculator.profiling;
+
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.rules.TaxRule;
+import com.euodia.tax_calculator.strategy.TaxStrategy;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Événement JFR : calcul de la taxe d'un produit (règle de catégorie ou stratégie du pays),
+ * hors recherche de la stratégie et hors log.
+ */
+@Name("com.euodia.tax_calculator.TaxCalculation")
+@Label("Tax Calculation")
+@Category({"Tax Calculator", "Tax"})
+@Description("Tax computed for a product by a category rule or a country strategy")
+public class TaxCalculationEvent extends jdk.jfr.Event {
+
+    @Label("Product ID")
+    long productId;
+
+    @Label("Country")
+    String country;
+
+    @Label("Strategy")
+    String strategy;
+
+    @Label("Rule")
+    @Description("Category rule applied instead of the standard rate, if any")
+    String rule;
+
+    /**
+     * Termine la mesure et enregistre l'événement s'il est activé et dépasse le seuil de la recording.
+     * Les champs ne sont renseignés qu'à l'enregistrement : sans recording, aucune chaîne n'est construite.
+     *
+     * @param product le produit taxé
+     * @param strategy la stratégie du pays
+     * @param rule la règle de catégorie appliquée, ou null
+     */
+    public void end(Product product, TaxStrategy strategy, TaxRule rule) {
+        end();
+        if (shouldCommit()) {
+            productId = product.getId() != null ? product.getId() : 0;
+            country = product.getCountry().name();
+            this.strategy = strategy.getStrategyName();
+            this.rule = rule != null ? rule.getDescription() : null;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.euodia.tax_calculator.replication;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Requêtes reçues par une instance suiveuse :
+ * - les écritures sur /api/products sont redirigées vers le leader (307, même méthode et même corps) ;
+ * - les lectures sont servies localement tant que le catalogue répliqué est assez récent,
+ *   sinon refusées (503 + Retry-After) pour que le client se rabatte sur une autre instance ;
+ *   le calcul d'un panier (POST /api/orders/quote) est une lecture.
+ * Chaque réponse porte l'ancienneté du catalogue dans l'en-tête X-Replication-Staleness-Ms.
+ * Le journal des mutations du suiveur (/api/products/changes) n'est pas concerné : il a sa propre numérotation.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 30)
+@Slf4j
+public class FollowerRequestFilter extends OncePerRequestFilter {
+
+    static final String STALENESS_HEADER = "X-Replication-Staleness-Ms";
+
+    private static final String PRODUCTS_PATH = "/api/products";
+    private static final String CHANGES_PATH = "/api/products/changes";
+    private static final String ORDER_QUOTE_PATH = "/api/orders/quote";
+
+    private final ProductReplicator replicator;
+
+    public FollowerRequestFilter(ProductReplicator replicator) {
+        this.replicator = replicator;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !replicator.isFollower()
+                || !(path.equals(PRODUCTS_PATH) || path.startsWith(PRODUCTS_PATH + "/")
+                        || path.equals(ORDER_QUOTE_PATH))
+                || path.startsWith(CHANGES_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        boolean read = "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod())
+                || path.equals(ORDER_QUOTE_PATH);
+        if (!read) {
+            String target = replicator.getLeader() + path
+                    + (request.getQueryString() != null ? "?" + request.getQueryString() : "");
+            response.setStatus(HttpStatus.TEMPORARY_REDIRECT.value());
+            response.setHeader(HttpHeaders.LOCATION, target);
+            return;
+        }
+
+        long staleness = replicator.getStalenessMillis();
+        if (!replicator.isFresh()) {
+            log.debug("Rejecting read on stale follower ({} ms behind {})", staleness, replicator.getLeader());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"status\":503,\"error\":\"Replica is too stale\"}");
+            return;
+        }
+
+        response.setHeader(STALENESS_HEADER, Long.toString(staleness));
+        chain.doFilter(request, response);
+    }
+}
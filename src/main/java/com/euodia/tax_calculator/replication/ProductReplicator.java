@@ -0,0 +1,242 @@
+package com.euodia.tax_calculator.replication;
+
+import com.euodia.tax_calculator.dto.ProductChangesResponse;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.model.ProductChange;
+import com.euodia.tax_calculator.service.ProductService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Réplication du catalogue sur une instance suiveuse, en lecture seule.
+ * Le suiveur relit en continu le journal des mutations du leader (GET /api/products/changes) et applique
+ * chaque mutation dans l'ordre du leader. Si le leader ne conserve plus les mutations attendues
+ * (suiveur trop en retard, leader redémarré), le suiveur recopie tout le catalogue puis reprend le journal
+ * au numéro indiqué par l'en-tête X-Catalog-Sequence.
+ *
+ * L'ancienneté des données (staleness) est le temps écoulé depuis la dernière interrogation du leader
+ * à l'issue de laquelle le suiveur avait appliqué tout son journal : les lectures sont refusées
+ * au-delà de replication.max-staleness-ms.
+ *
+ * Configuration : replication.leader (URL du leader ; vide, l'instance n'est pas un suiveur),
+ * replication.poll-interval-ms, replication.batch-size, replication.max-staleness-ms, replication.request-timeout-ms
+ */
+@Component
+@Slf4j
+public class ProductReplicator {
+
+    private static final String CATALOG_SEQUENCE_HEADER = "X-Catalog-Sequence";
+
+    private final ProductService productService;
+    private final ObjectMapper objectMapper;
+    private final String leader;
+    private final long pollIntervalMillis;
+    private final int batchSize;
+    private final long maxStalenessNanos;
+    private final Duration requestTimeout;
+
+    private HttpClient client;
+    private ScheduledExecutorService poller;
+
+    // Numéro de la dernière mutation du leader appliquée ; lu et modifié uniquement par le thread de réplication
+    private volatile long appliedSequence;
+    // Dernier numéro de mutation annoncé par le leader
+    private volatile long leaderSequence;
+    // Début de la dernière interrogation à l'issue de laquelle le suiveur était à jour (0 : jamais)
+    private volatile long consistentAtNanos;
+
+    public ProductReplicator(ProductService productService,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${replication.leader:}") String leader,
+                             @Value("${replication.poll-interval-ms:50}") long pollIntervalMillis,
+                             @Value("${replication.batch-size:1000}") int batchSize,
+                             @Value("${replication.max-staleness-ms:5000}") long maxStalenessMillis,
+                             @Value("${replication.request-timeout-ms:2000}") long requestTimeoutMillis) {
+        this.productService = productService;
+        this.objectMapper = objectMapper;
+        this.leader = leader.isBlank() ? null : leader.trim().replaceAll("/+$", "");
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.batchSize = batchSize;
+        this.maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(maxStalenessMillis);
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMillis);
+
+        if (this.leader != null) {
+            Gauge.builder("replication.lag.changes", this, ProductReplicator::getLagChanges)
+                    .description("Mutations published by the leader and not yet applied")
+                    .register(meterRegistry);
+            Gauge.builder("replication.lag.staleness", this, replicator -> replicator.getStalenessMillis() / 1000.0)
+                    .description("Age of the replicated catalog")
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        if (leader == null) {
+            return;
+        }
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(requestTimeout)
+                .build();
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-replication");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::poll, 0, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Replicating product catalog from leader {}", leader);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+
+    /**
+     * @return true si cette instance est un suiveur en lecture seule
+     */
+    public boolean isFollower() {
+        return leader != null;
+    }
+
+    /**
+     * @return l'URL du leader, null si cette instance n'est pas un suiveur
+     */
+    public String getLeader() {
+        return leader;
+    }
+
+    /**
+     * @return le numéro de la dernière mutation du leader appliquée
+     */
+    public long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    /**
+     * @return le nombre de mutations publiées par le leader et pas encore appliquées, à la dernière interrogation
+     */
+    public long getLagChanges() {
+        return Math.max(0, leaderSequence - appliedSequence);
+    }
+
+    /**
+     * @return l'ancienneté du catalogue répliqué en millisecondes, Long.MAX_VALUE avant la première synchronisation
+     */
+    public long getStalenessMillis() {
+        long consistentAt = consistentAtNanos;
+        return consistentAt == 0 ? Long.MAX_VALUE : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - consistentAt);
+    }
+
+    /**
+     * @return true si le catalogue répliqué est assez récent pour servir les lectures
+     */
+    public boolean isFresh() {
+        long consistentAt = consistentAtNanos;
+        return consistentAt != 0 && System.nanoTime() - consistentAt <= maxStalenessNanos;
+    }
+
+    // Applique le journal du leader jusqu'à être à jour ; les erreurs sont retentées à l'interrogation suivante
+    private void poll() {
+        try {
+            while (true) {
+                long startedAt = System.nanoTime();
+                ProductChangesResponse page = fetchChanges();
+                if (page.isResyncRequired()) {
+                    resync();
+                    continue;
+                }
+                for (ProductChange change : page.getChanges()) {
+                    apply(change);
+                    appliedSequence = change.sequence();
+                }
+                leaderSequence = page.getLastSequence();
+                if (page.getChanges().size() < batchSize && appliedSequence >= page.getLastSequence()) {
+                    consistentAtNanos = Math.max(startedAt, 1);
+                    return;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Replication from {} failed at sequence {}: {}", leader, appliedSequence, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void apply(ProductChange change) {
+        switch (change.type()) {
+            case CREATED, UPDATED -> productService.replicateProduct(change.product());
+            case DELETED -> productService.replicateRemoval(change.productId());
+        }
+    }
+
+    private ProductChangesResponse fetchChanges() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = send("/api/products/changes?after=" + appliedSequence + "&limit=" + batchSize);
+        return objectMapper.readValue(response.body(), ProductChangesResponse.class);
+    }
+
+    // Relecture complète : le numéro est lu par le leader avant le parcours, qui contient donc au moins ces mutations
+    // (et peut-être certaines des suivantes, le parcours n'étant pas un instantané : le journal les rejoue)
+    private void resync() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = send("/api/products");
+        long sequence = response.headers().firstValueAsLong(CATALOG_SEQUENCE_HEADER)
+                .orElseThrow(() -> new IOException("Leader response has no " + CATALOG_SEQUENCE_HEADER + " header"));
+        Map<Long, Product> catalog = objectMapper.readValue(response.body(), new TypeReference<>() {
+        });
+
+        int applied = 0;
+        for (Product product : catalog.values()) {
+            if (productService.replicateProduct(product)) {
+                applied++;
+            }
+        }
+        // Les produits absents du parcours ont été supprimés sur le leader
+        int removed = 0;
+        for (Long id : productService.getProductsView().keySet()) {
+            if (!catalog.containsKey(id) && productService.replicateRemoval(id)) {
+                removed++;
+            }
+        }
+        log.info("Resynchronized {} products from leader {} at sequence {} ({} applied, {} removed)",
+                catalog.size(), leader, sequence, applied, removed);
+        appliedSequence = sequence;
+    }
+
+    private HttpResponse<byte[]> send(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(leader + path))
+                .timeout(requestTimeout)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .GET()
+                .build();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IOException("GET " + path + " returned HTTP " + response.statusCode());
+        }
+        return response;
+    }
+}
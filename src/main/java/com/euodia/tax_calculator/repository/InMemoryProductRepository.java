@@ -0,0 +1,48 @@
+package com.euodia.tax_calculator.repository;
+
+import com.euodia.tax_calculator.model.Product;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Catalogue en mémoire, perdu à l'arrêt (products.repository=memory, par défaut)
+ */
+@Repository
+@ConditionalOnProperty(name = "products.repository", havingValue = "memory", matchIfMissing = true)
+public class InMemoryProductRepository implements ProductRepository {
+
+    // ConcurrentHashMap : les index secondaires lisent le catalogue pendant les insertions
+    private final Map<Long, Product> products = new ConcurrentHashMap<>();
+    // Vue en lecture seule, partagée par toutes les lectures du catalogue complet
+    private final Map<Long, Product> productsView = Collections.unmodifiableMap(products);
+
+    @Override
+    public Product findById(long id) {
+        return products.get(id);
+    }
+
+    @Override
+    public Product compute(long id, UnaryOperator<Product> mutation) {
+        return products.compute(id, (key, current) -> mutation.apply(current));
+    }
+
+    @Override
+    public void save(Product product) {
+        products.put(product.getId(), product);
+    }
+
+    @Override
+    public Product delete(long id) {
+        return products.remove(id);
+    }
+
+    @Override
+    public Map<Long, Product> findAll() {
+        return productsView;
+    }
+}
@@ -0,0 +1,471 @@
+package com.euodia.tax_calculator.repository;
+
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Currency;
+import com.euodia.tax_calculator.model.Product;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.UnaryOperator;
+
+/**
+ * Catalogue enregistré dans une base embarquée (H2 en fichier par défaut), chargé en entier en mémoire
+ * à l'ouverture (products.repository=jdbc).
+ * <p>
+ * Lectures : tout le catalogue est lu en base à l'ouverture, puis servi par une Map en mémoire ; une lecture
+ * ne touche jamais la base et retourne toujours la même instance. La mémoire occupée croît donc avec
+ * le catalogue, comme pour {@link InMemoryProductRepository} : la base apporte la persistance,
+ * pas un catalogue plus grand que la mémoire.
+ * <p>
+ * Écritures (group commit) : une écriture met à jour la Map et rejoint une file. Un thread unique applique la file
+ * en base par lots (MERGE et DELETE avec addBatch, une transaction par lot, requêtes préparées une seule fois).
+ * Sous charge, les lots grossissent d'eux-mêmes : le coût d'une transaction est partagé entre toutes les écritures
+ * arrivées pendant la précédente. Plusieurs écritures d'un même produit en attente n'en font qu'une.
+ * ProductService n'acquitte une écriture qu'une fois son lot enregistré ({@link #sync()}) : une écriture acquittée
+ * est durable. Les lectures voient une écriture dès la mise à jour de la Map, avant la fin de son lot.
+ * <p>
+ * Un lot en échec est retenté écriture par écriture. Une écriture que la base refuse (contrainte ajoutée à la main,
+ * par exemple : un produit valide tient toujours dans les colonnes) est journalisée et mise de côté dans la table
+ * product_rejected, et {@link #sync()} échoue pour l'écrivain qui attend : il n'est pas acquitté. Le produit
+ * reste dans la Map mais ne sera pas relu au redémarrage. Une erreur d'accès à la base (disque, verrou) fait
+ * retenter les écritures restantes après un délai, dans l'ordre de la file ; les écrivains attendent.
+ *
+ * Configuration :
+ * products.jdbc.url, products.jdbc.user, products.jdbc.password, products.jdbc.batch-size
+ */
+@Repository
+@ConditionalOnProperty(name = "products.repository", havingValue = "jdbc")
+@Slf4j
+public class JdbcProductRepository implements ProductRepository, AutoCloseable {
+
+    // Colonnes aux tailles validées par Product.isValid() : un produit valide tient toujours dans la table.
+    // Le prix est un DECIMAL à échelle fixe ; son échelle d'origine est conservée à part (10.5 et 10.50 distincts)
+    private static final String CREATE_TABLE = """
+            CREATE TABLE IF NOT EXISTS product (
+                id BIGINT PRIMARY KEY,
+                name VARCHAR(%d) NOT NULL,
+                price DECIMAL(%d, %d) NOT NULL,
+                price_scale SMALLINT NOT NULL,
+                country VARCHAR(16) NOT NULL,
+                currency VARCHAR(3),
+                category VARCHAR(%d),
+                version BIGINT NOT NULL
+            )""".formatted(Product.MAX_NAME_LENGTH, Product.MAX_PRICE_PRECISION, Product.MAX_PRICE_SCALE,
+            Product.MAX_CATEGORY_LENGTH);
+    private static final String CREATE_REJECTED_TABLE = """
+            CREATE TABLE IF NOT EXISTS product_rejected (
+                id BIGINT NOT NULL,
+                version BIGINT NOT NULL,
+                product CLOB NOT NULL,
+                error CLOB NOT NULL,
+                rejected_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL
+            )""";
+    private static final String COLUMNS = "id, name, price, price_scale, country, currency, category, version";
+    private static final String SELECT_ALL = "SELECT " + COLUMNS + " FROM product";
+    private static final String MERGE = "MERGE INTO product (" + COLUMNS + ") KEY (id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String DELETE = "DELETE FROM product WHERE id = ?";
+    private static final String INSERT_REJECTED = "INSERT INTO product_rejected (id, version, product, error) "
+            + "VALUES (?, ?, ?, ?)";
+
+    // Marque une suppression en attente
+    private static final Product REMOVED = new Product(null, null, null, null, null, null, 0);
+
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+    private static final long POLL_TIMEOUT_MS = 100;
+
+    private final int batchSize;
+
+    // Catalogue complet, chargé à l'ouverture
+    private final Map<Long, Product> products = new ConcurrentHashMap<>();
+    private final Map<Long, Product> productsView = Collections.unmodifiableMap(products);
+
+    // Dernière valeur non encore écrite en base de chaque produit (REMOVED : suppression), et file des écritures
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+    private final BlockingQueue<Write> dirty = new LinkedBlockingQueue<>();
+    // Numéro de la dernière écriture acceptée (sous le verrou de la file) et de la dernière enregistrée en base,
+    // signalée sur writtenSignal à la fin de chaque lot
+    private long acceptedSequence;
+    private volatile long writtenSequence;
+    private final Object writtenSignal = new Object();
+    // Premier et dernier numéros des écritures du thread courant pas encore attendues par sync()
+    private final ThreadLocal<long[]> unsynced = ThreadLocal.withInitial(() -> new long[2]);
+    // Écritures refusées par la base : nombre total, et numéros pas encore signalés par sync()
+    private volatile long rejectedWrites;
+    private final NavigableSet<Long> rejectedSequences = new ConcurrentSkipListSet<>();
+
+    // Connexion réservée au thread d'écriture, une fois le catalogue chargé
+    private final Connection connection;
+    private final PreparedStatement merge;
+    private final PreparedStatement delete;
+    private final PreparedStatement insertRejected;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public JdbcProductRepository(@Value("${products.jdbc.url:jdbc:h2:file:./data/products}") String url,
+                                 @Value("${products.jdbc.user:sa}") String user,
+                                 @Value("${products.jdbc.password:}") String password,
+                                 @Value("${products.jdbc.batch-size:1000}") int batchSize) throws SQLException {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
+
+        connection = DriverManager.getConnection(url, user, password);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_TABLE);
+            statement.execute(CREATE_REJECTED_TABLE);
+            try (ResultSet rows = statement.executeQuery(SELECT_ALL)) {
+                while (rows.next()) {
+                    Product product = read(rows);
+                    products.put(product.getId(), product);
+                }
+            }
+        }
+        connection.setAutoCommit(false);
+        merge = connection.prepareStatement(MERGE);
+        delete = connection.prepareStatement(DELETE);
+        insertRejected = connection.prepareStatement(INSERT_REJECTED);
+
+        writer = Thread.ofPlatform().name("product-writer").daemon().start(this::writeLoop);
+        log.info("JDBC product repository on {}: {} products loaded, batches of up to {} writes",
+                url, products.size(), batchSize);
+    }
+
+    @Override
+    public Product findById(long id) {
+        return products.get(id);
+    }
+
+    @Override
+    public Product compute(long id, UnaryOperator<Product> mutation) {
+        // Mise en file pendant la modification : les écritures d'un même produit rejoignent la file dans l'ordre
+        return products.compute(id, (key, current) -> {
+            Product next = mutation.apply(current);
+            if (next != current) {
+                enqueue(id, next != null ? next : REMOVED);
+            }
+            return next;
+        });
+    }
+
+    @Override
+    public Map<Long, Product> findAll() {
+        return productsView;
+    }
+
+    /**
+     * Attend le lot qui enregistre les écritures du thread appelant faites depuis son dernier appel.
+     * Les écrivains concurrents attendent le même lot : une transaction acquitte toutes leurs écritures.
+     *
+     * @throws IllegalStateException si l'une de ces écritures a été refusée par la base (product_rejected),
+     *                               ou si le thread d'écriture est arrêté avant
+     */
+    @Override
+    public void sync() {
+        long[] mine = unsynced.get();
+        long first = mine[0];
+        long last = mine[1];
+        if (last == 0) {
+            return;
+        }
+        mine[0] = 0;
+        mine[1] = 0;
+        awaitWritten(last);
+        NavigableSet<Long> rejected = rejectedSequences.subSet(first, true, last, true);
+        if (!rejected.isEmpty()) {
+            int count = rejected.size();
+            rejected.clear();
+            throw new IllegalStateException(count + " product writes rejected by the database (see product_rejected)");
+        }
+    }
+
+    /**
+     * Attend que toutes les écritures acceptées jusqu'ici soient enregistrées en base (ou refusées par elle).
+     * Les écritures acceptées pendant l'attente ne la prolongent pas.
+     *
+     * @throws IllegalStateException si le thread d'écriture est arrêté avant
+     */
+    public void flush() {
+        long target;
+        synchronized (dirty) {
+            target = acceptedSequence;
+        }
+        awaitWritten(target);
+    }
+
+    /**
+     * @return le nombre d'écritures pas encore enregistrées en base
+     */
+    public int getPendingWrites() {
+        return pending.size();
+    }
+
+    /**
+     * @return le nombre d'écritures refusées par la base depuis l'ouverture (table product_rejected)
+     */
+    public long getRejectedWrites() {
+        return rejectedWrites;
+    }
+
+    /**
+     * Écrit les dernières modifications puis ferme la connexion
+     */
+    @PreDestroy
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        flush();
+        running = false;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.warn("Unable to close product database: {}", e.getMessage());
+        }
+    }
+
+    // Verrou limité à l'ajout dans la file : les numéros y sont croissants, flush peut attendre le dernier.
+    // Appelé dans le thread de l'écrivain (pendant compute), qui retient le numéro pour sync()
+    private void enqueue(long id, Product value) {
+        long sequence;
+        synchronized (dirty) {
+            sequence = ++acceptedSequence;
+            pending.put(id, new Pending(value, sequence));
+            dirty.add(new Write(id, sequence));
+        }
+        long[] mine = unsynced.get();
+        if (mine[0] == 0) {
+            mine[0] = sequence;
+        }
+        mine[1] = sequence;
+    }
+
+    private void awaitWritten(long target) {
+        synchronized (writtenSignal) {
+            while (writtenSequence < target) {
+                if (!writer.isAlive()) {
+                    throw new IllegalStateException((target - writtenSequence) + " product writes could not be flushed");
+                }
+                try {
+                    writtenSignal.wait(POLL_TIMEOUT_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for product writes", e);
+                }
+            }
+        }
+    }
+
+    private void writeLoop() {
+        List<Write> writes = new ArrayList<>(batchSize);
+        List<Pending> values = new ArrayList<>(batchSize);
+        while (running) {
+            Write first;
+            try {
+                // Attente bornée plutôt qu'interruption : interrompre une lecture de fichier H2 fermerait la base
+                first = dirty.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) {
+                continue;
+            }
+            writes.add(first);
+            dirty.drainTo(writes, batchSize - 1);
+            // Lot en échec : retenté écriture par écriture, jusqu'à ce que la base soit de nouveau accessible ;
+            // les écritures restent enregistrées dans l'ordre de la file
+            while (!writeBatch(writes, values) && !writeEach(writes)) {
+                LockSupport.parkNanos(RETRY_DELAY.toNanos());
+            }
+            synchronized (writtenSignal) {
+                writtenSequence = writes.get(writes.size() - 1).sequence();
+                writtenSignal.notifyAll();
+            }
+            writes.clear();
+        }
+    }
+
+    private boolean writeBatch(List<Write> writes, List<Pending> values) {
+        values.clear();
+        try {
+            write(writes, values);
+            return true;
+        } catch (SQLException e) {
+            log.warn("Unable to write {} products, retrying one by one: {}", writes.size(), e.getMessage());
+            rollback();
+            return false;
+        }
+    }
+
+    private void write(List<Write> writes, List<Pending> values) throws SQLException {
+        int merges = 0;
+        int deletes = 0;
+        for (Write write : writes) {
+            long id = write.id();
+            Pending latest = pending.get(id);
+            values.add(latest);
+            if (latest == null) {
+                // Déjà écrit par un lot précédent, avec une valeur au moins aussi récente
+                continue;
+            }
+            Product value = latest.value();
+            if (value == REMOVED) {
+                delete.setLong(1, id);
+                delete.addBatch();
+                deletes++;
+            } else {
+                bind(merge, value);
+                merge.addBatch();
+                merges++;
+            }
+        }
+        if (merges > 0) {
+            merge.executeBatch();
+        }
+        if (deletes > 0) {
+            delete.executeBatch();
+        }
+        connection.commit();
+
+        // Une valeur remplacée pendant le lot reste en attente pour le lot suivant
+        for (int i = 0; i < writes.size(); i++) {
+            if (values.get(i) != null) {
+                pending.remove(writes.get(i).id(), values.get(i));
+            }
+        }
+        log.debug("Wrote {} products and {} deletions", merges, deletes);
+    }
+
+    // Une transaction par écriture : les écritures refusées sont mises de côté, les autres enregistrées.
+    // Retourne false à la première erreur d'accès à la base (les écritures déjà faites ne seront pas refaites)
+    private boolean writeEach(List<Write> writes) {
+        for (Write write : writes) {
+            long id = write.id();
+            Pending latest = pending.get(id);
+            if (latest == null) {
+                continue;
+            }
+            Product value = latest.value();
+            try {
+                if (value == REMOVED) {
+                    delete.setLong(1, id);
+                    delete.executeUpdate();
+                } else {
+                    bind(merge, value);
+                    merge.executeUpdate();
+                }
+                connection.commit();
+                pending.remove(id, latest);
+            } catch (SQLException e) {
+                rollback();
+                if (!isRejection(e)) {
+                    log.error("Unable to write product {}, retrying in {}: {}", id, RETRY_DELAY, e.getMessage());
+                    return false;
+                }
+                reject(id, latest, e);
+            }
+        }
+        return true;
+    }
+
+    // Classes SQLSTATE 22 (donnée invalide : valeur trop longue...) et 23 (contrainte) : réessayer ne sert à rien
+    private static boolean isRejection(SQLException e) {
+        String state = e.getSQLState();
+        return state != null && (state.startsWith("22") || state.startsWith("23"));
+    }
+
+    // Écriture refusée : signalée à l'écrivain de la dernière valeur, la seule tentée
+    private void reject(long id, Pending latest, SQLException cause) {
+        Product value = latest.value();
+        pending.remove(id, latest);
+        rejectedSequences.add(latest.sequence());
+        rejectedWrites++;
+        String product = value == REMOVED ? "DELETE " + id : value.toString();
+        log.error("Write of product {} (version {}) rejected by the database, set aside in product_rejected: {}",
+                id, value.getVersion(), cause.getMessage());
+        try {
+            insertRejected.setLong(1, id);
+            insertRejected.setLong(2, value.getVersion());
+            insertRejected.setString(3, product);
+            insertRejected.setString(4, cause.getMessage());
+            insertRejected.executeUpdate();
+            connection.commit();
+        } catch (SQLException e) {
+            rollback();
+            log.error("Unable to record rejected write of product {}: {}", id, e.getMessage());
+        }
+    }
+
+    private void rollback() {
+        try {
+            merge.clearBatch();
+            delete.clearBatch();
+            connection.rollback();
+        } catch (SQLException e) {
+            log.warn("Unable to roll back product batch: {}", e.getMessage());
+        }
+    }
+
+    private static void bind(PreparedStatement statement, Product product) throws SQLException {
+        statement.setLong(1, product.getId());
+        statement.setString(2, product.getName());
+        // Prix exact, échelle comprise : 10.5 et 10.50 restent distincts, comme dans le catalogue en mémoire
+        statement.setBigDecimal(3, product.getPrice());
+        statement.setInt(4, product.getPrice().scale());
+        statement.setString(5, product.getCountry().name());
+        statement.setString(6, product.getCurrency() != null ? product.getCurrency().name() : null);
+        if (product.getCategory() != null) {
+            statement.setString(7, product.getCategory());
+        } else {
+            statement.setNull(7, Types.VARCHAR);
+        }
+        statement.setLong(8, product.getVersion());
+    }
+
+    private static Product read(ResultSet row) throws SQLException {
+        // Échelle fixe de la colonne ramenée à celle du prix enregistré : seuls des zéros sont retirés
+        BigDecimal price = row.getBigDecimal("price").setScale(row.getInt("price_scale"));
+        String currency = row.getString("currency");
+        return new Product(row.getLong("id"), row.getString("name"), price,
+                Country.valueOf(row.getString("country")), currency != null ? Currency.valueOf(currency) : null,
+                row.getString("category"), row.getLong("version"));
+    }
+
+    // Écriture acceptée, numérotée dans l'ordre de la file
+    private record Write(long id, long sequence) {
+    }
+
+    // Dernière valeur acceptée d'un produit, avec le numéro de son écriture
+    private record Pending(Product value, long sequence) {
+    }
+}
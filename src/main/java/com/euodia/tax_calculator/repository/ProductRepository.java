@@ -0,0 +1,84 @@
+package com.euodia.tax_calculator.repository;
+
+import com.euodia.tax_calculator.model.Product;
+
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.UnaryOperator;
+
+/**
+ * Stockage des produits du catalogue, derrière ProductService.
+ * ProductService modifie les produits par {@link #compute} : une implémentation rend chaque modification atomique
+ * pour son produit, sans bloquer celles des autres produits ; les lectures peuvent être concurrentes des écritures.
+ * Une lecture doit retourner la même instance tant que le produit n'a pas été modifié (comparaison sur l'instance
+ * du compare-and-set de ProductService).
+ * <p>
+ * Implémentations : {@link InMemoryProductRepository} (par défaut) et {@link JdbcProductRepository}
+ * (products.repository=jdbc). Le stockage est un point de persistance, pas de capacité : les lectures
+ * ({@link #findAll()}, index, flux de liste) parcourent tout le catalogue, qui doit tenir en mémoire.
+ */
+public interface ProductRepository {
+
+    /**
+     * @param id l'ID du produit
+     * @return le produit, ou null s'il n'existe pas
+     */
+    Product findById(long id);
+
+    /**
+     * Modifie atomiquement un produit (compare-and-set sur l'entrée du produit).
+     * La fonction reçoit le produit courant (null s'il n'existe pas) et retourne le nouveau (null : suppression) ;
+     * retourner le produit courant le laisse inchangé. Elle est appelée une seule fois, pendant que les autres
+     * modifications de ce produit attendent : elle doit être courte et ne pas modifier d'autres produits.
+     *
+     * @param id l'ID du produit
+     * @param mutation la modification
+     * @return le produit après la modification, ou null s'il n'existe pas
+     */
+    Product compute(long id, UnaryOperator<Product> mutation);
+
+    /**
+     * Enregistre un produit, nouveau ou remplaçant la version existante de même ID
+     *
+     * @param product le produit, avec son ID
+     */
+    default void save(Product product) {
+        compute(product.getId(), current -> product);
+    }
+
+    /**
+     * Supprime un produit
+     *
+     * @param id l'ID du produit
+     * @return le produit supprimé, ou null s'il n'existait pas
+     */
+    default Product delete(long id) {
+        Product[] removed = new Product[1];
+        compute(id, current -> {
+            removed[0] = current;
+            return null;
+        });
+        return removed[0];
+    }
+
+    /**
+     * Attend que les modifications faites jusqu'ici par le thread appelant soient durables.
+     * ProductService l'appelle avant d'acquitter une écriture ; sans effet pour un stockage en mémoire.
+     *
+     * @throws IllegalStateException si le stockage a refusé l'une de ces modifications
+     */
+    default void sync() {
+    }
+
+    /**
+     * @return tous les produits par ID, en lecture seule et faiblement cohérente
+     */
+    Map<Long, Product> findAll();
+
+    /**
+     * @return un parcours découpable de tous les produits, faiblement cohérent
+     */
+    default Spliterator<Product> spliterator() {
+        return findAll().values().spliterator();
+    }
+}
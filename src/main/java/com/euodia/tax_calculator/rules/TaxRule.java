@@ -0,0 +1,45 @@
+package com.euodia.tax_calculator.rules;
+
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.pricing.TaxRate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Règle de taxation d'une catégorie de produits dans un pays : un taux réduit ou une exemption,
+ * qui remplace le taux normal de la stratégie du pays.
+ *
+ * @param country le pays
+ * @param category la catégorie (ex. "food")
+ * @param rate le taux sous forme de fraction entière, 0 pour une exemption
+ * @param decimalRate le même taux en BigDecimal
+ * @param exempt true si la catégorie est exonérée
+ */
+public record TaxRule(Country country, String category, TaxRate rate, BigDecimal decimalRate, boolean exempt) {
+
+    private static final BigDecimal NO_TAX = BigDecimal.ZERO.setScale(2);
+
+    /**
+     * Calcule la taxe d'un montant : montant × taux, arrondi au centime (HALF_UP), comme TaxStrategy.calculateTax
+     *
+     * @param price le montant taxé
+     * @return la taxe, 0.00 pour une exemption ou un montant absent
+     */
+    public BigDecimal calculateTax(BigDecimal price) {
+        if (exempt || price == null) {
+            return NO_TAX;
+        }
+        return price.multiply(decimalRate).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * @return la description de la règle (ex. "food: 5.5%" ou "food: exempt")
+     */
+    public String getDescription() {
+        if (exempt) {
+            return category + ": exempt";
+        }
+        return category + ": " + decimalRate.movePointRight(2).stripTrailingZeros().toPlainString() + "%";
+    }
+}
@@ -0,0 +1,86 @@
+package com.euodia.tax_calculator.rules;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Chargement des règles de taxation par catégorie (taux réduits, exemptions).
+ * Les règles sont lues et compilées au démarrage puis relues périodiquement, comme les taux de change :
+ * une nouvelle table est compilée à part puis publiée d'un bloc avec un nouveau numéro de version.
+ */
+@Service
+@Slf4j
+public class TaxRuleService {
+
+    private final Resource location;
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+
+    public TaxRuleService(@Value("${tax.rules.location:classpath:tax-rules.csv}") Resource location) {
+        this.location = location;
+        TaxRuleTable rules;
+        try {
+            rules = load();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load tax rules from " + location, e);
+        }
+        current.set(new Snapshot(rules, 1));
+        log.info("Loaded {} tax rules on {} categories from {}", rules.getRuleCount(), rules.getCategoryCount(),
+                location);
+    }
+
+    /**
+     * Relit le fichier de règles et publie la nouvelle table si elle a changé.
+     * En cas d'erreur, la table courante reste en service.
+     */
+    @Scheduled(fixedDelayString = "${tax.rules.refresh-interval-ms:60000}",
+            initialDelayString = "${tax.rules.refresh-interval-ms:60000}")
+    public void refresh() {
+        TaxRuleTable rules;
+        try {
+            rules = load();
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Tax rules refresh failed, keeping current rules: {}", e.getMessage());
+            return;
+        }
+
+        Snapshot previous = current.get();
+        if (!rules.equals(previous.rules())) {
+            current.set(new Snapshot(rules, previous.version() + 1));
+            log.info("Tax rules updated from {}: {} rules (version {})", location, rules.getRuleCount(),
+                    previous.version() + 1);
+        }
+    }
+
+    /**
+     * @return la table de règles compilée en service
+     */
+    public TaxRuleTable getRules() {
+        return current.get().rules();
+    }
+
+    /**
+     * @return la version de la table en service, incrémentée à chaque changement de règles
+     */
+    public long getVersion() {
+        return current.get().version();
+    }
+
+    private TaxRuleTable load() throws IOException {
+        try (Reader reader = new InputStreamReader(location.getInputStream(), StandardCharsets.UTF_8)) {
+            return TaxRuleTable.parse(reader);
+        }
+    }
+
+    private record Snapshot(TaxRuleTable rules, long version) {
+    }
+}
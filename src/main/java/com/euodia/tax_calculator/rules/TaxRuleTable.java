@@ -0,0 +1,193 @@
+package com.euodia.tax_calculator.rules;
+
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.pricing.TaxRate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Table immuable des règles de taxation par catégorie, compilée en un tableau dense indexé par (catégorie, pays).
+ * Chaque catégorie citée reçoit un numéro au chargement : trouver la règle d'un produit coûte une recherche
+ * dans une table de hachage (le hash d'une chaîne est mis en cache) et un accès au tableau,
+ * en temps constant et sans allocation, quel que soit le nombre de règles.
+ * <p>
+ * Format du fichier source (une règle par ligne, '#' pour les commentaires) :
+ * <pre>
+ * FRANCE,food,0.055
+ * US,food,EXEMPT
+ * </pre>
+ * Les catégories sont sensibles à la casse. Un produit sans catégorie, ou d'une catégorie sans règle
+ * pour son pays, suit le taux normal de la stratégie du pays.
+ */
+public final class TaxRuleTable {
+
+    private static final String EXEMPT = "EXEMPT";
+    private static final TaxRate NO_TAX = new TaxRate(0, 1);
+
+    private static final int COUNTRY_COUNT = Country.values().length;
+
+    private static final TaxRuleTable EMPTY = new TaxRuleTable(Map.of(), new TaxRule[0], 0);
+
+    // Numéro de chaque catégorie
+    private final Map<String, Integer> categories;
+    // rules[catégorie * COUNTRY_COUNT + pays] ; null : pas de règle, taux normal du pays
+    private final TaxRule[] rules;
+    private final int ruleCount;
+
+    private TaxRuleTable(Map<String, Integer> categories, TaxRule[] rules, int ruleCount) {
+        this.categories = categories;
+        this.rules = rules;
+        this.ruleCount = ruleCount;
+    }
+
+    /**
+     * @return une table sans règle : tous les produits suivent le taux normal de leur pays
+     */
+    public static TaxRuleTable empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Lit et compile une table de règles
+     *
+     * @param source le contenu du fichier de règles
+     * @return la table compilée
+     * @throws IOException si la lecture échoue
+     * @throws IllegalArgumentException si une ligne est invalide ou si une règle est définie deux fois
+     */
+    public static TaxRuleTable parse(Reader source) throws IOException {
+        List<TaxRule> parsed = new ArrayList<>();
+
+        BufferedReader reader = new BufferedReader(source);
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            String[] fields = line.split(",");
+            if (fields.length != 3 || fields[1].isBlank()) {
+                throw new IllegalArgumentException("Invalid tax rule at line " + lineNumber + ": " + line);
+            }
+            parsed.add(parseRule(parseCountry(fields[0], lineNumber), fields[1].strip(), fields[2].strip(),
+                    lineNumber));
+        }
+        return compile(parsed);
+    }
+
+    /**
+     * Compile une liste de règles
+     *
+     * @param ruleList les règles, au plus une par couple (pays, catégorie)
+     * @return la table compilée
+     * @throws IllegalArgumentException si une règle est définie deux fois
+     */
+    public static TaxRuleTable compile(List<TaxRule> ruleList) {
+        Map<String, Integer> categories = new HashMap<>();
+        for (TaxRule rule : ruleList) {
+            categories.putIfAbsent(rule.category(), categories.size());
+        }
+
+        TaxRule[] rules = new TaxRule[categories.size() * COUNTRY_COUNT];
+        for (TaxRule rule : ruleList) {
+            int index = categories.get(rule.category()) * COUNTRY_COUNT + rule.country().ordinal();
+            if (rules[index] != null) {
+                throw new IllegalArgumentException("Duplicate tax rule for " + rule.country() + ", "
+                        + rule.category());
+            }
+            rules[index] = rule;
+        }
+        return new TaxRuleTable(Map.copyOf(categories), rules, ruleList.size());
+    }
+
+    /**
+     * Construit une règle à partir de son taux
+     *
+     * @param country le pays
+     * @param category la catégorie
+     * @param rate le taux (entre 0 et 1), ou null pour une exemption
+     * @return la règle
+     * @throws IllegalArgumentException si le taux est hors de [0, 1] ou trop précis
+     */
+    public static TaxRule rule(Country country, String category, BigDecimal rate) {
+        if (rate == null) {
+            return new TaxRule(country, category, NO_TAX, BigDecimal.ZERO, true);
+        }
+        if (rate.signum() < 0 || rate.compareTo(BigDecimal.ONE) > 0) {
+            throw new IllegalArgumentException("Invalid tax rate for " + country + ", " + category + ": " + rate);
+        }
+        return new TaxRule(country, category, TaxRate.of(rate), rate, false);
+    }
+
+    /**
+     * Règle applicable à un produit, en temps constant et sans allocation
+     *
+     * @param country le pays du produit
+     * @param category la catégorie du produit
+     * @return la règle, ou null si le produit suit le taux normal de son pays
+     */
+    public TaxRule find(Country country, String category) {
+        if (country == null || category == null) {
+            return null;
+        }
+        Integer index = categories.get(category);
+        return index == null ? null : rules[index * COUNTRY_COUNT + country.ordinal()];
+    }
+
+    /**
+     * @return le nombre de règles
+     */
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    /**
+     * @return le nombre de catégories citées par les règles
+     */
+    public int getCategoryCount() {
+        return categories.size();
+    }
+
+    private static TaxRule parseRule(Country country, String category, String rate, int lineNumber) {
+        if (EXEMPT.equalsIgnoreCase(rate)) {
+            return rule(country, category, null);
+        }
+        try {
+            return rule(country, category, new BigDecimal(rate));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException comprise
+            throw new IllegalArgumentException("Invalid tax rate at line " + lineNumber + ": " + rate);
+        }
+    }
+
+    private static Country parseCountry(String code, int lineNumber) {
+        try {
+            return Country.valueOf(code.strip().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported country at line " + lineNumber + ": " + code);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof TaxRuleTable other && categories.equals(other.categories)
+                && Arrays.equals(rules, other.rules));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * categories.hashCode() + Arrays.hashCode(rules);
+    }
+}
@@ -0,0 +1,274 @@
+package com.euodia.tax_calculator.service;
+
+import com.euodia.tax_calculator.dto.CountryOrderTotal;
+import com.euodia.tax_calculator.dto.OrderLineQuote;
+import com.euodia.tax_calculator.dto.OrderLineRequest;
+import com.euodia.tax_calculator.dto.OrderQuoteResponse;
+import com.euodia.tax_calculator.fx.FxRateService;
+import com.euodia.tax_calculator.fx.FxRateTable;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Currency;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.pricing.BulkTaxKernel;
+import com.euodia.tax_calculator.pricing.BulkTaxKernels;
+import com.euodia.tax_calculator.pricing.MinorUnits;
+import com.euodia.tax_calculator.pricing.TaxRate;
+import com.euodia.tax_calculator.strategy.TaxStrategy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Calcul d'un panier (POST /api/orders/quote).
+ * La taxe d'une ligne porte sur son montant (prix unitaire × quantité), arrondie au centime comme dans
+ * TaxStrategy.calculateTax. Les lignes sont regroupées par pays : la stratégie de chaque pays n'est consultée
+ * qu'une fois, et les taxes sont calculées en centimes par le noyau de calcul en masse, un appel par taux
+ * (taux normal du pays ou taux de la règle de catégorie du produit).
+ * Les montants sont ensuite convertis ligne par ligne dans la devise du panier ; les totaux par pays
+ * et le total général sont des sommes exactes en centimes des lignes, sans nouvel arrondi.
+ */
+@Service
+@Slf4j
+public class OrderQuoteService {
+
+    private final ProductService productService;
+    private final TaxCalculationService taxCalculationService;
+    private final FxRateService fxRateService;
+    private final BulkTaxKernel kernel = BulkTaxKernels.best();
+    private final int maxLines;
+
+    public OrderQuoteService(ProductService productService, TaxCalculationService taxCalculationService,
+                             FxRateService fxRateService,
+                             @Value("${orders.quote.max-lines:10000}") int maxLines) {
+        this.productService = productService;
+        this.taxCalculationService = taxCalculationService;
+        this.fxRateService = fxRateService;
+        this.maxLines = maxLines;
+    }
+
+    /**
+     * Calcule les taxes et les totaux d'un panier
+     *
+     * @param lines les lignes du panier (ID de produit et quantité)
+     * @param currency la devise des montants, ou null pour la devise commune aux produits du panier
+     * @return les lignes calculées, les totaux par pays et le total général
+     * @throws IllegalArgumentException si une ligne est invalide, un produit inconnu, un pays non supporté,
+     * si le panier mélange plusieurs devises sans en préciser une, ou si un montant est trop grand
+     */
+    public OrderQuoteResponse quote(List<OrderLineRequest> lines, Currency currency) {
+        if (lines == null || lines.isEmpty() || lines.size() > maxLines) {
+            throw new IllegalArgumentException("An order must have between 1 and " + maxLines + " lines");
+        }
+
+        // Lecture des produits et comptage des lignes par pays
+        int size = lines.size();
+        Product[] products = new Product[size];
+        int[] quantities = new int[size];
+        int[] countryCounts = new int[Country.values().length];
+        Currency commonCurrency = null;
+        boolean mixedCurrencies = false;
+        for (int i = 0; i < size; i++) {
+            OrderLineRequest line = lines.get(i);
+            if (line == null || line.getProductId() == null || line.getQuantity() == null || line.getQuantity() < 1) {
+                throw new IllegalArgumentException("Invalid order line " + i + ": " + line);
+            }
+            Product product = productService.getProductById(line.getProductId())
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown product: " + line.getProductId()));
+            if (product.getCountry() == null) {
+                throw new IllegalArgumentException("Product " + product.getId() + " has no country");
+            }
+            products[i] = product;
+            quantities[i] = line.getQuantity();
+            countryCounts[product.getCountry().ordinal()]++;
+
+            if (commonCurrency == null) {
+                commonCurrency = product.getCurrency();
+            } else if (commonCurrency != product.getCurrency()) {
+                mixedCurrencies = true;
+            }
+        }
+        Currency target = currency != null ? currency : commonCurrency;
+        if (currency == null && mixedCurrencies) {
+            throw new IllegalArgumentException("A currency is required for an order mixing several currencies");
+        }
+
+        // Montants et taxes en centimes, dans la devise de chaque produit
+        long[] netAmounts = new long[size];
+        long[] taxAmounts = new long[size];
+        String[] strategyNames = new String[countryCounts.length];
+        for (Country country : Country.values()) {
+            int count = countryCounts[country.ordinal()];
+            if (count > 0) {
+                strategyNames[country.ordinal()] = computeCountry(country, count, products, quantities,
+                        netAmounts, taxAmounts);
+            }
+        }
+
+        try {
+            return buildResponse(target, products, quantities, netAmounts, taxAmounts, strategyNames);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Order amounts are too large", e);
+        }
+    }
+
+    /**
+     * Calcule les lignes d'un pays : une seule consultation de la stratégie, puis un appel au noyau de calcul
+     * par taux distinct (taux normal, taux réduits et exemptions des catégories du pays)
+     *
+     * @return le nom de la stratégie utilisée
+     */
+    private String computeCountry(Country country, int count, Product[] products, int[] quantities,
+                                  long[] netAmounts, long[] taxAmounts) {
+        TaxStrategy strategy = taxCalculationService.getStrategyForCountry(country);
+        if (strategy == null) {
+            throw new IllegalArgumentException("No tax strategy found for country: " + country);
+        }
+
+        Map<TaxRate, RateGroup> groups = new HashMap<>();
+        for (int i = 0; i < products.length; i++) {
+            if (products[i].getCountry() != country) {
+                continue;
+            }
+            TaxRate rate = taxCalculationService.getTaxRate(country, products[i].getCategory());
+            long net = netMinorUnits(products[i].getPrice(), quantities[i]);
+            if (net >= 0 && net <= rate.maxMinorUnits()) {
+                groups.computeIfAbsent(rate, r -> new RateGroup(count)).add(i, net);
+            } else {
+                // Prix à plus de deux décimales ou ligne très élevée : calcul unitaire en BigDecimal
+                computeExact(i, products[i].getPrice(), quantities[i], rate, netAmounts, taxAmounts);
+            }
+        }
+
+        for (Map.Entry<TaxRate, RateGroup> group : groups.entrySet()) {
+            group.getValue().compute(kernel, group.getKey(), netAmounts, taxAmounts);
+        }
+        return strategy.getStrategyName();
+    }
+
+    // Montant de la ligne en centimes, -1 s'il n'est pas calculable exactement sur un long
+    private static long netMinorUnits(BigDecimal price, int quantity) {
+        long unitPrice = MinorUnits.of(price);
+        if (unitPrice < 0) {
+            return -1;
+        }
+        long high = Math.multiplyHigh(unitPrice, quantity);
+        long net = unitPrice * quantity;
+        return high != 0 || net < 0 ? -1 : net;
+    }
+
+    private static void computeExact(int line, BigDecimal price, int quantity, TaxRate rate,
+                                     long[] netAmounts, long[] taxAmounts) {
+        if (price == null || price.signum() < 0) {
+            throw new IllegalArgumentException("Invalid price on order line " + line + ": " + price);
+        }
+        BigDecimal net = price.multiply(BigDecimal.valueOf(quantity));
+        long netMinor = MinorUnits.of(net.setScale(2, RoundingMode.HALF_UP));
+        long taxMinor = MinorUnits.of(net.multiply(rate.toBigDecimal()).setScale(2, RoundingMode.HALF_UP));
+        if (netMinor == MinorUnits.NOT_REPRESENTABLE || taxMinor == MinorUnits.NOT_REPRESENTABLE) {
+            throw new IllegalArgumentException("Order line " + line + " amount is too large");
+        }
+        netAmounts[line] = netMinor;
+        taxAmounts[line] = taxMinor;
+    }
+
+    private OrderQuoteResponse buildResponse(Currency target, Product[] products, int[] quantities,
+                                             long[] netAmounts, long[] taxAmounts, String[] strategyNames) {
+        FxRateTable rates = fxRateService.getRates();
+        int countryCount = strategyNames.length;
+        int[] countryLines = new int[countryCount];
+        long[] countryNet = new long[countryCount];
+        long[] countryTax = new long[countryCount];
+        long netTotal = 0;
+        long taxTotal = 0;
+
+        List<OrderLineQuote> lineQuotes = new ArrayList<>(products.length);
+        for (int i = 0; i < products.length; i++) {
+            Product product = products[i];
+            Currency from = product.getCurrency();
+            long net = rates.convertMinorUnits(netAmounts[i], from, target);
+            long tax = rates.convertMinorUnits(taxAmounts[i], from, target);
+
+            int country = product.getCountry().ordinal();
+            countryLines[country]++;
+            countryNet[country] = Math.addExact(countryNet[country], net);
+            countryTax[country] = Math.addExact(countryTax[country], tax);
+            netTotal = Math.addExact(netTotal, net);
+            taxTotal = Math.addExact(taxTotal, tax);
+
+            lineQuotes.add(new OrderLineQuote(
+                    product.getId(),
+                    product.getName(),
+                    product.getCountry(),
+                    quantities[i],
+                    rates.convert(product.getPrice(), from, target),
+                    MinorUnits.toAmount(net),
+                    MinorUnits.toAmount(tax),
+                    MinorUnits.toAmount(Math.addExact(net, tax))));
+        }
+
+        List<CountryOrderTotal> countryTotals = new ArrayList<>();
+        for (Country country : Country.values()) {
+            int index = country.ordinal();
+            if (countryLines[index] > 0) {
+                countryTotals.add(new CountryOrderTotal(
+                        country,
+                        strategyNames[index],
+                        countryLines[index],
+                        MinorUnits.toAmount(countryNet[index]),
+                        MinorUnits.toAmount(countryTax[index]),
+                        MinorUnits.toAmount(Math.addExact(countryNet[index], countryTax[index]))));
+            }
+        }
+
+        log.info("Quoted order of {} lines in {} countries: {} {}",
+                products.length, countryTotals.size(), MinorUnits.toAmount(netTotal + taxTotal), target);
+        return new OrderQuoteResponse(target, lineQuotes, countryTotals,
+                MinorUnits.toAmount(netTotal),
+                MinorUnits.toAmount(taxTotal),
+                MinorUnits.toAmount(Math.addExact(netTotal, taxTotal)));
+    }
+
+    /**
+     * Colonne des montants en centimes des lignes d'un même taux, agrandie au besoin
+     */
+    private static final class RateGroup {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private long[] nets;
+        private int[] lines;
+        private int size;
+
+        RateGroup(int maxSize) {
+            int capacity = Math.min(maxSize, INITIAL_CAPACITY);
+            this.nets = new long[capacity];
+            this.lines = new int[capacity];
+        }
+
+        void add(int line, long net) {
+            if (size == nets.length) {
+                nets = Arrays.copyOf(nets, size * 2);
+                lines = Arrays.copyOf(lines, size * 2);
+            }
+            nets[size] = net;
+            lines[size++] = line;
+        }
+
+        void compute(BulkTaxKernel kernel, TaxRate rate, long[] netAmounts, long[] taxAmounts) {
+            long[] taxes = new long[size];
+            kernel.computeTaxes(nets, taxes, size, rate);
+            for (int j = 0; j < size; j++) {
+                netAmounts[lines[j]] = nets[j];
+                taxAmounts[lines[j]] = taxes[j];
+            }
+        }
+    }
+}
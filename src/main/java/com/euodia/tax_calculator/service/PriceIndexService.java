@@ -0,0 +1,175 @@
+package com.euodia.tax_calculator.service;
+
+import com.euodia.tax_calculator.fx.FxRateService;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Product;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Index ordonné des produits par prix final (prix + taxes), par pays.
+ * Chaque pays possède une skip list concurrente triée sur (prix final, ID),
+ * maintenue à chaque mutation : les requêtes top-N et par intervalle de prix
+ * coûtent O(log n + k) au lieu d'un parcours complet du catalogue.
+ * Les prix finaux sont indexés dans la devise du pays ; un produit vendu dans une autre devise
+ * est converti au taux en vigueur lors de son indexation. Quand les taux de change ou les règles de taxation
+ * changent de version, la première requête qui suit réindexe tout le catalogue avant de répondre.
+ */
+@Service
+@Slf4j
+public class PriceIndexService implements ProductListener {
+
+    private final ProductService productService;
+    private final TaxCalculationService taxCalculationService;
+    private final FxRateService fxRateService;
+
+    // Une skip list par pays, créées une fois pour toutes : la map n'est jamais modifiée ensuite
+    private final Map<Country, NavigableSet<PriceEntry>> indexes = new EnumMap<>(Country.class);
+    // Entrée courante de chaque produit, pour la retirer quand le produit change ou disparaît
+    // (le taux de change a pu évoluer depuis l'indexation : l'entrée ne peut pas être recalculée)
+    private final Map<Long, IndexedEntry> entries = new ConcurrentHashMap<>();
+    // Versions des taux de change et des règles avec lesquelles tout le catalogue a été indexé
+    private volatile long indexedFxVersion;
+    private volatile long indexedRulesVersion;
+
+    public PriceIndexService(ProductService productService, TaxCalculationService taxCalculationService,
+                             FxRateService fxRateService) {
+        this.productService = productService;
+        this.taxCalculationService = taxCalculationService;
+        this.fxRateService = fxRateService;
+
+        for (Country country : Country.values()) {
+            indexes.put(country, new ConcurrentSkipListSet<>());
+        }
+
+        // Enregistrement avant l'indexation de l'existant : aucun produit ne peut être manqué,
+        // un éventuel doublon est absorbé par le Set
+        indexedFxVersion = fxRateService.getVersion();
+        indexedRulesVersion = taxCalculationService.getRulesVersion();
+        productService.addListener(this);
+        productService.getProductsView().values().forEach(this::onProductAdded);
+    }
+
+    @Override
+    public void onProductAdded(Product product) {
+        if (product.getId() != null) {
+            reindex(product.getId());
+        }
+    }
+
+    @Override
+    public void onProductUpdated(Product previous, Product updated) {
+        reindex(updated.getId());
+    }
+
+    @Override
+    public void onProductRemoved(Product product) {
+        reindex(product.getId());
+    }
+
+    // Indexe l'état courant du produit : les notifications d'un même produit arrivées dans le désordre
+    // convergent, compute sérialisant les réindexations d'un même ID
+    private void reindex(long productId) {
+        entries.compute(productId, (id, indexed) -> {
+            if (indexed != null) {
+                indexes.get(indexed.country()).remove(indexed.entry());
+            }
+            Product product = productService.getProductById(id).orElse(null);
+            if (product == null || product.getCountry() == null) {
+                return null;
+            }
+            BigDecimal finalPrice = fxRateService.convert(taxCalculationService.calculateFinalPrice(product),
+                    product.getCurrency(), product.getCountry().getDefaultCurrency());
+            PriceEntry entry = new PriceEntry(finalPrice, id);
+            indexes.get(product.getCountry()).add(entry);
+            return new IndexedEntry(product.getCountry(), entry);
+        });
+    }
+
+    // Réindexe tout le catalogue si les taux ou les règles ont changé depuis la dernière indexation complète.
+    // Les versions sont lues avant : un changement pendant la réindexation en déclenche une autre
+    private void refreshIfStale() {
+        if (indexedFxVersion == fxRateService.getVersion()
+                && indexedRulesVersion == taxCalculationService.getRulesVersion()) {
+            return;
+        }
+        synchronized (this) {
+            long fxVersion = fxRateService.getVersion();
+            long rulesVersion = taxCalculationService.getRulesVersion();
+            if (indexedFxVersion == fxVersion && indexedRulesVersion == rulesVersion) {
+                return;
+            }
+            for (Long productId : entries.keySet()) {
+                reindex(productId);
+            }
+            indexedFxVersion = fxVersion;
+            indexedRulesVersion = rulesVersion;
+            log.info("Price index rebuilt for {} products (FX rates version {}, tax rules version {})",
+                    entries.size(), fxVersion, rulesVersion);
+        }
+    }
+
+    /**
+     * Retourne les produits d'un pays ayant les prix finaux les plus élevés
+     *
+     * @param country le pays
+     * @param limit le nombre maximum de produits retournés
+     * @return les produits triés par prix final décroissant
+     */
+    public List<Product> findTopByFinalPrice(Country country, int limit) {
+        refreshIfStale();
+        return resolve(indexes.get(country).descendingIterator(), limit);
+    }
+
+    /**
+     * Retourne les produits d'un pays dont le prix final est compris dans un intervalle (bornes incluses)
+     *
+     * @param country le pays
+     * @param minFinalPrice borne basse du prix final, dans la devise du pays
+     * @param maxFinalPrice borne haute du prix final, dans la devise du pays
+     * @param limit le nombre maximum de produits retournés
+     * @return les produits triés par prix final croissant
+     */
+    public List<Product> findByFinalPriceRange(Country country, BigDecimal minFinalPrice,
+                                               BigDecimal maxFinalPrice, int limit) {
+        refreshIfStale();
+        NavigableSet<PriceEntry> range = indexes.get(country).subSet(
+                new PriceEntry(minFinalPrice, Long.MIN_VALUE), true,
+                new PriceEntry(maxFinalPrice, Long.MAX_VALUE), true);
+        return resolve(range.iterator(), limit);
+    }
+
+    // Parcourt au plus `limit` entrées de l'index et les convertit en produits
+    private List<Product> resolve(Iterator<PriceEntry> entries, int limit) {
+        List<Product> result = new ArrayList<>(Math.min(limit, 64));
+        while (result.size() < limit && entries.hasNext()) {
+            productService.getProductById(entries.next().productId()).ifPresent(result::add);
+        }
+        return result;
+    }
+
+    private record IndexedEntry(Country country, PriceEntry entry) {
+    }
+
+    /**
+     * Entrée de l'index : l'ID départage les produits de même prix final
+     */
+    record PriceEntry(BigDecimal finalPrice, long productId) implements Comparable<PriceEntry> {
+
+        @Override
+        public int compareTo(PriceEntry other) {
+            int byPrice = finalPrice.compareTo(other.finalPrice);
+            return byPrice != 0 ? byPrice : Long.compare(productId, other.productId);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.euodia.tax_calculator.service;
+
+import com.euodia.tax_calculator.dto.ProductChangesResponse;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.model.ProductChange;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Flux des mutations du catalogue, pour les caches et index externes : au lieu de relire tout le catalogue,
+ * un consommateur reprend le journal après le dernier numéro de mutation qu'il a traité.
+ * Deux modes : lecture d'une page du journal, ou abonnement Server-Sent Events qui pousse chaque mutation.
+ * Si les mutations demandées ne sont plus conservées, le consommateur est invité à relire tout le catalogue.
+ */
+@Service
+@Slf4j
+public class ProductChangeFeedService implements ProductListener {
+
+    private static final int BATCH_SIZE = 256;
+
+    private final ProductService productService;
+    private final long streamTimeoutMillis;
+    private final int maxSubscribers;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    // Un seul thread écrit vers les abonnés : l'ordre des événements est garanti pour chacun,
+    // et un client lent ne ralentit pas les mutations du catalogue
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "product-change-feed");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean dispatchPending = new AtomicBoolean();
+
+    public ProductChangeFeedService(ProductService productService,
+                                    @Value("${products.changes.stream.timeout-ms:1800000}") long streamTimeoutMillis,
+                                    @Value("${products.changes.stream.max-subscribers:100}") int maxSubscribers) {
+        this.productService = productService;
+        this.streamTimeoutMillis = streamTimeoutMillis;
+        this.maxSubscribers = maxSubscribers;
+        productService.addListener(this);
+    }
+
+    /**
+     * Lit une page du journal des mutations
+     *
+     * @param afterSequence le numéro de la dernière mutation déjà traitée (0 pour tout lire)
+     * @param limit le nombre maximum de mutations
+     * @return les mutations suivantes, ou une demande de resynchronisation complète
+     */
+    public ProductChangesResponse poll(long afterSequence, int limit) {
+        List<ProductChange> changes = new ArrayList<>(Math.min(limit, BATCH_SIZE));
+        boolean available = isKnown(afterSequence) && productService.readChanges(afterSequence, limit, changes);
+        long lastSequence = productService.getLastSequence();
+        return available
+                ? new ProductChangesResponse(changes, lastSequence, false)
+                : new ProductChangesResponse(List.of(), lastSequence, true);
+    }
+
+    /**
+     * Ouvre un abonnement Server-Sent Events : chaque mutation qui suit afterSequence est envoyée
+     * comme un événement "change" dont l'ID est le numéro de la mutation.
+     * Si le journal ne permet pas de reprendre, un événement "resync" est envoyé et l'abonnement se termine.
+     *
+     * @param afterSequence le numéro de la dernière mutation déjà traitée (0 pour tout recevoir)
+     * @return l'émetteur SSE de l'abonnement
+     * @throws IllegalStateException si le nombre maximum d'abonnés est atteint
+     */
+    public SseEmitter subscribe(long afterSequence) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("Too many change feed subscribers: " + maxSubscribers);
+        }
+
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, afterSequence);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        log.debug("Change feed subscriber added after sequence {} ({} subscribers)", afterSequence, subscribers.size());
+
+        // Envoi du retard éventuel
+        scheduleDispatch();
+        return emitter;
+    }
+
+    @Override
+    public void onProductAdded(Product product) {
+        onChange();
+    }
+
+    @Override
+    public void onProductUpdated(Product previous, Product updated) {
+        onChange();
+    }
+
+    @Override
+    public void onProductRemoved(Product product) {
+        onChange();
+    }
+
+    /**
+     * Commentaire SSE périodique : garde la connexion ouverte à travers les proxys
+     * et détecte les clients déconnectés
+     */
+    @Scheduled(fixedDelayString = "${products.changes.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        dispatcher.execute(() -> {
+            for (Subscriber subscriber : subscribers) {
+                try {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    drop(subscriber, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * @return le nombre d'abonnements SSE ouverts
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    // Un numéro supérieur au dernier vient d'une instance précédente : les numéros repartent de 0 au redémarrage
+    private boolean isKnown(long afterSequence) {
+        return afterSequence <= productService.getLastSequence();
+    }
+
+    private void onChange() {
+        if (!subscribers.isEmpty()) {
+            scheduleDispatch();
+        }
+    }
+
+    private void scheduleDispatch() {
+        // Une seule tâche en attente suffit : elle enverra toutes les mutations publiées d'ici là
+        if (dispatchPending.compareAndSet(false, true)) {
+            dispatcher.execute(this::dispatch);
+        }
+    }
+
+    private void dispatch() {
+        dispatchPending.set(false);
+        List<ProductChange> batch = new ArrayList<>(BATCH_SIZE);
+        for (Subscriber subscriber : subscribers) {
+            deliver(subscriber, batch);
+        }
+    }
+
+    private void deliver(Subscriber subscriber, List<ProductChange> batch) {
+        try {
+            while (true) {
+                batch.clear();
+                if (!isKnown(subscriber.cursor) || !productService.readChanges(subscriber.cursor, BATCH_SIZE, batch)) {
+                    log.info("Change feed subscriber at sequence {} must resync", subscriber.cursor);
+                    subscriber.emitter.send(SseEmitter.event().name("resync").data(
+                            new ProductChangesResponse(List.of(), productService.getLastSequence(), true),
+                            MediaType.APPLICATION_JSON));
+                    subscribers.remove(subscriber);
+                    subscriber.emitter.complete();
+                    return;
+                }
+                if (batch.isEmpty()) {
+                    return;
+                }
+                for (ProductChange change : batch) {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .id(Long.toString(change.sequence()))
+                            .name("change")
+                            .data(change, MediaType.APPLICATION_JSON));
+                    subscriber.cursor = change.sequence();
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            drop(subscriber, e);
+        }
+    }
+
+    // Client déconnecté ou abonnement déjà terminé
+    private void drop(Subscriber subscriber, Exception cause) {
+        log.debug("Dropping change feed subscriber: {}", cause.getMessage());
+        subscribers.remove(subscriber);
+        subscriber.emitter.completeWithError(cause);
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        // Dernier numéro envoyé ; lu et modifié uniquement par le thread d'envoi
+        private long cursor;
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.euodia.tax_calculator.service;
+
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Détection des produits déjà enregistrés, sur une clé naturelle configurable (par défaut nom + pays + prix).
+ * Un filtre de Bloom précède l'index exact : un produit nouveau, cas le plus fréquent,
+ * est reconnu comme tel sans consulter l'index.
+ *
+ * Configuration :
+ * products.dedup.enabled (false par défaut), products.dedup.key-fields,
+ * products.dedup.expected-products, products.dedup.false-positive-rate
+ */
+@Component
+@Slf4j
+public class ProductDeduplicator {
+
+    /**
+     * Champs pouvant composer la clé naturelle d'un produit
+     */
+    public enum NaturalKeyField {
+        NAME, COUNTRY, PRICE
+    }
+
+    private static final char SEPARATOR = '\u001F';
+
+    private final boolean enabled;
+    private final NaturalKeyField[] keyFields;
+    private final BloomFilter bloomFilter;
+
+    // Index exact : clé naturelle -> produit enregistré
+    private final Map<String, Product> exactIndex = new ConcurrentHashMap<>();
+
+    public ProductDeduplicator(
+            @Value("${products.dedup.enabled:false}") boolean enabled,
+            @Value("${products.dedup.key-fields:NAME,COUNTRY,PRICE}") NaturalKeyField[] keyFields,
+            @Value("${products.dedup.expected-products:1000000}") long expectedProducts,
+            @Value("${products.dedup.false-positive-rate:0.01}") double falsePositiveRate) {
+        if (enabled && keyFields.length == 0) {
+            throw new IllegalArgumentException("At least one natural key field is required for deduplication");
+        }
+
+        this.enabled = enabled;
+        this.keyFields = keyFields.clone();
+        this.bloomFilter = enabled ? new BloomFilter(expectedProducts, falsePositiveRate) : null;
+
+        if (enabled) {
+            log.info("Product deduplication enabled on {} ({} bits Bloom filter)",
+                    Arrays.toString(keyFields), bloomFilter.bitSize());
+        }
+    }
+
+    /**
+     * @return un dédoublonneur inactif (comportement historique : chaque ajout crée un produit)
+     */
+    public static ProductDeduplicator disabled() {
+        return new ProductDeduplicator(false, NaturalKeyField.values(), 1, 0.5);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Construit la clé naturelle d'un produit valide
+     *
+     * @param product le produit
+     * @return la clé naturelle
+     */
+    public String naturalKey(Product product) {
+        StringBuilder key = new StringBuilder(64);
+        for (NaturalKeyField field : keyFields) {
+            switch (field) {
+                case NAME -> key.append(product.getName().trim().toLowerCase(Locale.ROOT));
+                case COUNTRY -> key.append(product.getCountry().name());
+                // 10.0 et 10.00 désignent le même prix, 10 USD et 10 EUR deux prix différents
+                case PRICE -> key.append(product.getPrice().stripTrailingZeros().toPlainString())
+                        .append(' ').append(product.getCurrency());
+            }
+            key.append(SEPARATOR);
+        }
+        return key.toString();
+    }
+
+    /**
+     * Recherche le produit déjà enregistré sous une clé naturelle
+     *
+     * @param naturalKey la clé naturelle
+     * @return le produit existant, ou null
+     */
+    public Product findExisting(String naturalKey) {
+        if (!bloomFilter.mightContain(naturalKey)) {
+            return null;
+        }
+        return exactIndex.get(naturalKey);
+    }
+
+    /**
+     * Enregistre un produit sous sa clé naturelle, sauf si un autre l'a été entre-temps
+     *
+     * @param naturalKey la clé naturelle
+     * @param product le produit, avec son ID
+     * @return le produit déjà enregistré sous cette clé, ou null si l'enregistrement a réussi
+     */
+    public Product register(String naturalKey, Product product) {
+        Product existing = exactIndex.putIfAbsent(naturalKey, product);
+        if (existing == null) {
+            bloomFilter.put(naturalKey);
+        }
+        return existing;
+    }
+
+    /**
+     * Libère une clé naturelle (produit modifié ou supprimé), si elle désigne toujours ce produit.
+     * Le filtre de Bloom ne permet pas de retirer la clé : une recherche ultérieure consultera l'index exact.
+     *
+     * @param naturalKey la clé naturelle
+     * @param product le produit enregistré sous cette clé
+     */
+    public void unregister(String naturalKey, Product product) {
+        exactIndex.remove(naturalKey, product);
+    }
+}
@@ -0,0 +1,37 @@
+package com.euodia.tax_calculator.service;
+
+import com.euodia.tax_calculator.model.Product;
+
+/**
+ * Observateur des mutations du catalogue de produits.
+ * Permet aux index secondaires de rester synchronisés avec le {@link ProductService}
+ * sans que celui-ci ait à les connaître.
+ */
+public interface ProductListener {
+
+    /**
+     * Appelé après l'enregistrement d'un nouveau produit
+     *
+     * @param product le produit sauvegardé, avec son ID
+     */
+    void onProductAdded(Product product);
+
+    /**
+     * Appelé après le remplacement d'un produit par sa nouvelle version.
+     * Les notifications de mutations simultanées d'un même produit peuvent arriver dans le désordre :
+     * l'état courant fait foi ({@link ProductService#getProductById(Long)}).
+     *
+     * @param previous la version remplacée
+     * @param updated la nouvelle version
+     */
+    default void onProductUpdated(Product previous, Product updated) {
+    }
+
+    /**
+     * Appelé après la suppression d'un produit
+     *
+     * @param product la dernière version du produit supprimé
+     */
+    default void onProductRemoved(Product product) {
+    }
+}
@@ -0,0 +1,169 @@
+package com.euodia.tax_calculator.service;
+
+import com.euodia.tax_calculator.dto.ProductWithTaxResponse;
+import com.euodia.tax_calculator.dto.QuoteField;
+import com.euodia.tax_calculator.fx.FxRateService;
+import com.euodia.tax_calculator.fx.FxRateTable;
+import com.euodia.tax_calculator.model.Currency;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.rules.TaxRule;
+import com.euodia.tax_calculator.strategy.TaxStrategy;
+import com.euodia.tax_calculator.util.FieldSet;
+import com.euodia.tax_calculator.util.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * Service de calcul des prix taxés d'un produit (réponse de /with-tax).
+ * Les demandes simultanées pour une même version d'un produit sont regroupées : un seul calcul de taxes
+ * est effectué, et son résultat est partagé par tous les appelants.
+ * Les taxes sont calculées dans la devise du produit, puis les montants sont convertis
+ * dans la devise demandée. Une réponse projetée ({@link FieldSet}) ne calcule que les champs demandés.
+ */
+@Service
+@Slf4j
+public class ProductQuoteService {
+
+    private final ProductService productService;
+    private final TaxCalculationService taxCalculationService;
+    private final FxRateService fxRateService;
+
+    private final SingleFlight<QuoteKey, Optional<ProductWithTaxResponse>> quotesInFlight = new SingleFlight<>();
+
+    public ProductQuoteService(ProductService productService, TaxCalculationService taxCalculationService,
+                               FxRateService fxRateService, MeterRegistry meterRegistry) {
+        this.productService = productService;
+        this.taxCalculationService = taxCalculationService;
+        this.fxRateService = fxRateService;
+
+        FunctionCounter.builder("quote.singleflight.calls", quotesInFlight, SingleFlight::getExecutionCount)
+                .tag("role", "executed").register(meterRegistry);
+        FunctionCounter.builder("quote.singleflight.calls", quotesInFlight, SingleFlight::getCoalescedCount)
+                .tag("role", "coalesced").register(meterRegistry);
+        Gauge.builder("quote.singleflight.coalescing.ratio", quotesInFlight, SingleFlight::getCoalescingRatio)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Calcule le prix taxé d'un produit, en partageant le calcul avec les demandes simultanées
+     *
+     * @param id l'ID du produit
+     * @param currency la devise souhaitée, ou null pour la devise du produit
+     * @return le produit avec ses taxes, ou Optional.empty() si le produit n'existe pas
+     * @throws IllegalArgumentException si le pays du produit n'est pas supporté
+     */
+    public Optional<ProductWithTaxResponse> quoteProduct(Long id, Currency currency) {
+        return quoteProduct(id, currency, QuoteField.SCHEMA.all());
+    }
+
+    /**
+     * Calcule les champs demandés du prix taxé d'un produit, en partageant le calcul avec les demandes
+     * simultanées portant sur les mêmes champs
+     *
+     * @param id l'ID du produit
+     * @param currency la devise souhaitée, ou null pour la devise du produit
+     * @param fields les champs à calculer ; les autres restent null
+     * @return le produit avec ses taxes, ou Optional.empty() si le produit n'existe pas
+     * @throws IllegalArgumentException si le pays du produit n'est pas supporté
+     */
+    public Optional<ProductWithTaxResponse> quoteProduct(Long id, Currency currency,
+                                                         FieldSet<ProductWithTaxResponse> fields) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        Product product = productService.getProductById(id).orElse(null);
+        if (product == null) {
+            return Optional.empty();
+        }
+        // Les versions du produit, des taux et des règles font partie de la clé : un calcul en cours
+        // sur un produit modifié depuis, ou avec d'anciens taux ou d'anciennes règles, n'est pas partagé
+        QuoteKey key = new QuoteKey(id, product.getVersion(), currency, fxRateService.getVersion(),
+                taxCalculationService.getRulesVersion(), fields.mask());
+        return quotesInFlight.execute(key, () -> Optional.of(quote(product, currency, fields)));
+    }
+
+    /**
+     * Calcule les taxes d'un produit et construit la réponse correspondante
+     *
+     * @param product le produit
+     * @param currency la devise souhaitée, ou null pour la devise du produit
+     * @return le produit avec ses taxes
+     */
+    public ProductWithTaxResponse quote(Product product, Currency currency) {
+        return quote(product, currency, QuoteField.SCHEMA.all());
+    }
+
+    /**
+     * Calcule les champs demandés des taxes d'un produit : la stratégie n'est résolue que si son nom
+     * est demandé, les taxes et la conversion ne sont calculées que pour les montants demandés
+     *
+     * @param product le produit
+     * @param currency la devise souhaitée, ou null pour la devise du produit
+     * @param fields les champs à calculer ; les autres restent null
+     * @return le produit avec ses taxes
+     */
+    public ProductWithTaxResponse quote(Product product, Currency currency, FieldSet<ProductWithTaxResponse> fields) {
+        boolean needsTax = fields.containsAny(QuoteField.TAX_AMOUNT, QuoteField.FINAL_PRICE);
+        boolean needsBasePrice = fields.containsAny(QuoteField.BASE_PRICE, QuoteField.FINAL_PRICE);
+
+        // Calcul des taxes
+        BigDecimal taxAmount = needsTax ? taxCalculationService.calculateTax(product) : null;
+
+        // Récupération du nom de la stratégie utilisée
+        String strategyName = null;
+        if (fields.contains(QuoteField.TAX_STRATEGY_USED)) {
+            TaxStrategy strategy = taxCalculationService.getStrategyForCountry(product.getCountry());
+            strategyName = strategy != null ? strategy.getStrategyName() : "Unknown strategy";
+            TaxRule rule = taxCalculationService.findRule(product);
+            if (rule != null) {
+                strategyName += " - " + rule.getDescription();
+            }
+        }
+
+        // Conversion : le prix final est la somme des montants convertis, pour rester cohérent à l'arrondi près
+        Currency from = product.getCurrency();
+        Currency to = currency != null ? currency : from;
+        BigDecimal basePrice = needsBasePrice ? product.getPrice() : null;
+        if (from != null && to != from && (needsBasePrice || needsTax)) {
+            FxRateTable rates = fxRateService.getRates();
+            if (basePrice != null) {
+                basePrice = rates.convert(basePrice, from, to);
+            }
+            if (taxAmount != null) {
+                taxAmount = rates.convert(taxAmount, from, to);
+            }
+        }
+        BigDecimal finalPrice = null;
+        if (fields.contains(QuoteField.FINAL_PRICE)) {
+            finalPrice = basePrice != null ? basePrice.add(taxAmount) : BigDecimal.ZERO;
+        }
+
+        return new ProductWithTaxResponse(
+                product.getId(),
+                product.getName(),
+                fields.contains(QuoteField.BASE_PRICE) ? basePrice : null,
+                product.getCountry(),
+                to,
+                fields.contains(QuoteField.TAX_AMOUNT) ? taxAmount : null,
+                finalPrice,
+                strategyName
+        );
+    }
+
+    /**
+     * @return la part des demandes servies par un calcul déjà en cours
+     */
+    public double getCoalescingRatio() {
+        return quotesInFlight.getCoalescingRatio();
+    }
+
+    private record QuoteKey(long productId, long productVersion, Currency currency, long ratesVersion,
+                            long rulesVersion, long fields) {
+    }
+}
@@ -0,0 +1,234 @@
+package com.euodia.tax_calculator.service;
+
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.util.CompressedPostingList;
+import com.euodia.tax_calculator.util.NameTokenizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Recherche plein texte sur le nom des produits.
+ * Index inversé en mémoire (terme -> liste compressée des IDs de produits), maintenu à chaque mutation.
+ * Les résultats sont classés par pertinence : somme des IDF des termes de la requête présents dans le nom,
+ * puis par ID croissant à pertinence égale.
+ */
+@Service
+@Slf4j
+public class ProductSearchService implements ProductListener {
+
+    // Au-delà, les termes supplémentaires de la requête sont ignorés
+    private static final int MAX_QUERY_TERMS = 8;
+
+    private final ProductService productService;
+
+    private final Map<String, CompressedPostingList> postings = new ConcurrentHashMap<>();
+    // Produits indexés, nombre de documents de l'IDF : un ensemble plutôt qu'un compteur, car une liste de postings
+    // ne dit pas si un ID réajouté y était déjà, et une notification rejouée ne doit pas compter deux fois
+    private final Set<Long> indexedIds = ConcurrentHashMap.newKeySet();
+
+    public ProductSearchService(ProductService productService) {
+        this.productService = productService;
+
+        productService.addListener(this);
+        productService.getProductsView().values().forEach(this::onProductAdded);
+    }
+
+    @Override
+    public void onProductAdded(Product product) {
+        if (product.getId() == null) {
+            return;
+        }
+
+        for (String term : NameTokenizer.tokenize(product.getName())) {
+            postings.computeIfAbsent(term, t -> new CompressedPostingList()).add(product.getId());
+        }
+        indexedIds.add(product.getId());
+    }
+
+    @Override
+    public void onProductUpdated(Product previous, Product updated) {
+        // L'état courant fait foi : une notification en retard n'indexe pas un nom déjà remplacé
+        Product current = productService.getProductById(updated.getId()).orElse(null);
+        Set<String> currentTerms = current != null ? Set.copyOf(NameTokenizer.tokenize(current.getName())) : Set.of();
+        for (String term : NameTokenizer.tokenize(previous.getName())) {
+            if (!currentTerms.contains(term)) {
+                removePosting(term, previous.getId());
+            }
+        }
+        for (String term : currentTerms) {
+            postings.computeIfAbsent(term, t -> new CompressedPostingList()).add(updated.getId());
+        }
+    }
+
+    @Override
+    public void onProductRemoved(Product product) {
+        for (String term : NameTokenizer.tokenize(product.getName())) {
+            removePosting(term, product.getId());
+        }
+        indexedIds.remove(product.getId());
+    }
+
+    private void removePosting(String term, long productId) {
+        CompressedPostingList list = postings.get(term);
+        if (list != null) {
+            list.remove(productId);
+        }
+    }
+
+    /**
+     * Recherche les produits dont le nom contient au moins un terme de la requête
+     *
+     * @param query la requête, découpée comme les noms de produits
+     * @param page le numéro de page (à partir de 0)
+     * @param size la taille d'une page
+     * @return la page de résultats et le nombre total de produits trouvés
+     */
+    public SearchPage search(String query, int page, int size) {
+        List<CompressedPostingList> lists = new ArrayList<>();
+        for (String term : NameTokenizer.tokenize(query)) {
+            CompressedPostingList list = postings.get(term);
+            if (list != null) {
+                lists.add(list);
+            }
+            if (lists.size() == MAX_QUERY_TERMS) {
+                break;
+            }
+        }
+
+        if (lists.isEmpty()) {
+            return new SearchPage(0, List.of());
+        }
+
+        long offset = (long) page * size;
+        SearchPage result = lists.size() == 1
+                ? searchSingleTerm(lists.get(0), offset, size)
+                : searchRanked(lists, offset, size);
+
+        log.debug("Search '{}' page {}: {} hits", query, page, result.totalHits());
+        return result;
+    }
+
+    /**
+     * @return une estimation de la mémoire occupée par l'index, en octets
+     */
+    public long estimatedMemoryBytes() {
+        long bytes = 0;
+        for (Map.Entry<String, CompressedPostingList> entry : postings.entrySet()) {
+            // Entrée de la map (~32), String + tableau (~40 + longueur), en-tête de la liste (~48)
+            bytes += 120 + entry.getKey().length() + entry.getValue().sizeInBytes();
+        }
+        // Ensemble des produits indexés : entrée (~32) et Long (~16) par produit
+        return bytes + 48L * indexedIds.size();
+    }
+
+    /**
+     * @return le nombre de produits indexés
+     */
+    public long getIndexedProductCount() {
+        return indexedIds.size();
+    }
+
+    // Un seul terme : tous les résultats ont la même pertinence, l'ordre de la liste suffit
+    private SearchPage searchSingleTerm(CompressedPostingList list, long offset, int size) {
+        PrimitiveIterator.OfLong cursor = list.iterator();
+        long total = 0;
+        List<Long> ids = new ArrayList<>(size);
+        while (cursor.hasNext()) {
+            long id = cursor.nextLong();
+            if (total >= offset && ids.size() < size) {
+                ids.add(id);
+            }
+            total++;
+        }
+        return new SearchPage(total, resolve(ids));
+    }
+
+    // Plusieurs termes : fusion des listes triées, en ne gardant que les offset + size meilleurs résultats
+    private SearchPage searchRanked(List<CompressedPostingList> lists, long offset, int size) {
+        int termCount = lists.size();
+        double documentCount = Math.max(1, indexedIds.size());
+
+        PrimitiveIterator.OfLong[] cursors = new PrimitiveIterator.OfLong[termCount];
+        long[] heads = new long[termCount];
+        double[] idf = new double[termCount];
+        for (int i = 0; i < termCount; i++) {
+            CompressedPostingList list = lists.get(i);
+            idf[i] = Math.log(1 + documentCount / Math.max(1, list.size()));
+            cursors[i] = list.iterator();
+            heads[i] = cursors[i].hasNext() ? cursors[i].nextLong() : Long.MAX_VALUE;
+        }
+
+        int keep = (int) Math.min(Integer.MAX_VALUE, offset + size);
+        // Le pire résultat conservé est en tête de file
+        PriorityQueue<ScoredId> best = new PriorityQueue<>(Comparator
+                .comparingDouble(ScoredId::score)
+                .thenComparing(Comparator.comparingLong(ScoredId::id).reversed()));
+        long total = 0;
+
+        while (true) {
+            long id = Long.MAX_VALUE;
+            for (long head : heads) {
+                id = Math.min(id, head);
+            }
+            if (id == Long.MAX_VALUE) {
+                break;
+            }
+
+            double score = 0;
+            for (int i = 0; i < termCount; i++) {
+                if (heads[i] == id) {
+                    score += idf[i];
+                    heads[i] = cursors[i].hasNext() ? cursors[i].nextLong() : Long.MAX_VALUE;
+                }
+            }
+            total++;
+
+            // Les IDs arrivent croissants : à score égal, un nouveau résultat ne bat jamais un ancien
+            if (best.size() < keep) {
+                best.add(new ScoredId(id, score));
+            } else if (score > best.peek().score()) {
+                best.poll();
+                best.add(new ScoredId(id, score));
+            }
+        }
+
+        List<Long> ranked = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            ranked.add(best.poll().id());
+        }
+        List<Long> pageIds = new ArrayList<>(size);
+        for (int i = ranked.size() - 1 - (int) Math.min(offset, ranked.size()); i >= 0; i--) {
+            pageIds.add(ranked.get(i));
+        }
+        return new SearchPage(total, resolve(pageIds));
+    }
+
+    private List<Product> resolve(List<Long> ids) {
+        List<Product> products = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            productService.getProductById(id).ifPresent(products::add);
+        }
+        return products;
+    }
+
+    private record ScoredId(long id, double score) {
+    }
+
+    /**
+     * Page de résultats d'une recherche
+     *
+     * @param totalHits le nombre total de produits correspondant à la requête
+     * @param products les produits de la page, par pertinence décroissante
+     */
+    public record SearchPage(long totalHits, List<Product> products) {
+    }
+}
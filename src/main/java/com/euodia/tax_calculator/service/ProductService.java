@@ -1,39 +1,124 @@
 package com.euodia.tax_calculator.service;
 
+import com.euodia.tax_calculator.ids.IdAllocator;
 import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.model.ProductChange;
+import com.euodia.tax_calculator.model.ProductChangeType;
+import com.euodia.tax_calculator.profiling.ProductStoreEvent;
+import com.euodia.tax_calculator.repository.InMemoryProductRepository;
+import com.euodia.tax_calculator.repository.ProductRepository;
+import com.euodia.tax_calculator.util.SequencedRingBuffer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.Spliterator;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongPredicate;
+import java.util.function.UnaryOperator;
 
 /**
  * Service de gestion des produits.
- * Utilise une Map en mémoire pour simuler une base de données.
- * Dans un projet réel, une base de données relationnelle (via JPA/Hibernate) serait utilisée.
- * L'utilisation d'une base embarquée comme H2 est possible,
- * mais rajoute inutilement une complexité pour ce test.
+ * Le stockage est confié à un {@link ProductRepository} : une Map en mémoire par défaut,
+ * ou une base embarquée chargée en mémoire à l'ouverture (products.repository=jdbc). Le service garde les règles métier :
+ * validation, attribution des IDs, dédoublonnage, compare-and-set sur la version, journal des mutations
+ * et notification des index secondaires. Une écriture n'est acquittée qu'une fois durable ({@link ProductRepository#sync()}).
  */
 @Service
 @Slf4j
 public class ProductService {
 
-    // Simulation d'une base de données en mémoire
-    private final Map<Long, Product> products = new HashMap<>();
+    private static final int DEFAULT_CHANGE_LOG_CAPACITY = 65_536;
 
-    // Générateur d'ID automatique
-    private final AtomicLong idGenerator = new AtomicLong(1);
+    // Stockage du catalogue
+    private final ProductRepository products;
+
+    // Index secondaires notifiés à chaque mutation
+    private final List<ProductListener> listeners = new CopyOnWriteArrayList<>();
+
+    // Attribution des IDs par plages louées, propres à chaque thread
+    private final IdAllocator idAllocator;
+
+    // IDs que cette instance peut attribuer (en mode cluster : ceux dont elle est propriétaire)
+    private volatile LongPredicate localIds = id -> true;
+
+    // Détection des doublons sur clé naturelle (inactive par défaut)
+    private final ProductDeduplicator deduplicator;
+
+    // Journal des dernières mutations ; celles d'un même produit sont numérotées dans l'ordre où elles sont appliquées
+    private final SequencedRingBuffer<ProductChange> changes;
+
+    public ProductService() {
+        this(ProductDeduplicator.disabled());
+    }
+
+    public ProductService(ProductDeduplicator deduplicator) {
+        this(deduplicator, DEFAULT_CHANGE_LOG_CAPACITY);
+    }
+
+    public ProductService(ProductDeduplicator deduplicator, int changeLogCapacity) {
+        this(deduplicator, changeLogCapacity, new IdAllocator(), new InMemoryProductRepository());
+    }
+
+    @Autowired
+    public ProductService(ProductDeduplicator deduplicator,
+                          @Value("${products.changes.capacity:65536}") int changeLogCapacity,
+                          IdAllocator idAllocator,
+                          ProductRepository products) {
+        this.deduplicator = deduplicator;
+        this.idAllocator = idAllocator;
+        this.products = products;
+        this.changes = new SequencedRingBuffer<>(changeLogCapacity);
+
+        // Catalogue persistant : les IDs attribués ensuite dépassent ceux déjà enregistrés,
+        // et le dédoublonnage connaît les produits existants
+        Map<Long, Product> existing = products.findAll();
+        for (Product product : existing.values()) {
+            idAllocator.observe(product.getId());
+            if (deduplicator.isEnabled()) {
+                deduplicator.register(deduplicator.naturalKey(product), product);
+            }
+        }
+        if (!existing.isEmpty()) {
+            log.info("Catalog opened with {} existing products", existing.size());
+        }
+    }
 
     /**
-     * Ajoute un nouveau produit
+     * Ajoute un nouveau produit.
+     * Si le dédoublonnage est actif et qu'un produit de même clé naturelle existe déjà,
+     * celui-ci est retourné et aucun produit n'est créé.
      *
-     * @param product le produit à ajouter (sans ID)
-     * @return le produit sauvegardé avec son ID généré
+     * @param product le produit à ajouter (sans ID), qui n'est pas modifié
+     * @return le produit sauvegardé avec son ID généré, ou le produit existant en cas de doublon
      * @throws IllegalArgumentException si le produit n'est pas valide
      */
     public Product addProduct(Product product) {
+        return createProduct(product).product();
+    }
+
+    /**
+     * Ajoute un nouveau produit, en distinguant une création d'un doublon.
+     * Le produit reçu n'est pas modifié : le catalogue enregistre une copie portant l'ID et la version 1.
+     *
+     * @param product le produit à ajouter (sans ID)
+     * @return APPLIED et le produit sauvegardé, ou DUPLICATE et le produit qui a déjà la même clé naturelle
+     * @throws IllegalArgumentException si le produit n'est pas valide
+     */
+    public WriteResult createProduct(Product product) {
+        ProductStoreEvent event = new ProductStoreEvent();
+        event.begin();
+        WriteResult result = insert(product);
+        products.sync();
+        event.end("create", null, result.product(), result.status().name());
+        return result;
+    }
+
+    private WriteResult insert(Product product) {
         if (product == null) {
             throw new IllegalArgumentException("Product cannot be null");
         }
@@ -42,15 +127,277 @@ public class ProductService {
             throw new IllegalArgumentException("Product is not valid: " + product);
         }
 
+        String naturalKey = null;
+        if (deduplicator.isEnabled()) {
+            naturalKey = deduplicator.naturalKey(product);
+            Product existing = deduplicator.findExisting(naturalKey);
+            if (existing != null) {
+                log.debug("Duplicate of product {} ignored: {}", existing.getId(), product.getName());
+                return new WriteResult(WriteStatus.DUPLICATE, existing);
+            }
+        }
+
         // Génération d'un nouvel ID
-        Long newId = idGenerator.getAndIncrement();
-        product.setId(newId);
+        long newId;
+        do {
+            newId = idAllocator.nextId();
+        } while (!localIds.test(newId));
+        Product saved = product.withId(newId).withVersion(1);
+
+        // Un même produit a pu être ajouté en parallèle depuis la vérification
+        if (naturalKey != null) {
+            Product existing = deduplicator.register(naturalKey, saved);
+            if (existing != null) {
+                log.debug("Duplicate of product {} ignored: {}", existing.getId(), product.getName());
+                return new WriteResult(WriteStatus.DUPLICATE, existing);
+            }
+        }
+
+        // ID encore jamais attribué : aucun produit à comparer
+        mutate(newId, absent -> saved);
+
+        for (ProductListener listener : listeners) {
+            listener.onProductAdded(saved);
+        }
+
+        log.info("Product added with ID {}: {}", newId, saved.getName());
+        return new WriteResult(WriteStatus.APPLIED, saved);
+    }
+
+    /**
+     * Remplace un produit par une nouvelle version, si sa version courante est celle attendue (compare-and-set).
+     * La nouvelle version est construite hors de toute section critique ; seules la comparaison et l'écriture
+     * sont faites sur l'entrée du produit dans le dépôt, où seules les écritures de ce même produit s'attendent.
+     * Les lecteurs ne prennent aucun verrou et voient l'ancienne ou la nouvelle instance, jamais un état intermédiaire.
+     *
+     * @param id l'ID du produit
+     * @param expectedVersion la version sur laquelle la modification a été préparée
+     * @param replacement les nouvelles valeurs (nom, prix, pays, devise)
+     * @return le résultat : APPLIED et la nouvelle version, NOT_FOUND, VERSION_CONFLICT et la version courante,
+     * ou DUPLICATE et le produit qui a déjà la clé naturelle visée
+     * @throws IllegalArgumentException si les nouvelles valeurs ne forment pas un produit valide
+     */
+    public WriteResult updateProduct(Long id, long expectedVersion, Product replacement) {
+        ProductStoreEvent event = new ProductStoreEvent();
+        event.begin();
+        WriteResult result = replace(id, expectedVersion, replacement);
+        products.sync();
+        event.end("update", id, result.product(), result.status().name());
+        return result;
+    }
+
+    private WriteResult replace(Long id, long expectedVersion, Product replacement) {
+        if (replacement == null || !replacement.isValid()) {
+            throw new IllegalArgumentException("Product is not valid: " + replacement);
+        }
+
+        Product current = id != null ? products.findById(id) : null;
+        if (current == null) {
+            return new WriteResult(WriteStatus.NOT_FOUND, null);
+        }
+        // Échec rapide, sans verrou, si la version a déjà changé
+        if (current.getVersion() != expectedVersion) {
+            return new WriteResult(WriteStatus.VERSION_CONFLICT, current);
+        }
+
+        Product updated = current.nextVersion(replacement);
+        String previousKey = null;
+        String naturalKey = null;
+        if (deduplicator.isEnabled()) {
+            previousKey = deduplicator.naturalKey(current);
+            naturalKey = deduplicator.naturalKey(updated);
+            if (!naturalKey.equals(previousKey)) {
+                Product existing = deduplicator.register(naturalKey, updated);
+                if (existing != null) {
+                    return new WriteResult(WriteStatus.DUPLICATE, existing);
+                }
+            }
+        }
+
+        // Comparaison sur l'instance : toute écriture concurrente en a enregistré une autre
+        Mutation mutation = mutate(id, latest -> latest == current ? updated : latest);
+        if (!mutation.applied()) {
+            if (naturalKey != null && !naturalKey.equals(previousKey)) {
+                deduplicator.unregister(naturalKey, updated);
+            }
+            Product latest = mutation.current();
+            return latest == null
+                    ? new WriteResult(WriteStatus.NOT_FOUND, null)
+                    : new WriteResult(WriteStatus.VERSION_CONFLICT, latest);
+        }
+        if (naturalKey != null && !naturalKey.equals(previousKey)) {
+            deduplicator.unregister(previousKey, current);
+        }
+
+        for (ProductListener listener : listeners) {
+            listener.onProductUpdated(current, updated);
+        }
+
+        log.info("Product {} updated to version {}", id, updated.getVersion());
+        return new WriteResult(WriteStatus.APPLIED, updated);
+    }
+
+    /**
+     * Supprime un produit, si sa version courante est celle attendue (compare-and-set)
+     *
+     * @param id l'ID du produit
+     * @param expectedVersion la version attendue, ou null pour supprimer quelle que soit la version
+     * @return le résultat : APPLIED et la version supprimée, NOT_FOUND, ou VERSION_CONFLICT et la version courante
+     */
+    public WriteResult deleteProduct(Long id, Long expectedVersion) {
+        ProductStoreEvent event = new ProductStoreEvent();
+        event.begin();
+        WriteResult result = remove(id, expectedVersion);
+        products.sync();
+        event.end("delete", id, result.product(), result.status().name());
+        return result;
+    }
+
+    private WriteResult remove(Long id, Long expectedVersion) {
+        Product current = id != null ? products.findById(id) : null;
+        if (current == null) {
+            return new WriteResult(WriteStatus.NOT_FOUND, null);
+        }
+        if (expectedVersion != null && current.getVersion() != expectedVersion) {
+            return new WriteResult(WriteStatus.VERSION_CONFLICT, current);
+        }
+
+        Product expected = current;
+        Mutation mutation = mutate(id, latest ->
+                latest == null || (expectedVersion != null && latest != expected) ? latest : null);
+        if (!mutation.applied()) {
+            Product latest = mutation.current();
+            return latest == null
+                    ? new WriteResult(WriteStatus.NOT_FOUND, null)
+                    : new WriteResult(WriteStatus.VERSION_CONFLICT, latest);
+        }
+        current = mutation.previous();
+        forgetRemoved(current);
+
+        log.info("Product {} deleted at version {}", id, current.getVersion());
+        return new WriteResult(WriteStatus.APPLIED, current);
+    }
+
+    /**
+     * Applique sur une instance suiveuse un produit créé ou modifié par le leader : le produit garde son ID
+     * et sa version, les index secondaires et le journal local sont mis à jour comme pour une écriture locale.
+     * Une version déjà connue (ou plus ancienne) est ignorée, ce qui permet de rejouer sans risque
+     * une page du journal du leader.
+     *
+     * @param product le produit répliqué, avec son ID et sa version
+     * @return true si le produit a été ajouté ou remplacé, false si cette version était déjà connue
+     * @throws IllegalArgumentException si le produit n'a pas d'ID ou n'est pas valide
+     */
+    public boolean replicateProduct(Product product) {
+        ProductStoreEvent event = new ProductStoreEvent();
+        event.begin();
+        boolean applied = replicate(product);
+        event.end("replicate", null, product, applied ? "APPLIED" : "IGNORED");
+        return applied;
+    }
 
-        // Sauvegarde
-        products.put(newId, product);
+    private boolean replicate(Product product) {
+        if (product == null || product.getId() == null || !product.isValid()) {
+            throw new IllegalArgumentException("Replicated product is not valid: " + product);
+        }
+
+        Long id = product.getId();
+        Mutation mutation = mutate(id, latest ->
+                latest != null && latest.getVersion() >= product.getVersion() ? latest : product);
+        if (!mutation.applied()) {
+            return false;
+        }
+        Product previous = mutation.previous();
+        if (deduplicator.isEnabled()) {
+            if (previous != null) {
+                deduplicator.unregister(deduplicator.naturalKey(previous), previous);
+            }
+            deduplicator.register(deduplicator.naturalKey(product), product);
+        }
+        // Une instance promue leader ne doit pas réattribuer un ID répliqué
+        idAllocator.observe(id);
+
+        for (ProductListener listener : listeners) {
+            if (previous == null) {
+                listener.onProductAdded(product);
+            } else {
+                listener.onProductUpdated(previous, product);
+            }
+        }
+
+        log.debug("Replicated product {} at version {}: {}", id, product.getVersion(), product.getName());
+        return true;
+    }
+
+    /**
+     * Applique sur une instance suiveuse une suppression faite par le leader
+     *
+     * @param id l'ID du produit supprimé
+     * @return true si le produit était connu
+     */
+    public boolean replicateRemoval(long id) {
+        Mutation mutation = mutate(id, latest -> null);
+        if (!mutation.applied()) {
+            return false;
+        }
+        forgetRemoved(mutation.previous());
+
+        log.debug("Replicated removal of product {}", id);
+        return true;
+    }
+
+    /**
+     * Importe un lot de produits (flux catalogue).
+     * Les produits invalides sont ignorés et comptés, sans interrompre l'import.
+     *
+     * @param batch les produits à importer (sans ID)
+     * @return le bilan de l'import
+     */
+    public ImportSummary importProducts(List<Product> batch) {
+        ProductStoreEvent event = new ProductStoreEvent();
+        event.begin();
+        int created = 0;
+        int duplicates = 0;
+        int rejected = 0;
+
+        for (Product product : batch) {
+            if (product == null || !product.isValid()) {
+                rejected++;
+                continue;
+            }
+            if (insert(product).status() == WriteStatus.APPLIED) {
+                created++;
+            } else {
+                duplicates++;
+            }
+        }
+        // Un seul acquittement pour le lot : ses écritures partagent les transactions du stockage
+        products.sync();
+
+        event.end("import", batch.size());
+
+        log.info("Imported batch of {} products: {} created, {} duplicates, {} rejected",
+                batch.size(), created, duplicates, rejected);
+        return new ImportSummary(batch.size(), created, duplicates, rejected);
+    }
+
+    /**
+     * Enregistre un observateur notifié après chaque insertion
+     *
+     * @param listener l'observateur à enregistrer
+     */
+    public void addListener(ProductListener listener) {
+        listeners.add(listener);
+    }
 
-        log.info("Product added with ID {}: {}", newId, product.getName());
-        return product;
+    /**
+     * Restreint les IDs attribués par cette instance : les IDs refusés sont sautés.
+     * Le filtre est appliqué aux IDs du bloc du thread appelant, sans synchronisation supplémentaire.
+     *
+     * @param localIds le filtre des IDs attribuables
+     */
+    public void setLocalIdFilter(LongPredicate localIds) {
+        this.localIds = localIds;
     }
 
     /**
@@ -64,17 +411,123 @@ public class ProductService {
             return Optional.empty();
         }
 
-        Product product = products.get(id);
+        ProductStoreEvent event = new ProductStoreEvent();
+        event.begin();
+        Product product = products.findById(id);
+        event.end("get", id, product, product != null ? "FOUND" : "NOT_FOUND");
+
         log.debug("Product lookup for ID {}: {}", id, product != null ? "found" : "not found");
         return Optional.ofNullable(product);
     }
 
     /**
-     * Récupère tous les produits (utile pour les tests ou future extension)
+     * Vue en lecture seule de tous les produits, sans copie (les produits sont immuables).
+     * Ce n'est pas un instantané : la vue suit le catalogue et n'est que faiblement cohérente.
+     * Un parcours contient au moins toutes les mutations jusqu'au numéro lu avant lui
+     * ({@link #getLastSequence()}) ; un produit ajouté ou supprimé pendant le parcours peut y figurer ou non,
+     * et size() ne correspond pas forcément au nombre de produits parcourus ensuite. Chaque produit lu
+     * est dans un état complet.
      *
-     * @return Map de tous les produits
+     * @return Map de tous les produits, non modifiable, qui suit le catalogue
+     */
+    public Map<Long, Product> getProductsView() {
+        return products.findAll();
+    }
+
+    /**
+     * Parcours découpable du catalogue, sans copie, pour les traitements parallèles (fork/join).
+     * Le parcours est faiblement cohérent : un produit ajouté pendant le parcours peut ne pas être vu.
+     *
+     * @return un Spliterator sur les produits
+     */
+    public Spliterator<Product> productSpliterator() {
+        return products.spliterator();
+    }
+
+    /**
+     * Lit les mutations qui suivent un numéro donné, dans l'ordre où elles ont été appliquées.
+     * Seules les dernières mutations sont conservées (products.changes.capacity) :
+     * un lecteur trop en retard doit relire tout le catalogue.
+     *
+     * @param afterSequence le numéro de la dernière mutation déjà connue (0 pour tout lire)
+     * @param maxChanges le nombre maximum de mutations à lire
+     * @param target la liste à laquelle ajouter les mutations lues
+     * @return false si des mutations qui suivent afterSequence ne sont plus conservées
+     */
+    public boolean readChanges(long afterSequence, int maxChanges, List<ProductChange> target) {
+        return changes.readAfter(afterSequence, maxChanges, target);
+    }
+
+    /**
+     * Numéro de la dernière mutation appliquée. Lu avant un parcours du catalogue ({@link #getProductsView()}),
+     * il indique à partir d'où reprendre le journal : le parcours contient au moins toutes les mutations
+     * jusqu'à ce numéro.
+     *
+     * @return le numéro de la dernière mutation, 0 si le catalogue n'a jamais été modifié
+     */
+    public long getLastSequence() {
+        return changes.getLastSequence();
+    }
+
+    // Modifie l'entrée d'un produit (compare-and-set du dépôt) et numérote la mutation pendant la modification :
+    // les mutations d'un même produit sont numérotées dans l'ordre où elles sont appliquées, celles de produits
+    // différents ne s'attendent pas. La mutation est publiée dans le journal après l'écriture du produit :
+    // un lecteur qui voit son numéro voit aussi le produit modifié.
+    private Mutation mutate(long id, UnaryOperator<Product> change) {
+        long[] sequence = new long[1];
+        Product[] previous = new Product[1];
+        Product current = products.compute(id, latest -> {
+            previous[0] = latest;
+            Product next = change.apply(latest);
+            if (next != latest) {
+                sequence[0] = changes.reserve();
+            }
+            return next;
+        });
+        if (sequence[0] == 0) {
+            return new Mutation(false, previous[0], current);
+        }
+
+        ProductChangeType type = current == null ? ProductChangeType.DELETED
+                : previous[0] == null ? ProductChangeType.CREATED : ProductChangeType.UPDATED;
+        changes.publish(sequence[0], new ProductChange(sequence[0], type, id, current));
+        return new Mutation(true, previous[0], current);
+    }
+
+    // Nettoie le dédoublonnage et les index après une suppression
+    private void forgetRemoved(Product removed) {
+        if (deduplicator.isEnabled()) {
+            deduplicator.unregister(deduplicator.naturalKey(removed), removed);
+        }
+        for (ProductListener listener : listeners) {
+            listener.onProductRemoved(removed);
+        }
+    }
+
+    // Modification d'un produit : appliquée ou non, produit avant et après (null : absent)
+    private record Mutation(boolean applied, Product previous, Product current) {
+    }
+
+    /**
+     * Issue d'une création, d'une mise à jour ou d'une suppression
+     */
+    public enum WriteStatus {
+        APPLIED, NOT_FOUND, VERSION_CONFLICT, DUPLICATE
+    }
+
+    /**
+     * Résultat d'une création, d'une mise à jour ou d'une suppression
+     *
+     * @param status l'issue de l'écriture
+     * @param product selon l'issue : la version écrite ou supprimée, la version courante en cas de conflit,
+     *                le produit qui a déjà la clé naturelle visée, ou null
+     */
+    public record WriteResult(WriteStatus status, Product product) {
+    }
+
+    /**
+     * Bilan d'un import de produits
      */
-    public Map<Long, Product> getAllProducts() {
-        return new HashMap<>(products); // Copie défensive
+    public record ImportSummary(int received, int created, int duplicates, int rejected) {
     }
 }
\ No newline at end of file
@@ -2,28 +2,52 @@ package com.euodia.tax_calculator.service;
 
 import com.euodia.tax_calculator.model.Country;
 import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.pricing.TaxRate;
+import com.euodia.tax_calculator.profiling.TaxCalculationEvent;
+import com.euodia.tax_calculator.rules.TaxRule;
+import com.euodia.tax_calculator.rules.TaxRuleService;
+import com.euodia.tax_calculator.rules.TaxRuleTable;
 import com.euodia.tax_calculator.strategy.CanadaTaxStrategy;
 import com.euodia.tax_calculator.strategy.FranceTaxStrategy;
 import com.euodia.tax_calculator.strategy.TaxStrategy;
 import com.euodia.tax_calculator.strategy.UsTaxStrategy;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.util.Map;
 
 /**
- * Service responsable de la sélection et de l'exécution des stratégies de taxation
+ * Service responsable de la sélection et de l'exécution des stratégies de taxation.
+ * Une règle de catégorie (taux réduit, exemption) l'emporte sur le taux normal de la stratégie du pays.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class TaxCalculationService {
 
     private final UsTaxStrategy usTaxStrategy;
     private final CanadaTaxStrategy canadaTaxStrategy;
     private final FranceTaxStrategy franceTaxStrategy;
+    // Règles de catégorie, relues périodiquement : lues à chaque calcul ; null : aucune règle
+    private final TaxRuleService taxRuleService;
+
+    // Taux normal de chaque pays, par ordinal, lu dans la stratégie à la première utilisation
+    private final TaxRate[] standardRates = new TaxRate[Country.values().length];
+
+    public TaxCalculationService(UsTaxStrategy usTaxStrategy, CanadaTaxStrategy canadaTaxStrategy,
+                                 FranceTaxStrategy franceTaxStrategy) {
+        this(usTaxStrategy, canadaTaxStrategy, franceTaxStrategy, null);
+    }
+
+    @Autowired
+    public TaxCalculationService(UsTaxStrategy usTaxStrategy, CanadaTaxStrategy canadaTaxStrategy,
+                                 FranceTaxStrategy franceTaxStrategy, TaxRuleService taxRuleService) {
+        this.usTaxStrategy = usTaxStrategy;
+        this.canadaTaxStrategy = canadaTaxStrategy;
+        this.franceTaxStrategy = franceTaxStrategy;
+        this.taxRuleService = taxRuleService;
+    }
 
     // Map pour associer chaque pays à sa stratégie correspondante
     private Map<Country, TaxStrategy> getStrategyMap() {
@@ -53,10 +77,16 @@ public class TaxCalculationService {
             throw new IllegalArgumentException("No tax strategy found for country: " + product.getCountry());
         }
 
-        BigDecimal tax = strategy.calculateTax(product);
-        log.debug("Calculated tax for product {} in {}: {} using strategy: {}",
-                product.getName(), product.getCountry(), tax, strategy.getStrategyName());
+        TaxCalculationEvent event = new TaxCalculationEvent();
+        event.begin();
+        TaxRule rule = getRules().find(product.getCountry(), product.getCategory());
+        BigDecimal tax = rule != null ? rule.calculateTax(product.getPrice()) : strategy.calculateTax(product);
+        event.end(product, strategy, rule);
 
+        if (log.isDebugEnabled()) {
+            log.debug("Calculated tax for product {} in {}: {} using {}", product.getName(), product.getCountry(),
+                    tax, rule != null ? "rule " + rule.getDescription() : "strategy: " + strategy.getStrategyName());
+        }
         return tax;
     }
 
@@ -90,4 +120,54 @@ public class TaxCalculationService {
     public TaxStrategy getStrategyForCountry(Country country) {
         return getStrategyMap().get(country);
     }
+
+    /**
+     * Règle de catégorie applicable à un produit
+     *
+     * @param product le produit
+     * @return la règle, ou null si le produit suit le taux normal de son pays
+     */
+    public TaxRule findRule(Product product) {
+        return product == null ? null : getRules().find(product.getCountry(), product.getCategory());
+    }
+
+    /**
+     * Taux appliqué aux produits d'une catégorie dans un pays, pour les calculs en masse en centimes.
+     * Temps constant et sans allocation : les taux sont compilés au chargement des règles.
+     *
+     * @param country le pays
+     * @param category la catégorie, ou null
+     * @return le taux de la règle de la catégorie, sinon le taux normal du pays
+     * @throws IllegalArgumentException si le pays n'est pas supporté
+     */
+    public TaxRate getTaxRate(Country country, String category) {
+        TaxRule rule = getRules().find(country, category);
+        if (rule != null) {
+            return rule.rate();
+        }
+        TaxRate rate = standardRates[country.ordinal()];
+        if (rate == null) {
+            TaxStrategy strategy = getStrategyForCountry(country);
+            if (strategy == null) {
+                throw new IllegalArgumentException("No tax strategy found for country: " + country);
+            }
+            rate = TaxRate.of(strategy.getRate());
+            standardRates[country.ordinal()] = rate;
+        }
+        return rate;
+    }
+
+    /**
+     * @return les règles de catégorie en service
+     */
+    public TaxRuleTable getRules() {
+        return taxRuleService != null ? taxRuleService.getRules() : TaxRuleTable.empty();
+    }
+
+    /**
+     * @return la version des règles en service, qui change avec elles (0 sans règles)
+     */
+    public long getRulesVersion() {
+        return taxRuleService != null ? taxRuleService.getVersion() : 0;
+    }
 }
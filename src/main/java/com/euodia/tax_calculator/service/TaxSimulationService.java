@@ -0,0 +1,444 @@
+package com.euodia.tax_calculator.service;
+
+import com.euodia.tax_calculator.dto.CountryTaxSimulation;
+import com.euodia.tax_calculator.dto.ProductTaxImpact;
+import com.euodia.tax_calculator.dto.TaxSimulationResponse;
+import com.euodia.tax_calculator.fx.FxRateService;
+import com.euodia.tax_calculator.fx.FxRateTable;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Currency;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.pricing.BulkTaxKernel;
+import com.euodia.tax_calculator.pricing.BulkTaxKernels;
+import com.euodia.tax_calculator.pricing.MinorUnits;
+import com.euodia.tax_calculator.pricing.TaxRate;
+import com.euodia.tax_calculator.rules.TaxRule;
+import com.euodia.tax_calculator.rules.TaxRuleTable;
+import com.euodia.tax_calculator.strategy.TaxStrategy;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Simulation de l'effet d'un changement de taux de taxe sur tout le catalogue.
+ * Le catalogue est parcouru sans copie via un Spliterator découpé récursivement (fork/join) ;
+ * chaque feuille regroupe ses produits en colonnes de prix par pays et calcule taxes actuelles et simulées
+ * avec le noyau de calcul en masse. Les résultats partiels sont ensuite fusionnés.
+ * Les simulations tournent dans un pool de threads dédié et de taille bornée, et une seule à la fois :
+ * le trafic normal garde ses threads et au moins un cœur.
+ * Le taux simulé remplace le taux normal du pays : les produits soumis à une règle de catégorie
+ * (taux réduit, exemption) gardent le taux de leur règle et ne varient pas.
+ */
+@Service
+@Slf4j
+public class TaxSimulationService {
+
+    // Taille en dessous de laquelle une tâche n'est plus découpée
+    private static final int LEAF_SIZE = 16_384;
+    // Taille des colonnes de prix passées au noyau de calcul
+    private static final int COLUMN_SIZE = 1_024;
+
+    private final TaxCalculationService taxCalculationService;
+    private final ProductService productService;
+    private final FxRateService fxRateService;
+    private final BulkTaxKernel kernel = BulkTaxKernels.best();
+
+    private final ForkJoinPool pool;
+    private final Semaphore permits;
+
+    public TaxSimulationService(ProductService productService, TaxCalculationService taxCalculationService,
+                                FxRateService fxRateService,
+                                @Value("${simulation.parallelism:0}") int parallelism,
+                                @Value("${simulation.max-concurrent:1}") int maxConcurrent) {
+        this.productService = productService;
+        this.taxCalculationService = taxCalculationService;
+        this.fxRateService = fxRateService;
+
+        // Par défaut, tous les cœurs sauf un
+        int threads = parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.pool = new ForkJoinPool(threads, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("tax-simulation-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        this.permits = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Simule l'application de nouveaux taux
+     *
+     * @param rates les taux hypothétiques par pays (ex. FRANCE -> 0.21)
+     * @param top le nombre de produits les plus touchés à retourner par pays
+     * @return l'effet des nouveaux taux, pour chaque pays simulé
+     * @throws IllegalArgumentException si un taux est invalide
+     * @throws IllegalStateException si le nombre maximal de simulations simultanées est atteint
+     */
+    public TaxSimulationResponse simulate(Map<Country, BigDecimal> rates, int top) {
+        if (rates == null || rates.isEmpty() || top < 0) {
+            throw new IllegalArgumentException("At least one rate and a non-negative top are required");
+        }
+        Scenario scenario = buildScenario(rates, top);
+
+        if (!permits.tryAcquire()) {
+            throw new IllegalStateException("Too many simulations running");
+        }
+        try {
+            long start = System.nanoTime();
+            Result result = pool.invoke(new SimulationTask(scenario, productService.productSpliterator()));
+            long durationMillis = (System.nanoTime() - start) / 1_000_000;
+
+            TaxSimulationResponse response = scenario.toResponse(result, durationMillis);
+            log.info("Simulated rates {} on {} products in {} ms ({} threads)",
+                    rates, response.getSimulatedProducts(), durationMillis, pool.getParallelism());
+            return response;
+        } finally {
+            permits.release();
+        }
+    }
+
+    private Scenario buildScenario(Map<Country, BigDecimal> rates, int top) {
+        CountryScenario[] countries = new CountryScenario[Country.values().length];
+        for (Map.Entry<Country, BigDecimal> entry : rates.entrySet()) {
+            Country country = entry.getKey();
+            BigDecimal rate = entry.getValue();
+            if (country == null || rate == null || rate.signum() < 0 || rate.compareTo(BigDecimal.ONE) > 0) {
+                throw new IllegalArgumentException("Invalid rate for " + country + ": " + rate);
+            }
+
+            TaxStrategy strategy = taxCalculationService.getStrategyForCountry(country);
+            if (strategy == null) {
+                throw new IllegalArgumentException("No tax strategy found for country: " + country);
+            }
+            countries[country.ordinal()] = new CountryScenario(country, TaxRate.of(strategy.getRate()),
+                    TaxRate.of(rate));
+        }
+        return new Scenario(countries, top, kernel, fxRateService.getRates(), taxCalculationService.getRules());
+    }
+
+    /**
+     * Taux actuel et simulé d'un pays
+     */
+    private record CountryScenario(Country country, TaxRate currentRate, TaxRate simulatedRate) {
+
+        // Au-delà, le calcul en centimes pourrait déborder : repli sur BigDecimal
+        long maxMinorUnits() {
+            return Math.min(currentRate.maxMinorUnits(), simulatedRate.maxMinorUnits());
+        }
+    }
+
+    /**
+     * Paramètres communs à toutes les tâches d'une simulation
+     */
+    private record Scenario(CountryScenario[] countries, int top, BulkTaxKernel kernel, FxRateTable fxRates,
+                            TaxRuleTable rules) {
+
+        Result newResult() {
+            return new Result(this);
+        }
+
+        TaxSimulationResponse toResponse(Result result, long durationMillis) {
+            List<CountryTaxSimulation> simulations = new ArrayList<>();
+            long simulatedProducts = 0;
+            for (CountryScenario country : countries) {
+                if (country == null) {
+                    continue;
+                }
+                CountryResult totals = result.countries[country.country().ordinal()];
+                simulatedProducts += totals.productCount;
+                simulations.add(new CountryTaxSimulation(
+                        country.country(),
+                        country.country().getDefaultCurrency(),
+                        country.currentRate().toBigDecimal(),
+                        country.simulatedRate().toBigDecimal(),
+                        totals.productCount,
+                        MinorUnits.toAmount(totals.currentTax),
+                        MinorUnits.toAmount(totals.simulatedTax),
+                        MinorUnits.toAmount(totals.simulatedTax - totals.currentTax),
+                        totals.mostAffected()));
+            }
+            return new TaxSimulationResponse(simulatedProducts, result.skippedProducts, durationMillis, simulations);
+        }
+    }
+
+    /**
+     * Tâche fork/join : découpe son Spliterator tant qu'il est gros, traite le reste elle-même
+     */
+    private static final class SimulationTask extends RecursiveTask<Result> {
+
+        private final Scenario scenario;
+        private final Spliterator<Product> spliterator;
+
+        SimulationTask(Scenario scenario, Spliterator<Product> spliterator) {
+            this.scenario = scenario;
+            this.spliterator = spliterator;
+        }
+
+        @Override
+        protected Result compute() {
+            Deque<SimulationTask> forked = new ArrayDeque<>();
+            Spliterator<Product> split;
+            while (spliterator.estimateSize() > LEAF_SIZE && (split = spliterator.trySplit()) != null) {
+                SimulationTask task = new SimulationTask(scenario, split);
+                task.fork();
+                forked.push(task);
+            }
+
+            Result result = scenario.newResult();
+            spliterator.forEachRemaining(result::add);
+            result.flush();
+
+            // Jointure dans l'ordre inverse des fork : les tâches non volées sont exécutées ici
+            while (!forked.isEmpty()) {
+                result.merge(forked.pop().join());
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Résultat partiel d'une tâche (non partagé entre threads jusqu'à la fusion)
+     */
+    private static final class Result {
+
+        private final Scenario scenario;
+        private final CountryResult[] countries;
+        private long skippedProducts;
+
+        Result(Scenario scenario) {
+            this.scenario = scenario;
+            this.countries = new CountryResult[scenario.countries().length];
+            for (CountryScenario country : scenario.countries()) {
+                if (country != null) {
+                    countries[country.country().ordinal()] = new CountryResult(country, scenario);
+                }
+            }
+        }
+
+        void add(Product product) {
+            if (product.getCountry() == null) {
+                return;
+            }
+            CountryResult country = countries[product.getCountry().ordinal()];
+            if (country != null) {
+                skippedProducts += country.add(product);
+            }
+        }
+
+        void flush() {
+            for (CountryResult country : countries) {
+                if (country != null) {
+                    skippedProducts += country.flush();
+                }
+            }
+        }
+
+        void merge(Result other) {
+            skippedProducts += other.skippedProducts;
+            for (int i = 0; i < countries.length; i++) {
+                if (countries[i] != null) {
+                    countries[i].merge(other.countries[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Cumuls d'un pays : colonne de prix en attente de calcul, totaux en centimes et produits les plus touchés
+     */
+    private static final class CountryResult {
+
+        // Tri par variation absolue croissante, puis par ID : la tête du tas est la plus petite variation retenue
+        private static final Comparator<Impact> BY_ABSOLUTE_DELTA = Comparator
+                .comparingLong((Impact impact) -> Math.abs(impact.delta()))
+                .thenComparing(impact -> impact.product().getId(), Comparator.reverseOrder());
+
+        private final CountryScenario scenario;
+        private final Currency currency;
+        private final BulkTaxKernel kernel;
+        private final FxRateTable fxRates;
+        private final TaxRuleTable rules;
+        private final int top;
+
+        private final long[] prices = new long[COLUMN_SIZE];
+        private final long[] currentTaxes = new long[COLUMN_SIZE];
+        private final long[] simulatedTaxes = new long[COLUMN_SIZE];
+        private final Product[] pending = new Product[COLUMN_SIZE];
+        private int pendingCount;
+
+        private long productCount;
+        private long currentTax;
+        private long simulatedTax;
+        private final PriorityQueue<Impact> mostAffected;
+
+        CountryResult(CountryScenario scenario, Scenario simulation) {
+            this.scenario = scenario;
+            this.currency = scenario.country().getDefaultCurrency();
+            this.kernel = simulation.kernel();
+            this.fxRates = simulation.fxRates();
+            this.rules = simulation.rules();
+            this.top = simulation.top();
+            this.mostAffected = new PriorityQueue<>(Math.max(1, top), BY_ABSOLUTE_DELTA);
+        }
+
+        /**
+         * Ajoute un produit à la colonne en attente, calculée dès qu'elle est pleine
+         *
+         * @return le nombre de produits ignorés
+         */
+        int add(Product product) {
+            TaxRule rule = rules.find(scenario.country(), product.getCategory());
+            if (rule != null) {
+                return addRuled(product, rule);
+            }
+
+            long price = MinorUnits.of(product.getPrice());
+            if (price >= 0 && price <= scenario.maxMinorUnits()) {
+                prices[pendingCount] = price;
+                pending[pendingCount++] = product;
+                return pendingCount == COLUMN_SIZE ? flush() : 0;
+            }
+
+            // Prix à plus de deux décimales ou très élevé : calcul unitaire en BigDecimal
+            if (product.getPrice() == null || product.getPrice().signum() < 0) {
+                return 1;
+            }
+            long current = MinorUnits.of(taxOf(product.getPrice(), scenario.currentRate()));
+            long simulated = MinorUnits.of(taxOf(product.getPrice(), scenario.simulatedRate()));
+            if (current == MinorUnits.NOT_REPRESENTABLE || simulated == MinorUnits.NOT_REPRESENTABLE) {
+                return 1;
+            }
+            return record(product, current, simulated) ? 0 : 1;
+        }
+
+        /**
+         * Produit soumis à une règle de catégorie : même taxe avant et après la simulation
+         *
+         * @return le nombre de produits ignorés
+         */
+        private int addRuled(Product product, TaxRule rule) {
+            if (product.getPrice() == null || product.getPrice().signum() < 0) {
+                return 1;
+            }
+            long price = MinorUnits.of(product.getPrice());
+            long tax = price >= 0 && price <= rule.rate().maxMinorUnits()
+                    ? rule.rate().taxOf(price)
+                    : MinorUnits.of(rule.calculateTax(product.getPrice()));
+            if (tax == MinorUnits.NOT_REPRESENTABLE) {
+                return 1;
+            }
+            return record(product, tax, tax) ? 0 : 1;
+        }
+
+        /**
+         * Calcule les taxes de la colonne en attente
+         *
+         * @return le nombre de produits ignorés
+         */
+        int flush() {
+            if (pendingCount == 0) {
+                return 0;
+            }
+            kernel.computeTaxes(prices, currentTaxes, pendingCount, scenario.currentRate());
+            kernel.computeTaxes(prices, simulatedTaxes, pendingCount, scenario.simulatedRate());
+
+            int skipped = 0;
+            for (int i = 0; i < pendingCount; i++) {
+                if (!record(pending[i], currentTaxes[i], simulatedTaxes[i])) {
+                    skipped++;
+                }
+                pending[i] = null;
+            }
+            pendingCount = 0;
+            return skipped;
+        }
+
+        private boolean record(Product product, long current, long simulated) {
+            // Taxes exprimées dans la devise du pays
+            Currency productCurrency = product.getCurrency();
+            if (productCurrency != currency) {
+                try {
+                    current = fxRates.convertMinorUnits(current, productCurrency, currency);
+                    simulated = fxRates.convertMinorUnits(simulated, productCurrency, currency);
+                } catch (ArithmeticException e) {
+                    return false;
+                }
+            }
+
+            productCount++;
+            currentTax += current;
+            simulatedTax += simulated;
+            offer(product, current, simulated);
+            return true;
+        }
+
+        private void offer(Product product, long current, long simulated) {
+            if (top == 0) {
+                return;
+            }
+            if (mostAffected.size() == top) {
+                // Test sans allocation : la plupart des produits ne font pas partie des plus touchés
+                Impact smallest = mostAffected.peek();
+                long delta = Math.abs(simulated - current);
+                long smallestDelta = Math.abs(smallest.delta());
+                if (delta < smallestDelta || (delta == smallestDelta && product.getId() > smallest.product().getId())) {
+                    return;
+                }
+                mostAffected.poll();
+            }
+            mostAffected.add(new Impact(product, current, simulated));
+        }
+
+        void merge(CountryResult other) {
+            productCount += other.productCount;
+            currentTax += other.currentTax;
+            simulatedTax += other.simulatedTax;
+            for (Impact impact : other.mostAffected) {
+                offer(impact.product(), impact.currentTax(), impact.simulatedTax());
+            }
+        }
+
+        List<ProductTaxImpact> mostAffected() {
+            return mostAffected.stream()
+                    .sorted(BY_ABSOLUTE_DELTA.reversed())
+                    .map(impact -> new ProductTaxImpact(
+                            impact.product().getId(),
+                            impact.product().getName(),
+                            MinorUnits.toAmount(impact.currentTax()),
+                            MinorUnits.toAmount(impact.simulatedTax()),
+                            MinorUnits.toAmount(impact.delta())))
+                    .toList();
+        }
+
+        private static BigDecimal taxOf(BigDecimal price, TaxRate rate) {
+            return price.multiply(rate.toBigDecimal()).setScale(2, RoundingMode.HALF_UP);
+        }
+    }
+
+    private record Impact(Product product, long currentTax, long simulatedTax) {
+
+        long delta() {
+            return simulatedTax - currentTax;
+        }
+    }
+}
@@ -15,6 +15,7 @@ public class CanadaTaxStrategy implements TaxStrategy {
 
     private static final BigDecimal GST_RATE = new BigDecimal("0.05");  // 5% GST
     private static final BigDecimal PST_RATE = new BigDecimal("0.07");  // 7% PST
+    private static final BigDecimal TOTAL_RATE = GST_RATE.add(PST_RATE);
 
     @Override
     public BigDecimal calculateTax(Product product) {
@@ -34,6 +35,12 @@ public class CanadaTaxStrategy implements TaxStrategy {
         return gst.add(pst).setScale(2, RoundingMode.HALF_UP);
     }
 
+    // Les deux taxes sont additionnées avant l'arrondi : la taxe vaut prix × 12 %, arrondie
+    @Override
+    public BigDecimal getRate() {
+        return TOTAL_RATE;
+    }
+
     @Override
     public String getStrategyName() {
         return "Canada Tax Strategy (5% GST + 7% PST = 12% total)";
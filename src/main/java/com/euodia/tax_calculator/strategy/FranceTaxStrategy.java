@@ -26,6 +26,11 @@ public class FranceTaxStrategy implements TaxStrategy {
                 .setScale(2, RoundingMode.HALF_UP);
     }
 
+    @Override
+    public BigDecimal getRate() {
+        return TVA_RATE;
+    }
+
     @Override
     public String getStrategyName() {
         return "France Tax Strategy (20% TVA)";
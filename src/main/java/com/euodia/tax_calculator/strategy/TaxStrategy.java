@@ -24,4 +24,12 @@ public interface TaxStrategy {
     }
 
     String getStrategyName();
+
+    /**
+     * Taux global appliqué au prix : la taxe vaut prix × taux, arrondie au centime (HALF_UP).
+     * Permet de recalculer les taxes en masse sans passer par un BigDecimal par produit.
+     *
+     * @return le taux de taxe total
+     */
+    BigDecimal getRate();
 }
\ No newline at end of file
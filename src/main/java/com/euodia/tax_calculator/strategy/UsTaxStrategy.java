@@ -26,6 +26,11 @@ public class UsTaxStrategy implements TaxStrategy {
                 .setScale(2, RoundingMode.HALF_UP);
     }
 
+    @Override
+    public BigDecimal getRate() {
+        return US_TAX_RATE;
+    }
+
     @Override
     public String getStrategyName() {
         return "US Tax Strategy (8.5% sales tax)";
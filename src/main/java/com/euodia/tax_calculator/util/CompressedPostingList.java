@@ -0,0 +1,350 @@
+package com.euodia.tax_calculator.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Liste triée d'IDs positifs, compressée pour un index inversé.
+ * Les IDs sont stockés sous forme de deltas successifs encodés en varint (7 bits utiles par octet) :
+ * des IDs proches tiennent sur un ou deux octets au lieu de huit.
+ *
+ * La liste est faite de séries triées et compressées, de la plus grande à la plus petite. Les IDs croissants
+ * s'ajoutent à la fin de la première série. Les IDs arrivant dans le désordre (blocs d'IDs propres à chaque
+ * thread, insertions concurrentes) passent par un petit tampon trié, qui devient une nouvelle série quand
+ * il est plein ; une série est fusionnée avec la précédente dès qu'elle atteint la moitié de sa taille.
+ * Chaque ID est ainsi réencodé O(log n) fois, quel que soit l'ordre d'arrivée.
+ * Un curseur fusionne les séries d'un instantané sans verrou : l'encodage n'écrit jamais
+ * dans la zone déjà publiée, une fusion ou une suppression produit un nouveau tableau.
+ */
+public final class CompressedPostingList {
+
+    private static final int PENDING_LIMIT = 32;
+
+    // Séries de tailles décroissantes ; runs[0] reçoit les IDs croissants
+    private Run[] runs = {new Run(8)};
+    private int runCount = 1;
+    // Plus grand ID de la liste
+    private long lastId;
+
+    private long[] pending;
+    private int pendingCount;
+
+    /**
+     * Ajoute un ID à la liste. Un ID déjà présent dans une série est repéré à la fusion suivante :
+     * d'ici là, il n'est compté qu'une fois par les curseurs mais deux fois par {@link #size()}.
+     *
+     * @param id l'ID à ajouter (strictement positif)
+     * @return false si l'ID était déjà présent
+     */
+    public synchronized boolean add(long id) {
+        if (id <= 0) {
+            throw new IllegalArgumentException("Posting ids must be positive: " + id);
+        }
+
+        if (id > lastId) {
+            runs[0].append(id);
+            lastId = id;
+            return true;
+        }
+        if (id == lastId) {
+            return false;
+        }
+
+        // Arrivée dans le désordre : insertion triée dans le tampon
+        if (pending == null) {
+            pending = new long[PENDING_LIMIT];
+        }
+        int position = Arrays.binarySearch(pending, 0, pendingCount, id);
+        if (position >= 0) {
+            return false;
+        }
+        int insertAt = -position - 1;
+        System.arraycopy(pending, insertAt, pending, insertAt + 1, pendingCount - insertAt);
+        pending[insertAt] = id;
+        pendingCount++;
+
+        if (pendingCount == PENDING_LIMIT) {
+            flushPending();
+        }
+        return true;
+    }
+
+    /**
+     * Retire un ID de la liste. Les séries qui le contiennent sont réencodées : O(taille de la liste),
+     * les suppressions (produit renommé ou supprimé) étant rares devant les ajouts.
+     *
+     * @param id l'ID à retirer
+     * @return false si l'ID n'était pas présent
+     */
+    public synchronized boolean remove(long id) {
+        if (id <= 0 || id > lastId) {
+            return false;
+        }
+
+        boolean removed = false;
+        int position = pendingCount > 0 ? Arrays.binarySearch(pending, 0, pendingCount, id) : -1;
+        if (position >= 0) {
+            System.arraycopy(pending, position + 1, pending, position, pendingCount - position - 1);
+            pendingCount--;
+            removed = true;
+        }
+        for (int i = 0; i < runCount; i++) {
+            Run without = runs[i].without(id);
+            if (without != runs[i]) {
+                runs[i] = without;
+                removed = true;
+            }
+        }
+        if (removed && id == lastId) {
+            lastId = pendingCount > 0 ? pending[pendingCount - 1] : 0;
+            for (int i = 0; i < runCount; i++) {
+                lastId = Math.max(lastId, runs[i].lastId);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * @return le nombre d'IDs distincts de la liste (voir {@link #add(long)} pour les IDs ajoutés deux fois)
+     */
+    public synchronized int size() {
+        int size = pendingCount;
+        for (int i = 0; i < runCount; i++) {
+            size += runs[i].count;
+        }
+        return size;
+    }
+
+    /**
+     * @return la mémoire occupée par les tableaux de la liste, en octets
+     */
+    public synchronized long sizeInBytes() {
+        long bytes = pending != null ? (long) pending.length * Long.BYTES : 0;
+        for (int i = 0; i < runCount; i++) {
+            bytes += runs[i].data.length;
+        }
+        return bytes;
+    }
+
+    /**
+     * Retourne un curseur sur un instantané de la liste, dans l'ordre croissant des IDs.
+     * Le parcours ne prend aucun verrou et ne voit pas les ajouts ultérieurs.
+     *
+     * @return le curseur
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        PrimitiveIterator.OfLong[] cursors;
+        synchronized (this) {
+            if (runCount == 1 && pendingCount == 0) {
+                return runs[0].cursor();
+            }
+            cursors = new PrimitiveIterator.OfLong[runCount + (pendingCount > 0 ? 1 : 0)];
+            for (int i = 0; i < runCount; i++) {
+                cursors[i] = runs[i].cursor();
+            }
+            if (pendingCount > 0) {
+                cursors[runCount] = Arrays.stream(pending, 0, pendingCount).iterator();
+            }
+        }
+        return new MergingCursor(cursors);
+    }
+
+    /**
+     * @return tous les IDs de la liste, triés
+     */
+    public long[] toArray() {
+        PrimitiveIterator.OfLong cursor = iterator();
+        long[] ids = new long[8];
+        int size = 0;
+        while (cursor.hasNext()) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = cursor.nextLong();
+        }
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * @return le nombre de séries compressées (tests, mesures)
+     */
+    synchronized int getRunCount() {
+        return runCount;
+    }
+
+    // Le tampon devient la dernière série, puis les séries trop proches en taille sont fusionnées
+    private void flushPending() {
+        Run run = new Run(pendingCount * 2);
+        for (int i = 0; i < pendingCount; i++) {
+            run.append(pending[i]);
+        }
+        pendingCount = 0;
+
+        if (runCount == runs.length) {
+            runs = Arrays.copyOf(runs, runCount * 2);
+        }
+        runs[runCount++] = run;
+        while (runCount > 1 && runs[runCount - 1].count * 2 >= runs[runCount - 2].count) {
+            runs[runCount - 2] = Run.merge(runs[runCount - 2], runs[runCount - 1]);
+            runs[--runCount] = null;
+        }
+    }
+
+    // Série triée d'IDs en deltas varint ; seule la zone [0, length) est publiée aux curseurs
+    private static final class Run {
+
+        private byte[] data;
+        private int length;
+        private int count;
+        private long lastId;
+
+        private Run(int capacity) {
+            data = new byte[Math.max(8, capacity)];
+        }
+
+        private void append(long id) {
+            long delta = id - lastId;
+            if (data.length - length < 10) {
+                data = Arrays.copyOf(data, Math.max(data.length + (data.length >> 1), length + 10));
+            }
+            while ((delta & ~0x7FL) != 0) {
+                data[length++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            data[length++] = (byte) delta;
+            lastId = id;
+            count++;
+        }
+
+        private Cursor cursor() {
+            return new Cursor(data, length);
+        }
+
+        // Nouvelle série sans l'ID, ou cette série s'il n'y figure pas
+        private Run without(long id) {
+            if (id > lastId) {
+                return this;
+            }
+            Cursor cursor = cursor();
+            while (cursor.hasNext()) {
+                long next = cursor.nextLong();
+                if (next == id) {
+                    Run copy = new Run(length);
+                    Cursor source = cursor();
+                    while (source.hasNext()) {
+                        long value = source.nextLong();
+                        if (value != id) {
+                            copy.append(value);
+                        }
+                    }
+                    return copy;
+                }
+                if (next > id) {
+                    break;
+                }
+            }
+            return this;
+        }
+
+        // Fusion triée de deux séries, sans doublons
+        private static Run merge(Run first, Run second) {
+            Run merged = new Run(first.length + second.length);
+            Cursor a = first.cursor();
+            Cursor b = second.cursor();
+            long nextA = a.hasNext() ? a.nextLong() : Long.MAX_VALUE;
+            long nextB = b.hasNext() ? b.nextLong() : Long.MAX_VALUE;
+            while (nextA != Long.MAX_VALUE || nextB != Long.MAX_VALUE) {
+                long next = Math.min(nextA, nextB);
+                if (next != merged.lastId) {
+                    merged.append(next);
+                }
+                if (nextA == next) {
+                    nextA = a.hasNext() ? a.nextLong() : Long.MAX_VALUE;
+                }
+                if (nextB == next) {
+                    nextB = b.hasNext() ? b.nextLong() : Long.MAX_VALUE;
+                }
+            }
+            return merged;
+        }
+    }
+
+    private static final class Cursor implements PrimitiveIterator.OfLong {
+
+        private final byte[] data;
+        private final int length;
+        private int position;
+        private long current;
+
+        private Cursor(byte[] data, int length) {
+            this.data = data;
+            this.length = length;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < length;
+        }
+
+        @Override
+        public long nextLong() {
+            if (position >= length) {
+                throw new NoSuchElementException();
+            }
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            current += delta;
+            return current;
+        }
+    }
+
+    // Fusion des curseurs des séries (O(log n) séries), chaque ID n'étant rendu qu'une fois
+    private static final class MergingCursor implements PrimitiveIterator.OfLong {
+
+        private final PrimitiveIterator.OfLong[] cursors;
+        // Prochain ID de chaque curseur, Long.MAX_VALUE quand il est épuisé
+        private final long[] heads;
+
+        private MergingCursor(PrimitiveIterator.OfLong[] cursors) {
+            this.cursors = cursors;
+            this.heads = new long[cursors.length];
+            for (int i = 0; i < cursors.length; i++) {
+                heads[i] = cursors[i].hasNext() ? cursors[i].nextLong() : Long.MAX_VALUE;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            for (long head : heads) {
+                if (head != Long.MAX_VALUE) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public long nextLong() {
+            long min = Long.MAX_VALUE;
+            for (long head : heads) {
+                min = Math.min(min, head);
+            }
+            if (min == Long.MAX_VALUE) {
+                throw new NoSuchElementException();
+            }
+            for (int i = 0; i < heads.length; i++) {
+                if (heads[i] == min) {
+                    heads[i] = cursors[i].hasNext() ? cursors[i].nextLong() : Long.MAX_VALUE;
+                }
+            }
+            return min;
+        }
+    }
+}
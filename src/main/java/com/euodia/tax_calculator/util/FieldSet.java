@@ -0,0 +1,154 @@
+package com.euodia.tax_calculator.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sous-ensemble des champs d'une réponse (paramètre ?fields=id,finalPrice), dans l'ordre de déclaration
+ * des champs. Sert à la fois à ne calculer que les valeurs demandées ({@link #contains(JsonField)})
+ * et à n'écrire qu'elles ({@link #write(JsonGenerator, Object)}).
+ *
+ * @param <T> le type d'objet projeté
+ */
+public final class FieldSet<T> {
+
+    private final List<JsonField<T>> fields;
+    private final long mask;
+
+    private FieldSet(List<JsonField<T>> fields, long mask) {
+        this.fields = fields;
+        this.mask = mask;
+    }
+
+    /**
+     * @param field un champ
+     * @return true si le champ est demandé
+     */
+    public boolean contains(JsonField<T> field) {
+        return (mask & 1L << field.ordinal()) != 0;
+    }
+
+    /**
+     * @param first un champ
+     * @param second un autre champ
+     * @return true si au moins un des deux champs est demandé
+     */
+    public boolean containsAny(JsonField<T> first, JsonField<T> second) {
+        return contains(first) || contains(second);
+    }
+
+    /**
+     * @return les champs demandés, un bit par ordinal : identifie l'ensemble (clé de regroupement des calculs)
+     */
+    public long mask() {
+        return mask;
+    }
+
+    /**
+     * Écrit un objet JSON ne contenant que les champs demandés
+     *
+     * @param generator le flux JSON
+     * @param value l'objet
+     * @throws IOException si l'écriture échoue
+     */
+    public void write(JsonGenerator generator, T value) throws IOException {
+        generator.writeStartObject();
+        for (JsonField<T> field : fields) {
+            field.write(generator, value);
+        }
+        generator.writeEndObject();
+    }
+
+    @Override
+    public String toString() {
+        return fields.stream().map(JsonField::jsonName).toList().toString();
+    }
+
+    /**
+     * Champs d'un type de réponse, construit une fois par type
+     *
+     * @param <T> le type d'objet projeté
+     */
+    public static final class Schema<T> {
+
+        // Au-delà, les listes de champs sont analysées à chaque requête plutôt que mémorisées
+        private static final int MAX_CACHED_SPECS = 256;
+
+        private final Map<String, JsonField<T>> byName = new HashMap<>();
+        private final FieldSet<T> all;
+        private final Map<String, FieldSet<T>> parsed = new ConcurrentHashMap<>();
+
+        @SafeVarargs
+        public Schema(JsonField<T>... fields) {
+            long mask = 0;
+            for (JsonField<T> field : fields) {
+                if (field.ordinal() >= Long.SIZE) {
+                    throw new IllegalArgumentException("Too many fields: " + field.jsonName());
+                }
+                byName.put(field.jsonName(), field);
+                mask |= 1L << field.ordinal();
+            }
+            this.all = new FieldSet<>(List.of(fields), mask);
+        }
+
+        /**
+         * @return tous les champs
+         */
+        public FieldSet<T> all() {
+            return all;
+        }
+
+        /**
+         * Analyse une liste de champs séparés par des virgules
+         *
+         * @param spec la liste (ex. "id,finalPrice")
+         * @return les champs demandés, dans l'ordre de déclaration
+         * @throws IllegalArgumentException si un champ est inconnu ou si la liste est vide
+         */
+        public FieldSet<T> parse(String spec) {
+            FieldSet<T> fieldSet = parsed.get(spec);
+            if (fieldSet != null) {
+                return fieldSet;
+            }
+            fieldSet = doParse(spec);
+            if (parsed.size() < MAX_CACHED_SPECS) {
+                parsed.putIfAbsent(spec, fieldSet);
+            }
+            return fieldSet;
+        }
+
+        private FieldSet<T> doParse(String spec) {
+            long mask = 0;
+            for (String name : spec.split(",")) {
+                String trimmed = name.strip();
+                if (trimmed.isEmpty()) {
+                    continue;
+                }
+                JsonField<T> field = byName.get(trimmed);
+                if (field == null) {
+                    throw new IllegalArgumentException("Unknown field: " + trimmed);
+                }
+                mask |= 1L << field.ordinal();
+            }
+            if (mask == 0) {
+                throw new IllegalArgumentException("No field requested");
+            }
+            if (mask == all.mask) {
+                return all;
+            }
+            List<JsonField<T>> fields = new ArrayList<>();
+            for (JsonField<T> field : all.fields) {
+                if ((mask & 1L << field.ordinal()) != 0) {
+                    fields.add(field);
+                }
+            }
+            return new FieldSet<>(List.copyOf(fields), mask);
+        }
+    }
+}
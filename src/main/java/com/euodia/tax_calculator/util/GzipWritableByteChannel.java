@@ -0,0 +1,109 @@
+package com.euodia.tax_calculator.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Canal compressant au format gzip tout ce qui y est écrit, avant de le transmettre à un autre canal.
+ * La compression travaille directement sur des ByteBuffer (Deflater et CRC32 les acceptent) :
+ * pas de flux intermédiaire ni de copie en tableau, et un seul tampon de sortie réutilisé.
+ * La fermeture termine le flux gzip puis ferme le canal sous-jacent.
+ */
+public class GzipWritableByteChannel implements WritableByteChannel {
+
+    // En-tête gzip minimal : deflate, sans nom de fichier ni date, système inconnu
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final byte[] NO_INPUT = new byte[0];
+
+    private final WritableByteChannel target;
+    private final Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private final ByteBuffer compressed;
+    private long uncompressedSize;
+    private boolean open = true;
+
+    /**
+     * @param target le canal recevant les données compressées
+     * @param level le niveau de compression (Deflater.BEST_SPEED à Deflater.BEST_COMPRESSION)
+     * @param bufferSize la taille du tampon de sortie
+     */
+    public GzipWritableByteChannel(WritableByteChannel target, int level, int bufferSize) {
+        if (bufferSize < HEADER.length + 8) {
+            throw new IllegalArgumentException("Buffer too small: " + bufferSize);
+        }
+        this.target = target;
+        this.deflater = new Deflater(level, true);
+        this.compressed = ByteBuffer.allocateDirect(bufferSize).order(ByteOrder.LITTLE_ENDIAN);
+        this.compressed.put(HEADER);
+    }
+
+    @Override
+    public int write(ByteBuffer source) throws IOException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+        int length = source.remaining();
+        int start = source.position();
+        crc.update(source);
+        source.position(start);
+
+        // Le Deflater avance la position du tampon source au fur et à mesure qu'il le consomme
+        deflater.setInput(source);
+        while (!deflater.needsInput()) {
+            deflater.deflate(compressed, Deflater.NO_FLUSH);
+            if (!compressed.hasRemaining()) {
+                drain();
+            }
+        }
+        // Le Deflater garde une référence au tampon : on la retire, l'appelant est libre de le réutiliser
+        deflater.setInput(NO_INPUT);
+        uncompressedSize += length;
+        return length;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!open) {
+            return;
+        }
+        open = false;
+        try {
+            deflater.finish();
+            while (!deflater.finished()) {
+                deflater.deflate(compressed);
+                if (!compressed.hasRemaining()) {
+                    drain();
+                }
+            }
+
+            // Pied de page : CRC32 et taille non compressée modulo 2^32, en little-endian
+            if (compressed.remaining() < 8) {
+                drain();
+            }
+            compressed.putInt((int) crc.getValue());
+            compressed.putInt((int) uncompressedSize);
+            drain();
+        } finally {
+            deflater.end();
+            target.close();
+        }
+    }
+
+    private void drain() throws IOException {
+        compressed.flip();
+        while (compressed.hasRemaining()) {
+            target.write(compressed);
+        }
+        compressed.clear();
+    }
+}
@@ -0,0 +1,62 @@
+package com.euodia.tax_calculator.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Champ JSON d'un objet de réponse, écrit directement dans le flux de sortie (sans introspection).
+ * Implémenté par des énumérations : l'ordinal du champ sert d'indice dans un {@link FieldSet}.
+ *
+ * @param <T> le type d'objet dont le champ est extrait
+ */
+public interface JsonField<T> {
+
+    /**
+     * @return le nom du champ dans le JSON (et dans le paramètre ?fields=)
+     */
+    String jsonName();
+
+    /**
+     * @return la position du champ, de 0 à 63
+     */
+    int ordinal();
+
+    /**
+     * Écrit le nom et la valeur du champ
+     *
+     * @param generator le flux JSON, positionné dans un objet
+     * @param value l'objet
+     * @throws IOException si l'écriture échoue
+     */
+    void write(JsonGenerator generator, T value) throws IOException;
+
+    static void writeNumber(JsonGenerator generator, String name, Long value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeNumberField(name, value.longValue());
+        }
+    }
+
+    static void writeNumber(JsonGenerator generator, String name, BigDecimal value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeNumberField(name, value);
+        }
+    }
+
+    static void writeString(JsonGenerator generator, String name, String value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeStringField(name, value);
+        }
+    }
+
+    static void writeEnum(JsonGenerator generator, String name, Enum<?> value) throws IOException {
+        writeString(generator, name, value != null ? value.name() : null);
+    }
+}
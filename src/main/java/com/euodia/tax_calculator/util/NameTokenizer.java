@@ -0,0 +1,42 @@
+package com.euodia.tax_calculator.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Découpe un nom de produit en termes de recherche :
+ * minuscules, accents supprimés, séparation sur tout caractère non alphanumérique.
+ * "iPhone 15 Pro" donne [iphone, 15, pro].
+ */
+public final class NameTokenizer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private NameTokenizer() {
+    }
+
+    /**
+     * @param text le texte à découper (peut être null)
+     * @return les termes distincts, dans leur ordre d'apparition
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(normalized)) {
+            if (!token.isEmpty() && !tokens.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
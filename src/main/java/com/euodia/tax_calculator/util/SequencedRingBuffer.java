@@ -0,0 +1,133 @@
+package com.euodia.tax_calculator.util;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Tampon circulaire borné d'éléments numérotés 1, 2, 3... dans l'ordre d'ajout.
+ * Seuls les derniers éléments (la capacité) sont conservés ; les plus anciens sont écrasés.
+ * Écrivains concurrents sans verrou : un écrivain réserve un numéro ({@link #reserve()}) puis publie son élément
+ * ({@link #publish}), éventuellement après d'autres écrivains ; un numéro n'est visible des lecteurs qu'une fois
+ * tous les précédents publiés. Lectures sans verrou : chaque case mémorise le numéro de son élément,
+ * un lecteur détecte ainsi qu'un élément qu'il cherche a été écrasé.
+ *
+ * @param <T> le type des éléments
+ */
+public class SequencedRingBuffer<T> {
+
+    private final AtomicReferenceArray<Slot<T>> slots;
+    private final int mask;
+
+    // Numéro du dernier élément réservé
+    private final AtomicLong reservedSequence = new AtomicLong();
+    // Numéro du dernier élément visible : lui et tous les précédents sont publiés (0 : tampon vide)
+    private final AtomicLong lastSequence = new AtomicLong();
+
+    /**
+     * @param capacity le nombre d'éléments conservés, arrondi à la puissance de 2 supérieure
+     */
+    public SequencedRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Ajoute un élément à la suite des précédents
+     *
+     * @param value l'élément
+     * @return le numéro attribué à l'élément
+     */
+    public long append(T value) {
+        long sequence = reserve();
+        publish(sequence, value);
+        return sequence;
+    }
+
+    /**
+     * Réserve le numéro suivant. Les lecteurs s'arrêtent avant ce numéro tant qu'il n'est pas publié :
+     * l'élément doit être publié sans attendre.
+     *
+     * @return le numéro réservé
+     */
+    public long reserve() {
+        return reservedSequence.incrementAndGet();
+    }
+
+    /**
+     * Publie l'élément d'un numéro réservé, puis rend visibles tous les numéros consécutifs déjà publiés.
+     * Un élément dont la case a déjà reçu un élément plus récent (plus d'une capacité d'écarts) n'est pas écrit :
+     * les lecteurs le voient comme écrasé.
+     *
+     * @param sequence le numéro réservé
+     * @param value l'élément
+     */
+    public void publish(long sequence, T value) {
+        int index = (int) (sequence & mask);
+        Slot<T> slot = new Slot<>(sequence, value);
+        slots.accumulateAndGet(index, slot, (current, next) ->
+                current == null || current.sequence() < next.sequence() ? next : current);
+
+        // Publication : un lecteur qui voit un numéro voit aussi sa case et celles des numéros précédents
+        long last = lastSequence.get();
+        while (true) {
+            Slot<T> next = slots.get((int) ((last + 1) & mask));
+            if (next == null || next.sequence() <= last) {
+                return;
+            }
+            if (lastSequence.compareAndSet(last, last + 1)) {
+                last++;
+            } else {
+                last = lastSequence.get();
+            }
+        }
+    }
+
+    /**
+     * Lit les éléments qui suivent un numéro donné
+     *
+     * @param afterSequence le numéro du dernier élément déjà connu (0 pour tout lire)
+     * @param maxElements le nombre maximum d'éléments à lire
+     * @param target la liste à laquelle ajouter les éléments lus, dans l'ordre
+     * @return false si des éléments qui suivent afterSequence ont déjà été écrasés (la liste est alors inchangée)
+     */
+    public boolean readAfter(long afterSequence, int maxElements, List<? super T> target) {
+        long last = lastSequence.get();
+        long end = Math.min(last, Math.max(afterSequence, 0) + maxElements);
+        int initialSize = target.size();
+
+        for (long sequence = Math.max(afterSequence, 0) + 1; sequence <= end; sequence++) {
+            Slot<T> slot = slots.get((int) (sequence & mask));
+            if (slot == null || slot.sequence() != sequence) {
+                target.subList(initialSize, target.size()).clear();
+                return false;
+            }
+            target.add(slot.value());
+        }
+        return true;
+    }
+
+    /**
+     * @return le numéro du dernier élément visible des lecteurs, 0 si le tampon est vide
+     */
+    public long getLastSequence() {
+        return lastSequence.get();
+    }
+
+    /**
+     * @return le nombre d'éléments conservés
+     */
+    public int getCapacity() {
+        return slots.length();
+    }
+
+    private record Slot<T>(long sequence, T value) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.euodia.tax_calculator.util;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Regroupement des calculs identiques simultanés ("single flight").
+ * Le premier appelant pour une clé exécute le calcul ; ceux qui arrivent pendant qu'il est en cours
+ * attendent et reçoivent le même résultat (ou la même exception). Rien n'est mis en cache :
+ * un appel arrivant après la fin du calcul en relance un nouveau.
+ *
+ * @param <K> le type de clé
+ * @param <V> le type de résultat
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Exécute le calcul, ou attend celui déjà en cours pour la même clé
+     *
+     * @param key la clé identifiant le calcul
+     * @param loader le calcul
+     * @return le résultat du calcul
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+
+        if (existing != null) {
+            coalesced.increment();
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw propagate(e.getCause());
+            }
+        }
+
+        executions.increment();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * @return le nombre de calculs réellement exécutés
+     */
+    public long getExecutionCount() {
+        return executions.sum();
+    }
+
+    /**
+     * @return le nombre d'appels ayant réutilisé un calcul en cours
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * @return la part des appels servis par un calcul en cours (entre 0 et 1)
+     */
+    public double getCoalescingRatio() {
+        long coalescedCalls = coalesced.sum();
+        long total = coalescedCalls + executions.sum();
+        return total == 0 ? 0 : (double) coalescedCalls / total;
+    }
+
+    private static RuntimeException propagate(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new CompletionException(cause);
+    }
+}
@@ -0,0 +1,74 @@
+package com.euodia.tax_calculator.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Corps de réponse projeté sur un {@link FieldSet} : Jackson l'écrit en appelant directement les champs
+ * demandés, sans sérialiseur de bean ni introspection. Un objet, une liste ou une table (clé → objet).
+ */
+public final class SparseJson implements JsonSerializable {
+
+    private final Body body;
+
+    private SparseJson(Body body) {
+        this.body = body;
+    }
+
+    /**
+     * @return l'objet, réduit aux champs demandés
+     */
+    public static <T> SparseJson of(T value, FieldSet<T> fields) {
+        return new SparseJson(generator -> fields.write(generator, value));
+    }
+
+    /**
+     * @return un tableau JSON des objets, réduits aux champs demandés
+     */
+    public static <T> SparseJson list(Collection<? extends T> values, FieldSet<T> fields) {
+        return new SparseJson(generator -> {
+            generator.writeStartArray();
+            for (T value : values) {
+                fields.write(generator, value);
+            }
+            generator.writeEndArray();
+        });
+    }
+
+    /**
+     * @return un objet JSON dont chaque entrée est réduite aux champs demandés, clé comprise telle quelle
+     */
+    public static <T> SparseJson map(Map<?, ? extends T> values, FieldSet<T> fields) {
+        return new SparseJson(generator -> {
+            generator.writeStartObject();
+            for (Map.Entry<?, ? extends T> entry : values.entrySet()) {
+                generator.writeFieldName(String.valueOf(entry.getKey()));
+                fields.write(generator, entry.getValue());
+            }
+            generator.writeEndObject();
+        });
+    }
+
+    @Override
+    public void serialize(JsonGenerator generator, SerializerProvider serializers) throws IOException {
+        body.write(generator);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator generator, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        // Pas d'information de type : le corps est toujours écrit tel quel
+        body.write(generator);
+    }
+
+    @FunctionalInterface
+    private interface Body {
+        void write(JsonGenerator generator) throws IOException;
+    }
+}
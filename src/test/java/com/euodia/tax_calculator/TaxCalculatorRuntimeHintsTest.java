@@ -0,0 +1,70 @@
+package com.euodia.tax_calculator;
+
+import com.euodia.tax_calculator.dto.ProductTaxImpact;
+import com.euodia.tax_calculator.dto.ProductWithTaxResponse;
+import com.euodia.tax_calculator.dto.TaxSimulationRequest;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.strategy.FranceTaxStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour TaxCalculatorRuntimeHints
+ */
+@DisplayName("Tax Calculator Runtime Hints Tests")
+class TaxCalculatorRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new TaxCalculatorRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Should register Jackson binding hints for DTOs and the model")
+    void testBindingHints() {
+        // Then
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(ProductWithTaxResponse.class, "getFinalPrice").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(TaxSimulationRequest.class, "setRates").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(Product.class, "getCurrency").test(hints));
+        // Type imbriqué, atteint depuis TaxSimulationResponse
+        assertTrue(RuntimeHintsPredicates.reflection().onType(ProductTaxImpact.class).test(hints));
+    }
+
+    @Test
+    @DisplayName("Should register serialization hints for enums")
+    void testSerializationHints() {
+        // Then
+        assertTrue(RuntimeHintsPredicates.serialization().onType(Country.class).test(hints));
+    }
+
+    @Test
+    @DisplayName("Should register reflection hints for tax strategies")
+    void testStrategyHints() {
+        // Then
+        assertTrue(RuntimeHintsPredicates.reflection().onType(FranceTaxStrategy.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+    }
+
+    @Test
+    @DisplayName("Should include the FX rates and tax rules files in the native image")
+    void testResourceHints() {
+        // Then
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource(TaxCalculatorRuntimeHints.FX_RATES_RESOURCE).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource(TaxCalculatorRuntimeHints.TAX_RULES_RESOURCE).test(hints));
+    }
+}
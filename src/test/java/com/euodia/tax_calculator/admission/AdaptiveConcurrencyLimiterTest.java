@@ -0,0 +1,133 @@
+package com.euodia.tax_calculator.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour AdaptiveConcurrencyLimiter et TokenBucket
+ */
+@DisplayName("Admission Control Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long OBJECTIVE = TimeUnit.MILLISECONDS.toNanos(100);
+
+    // Simule `count` requêtes concurrentes de latence identique
+    private void simulate(AdaptiveConcurrencyLimiter limiter, int count, int concurrency, long rttNanos) {
+        for (int i = 0; i < count; i += concurrency) {
+            int admitted = 0;
+            for (int j = 0; j < concurrency; j++) {
+                if (limiter.tryAcquire()) {
+                    admitted++;
+                }
+            }
+            for (int j = 0; j < admitted; j++) {
+                limiter.release(rttNanos);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject requests beyond the current limit")
+    void testRejectBeyondLimit() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, OBJECTIVE);
+
+        // When & Then
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        limiter.release(1_000);
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Should lower the limit when latency grows with queueing")
+    void testLimitDecreasesWhenLatencyGrows() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200, OBJECTIVE);
+        simulate(limiter, 500, 20, TimeUnit.MILLISECONDS.toNanos(5));
+        int before = limiter.getLimit();
+
+        // When - latence 10 fois plus élevée, toujours sous l'objectif (avant réévaluation de la latence minimale)
+        simulate(limiter, 400, 20, TimeUnit.MILLISECONDS.toNanos(50));
+
+        // Then
+        assertTrue(limiter.getLimit() < before, "limit " + limiter.getLimit() + " should be below " + before);
+        assertTrue(limiter.getLimit() >= 4);
+    }
+
+    @Test
+    @DisplayName("Should raise the limit when saturated at stable latency")
+    void testLimitIncreasesAtStableLatency() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 4, 200, OBJECTIVE);
+
+        // When - toujours autant de requêtes que la limite le permet
+        for (int i = 0; i < 100; i++) {
+            simulate(limiter, 200, 200, TimeUnit.MILLISECONDS.toNanos(5));
+        }
+
+        // Then
+        assertTrue(limiter.getLimit() > 10);
+        assertTrue(limiter.getLimit() <= 200);
+    }
+
+    @Test
+    @DisplayName("Should not raise the limit when traffic stays far below it")
+    void testLimitStableWhenUnderused() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200, OBJECTIVE);
+
+        // When
+        simulate(limiter, 1000, 1, TimeUnit.MILLISECONDS.toNanos(5));
+
+        // Then
+        assertEquals(20, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Token bucket should allow a burst then throttle to its rate")
+    void testTokenBucket() {
+        // Given - 2 jetons, 10 jetons par seconde
+        long now = 0;
+        TokenBucket bucket = new TokenBucket(2, 10, now);
+
+        // When & Then
+        assertEquals(0, bucket.tryConsume(now));
+        assertEquals(0, bucket.tryConsume(now));
+        long wait = bucket.tryConsume(now);
+        assertTrue(wait > 0 && wait <= TimeUnit.MILLISECONDS.toNanos(100));
+
+        assertEquals(0, bucket.tryConsume(now + TimeUnit.MILLISECONDS.toNanos(100)));
+    }
+
+    @Test
+    @DisplayName("Should lower the limit while latency exceeds the objective, even without queueing")
+    void testLimitDecreasesAboveObjective() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50, 4, 200, OBJECTIVE);
+
+        // When - latence constante, deux fois l'objectif
+        simulate(limiter, 2000, 50, TimeUnit.MILLISECONDS.toNanos(200));
+
+        // Then
+        assertTrue(limiter.getLimit() < 50);
+    }
+
+    @Test
+    @DisplayName("Should classify endpoints")
+    void testEndpointClassification() {
+        assertEquals(EndpointClass.WITH_TAX, EndpointClass.of("GET", "/api/products/42/with-tax"));
+        assertEquals(EndpointClass.LOOKUP, EndpointClass.of("GET", "/api/products/42"));
+        assertEquals(EndpointClass.CATALOG, EndpointClass.of("GET", "/api/products"));
+        assertEquals(EndpointClass.CATALOG, EndpointClass.of("GET", "/api/products/search"));
+        assertEquals(EndpointClass.WRITE, EndpointClass.of("POST", "/api/products"));
+        assertEquals(EndpointClass.ORDER_QUOTE, EndpointClass.of("POST", "/api/orders/quote"));
+        assertNull(EndpointClass.of("GET", "/actuator/health"));
+    }
+}
\ No newline at end of file
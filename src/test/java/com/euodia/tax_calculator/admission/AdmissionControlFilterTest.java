@@ -0,0 +1,114 @@
+package com.euodia.tax_calculator.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests pour AdmissionControlFilter : réponses de refus et identification des clients
+ */
+@DisplayName("Admission Control Filter Tests")
+class AdmissionControlFilterTest {
+
+    private static final String PROXY = "10.0.0.1";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // Limite de concurrence fixe à 1 ; seau d'un jeton par client, rechargé en 10 secondes
+    private AdmissionControlFilter filter(boolean clientRateLimit) {
+        return new AdmissionControlFilter(meterRegistry, true, 1, 1, 1, Duration.ofMillis(100),
+                clientRateLimit, 0.1, 1, List.of(PROXY));
+    }
+
+    private static MockHttpServletRequest lookup(String remoteAddress, String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/1");
+        request.setRemoteAddr(remoteAddress);
+        if (clientId != null) {
+            request.addHeader("X-Client-Id", clientId);
+        }
+        return request;
+    }
+
+    private static MockHttpServletResponse send(AdmissionControlFilter filter, MockHttpServletRequest request)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Test
+    @DisplayName("Should reject requests beyond the concurrency limit with 503 and Retry-After")
+    void testOverload() throws Exception {
+        // Given
+        AdmissionControlFilter filter = filter(false);
+        MockHttpServletResponse nested = new MockHttpServletResponse();
+        // La seconde requête arrive pendant le traitement de la première
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response)
+                    throws IOException, ServletException {
+                filter.doFilter(lookup("192.168.1.2", null), nested, new MockFilterChain());
+            }
+        };
+
+        // When
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(lookup("192.168.1.1", null), first, chain);
+
+        // Then
+        assertEquals(200, first.getStatus());
+        assertEquals(503, nested.getStatus());
+        assertEquals("1", nested.getHeader("Retry-After"));
+        assertEquals("{\"status\":503,\"error\":\"Server overloaded\"}", nested.getContentAsString());
+        assertEquals(1, meterRegistry.counter("admission.rejected", "endpoint", "lookup", "reason", "overload").count());
+        assertEquals(200, send(filter, lookup("192.168.1.2", null)).getStatus());
+    }
+
+    @Test
+    @DisplayName("Should rate limit clients by address with 429 and Retry-After")
+    void testClientRateLimit() throws Exception {
+        // Given
+        AdmissionControlFilter filter = filter(true);
+        assertEquals(200, send(filter, lookup("192.168.1.1", "a")).getStatus());
+
+        // When : un nouvel X-Client-Id ne donne pas de nouveau seau sans proxy de confiance
+        MockHttpServletResponse limited = send(filter, lookup("192.168.1.1", "b"));
+
+        // Then
+        assertEquals(429, limited.getStatus());
+        assertEquals("10", limited.getHeader("Retry-After"));
+        assertEquals("{\"status\":429,\"error\":\"Client request rate exceeded\"}", limited.getContentAsString());
+        assertEquals(1, meterRegistry.counter("admission.rejected",
+                "endpoint", "lookup", "reason", "client-rate-limit").count());
+        assertEquals(200, send(filter, lookup("192.168.1.2", null)).getStatus());
+    }
+
+    @Test
+    @DisplayName("Should identify clients by X-Client-Id only behind a trusted proxy")
+    void testTrustedProxy() throws Exception {
+        // Given
+        AdmissionControlFilter filter = filter(true);
+
+        // When
+        int first = send(filter, lookup(PROXY, "a")).getStatus();
+        int otherClient = send(filter, lookup(PROXY, "b")).getStatus();
+        int sameClient = send(filter, lookup(PROXY, "a")).getStatus();
+
+        // Then
+        assertEquals(200, first);
+        assertEquals(200, otherClient);
+        assertEquals(429, sameClient);
+    }
+}
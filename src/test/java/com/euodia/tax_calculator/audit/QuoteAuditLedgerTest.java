@@ -0,0 +1,244 @@
+package com.euodia.tax_calculator.audit;
+
+import com.euodia.tax_calculator.dto.ProductWithTaxResponse;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Currency;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests pour QuoteAuditLedger, sur un répertoire temporaire
+ */
+@DisplayName("Quote Audit Ledger Tests")
+class QuoteAuditLedgerTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+    private static final long START = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    @TempDir
+    Path auditDirectory;
+
+    private final List<QuoteAuditLedger> opened = new ArrayList<>();
+
+    private QuoteAuditLedger open(int maxSegmentRecords) {
+        QuoteAuditLedger ledger = new QuoteAuditLedger(true, auditDirectory.toString(), Duration.ofHours(1),
+                Duration.ofMinutes(10), maxSegmentRecords, 1024, new SimpleMeterRegistry());
+        opened.add(ledger);
+        return ledger;
+    }
+
+    private static ProductWithTaxResponse quote(long id, Country country, String basePrice) {
+        BigDecimal price = new BigDecimal(basePrice);
+        BigDecimal tax = price.multiply(new BigDecimal("0.20"));
+        return new ProductWithTaxResponse(id, "Produit " + id, price, country, country.getDefaultCurrency(), tax,
+                price.add(tax), country.name() + " strategy");
+    }
+
+    @AfterEach
+    void tearDown() {
+        opened.forEach(QuoteAuditLedger::close);
+    }
+
+    @Test
+    @DisplayName("Should return recorded quotes of a time range in chronological order")
+    void testTimeRangeQuery() {
+        // Given - une cotation par minute pendant trois heures, enregistrées dans le désordre par heure
+        QuoteAuditLedger ledger = open(100_000);
+        for (int hour = 2; hour >= 0; hour--) {
+            for (int minute = 0; minute < 60; minute++) {
+                long id = hour * 60L + minute;
+                ledger.record(quote(id, Country.FRANCE, "10.00"), START + id * 60_000);
+            }
+        }
+
+        // When
+        ledger.flush();
+        QuoteAuditLedger.QueryResult result = ledger.query(Instant.ofEpochMilli(START + 30 * 60_000),
+                Instant.ofEpochMilli(START + 90 * 60_000), null, 1000);
+
+        // Then - une tranche par heure, seuls les deux premières sont lues
+        assertEquals(3, ledger.getSegmentCount());
+        assertEquals(60, result.records().size());
+        assertEquals(Long.valueOf(30), result.records().get(0).productId());
+        assertEquals(Long.valueOf(89), result.records().get(59).productId());
+        assertEquals(2, result.segmentsScanned());
+        assertEquals(1, result.segmentsSkipped());
+        assertFalse(result.truncated());
+    }
+
+    @Test
+    @DisplayName("Should filter by country and skip segments without that country")
+    void testCountryQuery() {
+        // Given
+        QuoteAuditLedger ledger = open(100_000);
+        ledger.record(quote(1, Country.FRANCE, "10.00"), START);
+        ledger.record(quote(2, Country.US, "20.00"), START + 1);
+        ledger.flush();
+        ledger.record(quote(3, Country.FRANCE, "30.00"), START + 2);
+        ledger.flush();
+
+        // When
+        QuoteAuditLedger.QueryResult us = ledger.query(Instant.ofEpochMilli(START), Instant.ofEpochMilli(START + HOUR),
+                Country.US, 1000);
+        QuoteAuditLedger.QueryResult canada = ledger.query(Instant.ofEpochMilli(START),
+                Instant.ofEpochMilli(START + HOUR), Country.CANADA, 1000);
+
+        // Then
+        assertEquals(1, us.records().size());
+        assertEquals(Long.valueOf(2), us.records().get(0).productId());
+        assertEquals(Currency.USD, us.records().get(0).currency());
+        assertEquals(1, us.segmentsScanned());
+        assertEquals(1, us.segmentsSkipped());
+        assertTrue(canada.records().isEmpty());
+        assertEquals(0, canada.segmentsScanned());
+    }
+
+    @Test
+    @DisplayName("Should keep every field, including the scale of amounts")
+    void testRoundTrip() {
+        // Given
+        QuoteAuditLedger ledger = open(100_000);
+        ProductWithTaxResponse big = new ProductWithTaxResponse(Long.MAX_VALUE, "Château \"été\"",
+                new BigDecimal("123456789012345678901234567890.10"), Country.CANADA, Currency.EUR,
+                new BigDecimal("0.000"), new BigDecimal("-1E+3"), null);
+        ProductWithTaxResponse sparse = new ProductWithTaxResponse(null, null, null, null, null, null, null, null);
+
+        // When
+        ledger.record(big, START);
+        ledger.record(sparse, START + 1);
+        ledger.flush();
+        List<QuoteAuditRecord> records = ledger.query(Instant.ofEpochMilli(START), Instant.ofEpochMilli(START + 2),
+                null, 10).records();
+
+        // Then
+        assertEquals(QuoteAuditRecord.of(big, START), records.get(0));
+        assertEquals("0.000", records.get(0).taxAmount().toPlainString());
+        assertEquals(new QuoteAuditRecord(Instant.ofEpochMilli(START + 1), 0L, null, null, null, null, null, null,
+                null), records.get(1));
+    }
+
+    @Test
+    @DisplayName("Should split large batches and truncate results at the limit")
+    void testLimit() {
+        // Given
+        QuoteAuditLedger ledger = open(100);
+        for (int i = 0; i < 1_000; i++) {
+            ledger.record(quote(i, Country.US, "5.00"), START + i);
+        }
+        ledger.flush();
+
+        // When
+        QuoteAuditLedger.QueryResult result = ledger.query(Instant.ofEpochMilli(START),
+                Instant.ofEpochMilli(START + HOUR), null, 250);
+
+        // Then - trois segments suffisent, les suivants ne sont pas lus
+        assertEquals(10, ledger.getSegmentCount());
+        assertEquals(250, result.records().size());
+        assertEquals(Long.valueOf(249), result.records().get(249).productId());
+        assertTrue(result.truncated());
+        assertEquals(3, result.segmentsScanned());
+        assertEquals(7, result.segmentsSkipped());
+        assertThrows(IllegalArgumentException.class,
+                () -> ledger.query(Instant.ofEpochMilli(START), Instant.ofEpochMilli(START), null, 10));
+    }
+
+    @Test
+    @DisplayName("Should reload segments after a restart and write the last quotes on close")
+    void testRestart() throws Exception {
+        // Given
+        QuoteAuditLedger ledger = open(100_000);
+        ledger.record(quote(1, Country.FRANCE, "10.00"), START);
+        ledger.flush();
+        ledger.record(quote(2, Country.FRANCE, "10.00"), START + HOUR);
+        ledger.close();
+
+        // When
+        QuoteAuditLedger restarted = open(100_000);
+        restarted.record(quote(3, Country.FRANCE, "10.00"), START + 2);
+        restarted.flush();
+
+        // Then
+        assertEquals(3, restarted.getSegmentCount());
+        assertEquals(List.of(1L, 3L, 2L), restarted.query(Instant.ofEpochMilli(START),
+                Instant.ofEpochMilli(START + 2 * HOUR), Country.FRANCE, 10).records().stream()
+                .map(QuoteAuditRecord::productId).toList());
+        try (Stream<Path> partitions = Files.list(auditDirectory)) {
+            assertEquals(List.of("20250101-0000", "20250101-0100"),
+                    partitions.map(p -> p.getFileName().toString()).sorted().toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Should ignore quotes when disabled")
+    void testDisabled() {
+        // Given
+        QuoteAuditLedger ledger = QuoteAuditLedger.disabled();
+
+        // When
+        boolean recorded = ledger.record(quote(1, Country.US, "1.00"));
+        ledger.flush();
+
+        // Then
+        assertTrue(recorded);
+        assertFalse(ledger.isEnabled());
+        assertEquals(0, ledger.getSegmentCount());
+    }
+
+    @Test
+    @DisplayName("Should reject quotes when the queue stays full, then give up after repeated write failures")
+    void testWriteFailure() throws Exception {
+        // Given - un fichier à la place du répertoire : chaque écriture de segment échoue
+        Path notADirectory = Files.createFile(auditDirectory.resolve("audit"));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        QuoteAuditLedger ledger = new QuoteAuditLedger(true, notADirectory.toString(), Duration.ofHours(1),
+                Duration.ofMinutes(10), 1, 1, Duration.ofMillis(50), 3, meterRegistry);
+        opened.add(ledger);
+        QuoteAuditHealthIndicator health = new QuoteAuditHealthIndicator(ledger);
+
+        assertTrue(ledger.record(quote(1, Country.FRANCE, "10.00"), START));
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (ledger.getQueued() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // When - le thread d'écriture retente la première cotation, la file d'une place se remplit
+        boolean queued = ledger.record(quote(2, Country.FRANCE, "10.00"), START);
+        long start = System.nanoTime();
+        boolean overflow = ledger.record(quote(3, Country.FRANCE, "10.00"), START);
+        long waitedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // Then
+        assertTrue(queued);
+        assertFalse(overflow);
+        assertTrue(waitedMillis >= 40 && waitedMillis < 1000, "waited " + waitedMillis + " ms");
+        assertEquals(1, meterRegistry.counter("audit.quotes.blocked").count());
+        assertEquals(1, meterRegistry.counter("audit.quotes.rejected").count());
+        assertEquals("UP", health.health().getStatus().getCode());
+
+        // Then - abandon après trois tentatives : cotations refusées sans attente, santé DOWN, arrêt immédiat
+        deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (ledger.getFailure() == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertNotNull(ledger.getFailure());
+        assertFalse(ledger.record(quote(4, Country.FRANCE, "10.00"), START));
+        assertEquals(2, meterRegistry.counter("audit.quotes.lost").count());
+        assertEquals("DOWN", health.health().getStatus().getCode());
+        assertThrows(IllegalStateException.class, ledger::flush);
+        assertTimeoutPreemptively(Duration.ofSeconds(2), ledger::close);
+    }
+}
@@ -0,0 +1,77 @@
+package com.euodia.tax_calculator.benchmark;
+
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.pricing.BulkTaxKernel;
+import com.euodia.tax_calculator.pricing.MinorUnits;
+import com.euodia.tax_calculator.pricing.ScalarBulkTaxKernel;
+import com.euodia.tax_calculator.pricing.TaxRate;
+import com.euodia.tax_calculator.pricing.VectorBulkTaxKernel;
+import com.euodia.tax_calculator.strategy.FranceTaxStrategy;
+import com.euodia.tax_calculator.strategy.TaxStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recalcul des taxes d'un catalogue d'un million de produits, sur un seul cœur :
+ * une stratégie BigDecimal par produit, contre les noyaux scalaire et vectoriel sur des colonnes de centimes.
+ * Le score est exprimé en produits par seconde.
+ *
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.include=BulkTaxBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OperationsPerInvocation(BulkTaxBenchmark.CATALOG_SIZE)
+public class BulkTaxBenchmark {
+
+    static final int CATALOG_SIZE = 1_000_000;
+
+    private final TaxStrategy strategy = new FranceTaxStrategy();
+    private final BulkTaxKernel scalarKernel = new ScalarBulkTaxKernel();
+    private final BulkTaxKernel vectorKernel = new VectorBulkTaxKernel();
+
+    private Product[] products;
+    private long[] pricesMinor;
+    private long[] taxesMinor;
+    private TaxRate rate;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+        Random random = new Random(42);
+        products = new Product[CATALOG_SIZE];
+        pricesMinor = new long[CATALOG_SIZE];
+        taxesMinor = new long[CATALOG_SIZE];
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            pricesMinor[i] = random.nextInt(10_000_000);
+            products[i] = new Product((long) i, "Product " + i, MinorUnits.toAmount(pricesMinor[i]), Country.FRANCE);
+        }
+        rate = TaxRate.of(strategy.getRate());
+    }
+
+    @Benchmark
+    public void bigDecimalStrategy(Blackhole blackhole) {
+        for (Product product : products) {
+            blackhole.consume(strategy.calculateTax(product));
+        }
+    }
+
+    @Benchmark
+    public long[] scalarKernel() {
+        scalarKernel.computeTaxes(pricesMinor, taxesMinor, CATALOG_SIZE, rate);
+        return taxesMinor;
+    }
+
+    @Benchmark
+    public long[] vectorKernel() {
+        vectorKernel.computeTaxes(pricesMinor, taxesMinor, CATALOG_SIZE, rate);
+        return taxesMinor;
+    }
+}
@@ -0,0 +1,98 @@
+package com.euodia.tax_calculator.benchmark;
+
+import com.euodia.tax_calculator.bulkhead.Bulkhead;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.service.ProductService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latence des lectures d'un produit pendant des parcours du catalogue (sérialisation JSON de tout le catalogue).
+ * "shared" exécute lectures et parcours dans un seul pool de 8 threads, comme les threads du serveur ;
+ * "bulkheads" donne 6 threads aux lectures et 2 aux parcours. Huit clients lancent des parcours en continu :
+ * dans le pool partagé, ils occupent tous les threads et les lectures attendent derrière eux.
+ * Comparer la distribution des latences de "lookup" (p99, p99.9) entre les deux modes.
+ *
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.include=BulkheadBenchmark
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class BulkheadBenchmark {
+
+    private static final int PRODUCTS = 20_000;
+
+    @Param({"shared", "bulkheads"})
+    private String mode;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ProductService productService;
+    private long[] productIds;
+    private Bulkhead point;
+    private Bulkhead scan;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+        productService = new ProductService();
+        Country[] countries = Country.values();
+        productIds = new long[PRODUCTS];
+        for (int i = 0; i < PRODUCTS; i++) {
+            productIds[i] = productService.addProduct(new Product("Produit " + i,
+                    BigDecimal.valueOf(100 + i % 5_000, 2), countries[i % countries.length])).getId();
+        }
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Duration maxQueueWait = Duration.ofMinutes(1);
+        if (mode.equals("shared")) {
+            point = new Bulkhead("shared", 8, 1024, maxQueueWait, Bulkhead.RejectionPolicy.REJECT, meterRegistry);
+            scan = point;
+        } else {
+            point = new Bulkhead("point", 6, 1024, maxQueueWait, Bulkhead.RejectionPolicy.REJECT, meterRegistry);
+            scan = new Bulkhead("scan", 2, 1024, maxQueueWait, Bulkhead.RejectionPolicy.REJECT, meterRegistry);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        point.shutdown();
+        scan.shutdown();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(16)
+    public Optional<Product> lookup() {
+        long id = productIds[ThreadLocalRandom.current().nextInt(PRODUCTS)];
+        return point.submit(() -> productService.getProductById(id)).join();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(8)
+    public Void catalogScan() {
+        // Sérialisation en flux, comme GET /api/products (le corps n'est pas construit en mémoire)
+        return scan.submit(() -> {
+            try {
+                objectMapper.writeValue(OutputStream.nullOutputStream(), productService.getProductsView());
+                return (Void) null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).join();
+    }
+}
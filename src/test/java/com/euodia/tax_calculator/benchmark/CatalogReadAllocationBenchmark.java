@@ -0,0 +1,70 @@
+package com.euodia.tax_calculator.benchmark;
+
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.service.ProductService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Octets alloués par lecture du catalogue complet (GET /api/products), avant et après le passage
+ * à des produits immuables : "defensiveCopy" reproduit l'ancienne copie de la Map à chaque lecture,
+ * "view" lit la vue en lecture seule retournée aujourd'hui. Les variantes "serialize" ajoutent
+ * l'écriture JSON de la réponse, pour situer le gain par rapport au coût total d'une requête.
+ * À lancer avec le profileur GC pour comparer gc.alloc.rate.norm.
+ *
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.include=CatalogReadAllocationBenchmark -Dbenchmark.args="-prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CatalogReadAllocationBenchmark {
+
+    @Param({"100", "10000"})
+    private int catalogSize;
+
+    private ProductService productService;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+        productService = new ProductService();
+        Country[] countries = Country.values();
+        for (int i = 0; i < catalogSize; i++) {
+            productService.addProduct(new Product("Product " + i,
+                    BigDecimal.valueOf(1_000 + i, 2), countries[i % countries.length]));
+        }
+        objectMapper = new ObjectMapper();
+    }
+
+    @Benchmark
+    public Map<Long, Product> defensiveCopy() {
+        return new HashMap<>(productService.getProductsView());
+    }
+
+    @Benchmark
+    public Map<Long, Product> view() {
+        return productService.getProductsView();
+    }
+
+    @Benchmark
+    public void serializeDefensiveCopy() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), new HashMap<>(productService.getProductsView()));
+    }
+
+    @Benchmark
+    public void serializeView() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), productService.getProductsView());
+    }
+}
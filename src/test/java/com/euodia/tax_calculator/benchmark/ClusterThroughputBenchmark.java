@@ -0,0 +1,105 @@
+package com.euodia.tax_calculator.benchmark;
+
+import com.euodia.tax_calculator.TaxCalculatorApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Débit des lectures avec taxe sur un cluster de 1, 2 ou 4 nœuds démarrés dans la JVM du benchmark.
+ * Chaque requête entre par un nœud au hasard et vise un produit au hasard : avec n nœuds,
+ * (n-1)/n des requêtes sont transmises au propriétaire, ce qui mesure le coût du saut réseau.
+ * Les nœuds partagent ici les mêmes cœurs : pour mesurer le passage à l'échelle, lancer un nœud
+ * par machine et utiliser le générateur de charge (-Dloadtest.baseUrl=url1,url2,...).
+ *
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.include=ClusterThroughputBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(32)
+public class ClusterThroughputBenchmark {
+
+    private static final int PRODUCTS = 10_000;
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    @Param({"1", "2", "4"})
+    private int nodeCount;
+
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+    private final List<URI> urls = new ArrayList<>();
+    private long[] productIds;
+    private HttpClient client;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        BenchmarkSupport.quietLogging();
+
+        List<String> nodeUrls = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            try (ServerSocket socket = new ServerSocket(0)) {
+                nodeUrls.add("http://localhost:" + socket.getLocalPort());
+            }
+        }
+        for (String url : nodeUrls) {
+            nodes.add(new SpringApplicationBuilder(TaxCalculatorApplication.class).run(
+                    "--server.port=" + url.substring(url.lastIndexOf(':') + 1),
+                    "--logging.level.root=WARN",
+                    "--cluster.enabled=true",
+                    "--cluster.self=" + url,
+                    "--cluster.nodes=" + String.join(",", nodeUrls)));
+            urls.add(URI.create(url));
+        }
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        productIds = new long[PRODUCTS];
+        for (int i = 0; i < PRODUCTS; i++) {
+            String body = String.format(Locale.ROOT, "{\"name\":\"Cluster product %d\",\"price\":%d.99,\"country\":\"FRANCE\"}",
+                    i, 1 + i % 1000);
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(urls.get(i % nodeCount).resolve("/api/products"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            Matcher id = ID_PATTERN.matcher(response.body());
+            if (response.statusCode() != 201 || !id.find()) {
+                throw new IllegalStateException("Seeding failed with HTTP " + response.statusCode());
+            }
+            productIds[i] = Long.parseLong(id.group(1));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+        nodes.clear();
+        urls.clear();
+    }
+
+    @Benchmark
+    public int getWithTax() throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        URI entry = urls.get(random.nextInt(urls.size()));
+        long id = productIds[random.nextInt(productIds.length)];
+        HttpResponse<byte[]> response = client.send(
+                HttpRequest.newBuilder(entry.resolve("/api/products/" + id + "/with-tax")).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        return response.statusCode();
+    }
+}
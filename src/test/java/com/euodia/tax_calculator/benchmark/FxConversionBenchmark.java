@@ -0,0 +1,85 @@
+package com.euodia.tax_calculator.benchmark;
+
+import com.euodia.tax_calculator.dto.ProductWithTaxResponse;
+import com.euodia.tax_calculator.fx.FxRateService;
+import com.euodia.tax_calculator.fx.FxRateTable;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Currency;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.service.ProductQuoteService;
+import com.euodia.tax_calculator.service.ProductService;
+import com.euodia.tax_calculator.service.TaxCalculationService;
+import com.euodia.tax_calculator.strategy.CanadaTaxStrategy;
+import com.euodia.tax_calculator.strategy.FranceTaxStrategy;
+import com.euodia.tax_calculator.strategy.UsTaxStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût de la conversion de devise sur le chemin de calcul du prix taxé.
+ * À lancer avec le profileur GC pour comparer les octets alloués par opération (gc.alloc.rate.norm) :
+ * une cotation convertie doit allouer autant qu'une cotation dans la devise du produit,
+ * et la conversion en unités mineures ne rien allouer.
+ *
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.include=FxConversionBenchmark -Dbenchmark.args="-prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FxConversionBenchmark {
+
+    private static final BigDecimal NAIVE_RATE = new BigDecimal("0.92");
+
+    private ProductQuoteService quoteService;
+    private FxRateTable rates;
+    private Product product;
+    private BigDecimal amount;
+    private long minorUnits;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+        FxRateService fxRateService = new FxRateService(new ClassPathResource("fx-rates.csv"));
+        quoteService = new ProductQuoteService(new ProductService(),
+                new TaxCalculationService(new UsTaxStrategy(), new CanadaTaxStrategy(), new FranceTaxStrategy()),
+                fxRateService, new SimpleMeterRegistry());
+        rates = fxRateService.getRates();
+        product = new Product(1L, "iPhone 15", new BigDecimal("999.99"), Country.US);
+        amount = new BigDecimal("999.99");
+        minorUnits = 99_999L;
+    }
+
+    @Benchmark
+    public ProductWithTaxResponse quoteInProductCurrency() {
+        return quoteService.quote(product, null);
+    }
+
+    @Benchmark
+    public ProductWithTaxResponse quoteInOtherCurrency() {
+        return quoteService.quote(product, Currency.EUR);
+    }
+
+    @Benchmark
+    public long convertMinorUnits() {
+        return rates.convertMinorUnits(minorUnits, Currency.USD, Currency.EUR);
+    }
+
+    @Benchmark
+    public BigDecimal convertAmount() {
+        return rates.convert(amount, Currency.USD, Currency.EUR);
+    }
+
+    // Référence : conversion directe en BigDecimal, sans matrice précompilée
+    @Benchmark
+    public BigDecimal convertAmountNaive() {
+        return amount.multiply(NAIVE_RATE).setScale(2, RoundingMode.HALF_UP);
+    }
+}
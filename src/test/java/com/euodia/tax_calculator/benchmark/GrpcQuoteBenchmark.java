@@ -0,0 +1,158 @@
+package com.euodia.tax_calculator.benchmark;
+
+import com.euodia.tax_calculator.TaxCalculatorApplication;
+import com.euodia.tax_calculator.grpc.GrpcServer;
+import com.euodia.tax_calculator.grpc.proto.QuoteReply;
+import com.euodia.tax_calculator.grpc.proto.QuoteRequest;
+import com.euodia.tax_calculator.grpc.proto.TaxQuoteServiceGrpc;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.service.ProductService;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.stub.StreamObserver;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cotations avec taxe par l'API REST (GET /api/products/{id}/with-tax, HTTP/1.1 et JSON)
+ * et par le service gRPC (un flux bidirectionnel par thread, HTTP/2 et protobuf),
+ * sur la même application démarrée dans la JVM du benchmark.
+ * Le mode Throughput donne les requêtes par seconde, le mode SampleTime les percentiles (p0.99).
+ * Les deux variantes attendent chaque réponse avant la demande suivante, pour comparer des latences
+ * à concurrence égale (32 threads).
+ *
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.include=GrpcQuoteBenchmark
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(32)
+public class GrpcQuoteBenchmark {
+
+    private static final int PRODUCTS = 10_000;
+
+    /**
+     * Application partagée par tous les threads
+     */
+    @State(Scope.Benchmark)
+    public static class Server {
+
+        ConfigurableApplicationContext context;
+        URI baseUrl;
+        HttpClient httpClient;
+        ManagedChannel channel;
+        long[] productIds;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            BenchmarkSupport.quietLogging();
+            int port;
+            try (ServerSocket socket = new ServerSocket(0)) {
+                port = socket.getLocalPort();
+            }
+            context = new SpringApplicationBuilder(TaxCalculatorApplication.class).run(
+                    "--server.port=" + port,
+                    "--grpc.server.port=0",
+                    "--logging.level.root=WARN");
+            baseUrl = URI.create("http://localhost:" + port);
+
+            ProductService productService = context.getBean(ProductService.class);
+            Country[] countries = Country.values();
+            productIds = new long[PRODUCTS];
+            for (int i = 0; i < PRODUCTS; i++) {
+                Product product = productService.addProduct(new Product("gRPC product " + i,
+                        BigDecimal.valueOf((1 + i % 1000) * 100L + 99, 2), countries[i % countries.length]));
+                productIds[i] = product.getId();
+            }
+
+            httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            channel = Grpc.newChannelBuilderForAddress("localhost", context.getBean(GrpcServer.class).getPort(),
+                    InsecureChannelCredentials.create()).build();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws InterruptedException {
+            channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+            context.close();
+        }
+
+        long randomId() {
+            return productIds[ThreadLocalRandom.current().nextInt(productIds.length)];
+        }
+    }
+
+    /**
+     * Flux de cotations propre à un thread : une demande envoyée, une réponse attendue
+     */
+    @State(Scope.Thread)
+    public static class QuoteStream implements StreamObserver<QuoteReply> {
+
+        private final BlockingQueue<Object> replies = new ArrayBlockingQueue<>(1);
+        private StreamObserver<QuoteRequest> requests;
+        private long nextRequestId;
+
+        @Setup(Level.Trial)
+        public void setUp(Server server) {
+            requests = TaxQuoteServiceGrpc.newStub(server.channel).streamQuotes(this);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            requests.onCompleted();
+        }
+
+        QuoteReply quote(long productId) throws InterruptedException {
+            requests.onNext(QuoteRequest.newBuilder().setRequestId(++nextRequestId).setProductId(productId).build());
+            Object reply = replies.take();
+            if (reply instanceof Throwable t) {
+                throw new IllegalStateException("Quote stream failed", t);
+            }
+            return (QuoteReply) reply;
+        }
+
+        @Override
+        public void onNext(QuoteReply reply) {
+            replies.add(reply);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            replies.offer(t);
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+    }
+
+    @Benchmark
+    public int restWithTax(Server server) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = server.httpClient.send(
+                HttpRequest.newBuilder(server.baseUrl.resolve("/api/products/" + server.randomId() + "/with-tax"))
+                        .GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        return response.statusCode();
+    }
+
+    @Benchmark
+    public long grpcStreamQuote(Server server, QuoteStream stream) throws InterruptedException {
+        return stream.quote(server.randomId()).getFinalPriceMinor();
+    }
+}
@@ -0,0 +1,70 @@
+package com.euodia.tax_calculator.benchmark;
+
+import com.euodia.tax_calculator.ids.IdAllocator;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Attribution d'IDs par des threads d'import concurrents :
+ * "sharedCounter" incrémente un AtomicLong commun, comme ProductService avant les plages louées ;
+ * "leasedRanges" attribue les IDs par blocs propres à chaque thread (IdAllocator, plages en mémoire) ;
+ * "persistedLeases" fait de même en écrivant chaque plage louée sur disque (ids.lease.directory).
+ * Le score est exprimé en IDs par seconde, tous threads confondus ; faire varier le nombre de threads
+ * pour comparer le passage à l'échelle (le compteur commun plafonne dès quelques threads).
+ *
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.include=IdAllocationBenchmark -Dbenchmark.args="-t 1"
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.include=IdAllocationBenchmark -Dbenchmark.args="-t 16"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+public class IdAllocationBenchmark {
+
+    private AtomicLong sharedCounter;
+    private IdAllocator leasedRanges;
+    private IdAllocator persistedLeases;
+    private Path leaseDirectory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        BenchmarkSupport.quietLogging();
+        sharedCounter = new AtomicLong(1);
+        leasedRanges = new IdAllocator();
+        leaseDirectory = Files.createTempDirectory("id-leases");
+        persistedLeases = new IdAllocator(() -> 0, leaseDirectory, 1_000, 100_000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (var files = Files.list(leaseDirectory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(leaseDirectory);
+    }
+
+    @Benchmark
+    public long sharedCounter() {
+        return sharedCounter.getAndIncrement();
+    }
+
+    @Benchmark
+    public long leasedRanges() {
+        return leasedRanges.nextId();
+    }
+
+    @Benchmark
+    public long persistedLeases() {
+        return persistedLeases.nextId();
+    }
+}
@@ -0,0 +1,90 @@
+package com.euodia.tax_calculator.benchmark;
+
+import com.euodia.tax_calculator.dto.OrderLineRequest;
+import com.euodia.tax_calculator.dto.OrderQuoteResponse;
+import com.euodia.tax_calculator.fx.FxRateService;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Currency;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.service.OrderQuoteService;
+import com.euodia.tax_calculator.service.ProductQuoteService;
+import com.euodia.tax_calculator.service.ProductService;
+import com.euodia.tax_calculator.service.TaxCalculationService;
+import com.euodia.tax_calculator.strategy.CanadaTaxStrategy;
+import com.euodia.tax_calculator.strategy.FranceTaxStrategy;
+import com.euodia.tax_calculator.strategy.UsTaxStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latence du calcul d'un panier, selon son nombre de lignes (produits de trois pays, en EUR) :
+ * "orderQuote" calcule tout le panier en un appel (regroupement par pays, centimes),
+ * "perLineQuotes" reproduit ce que faisait le client : une cotation /with-tax par ligne, puis la somme,
+ * sans compter les allers-retours réseau.
+ *
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.include=OrderQuoteBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class OrderQuoteBenchmark {
+
+    private static final int CATALOG_SIZE = 100_000;
+
+    @Param({"10", "1000", "10000"})
+    private int lineCount;
+
+    private OrderQuoteService orderQuoteService;
+    private ProductQuoteService productQuoteService;
+    private ProductService productService;
+    private List<OrderLineRequest> lines;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+        productService = new ProductService();
+        TaxCalculationService taxCalculationService = new TaxCalculationService(
+                new UsTaxStrategy(), new CanadaTaxStrategy(), new FranceTaxStrategy());
+        FxRateService fxRateService = new FxRateService(new ClassPathResource("fx-rates.csv"));
+        orderQuoteService = new OrderQuoteService(productService, taxCalculationService, fxRateService, lineCount);
+        productQuoteService = new ProductQuoteService(productService, taxCalculationService, fxRateService,
+                new SimpleMeterRegistry());
+
+        Random random = new Random(42);
+        Country[] countries = Country.values();
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            productService.addProduct(new Product("Product " + i,
+                    BigDecimal.valueOf(100 + random.nextInt(1_000_000), 2), countries[i % countries.length]));
+        }
+        lines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            lines.add(new OrderLineRequest(1L + random.nextInt(CATALOG_SIZE), 1 + random.nextInt(10)));
+        }
+    }
+
+    @Benchmark
+    public OrderQuoteResponse orderQuote() {
+        return orderQuoteService.quote(lines, Currency.EUR);
+    }
+
+    @Benchmark
+    public BigDecimal perLineQuotes() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (OrderLineRequest line : lines) {
+            Product product = productService.getProductById(line.getProductId()).orElseThrow();
+            BigDecimal finalPrice = productQuoteService.quote(product, Currency.EUR).getFinalPrice();
+            total = total.add(finalPrice.multiply(BigDecimal.valueOf(line.getQuantity())));
+        }
+        return total;
+    }
+}
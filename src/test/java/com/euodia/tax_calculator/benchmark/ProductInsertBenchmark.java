@@ -0,0 +1,45 @@
+package com.euodia.tax_calculator.benchmark;
+
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.service.ProductDeduplicator;
+import com.euodia.tax_calculator.service.ProductService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Débit d'insertion de produits nouveaux, avec et sans dédoublonnage.
+ * Le cas mesuré est le plus fréquent d'un flux catalogue : un produit jamais vu,
+ * reconnu par le filtre de Bloom sans consulter l'index exact.
+ *
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.include=ProductInsertBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ProductInsertBenchmark {
+
+    @Param({"false", "true"})
+    private boolean deduplication;
+
+    private ProductService productService;
+    private long sequence;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+        productService = new ProductService(new ProductDeduplicator(deduplication,
+                ProductDeduplicator.NaturalKeyField.values(), 20_000_000, 0.01));
+    }
+
+    @Benchmark
+    public Product insertNewProduct() {
+        long n = sequence++;
+        return productService.addProduct(new Product("Product " + n, BigDecimal.valueOf(n % 100_000, 2), Country.US));
+    }
+}
@@ -0,0 +1,115 @@
+package com.euodia.tax_calculator.benchmark;
+
+import com.euodia.tax_calculator.ids.IdAllocator;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.repository.InMemoryProductRepository;
+import com.euodia.tax_calculator.repository.JdbcProductRepository;
+import com.euodia.tax_calculator.repository.ProductRepository;
+import com.euodia.tax_calculator.service.ProductDeduplicator;
+import com.euodia.tax_calculator.service.ProductService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Débit et latence du catalogue selon son stockage, par 8 threads concurrents :
+ * "memory" (Map en mémoire) ou "jdbc" (base H2 en fichier chargée en mémoire, écritures regroupées par lots).
+ * "insert" ajoute un produit et attend, pour "jdbc", le lot qui l'enregistre en base : les écritures concurrentes
+ * partagent une transaction ; "getById" lit un produit existant parmi 100 000, servi par la Map en mémoire.
+ * Le mode Throughput donne les opérations par milliseconde, le mode SampleTime les percentiles.
+ *
+ * Sur une machine à un ou deux cœurs, les 8 threads débordent largement de chaque itération :
+ * -Dbenchmark.args="-t 1" donne des mesures plus stables.
+ *
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.include=ProductRepositoryBenchmark
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+public class ProductRepositoryBenchmark {
+
+    private static final int PRODUCTS = 100_000;
+
+    @Param({"memory", "jdbc"})
+    private String repositoryType;
+
+    private ProductRepository repository;
+    private ProductService productService;
+    private Path databaseDirectory;
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        BenchmarkSupport.quietLogging();
+        if ("jdbc".equals(repositoryType)) {
+            databaseDirectory = Files.createTempDirectory("product-db");
+            repository = new JdbcProductRepository("jdbc:h2:file:" + databaseDirectory.resolve("products"),
+                    "sa", "", 1_000);
+        } else {
+            repository = new InMemoryProductRepository();
+        }
+        productService = new ProductService(ProductDeduplicator.disabled(), 65_536, new IdAllocator(), repository);
+
+        List<Product> catalog = new ArrayList<>(PRODUCTS);
+        for (int i = 0; i < PRODUCTS; i++) {
+            catalog.add(new Product("Stored product " + i,
+                    BigDecimal.valueOf(i % 100_000, 2), Country.values()[i % Country.values().length]));
+        }
+        productService.importProducts(catalog);
+        ids = productService.getProductsView().keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+
+    // Retire les produits ajoutés pendant l'itération (IDs au-delà du catalogue initial) : sans cela le catalogue
+    // grossit d'une itération à l'autre, y compris pendant les phases non mesurées, jusqu'à épuiser le tas.
+    // Supprimés directement dans le stockage puis enregistrés en un seul flush, sans attendre un lot par produit
+    @TearDown(Level.Iteration)
+    public void removeInserted() {
+        long lastStoredId = ids[ids.length - 1];
+        for (Long id : List.copyOf(productService.getProductsView().keySet())) {
+            if (id > lastStoredId) {
+                repository.delete(id);
+            }
+        }
+        if (repository instanceof JdbcProductRepository jdbc) {
+            jdbc.flush();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (repository instanceof JdbcProductRepository jdbc) {
+            jdbc.close();
+            try (Stream<Path> files = Files.walk(databaseDirectory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public Product insert() {
+        long n = ThreadLocalRandom.current().nextLong(1_000_000);
+        return productService.addProduct(new Product("New product " + n, BigDecimal.valueOf(n, 2), Country.US));
+    }
+
+    @Benchmark
+    public Product getById() {
+        return productService.getProductById(ids[ThreadLocalRandom.current().nextInt(ids.length)]).orElseThrow();
+    }
+}
@@ -0,0 +1,74 @@
+package com.euodia.tax_calculator.benchmark;
+
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.service.ProductSearchService;
+import com.euodia.tax_calculator.service.ProductService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latence de la recherche par nom et empreinte mémoire de l'index inversé.
+ * La mémoire par produit est affichée à la fin de la préparation de chaque essai.
+ *
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.include=ProductSearchBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms12g", "-Xmx12g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ProductSearchBenchmark {
+
+    private static final String[] BRANDS = {"apple", "samsung", "sony", "lg", "dell", "hp", "lenovo", "asus",
+            "acer", "philips", "bosch", "canon", "nikon", "xiaomi", "huawei", "google", "microsoft", "garmin",
+            "logitech", "razer"};
+    private static final String[] KINDS = {"phone", "laptop", "tablet", "tv", "monitor", "camera", "watch",
+            "headphones", "speaker", "keyboard", "mouse", "router", "printer", "console", "charger", "cable"};
+
+    @Param({"1000000", "10000000"})
+    private int productCount;
+
+    private ProductSearchService searchService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+
+        ProductService productService = new ProductService();
+        Random random = new Random(42);
+        for (int i = 0; i < productCount; i++) {
+            String name = BRANDS[random.nextInt(BRANDS.length)] + " " + KINDS[random.nextInt(KINDS.length)]
+                    + " model" + random.nextInt(50_000) + " " + (2015 + random.nextInt(10));
+            productService.addProduct(new Product(name, BigDecimal.valueOf(random.nextInt(100_000), 2), Country.US));
+        }
+
+        long heapBefore = BenchmarkSupport.usedHeapAfterGc();
+        searchService = new ProductSearchService(productService);
+        long heapAfter = BenchmarkSupport.usedHeapAfterGc();
+
+        System.out.printf("%n[index] %d products: %.1f bytes/product estimated, %.1f bytes/product measured on heap%n",
+                productCount,
+                (double) searchService.estimatedMemoryBytes() / productCount,
+                (double) (heapAfter - heapBefore) / productCount);
+    }
+
+    @Benchmark
+    public ProductSearchService.SearchPage rareTerm() {
+        return searchService.search("model12345", 0, 20);
+    }
+
+    @Benchmark
+    public ProductSearchService.SearchPage commonTerm() {
+        return searchService.search("laptop", 0, 20);
+    }
+
+    @Benchmark
+    public ProductSearchService.SearchPage rankedThreeTerms() {
+        return searchService.search("samsung tv 2020", 0, 20);
+    }
+}
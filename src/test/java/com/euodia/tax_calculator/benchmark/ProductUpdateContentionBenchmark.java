@@ -0,0 +1,78 @@
+package com.euodia.tax_calculator.benchmark;
+
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.service.ProductService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mises à jour concurrentes par compare-and-set sur la version, pendant que d'autres threads lisent.
+ * Chaque écrivain relit le produit et réessaie tant que sa version est dépassée ; hotProducts fixe
+ * le nombre de produits visés (1 : tous les écrivains sur le même produit).
+ * Les compteurs "conflicts" et "updates" donnent le taux de conflits ; le débit des lecteurs
+ * montre qu'ils ne sont pas ralentis par les écritures.
+ *
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.include=ProductUpdateContentionBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ProductUpdateContentionBenchmark {
+
+    @Param({"1", "16", "1024"})
+    private int hotProducts;
+
+    private ProductService productService;
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+        productService = new ProductService();
+        ids = new long[hotProducts];
+        for (int i = 0; i < hotProducts; i++) {
+            ids[i] = productService.addProduct(new Product("Hot product " + i, new BigDecimal("100.00"), Country.US))
+                    .getId();
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WriterCounters {
+        public long updates;
+        public long conflicts;
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(8)
+    public ProductService.WriteResult update(WriterCounters counters) {
+        long id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+        while (true) {
+            Product current = productService.getProductById(id).orElseThrow();
+            ProductService.WriteResult result = productService.updateProduct(id, current.getVersion(),
+                    new Product(current.getName(), current.getPrice().add(BigDecimal.ONE), current.getCountry()));
+            if (result.status() != ProductService.WriteStatus.VERSION_CONFLICT) {
+                counters.updates++;
+                return result;
+            }
+            counters.conflicts++;
+        }
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(8)
+    public void read(Blackhole blackhole) {
+        long id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+        blackhole.consume(productService.getProductById(id));
+    }
+}
@@ -0,0 +1,108 @@
+package com.euodia.tax_calculator.benchmark;
+
+import com.euodia.tax_calculator.audit.QuoteAuditLedger;
+import com.euodia.tax_calculator.dto.ProductWithTaxResponse;
+import com.euodia.tax_calculator.fx.FxRateService;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.service.ProductQuoteService;
+import com.euodia.tax_calculator.service.ProductService;
+import com.euodia.tax_calculator.service.TaxCalculationService;
+import com.euodia.tax_calculator.strategy.CanadaTaxStrategy;
+import com.euodia.tax_calculator.strategy.FranceTaxStrategy;
+import com.euodia.tax_calculator.strategy.UsTaxStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Surcoût du registre d'audit sur le calcul des cotations (/with-tax) :
+ * "withoutAudit" calcule la cotation seule ; "withAudit" l'enregistre en plus dans le registre
+ * (file bornée, segments compressés écrits par le thread d'écriture dans un répertoire temporaire).
+ * Les deux modes mesurent le débit et la distribution des latences ; la taille des segments écrits
+ * (octets par cotation) est affichée à la fin de l'essai.
+ *
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.include=QuoteAuditBenchmark
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+public class QuoteAuditBenchmark {
+
+    private static final int PRODUCTS = 10_000;
+
+    private ProductQuoteService productQuoteService;
+    private QuoteAuditLedger ledger;
+    private SimpleMeterRegistry auditMetrics;
+    private Path auditDirectory;
+    private long[] productIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        BenchmarkSupport.quietLogging();
+        ProductService productService = new ProductService();
+        TaxCalculationService taxCalculationService = new TaxCalculationService(
+                new UsTaxStrategy(), new CanadaTaxStrategy(), new FranceTaxStrategy());
+        FxRateService fxRateService = new FxRateService(
+                new ByteArrayResource("USD,EUR,0.50\nUSD,CAD,1.25\nEUR,CAD,2.50\n".getBytes()));
+        productQuoteService = new ProductQuoteService(productService, taxCalculationService, fxRateService,
+                new SimpleMeterRegistry());
+
+        Country[] countries = Country.values();
+        productIds = new long[PRODUCTS];
+        for (int i = 0; i < PRODUCTS; i++) {
+            productIds[i] = productService.addProduct(new Product("Produit " + i,
+                    BigDecimal.valueOf(100 + i % 5_000, 2), countries[i % countries.length])).getId();
+        }
+
+        auditDirectory = Files.createTempDirectory("quote-audit");
+        auditMetrics = new SimpleMeterRegistry();
+        ledger = new QuoteAuditLedger(true, auditDirectory.toString(), Duration.ofHours(1), Duration.ofSeconds(1),
+                100_000, 65_536, auditMetrics);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        ledger.close();
+        double quotes = auditMetrics.counter("audit.quotes.recorded").count();
+        double bytes = auditMetrics.counter("audit.segments.bytes").count();
+        System.out.printf("Audit ledger: %.0f quotes in %d segments, %.1f bytes per quote%n",
+                quotes, ledger.getSegmentCount(), quotes > 0 ? bytes / quotes : 0);
+        try (Stream<Path> files = Files.walk(auditDirectory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private ProductWithTaxResponse quote() {
+        long id = productIds[ThreadLocalRandom.current().nextInt(PRODUCTS)];
+        return productQuoteService.quoteProduct(id, null).orElseThrow();
+    }
+
+    @Benchmark
+    public ProductWithTaxResponse withoutAudit() {
+        return quote();
+    }
+
+    @Benchmark
+    public ProductWithTaxResponse withAudit() {
+        ProductWithTaxResponse response = quote();
+        ledger.record(response);
+        return response;
+    }
+}
@@ -0,0 +1,69 @@
+package com.euodia.tax_calculator.benchmark;
+
+import com.euodia.tax_calculator.ids.IdAllocator;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.repository.InMemoryProductRepository;
+import com.euodia.tax_calculator.service.ProductSearchService;
+import com.euodia.tax_calculator.service.ProductService;
+import com.euodia.tax_calculator.service.ProductDeduplicator;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Import concurrent de produits avec l'index de recherche par nom à jour.
+ * Les noms partagent quelques termes fréquents (marques, types de produit) : leurs listes d'IDs reçoivent
+ * une part importante des ajouts. Avec des blocs d'IDs par thread (idBlockSize=1000), les IDs arrivent
+ * dans le désordre dans ces listes ; idBlockSize=1 donne des IDs presque croissants pour comparaison.
+ * Le score est exprimé en produits importés par seconde, tous threads confondus ; la mémoire de l'index
+ * par produit est affichée à la fin de chaque itération.
+ *
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.include=SearchIndexIngestBenchmark -Dbenchmark.args="-t 8"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+public class SearchIndexIngestBenchmark {
+
+    private static final String[] BRANDS = {"apple", "samsung", "sony", "lg", "dell", "hp", "lenovo", "asus"};
+    private static final String[] KINDS = {"phone", "laptop", "tablet", "tv", "monitor", "camera", "watch", "cable"};
+
+    @Param({"1", "1000"})
+    private int idBlockSize;
+
+    private ProductService productService;
+    private ProductSearchService searchService;
+
+    // Catalogue et index vides à chaque itération : la taille des listes reste comparable d'une itération à l'autre
+    @Setup(Level.Iteration)
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+        IdAllocator idAllocator = new IdAllocator(() -> 0, (Path) null, idBlockSize, 100_000);
+        productService = new ProductService(ProductDeduplicator.disabled(), 1024, idAllocator,
+                new InMemoryProductRepository());
+        searchService = new ProductSearchService(productService);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        System.out.printf("%n[index] %d products, %.1f bytes/product%n", searchService.getIndexedProductCount(),
+                (double) searchService.estimatedMemoryBytes() / Math.max(1, searchService.getIndexedProductCount()));
+    }
+
+    @Benchmark
+    public Product ingest() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String name = BRANDS[random.nextInt(BRANDS.length)] + " " + KINDS[random.nextInt(KINDS.length)]
+                + " model" + random.nextInt(50_000);
+        return productService.addProduct(new Product(name, BigDecimal.valueOf(random.nextInt(100_000), 2),
+                Country.US));
+    }
+}
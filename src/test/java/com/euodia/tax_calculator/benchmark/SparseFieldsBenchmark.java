@@ -0,0 +1,95 @@
+package com.euodia.tax_calculator.benchmark;
+
+import com.euodia.tax_calculator.dto.ProductWithTaxResponse;
+import com.euodia.tax_calculator.dto.QuoteField;
+import com.euodia.tax_calculator.fx.FxRateService;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Currency;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.service.ProductQuoteService;
+import com.euodia.tax_calculator.service.ProductService;
+import com.euodia.tax_calculator.service.TaxCalculationService;
+import com.euodia.tax_calculator.strategy.CanadaTaxStrategy;
+import com.euodia.tax_calculator.strategy.FranceTaxStrategy;
+import com.euodia.tax_calculator.strategy.UsTaxStrategy;
+import com.euodia.tax_calculator.util.FieldSet;
+import com.euodia.tax_calculator.util.SparseJson;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût d'une liste de 100 cotations (comme /top ou /price-range), calcul et sérialisation JSON compris :
+ * "full" calcule et écrit tous les champs avec le sérialiseur de bean de Jackson ;
+ * "sparse" ne calcule que les champs de ?fields= et les écrit directement (SparseJson) ; "full" ne dépend pas
+ * du paramètre et sert de référence.
+ * Le paramètre fields fait varier la projection, de la plus étroite (id,finalPrice) à la réponse complète ;
+ * la devise demandée (EUR) impose une conversion des montants.
+ *
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.include=SparseFieldsBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SparseFieldsBenchmark {
+
+    private static final int PRODUCTS = 100;
+
+    @Param({"id,finalPrice", "id,name,finalPrice", "id,finalPrice,taxStrategyUsed",
+            "id,name,basePrice,country,currency,taxAmount,finalPrice,taxStrategyUsed"})
+    public String fields;
+
+    private ProductQuoteService productQuoteService;
+    private ObjectMapper objectMapper;
+    private List<Product> products;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+        ProductService productService = new ProductService();
+        TaxCalculationService taxCalculationService = new TaxCalculationService(
+                new UsTaxStrategy(), new CanadaTaxStrategy(), new FranceTaxStrategy());
+        FxRateService fxRateService = new FxRateService(
+                new ByteArrayResource("USD,EUR,0.50\nUSD,CAD,1.25\nEUR,CAD,2.50\n".getBytes()));
+        productQuoteService = new ProductQuoteService(productService, taxCalculationService, fxRateService,
+                new SimpleMeterRegistry());
+        objectMapper = new ObjectMapper();
+
+        Country[] countries = Country.values();
+        products = new ArrayList<>(PRODUCTS);
+        for (int i = 0; i < PRODUCTS; i++) {
+            products.add(productService.addProduct(new Product("Produit " + i,
+                    BigDecimal.valueOf(1_000 + i * 37L, 2), countries[i % countries.length])));
+        }
+    }
+
+    @Benchmark
+    public byte[] full() throws JsonProcessingException {
+        List<ProductWithTaxResponse> responses = new ArrayList<>(PRODUCTS);
+        for (Product product : products) {
+            responses.add(productQuoteService.quote(product, Currency.EUR));
+        }
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] sparse() throws JsonProcessingException {
+        // Analyse de ?fields= comprise, comme dans le contrôleur
+        FieldSet<ProductWithTaxResponse> requested = QuoteField.SCHEMA.parse(fields);
+        List<ProductWithTaxResponse> responses = new ArrayList<>(PRODUCTS);
+        for (Product product : products) {
+            responses.add(productQuoteService.quote(product, Currency.EUR, requested));
+        }
+        return objectMapper.writeValueAsBytes(SparseJson.list(responses, requested));
+    }
+}
@@ -0,0 +1,65 @@
+package com.euodia.tax_calculator.benchmark;
+
+import com.euodia.tax_calculator.dto.TaxSimulationResponse;
+import com.euodia.tax_calculator.fx.FxRateService;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.service.ProductService;
+import com.euodia.tax_calculator.service.TaxCalculationService;
+import com.euodia.tax_calculator.service.TaxSimulationService;
+import com.euodia.tax_calculator.strategy.CanadaTaxStrategy;
+import com.euodia.tax_calculator.strategy.FranceTaxStrategy;
+import com.euodia.tax_calculator.strategy.UsTaxStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Durée d'une simulation de taux sur un catalogue de deux millions de produits, selon le nombre de threads.
+ * Le temps doit décroître à peu près proportionnellement au nombre de threads, jusqu'au nombre de cœurs.
+ *
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.include=TaxSimulationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "--add-modules", "jdk.incubator.vector"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class TaxSimulationBenchmark {
+
+    private static final int CATALOG_SIZE = 2_000_000;
+    private static final Map<Country, BigDecimal> RATES = Map.of(
+            Country.FRANCE, new BigDecimal("0.21"),
+            Country.US, new BigDecimal("0.09"),
+            Country.CANADA, new BigDecimal("0.13"));
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    private TaxSimulationService simulationService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+        ProductService productService = new ProductService();
+        Random random = new Random(42);
+        Country[] countries = Country.values();
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            productService.addProduct(new Product("Product " + i,
+                    BigDecimal.valueOf(random.nextInt(10_000_000), 2), countries[i % countries.length]));
+        }
+        simulationService = new TaxSimulationService(productService,
+                new TaxCalculationService(new UsTaxStrategy(), new CanadaTaxStrategy(), new FranceTaxStrategy()),
+                new FxRateService(new ClassPathResource("fx-rates.csv")), parallelism, 1);
+    }
+
+    @Benchmark
+    public TaxSimulationResponse simulateCatalog() {
+        return simulationService.simulate(RATES, 10);
+    }
+}
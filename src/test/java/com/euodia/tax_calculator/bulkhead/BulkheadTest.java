@@ -0,0 +1,191 @@
+package com.euodia.tax_calculator.bulkhead;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests pour Bulkhead : exécution dans le compartiment et politiques de refus
+ */
+@DisplayName("Bulkhead Tests")
+class BulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Bulkhead> opened = new ArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private Bulkhead open(int queueCapacity, Duration maxQueueWait, Bulkhead.RejectionPolicy policy) {
+        Bulkhead bulkhead = new Bulkhead("test", 1, queueCapacity, maxQueueWait, policy, meterRegistry);
+        opened.add(bulkhead);
+        return bulkhead;
+    }
+
+    // Occupe l'unique thread du compartiment jusqu'à release
+    private CompletableFuture<String> block(Bulkhead bulkhead) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<String> blocker = bulkhead.submit(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "blocker";
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return blocker;
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.counter("bulkhead.rejected", "bulkhead", "test", "reason", reason).count();
+    }
+
+    private static BulkheadRejectedException rejection(CompletableFuture<?> future) {
+        CompletionException e = assertThrows(CompletionException.class, future::join);
+        return assertInstanceOf(BulkheadRejectedException.class, e.getCause());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        opened.forEach(Bulkhead::shutdown);
+    }
+
+    @Test
+    @DisplayName("Should run tasks on the bulkhead threads")
+    void testSubmit() {
+        // Given
+        Bulkhead bulkhead = open(10, Duration.ofSeconds(10), Bulkhead.RejectionPolicy.REJECT);
+
+        // When
+        String thread = bulkhead.submit(() -> Thread.currentThread().getName()).join();
+        CompletableFuture<String> failed = bulkhead.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+
+        // Then
+        assertEquals("bulkhead-test-1", thread);
+        CompletionException e = assertThrows(CompletionException.class, failed::join);
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    @Test
+    @DisplayName("Should reject new tasks when the queue is full")
+    void testRejectPolicy() throws Exception {
+        // Given
+        Bulkhead bulkhead = open(1, Duration.ofSeconds(10), Bulkhead.RejectionPolicy.REJECT);
+        CompletableFuture<String> blocker = block(bulkhead);
+        CompletableFuture<String> queued = bulkhead.submit(() -> "queued");
+
+        // When
+        CompletableFuture<String> overflow = bulkhead.submit(() -> "overflow");
+
+        // Then
+        BulkheadRejectedException e = rejection(overflow);
+        assertEquals("test", e.getBulkhead());
+        assertEquals(Duration.ofSeconds(10), e.getRetryAfter());
+        assertThrows(BulkheadRejectedException.class, bulkhead::ensureCapacity);
+        assertEquals(2, rejected("full"));
+
+        release.countDown();
+        assertEquals("blocker", blocker.join());
+        assertEquals("queued", queued.join());
+        assertEquals(0, bulkhead.getQueued());
+        assertDoesNotThrow(bulkhead::ensureCapacity);
+    }
+
+    @Test
+    @DisplayName("Should shed the oldest queued task for a newer one")
+    void testShedOldestPolicy() throws Exception {
+        // Given
+        Bulkhead bulkhead = open(2, Duration.ofSeconds(10), Bulkhead.RejectionPolicy.SHED_OLDEST);
+        block(bulkhead);
+        CompletableFuture<String> first = bulkhead.submit(() -> "first");
+        CompletableFuture<String> second = bulkhead.submit(() -> "second");
+
+        // When
+        CompletableFuture<String> third = bulkhead.submit(() -> "third");
+
+        // Then
+        rejection(first);
+        assertEquals(1, rejected("shed"));
+        assertEquals(0, rejected("full"));
+        assertDoesNotThrow(bulkhead::ensureCapacity);
+
+        release.countDown();
+        assertEquals("second", second.join());
+        assertEquals("third", third.join());
+    }
+
+    @Test
+    @DisplayName("Should not run tasks that waited too long in the queue")
+    void testExpiredTask() throws Exception {
+        // Given
+        Bulkhead bulkhead = open(10, Duration.ofMillis(50), Bulkhead.RejectionPolicy.REJECT);
+        block(bulkhead);
+        CompletableFuture<String> late = bulkhead.submit(() -> "late");
+
+        // When
+        Thread.sleep(100);
+        release.countDown();
+
+        // Then
+        rejection(late);
+        assertEquals(1, rejected("expired"));
+        assertEquals("fresh", bulkhead.submit(() -> "fresh").join());
+    }
+
+    @Test
+    @DisplayName("Should not run tasks cancelled while queued")
+    void testCancelQueued() throws InterruptedException {
+        // Given
+        Bulkhead bulkhead = open(10, Duration.ofSeconds(10), Bulkhead.RejectionPolicy.REJECT);
+        CompletableFuture<String> blocker = block(bulkhead);
+        List<String> ran = new ArrayList<>();
+        CompletableFuture<String> cancelled = bulkhead.submit(() -> {
+            ran.add("cancelled");
+            return "cancelled";
+        });
+
+        // When
+        cancelled.cancel(false);
+        release.countDown();
+
+        // Then
+        assertEquals("blocker", blocker.join());
+        assertEquals("next", bulkhead.submit(() -> "next").join());
+        assertTrue(ran.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should run tasks in the calling thread when inline")
+    void testInline() {
+        // Given
+        Bulkhead bulkhead = Bulkhead.inline("test", meterRegistry);
+
+        // When
+        CompletableFuture<String> thread = bulkhead.submit(() -> Thread.currentThread().getName());
+        CompletableFuture<String> failed = bulkhead.submit(() -> {
+            throw new IllegalArgumentException("invalid");
+        });
+
+        // Then
+        assertTrue(thread.isDone());
+        assertEquals(Thread.currentThread().getName(), thread.join());
+        CompletionException e = assertThrows(CompletionException.class, failed::join);
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+        assertEquals(0, bulkhead.getQueued());
+        assertDoesNotThrow(bulkhead::ensureCapacity);
+    }
+}
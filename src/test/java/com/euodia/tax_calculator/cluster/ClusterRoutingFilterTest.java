@@ -0,0 +1,132 @@
+package com.euodia.tax_calculator.cluster;
+
+import com.euodia.tax_calculator.TaxCalculatorApplication;
+import com.euodia.tax_calculator.dto.CreateProductRequest;
+import com.euodia.tax_calculator.dto.ProductWithTaxResponse;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.service.ProductService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du mode cluster avec deux instances de l'application sur localhost
+ */
+@DisplayName("Cluster Routing Filter Tests")
+class ClusterRoutingFilterTest {
+
+    private static final int PRODUCTS = 40;
+
+    private static final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+    private static final List<String> urls = new ArrayList<>();
+    private static final TestRestTemplate restTemplate = new TestRestTemplate();
+
+    @BeforeAll
+    static void startCluster() throws IOException {
+        for (int i = 0; i < 2; i++) {
+            urls.add("http://localhost:" + freePort());
+        }
+        for (String url : urls) {
+            nodes.add(new SpringApplicationBuilder(TaxCalculatorApplication.class).run(
+                    "--server.port=" + url.substring(url.lastIndexOf(':') + 1),
+                    "--cluster.enabled=true",
+                    "--cluster.self=" + url,
+                    "--cluster.nodes=" + String.join(",", urls)));
+        }
+    }
+
+    @AfterAll
+    static void stopCluster() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Test
+    @DisplayName("Should create products on their owner and serve them from any node")
+    void testRouting() {
+        // Given - toutes les créations passent par le premier nœud
+        List<Product> created = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            ResponseEntity<Product> response = restTemplate.postForEntity(urls.get(0) + "/api/products",
+                    new CreateProductRequest("Routed product " + i, new BigDecimal("100.00"), Country.FRANCE),
+                    Product.class);
+            assertEquals(HttpStatus.CREATED, response.getStatusCode());
+            created.add(response.getBody());
+        }
+
+        // When & Then - IDs uniques dans le cluster, produits répartis sur les deux nœuds
+        Set<Long> ids = new HashSet<>();
+        created.forEach(product -> assertTrue(ids.add(product.getId())));
+        for (ConfigurableApplicationContext node : nodes) {
+            int local = node.getBean(ProductService.class).getProductsView().size();
+            assertTrue(local > 0 && local < PRODUCTS, "Products not spread across nodes: " + local);
+        }
+
+        // Lecture par le second nœud, propriétaire ou non
+        for (Product product : created) {
+            ResponseEntity<ProductWithTaxResponse> response = restTemplate.getForEntity(
+                    urls.get(1) + "/api/products/" + product.getId() + "/with-tax", ProductWithTaxResponse.class);
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(product.getName(), response.getBody().getName());
+            assertEquals(new BigDecimal("120.00"), response.getBody().getFinalPrice());
+        }
+    }
+
+    @Test
+    @DisplayName("Should merge the catalogs of all nodes when listing products")
+    void testScatterGatherList() {
+        // Given
+        Set<String> names = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            Product product = restTemplate.postForEntity(urls.get(i % 2) + "/api/products",
+                    new CreateProductRequest("Listed product " + i, new BigDecimal("10.00"), Country.US),
+                    Product.class).getBody();
+            names.add(product.getName());
+        }
+
+        // When
+        ResponseEntity<Map> response = restTemplate.getForEntity(urls.get(1) + "/api/products", Map.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        Set<String> listed = new HashSet<>();
+        for (Object product : response.getBody().values()) {
+            listed.add((String) ((Map<?, ?>) product).get("name"));
+        }
+        assertTrue(listed.containsAll(names));
+    }
+
+    @Test
+    @DisplayName("Should return 404 from the owner for unknown products")
+    void testUnknownProduct() {
+        // When
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                urls.get(0) + "/api/products/999999", String.class);
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+}
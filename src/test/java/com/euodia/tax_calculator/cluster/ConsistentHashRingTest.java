@@ -0,0 +1,87 @@
+package com.euodia.tax_calculator.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour ConsistentHashRing
+ */
+@DisplayName("Consistent Hash Ring Tests")
+class ConsistentHashRingTest {
+
+    private static final List<String> THREE_NODES =
+            List.of("http://localhost:8081", "http://localhost:8082", "http://localhost:8083");
+    private static final int KEYS = 100_000;
+
+    @Test
+    @DisplayName("Should spread consecutive ids evenly across nodes")
+    void testBalancedDistribution() {
+        // Given
+        ConsistentHashRing ring = new ConsistentHashRing(THREE_NODES, 160);
+        Map<String, Integer> counts = new HashMap<>();
+
+        // When
+        for (long id = 1; id <= KEYS; id++) {
+            counts.merge(ring.ownerOf(id), 1, Integer::sum);
+        }
+
+        // Then - chaque nœud reçoit un tiers des clés, à 15 % près
+        assertEquals(3, counts.size());
+        for (int count : counts.values()) {
+            assertTrue(Math.abs(count - KEYS / 3.0) < KEYS / 3.0 * 0.15, "Unbalanced distribution: " + counts);
+        }
+    }
+
+    @Test
+    @DisplayName("Should only move keys to the added node")
+    void testMinimalMovementOnNodeAddition() {
+        // Given
+        ConsistentHashRing before = new ConsistentHashRing(THREE_NODES, 160);
+        ConsistentHashRing after = new ConsistentHashRing(List.of(
+                "http://localhost:8081", "http://localhost:8082", "http://localhost:8083", "http://localhost:8084"), 160);
+        int moved = 0;
+
+        // When
+        for (long id = 1; id <= KEYS; id++) {
+            String previousOwner = before.ownerOf(id);
+            String newOwner = after.ownerOf(id);
+            if (!previousOwner.equals(newOwner)) {
+                assertEquals("http://localhost:8084", newOwner);
+                moved++;
+            }
+        }
+
+        // Then - environ un quart des clés rejoint le nouveau nœud
+        assertTrue(moved > KEYS * 0.20 && moved < KEYS * 0.30, "Moved keys: " + moved);
+    }
+
+    @Test
+    @DisplayName("Should give the same owners regardless of node order")
+    void testOrderIndependence() {
+        // Given
+        ConsistentHashRing ring = new ConsistentHashRing(THREE_NODES, 160);
+        ConsistentHashRing reversed = new ConsistentHashRing(THREE_NODES.reversed(), 160);
+
+        // When & Then
+        for (long id = 1; id <= 1000; id++) {
+            assertEquals(ring.ownerOf(id), reversed.ownerOf(id));
+        }
+        assertEquals(ring.ownerOf("iphone|US"), reversed.ownerOf("iphone|US"));
+    }
+
+    @Test
+    @DisplayName("Should reject empty or duplicated node lists")
+    void testInvalidNodes() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new ConsistentHashRing(List.of(), 160));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ConsistentHashRing(List.of("http://a", "http://a"), 160));
+        assertThrows(IllegalArgumentException.class, () -> new ConsistentHashRing(THREE_NODES, 0));
+    }
+}
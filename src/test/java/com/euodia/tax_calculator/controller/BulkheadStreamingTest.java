@@ -0,0 +1,109 @@
+package com.euodia.tax_calculator.controller;
+
+import com.euodia.tax_calculator.bulkhead.Bulkheads;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests pour BulkheadStreaming : délai dépassé avant et pendant l'envoi du corps
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Bulkhead Streaming Tests")
+class BulkheadStreamingTest {
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @TestConfiguration
+    static class SlowStreamConfiguration {
+
+        @Bean
+        SlowStreamController slowStreamController(Bulkheads bulkheads) {
+            return new SlowStreamController(bulkheads, new BulkheadStreaming(Duration.ofMillis(300)));
+        }
+    }
+
+    // Écrit dix lignes, une toutes les 100 ms, après une première ligne envoyée aussitôt si demandé
+    @RestController
+    static class SlowStreamController {
+        private final Bulkheads bulkheads;
+        private final BulkheadStreaming bulkheadStreaming;
+
+        SlowStreamController(Bulkheads bulkheads, BulkheadStreaming bulkheadStreaming) {
+            this.bulkheads = bulkheads;
+            this.bulkheadStreaming = bulkheadStreaming;
+        }
+
+        @GetMapping("/test/slow-stream")
+        void slowStream(@RequestParam boolean flushFirst, HttpServletRequest request, HttpServletResponse response) {
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            bulkheadStreaming.stream(bulkheads.scan(), request, response, outputStream -> {
+                if (flushFirst) {
+                    outputStream.write("first\n".getBytes(StandardCharsets.UTF_8));
+                    outputStream.flush();
+                }
+                for (int i = 0; i < 10; i++) {
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException(e);
+                    }
+                    outputStream.write(("line " + i + "\n").getBytes(StandardCharsets.UTF_8));
+                }
+            });
+        }
+    }
+
+    private HttpRequest slowStream(boolean flushFirst) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/test/slow-stream?flushFirst=" + flushFirst))
+                .timeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should return 503 when the timeout expires before anything is sent")
+    void testTimeoutBeforeBody() throws Exception {
+        // When
+        HttpResponse<String> response = client.send(slowStream(false), HttpResponse.BodyHandlers.ofString());
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.statusCode());
+        assertTrue(response.headers().firstValue(HttpHeaders.RETRY_AFTER).isPresent());
+        assertTrue(response.body().contains("\"status\":503"));
+    }
+
+    @Test
+    @DisplayName("Should abort the connection when the timeout expires after the body has started")
+    void testTimeoutDuringBody() {
+        // When & Then - le client ne doit pas recevoir une fin de flux normale, ni attendre son propre délai
+        IOException e = assertThrows(IOException.class,
+                () -> client.send(slowStream(true), HttpResponse.BodyHandlers.ofString()));
+        assertFalse(e instanceof HttpTimeoutException);
+    }
+}
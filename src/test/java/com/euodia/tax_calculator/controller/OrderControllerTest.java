@@ -0,0 +1,79 @@
+package com.euodia.tax_calculator.controller;
+
+import com.euodia.tax_calculator.dto.CreateProductRequest;
+import com.euodia.tax_calculator.dto.OrderLineRequest;
+import com.euodia.tax_calculator.dto.OrderQuoteRequest;
+import com.euodia.tax_calculator.dto.OrderQuoteResponse;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests pour OrderController
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Order Controller Tests")
+class OrderControllerTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private String getBaseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    private Product createProduct(String name, String price, Country country) {
+        return restTemplate.postForEntity(getBaseUrl() + "/api/products",
+                new CreateProductRequest(name, new BigDecimal(price), country), Product.class).getBody();
+    }
+
+    @Test
+    @DisplayName("Should quote an order in a single call")
+    void testQuoteOrder() {
+        // Given
+        Product laptop = createProduct("Order laptop", "1000.00", Country.FRANCE);
+        Product cable = createProduct("Order cable", "9.99", Country.FRANCE);
+
+        // When
+        ResponseEntity<OrderQuoteResponse> response = restTemplate.postForEntity(getBaseUrl() + "/api/orders/quote",
+                new OrderQuoteRequest(List.of(new OrderLineRequest(laptop.getId(), 1),
+                        new OrderLineRequest(cable.getId(), 3))),
+                OrderQuoteResponse.class);
+
+        // Then - 1000.00 + 29.97, TVA 200.00 + 5.99 (5.994)
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, response.getBody().getLines().size());
+        assertEquals(new BigDecimal("5.99"), response.getBody().getLines().get(1).getTaxAmount());
+        assertEquals(new BigDecimal("205.99"), response.getBody().getTaxTotal());
+        assertEquals(new BigDecimal("1235.96"), response.getBody().getGrandTotal());
+    }
+
+    @Test
+    @DisplayName("Should return 400 for unknown products and empty orders")
+    void testInvalidOrders() {
+        // When
+        ResponseEntity<String> unknown = restTemplate.postForEntity(getBaseUrl() + "/api/orders/quote",
+                new OrderQuoteRequest(List.of(new OrderLineRequest(999_999L, 1))), String.class);
+        ResponseEntity<String> empty = restTemplate.postForEntity(getBaseUrl() + "/api/orders/quote",
+                new OrderQuoteRequest(List.of()), String.class);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, unknown.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, empty.getStatusCode());
+    }
+}
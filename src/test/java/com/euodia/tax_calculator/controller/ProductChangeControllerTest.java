@@ -0,0 +1,170 @@
+package com.euodia.tax_calculator.controller;
+
+import com.euodia.tax_calculator.dto.CreateProductRequest;
+import com.euodia.tax_calculator.dto.ProductChangesResponse;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.model.ProductChangeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests pour ProductChangeController
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@DisplayName("Product Change Controller Tests")
+class ProductChangeControllerTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private String getBaseUrl() {
+        return "http://localhost:" + port + "/api/products";
+    }
+
+    private Product createProduct(String name) {
+        return restTemplate.postForEntity(getBaseUrl(),
+                new CreateProductRequest(name, new BigDecimal("100.00"), Country.FRANCE), Product.class).getBody();
+    }
+
+    /**
+     * Lit le flux SSE jusqu'à avoir reçu le nombre d'événements attendu et retourne leurs lignes "id:" et "event:".
+     * Le flux reste ouvert côté serveur : il est lu avec le client HTTP du JDK et fermé sans être vidé
+     * (RestTemplate lit la réponse jusqu'au bout avant de la fermer).
+     */
+    private List<String> readEvents(String url, String lastEventId, int expectedEvents) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE);
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        try (InputStream body = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofInputStream()).body()) {
+            List<String> lines = new ArrayList<>();
+            BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+            int events = 0;
+            String line;
+            while (events < expectedEvents && (line = reader.readLine()) != null) {
+                if (line.startsWith("id:") || line.startsWith("event:")) {
+                    lines.add(line);
+                }
+                // Un événement se termine par une ligne vide (données JSON sur plusieurs lignes "data:")
+                if (line.isEmpty() && !lines.isEmpty()) {
+                    events++;
+                }
+            }
+            return lines;
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/products/changes - Should resume the change log after a full copy")
+    void testResumeAfterFullCopy() {
+        // Given - copie complète, puis une création
+        createProduct("Chaise");
+        ResponseEntity<Map> copy = restTemplate.getForEntity(getBaseUrl(), Map.class);
+        String sequence = copy.getHeaders().getFirst(ProductController.CATALOG_SEQUENCE_HEADER);
+        Product table = createProduct("Table");
+
+        // When
+        ResponseEntity<ProductChangesResponse> response = restTemplate.getForEntity(
+                getBaseUrl() + "/changes?after=" + sequence, ProductChangesResponse.class);
+
+        // Then
+        assertEquals("1", sequence);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertFalse(response.getBody().isResyncRequired());
+        assertEquals(1, response.getBody().getChanges().size());
+        assertEquals(2, response.getBody().getChanges().get(0).sequence());
+        assertEquals(ProductChangeType.CREATED, response.getBody().getChanges().get(0).type());
+        assertEquals(table.getId(), response.getBody().getChanges().get(0).productId());
+        assertEquals("Table", response.getBody().getChanges().get(0).product().getName());
+    }
+
+    @Test
+    @DisplayName("GET /api/products/changes - Should reject invalid parameters")
+    void testInvalidParameters() {
+        // When
+        ResponseEntity<String> negative = restTemplate.getForEntity(getBaseUrl() + "/changes?after=-1", String.class);
+        ResponseEntity<String> tooLarge = restTemplate.getForEntity(getBaseUrl() + "/changes?limit=5000", String.class);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, negative.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, tooLarge.getStatusCode());
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("GET /api/products/changes/stream - Should stream backlog and new changes with their sequence as ID")
+    void testStreamChanges() throws Exception {
+        // Given
+        createProduct("Chaise");
+        createProduct("Table");
+
+        // When - reprise après la mutation 1
+        List<String> lines = readEvents(getBaseUrl() + "/changes/stream?after=1", null, 1);
+
+        // Then
+        assertEquals(List.of("id:2", "event:change"), lines);
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("GET /api/products/changes/stream - Should prefer Last-Event-ID on reconnection")
+    void testStreamResumesFromLastEventId() throws Exception {
+        // Given
+        createProduct("Chaise");
+        createProduct("Table");
+        createProduct("Lampe");
+
+        // When
+        List<String> lines = readEvents(getBaseUrl() + "/changes/stream?after=0", "2", 1);
+
+        // Then
+        assertEquals(List.of("id:3", "event:change"), lines);
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("GET /api/products/changes/stream - Should ask for a resync for an unknown sequence")
+    void testStreamRequiresResync() throws Exception {
+        // Given
+        createProduct("Chaise");
+
+        // When
+        List<String> lines = readEvents(getBaseUrl() + "/changes/stream?after=99", null, 1);
+
+        // Then
+        assertEquals(List.of("event:resync"), lines);
+    }
+}
@@ -1,8 +1,14 @@
 package com.euodia.tax_calculator.controller;
 
+import com.euodia.tax_calculator.audit.QuoteAuditLedger;
+import com.euodia.tax_calculator.audit.QuoteAuditRecord;
+import com.euodia.tax_calculator.dto.BulkImportResponse;
 import com.euodia.tax_calculator.dto.CreateProductRequest;
+import com.euodia.tax_calculator.dto.ProductSearchResponse;
 import com.euodia.tax_calculator.dto.ProductWithTaxResponse;
+import com.euodia.tax_calculator.dto.UpdateProductRequest;
 import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Currency;
 import com.euodia.tax_calculator.model.Product;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,11 +16,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.annotation.DirtiesContext;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,6 +44,9 @@ class ProductControllerTest {
     @Autowired
     private TestRestTemplate restTemplate;
 
+    @Autowired
+    private QuoteAuditLedger quoteAuditLedger;
+
     private String getBaseUrl() {
         return "http://localhost:" + port + "/api/products";
     }
@@ -194,6 +208,89 @@ class ProductControllerTest {
         assertTrue(taxResponse.getTaxStrategyUsed().contains("US Tax Strategy"));
     }
 
+    @Test
+    @DisplayName("GET /api/products/{id}/with-tax - Should apply the reduced rate of the product category")
+    void testCalculateTaxWithCategory() {
+        // Given - nourriture à 5.5 % en France (tax-rules.csv)
+        Product created = restTemplate.postForEntity(getBaseUrl(), new CreateProductRequest(
+                "Bread", new BigDecimal("100.00"), Country.FRANCE, null, "food"), Product.class).getBody();
+
+        // When
+        ResponseEntity<ProductWithTaxResponse> response = restTemplate.getForEntity(
+                getBaseUrl() + "/" + created.getId() + "/with-tax",
+                ProductWithTaxResponse.class
+        );
+
+        // Then
+        assertEquals("food", created.getCategory());
+        assertEquals(new BigDecimal("5.50"), response.getBody().getTaxAmount());
+        assertTrue(response.getBody().getTaxStrategyUsed().endsWith("food: 5.5%"));
+    }
+
+    @Test
+    @DisplayName("GET /api/products/{id}/with-tax?currency=EUR - Should quote in the requested currency")
+    void testCalculateTaxInOtherCurrency() {
+        // Given - produit US en USD, taux USD -> EUR de 0.92 (fx-rates.csv)
+        Long productId = restTemplate.postForEntity(getBaseUrl(),
+                new CreateProductRequest("US Product", new BigDecimal("100.00"), Country.US), Product.class)
+                .getBody().getId();
+
+        // When
+        ResponseEntity<ProductWithTaxResponse> response = restTemplate.getForEntity(
+                getBaseUrl() + "/" + productId + "/with-tax?currency=EUR",
+                ProductWithTaxResponse.class
+        );
+        ResponseEntity<String> invalid = restTemplate.getForEntity(
+                getBaseUrl() + "/" + productId + "/with-tax?currency=XYZ",
+                String.class
+        );
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        ProductWithTaxResponse taxResponse = response.getBody();
+        assertEquals(Currency.EUR, taxResponse.getCurrency());
+        assertEquals(new BigDecimal("92.00"), taxResponse.getBasePrice());
+        assertEquals(new BigDecimal("7.82"), taxResponse.getTaxAmount());
+        assertEquals(new BigDecimal("99.82"), taxResponse.getFinalPrice());
+        assertEquals(HttpStatus.BAD_REQUEST, invalid.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("GET /api/products/{id}/with-tax?fields=id,finalPrice - Should return only the requested fields")
+    void testCalculateTaxWithSparseFields() {
+        // Given
+        Instant start = Instant.now();
+        Long productId = restTemplate.postForEntity(getBaseUrl(),
+                new CreateProductRequest("US Product", new BigDecimal("100.00"), Country.US), Product.class)
+                .getBody().getId();
+
+        // When
+        ResponseEntity<Map> response = restTemplate.getForEntity(
+                getBaseUrl() + "/" + productId + "/with-tax?fields=id,finalPrice", Map.class);
+        ResponseEntity<String> invalid = restTemplate.getForEntity(
+                getBaseUrl() + "/" + productId + "/with-tax?fields=id,unknown", String.class);
+        ResponseEntity<List> top = restTemplate.getForEntity(
+                getBaseUrl() + "/top?country=US&fields=finalPrice", List.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of("id", "finalPrice"), List.copyOf(response.getBody().keySet()));
+        assertEquals(108.5, ((Number) response.getBody().get("finalPrice")).doubleValue());
+        assertEquals(HttpStatus.BAD_REQUEST, invalid.getStatusCode());
+        assertEquals(Map.of("finalPrice", 108.5), top.getBody().get(0));
+
+        // Then - la cotation auditée reste complète
+        quoteAuditLedger.flush();
+        QuoteAuditRecord audited = quoteAuditLedger.query(start, Instant.now().plusSeconds(1), Country.US, 1000)
+                .records().stream()
+                .filter(record -> productId.equals(record.productId()))
+                .findFirst().orElseThrow();
+        assertEquals(new BigDecimal("100.00"), audited.basePrice());
+        assertEquals(new BigDecimal("8.50"), audited.taxAmount());
+        assertEquals(new BigDecimal("108.50"), audited.finalPrice());
+        assertNotNull(audited.taxStrategy());
+    }
+
     @Test
     @DisplayName("GET /api/products/{id}/with-tax - Should calculate tax for Canada product")
     void testCalculateTaxForCanadaProduct() {
@@ -369,4 +466,158 @@ class ProductControllerTest {
         ResponseEntity<Map> allProductsResponse = restTemplate.getForEntity(getBaseUrl(), Map.class);
         assertEquals(2, allProductsResponse.getBody().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET /api/products/top - Should return products ordered by final price")
+    void testGetTopProductsByFinalPrice() {
+        // Given
+        restTemplate.postForEntity(getBaseUrl(),
+                new CreateProductRequest("Cheap", new BigDecimal("10.00"), Country.FRANCE), Product.class);
+        restTemplate.postForEntity(getBaseUrl(),
+                new CreateProductRequest("Expensive", new BigDecimal("500.00"), Country.FRANCE), Product.class);
+        restTemplate.postForEntity(getBaseUrl(),
+                new CreateProductRequest("Other Country", new BigDecimal("900.00"), Country.US), Product.class);
+
+        // When
+        ResponseEntity<ProductWithTaxResponse[]> response = restTemplate.getForEntity(
+                getBaseUrl() + "/top?country=FRANCE&limit=5",
+                ProductWithTaxResponse[].class
+        );
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        ProductWithTaxResponse[] top = response.getBody();
+        assertEquals(2, top.length);
+        assertEquals("Expensive", top[0].getName());
+        assertEquals(new BigDecimal("600.00"), top[0].getFinalPrice());
+        assertEquals("Cheap", top[1].getName());
+    }
+
+    @Test
+    @DisplayName("GET /api/products/price-range - Should return 400 when min is greater than max")
+    void testGetProductsByInvalidPriceRange() {
+        // When
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                getBaseUrl() + "/price-range?country=US&minFinalPrice=100&maxFinalPrice=10",
+                String.class
+        );
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("GET /api/products/search - Should find products by name")
+    void testSearchProducts() {
+        // Given
+        restTemplate.postForEntity(getBaseUrl(),
+                new CreateProductRequest("iPhone 15 Pro", new BigDecimal("1199.00"), Country.US), Product.class);
+        restTemplate.postForEntity(getBaseUrl(),
+                new CreateProductRequest("Samsung Galaxy", new BigDecimal("899.00"), Country.US), Product.class);
+
+        // When
+        ResponseEntity<ProductSearchResponse> response = restTemplate.getForEntity(
+                getBaseUrl() + "/search?q=iphone",
+                ProductSearchResponse.class
+        );
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().getTotalHits());
+        assertEquals("iPhone 15 Pro", response.getBody().getProducts().get(0).getName());
+    }
+
+    @Test
+    @DisplayName("POST /api/products/bulk - Should import valid products and report rejected ones")
+    void testBulkImport() {
+        // Given
+        List<CreateProductRequest> batch = List.of(
+                new CreateProductRequest("Product 1", new BigDecimal("10.00"), Country.US),
+                new CreateProductRequest("Product 2", new BigDecimal("-1.00"), Country.FRANCE),
+                new CreateProductRequest("Product 3", new BigDecimal("30.00"), Country.CANADA)
+        );
+
+        // When
+        ResponseEntity<BulkImportResponse> response = restTemplate.postForEntity(
+                getBaseUrl() + "/bulk",
+                batch,
+                BulkImportResponse.class
+        );
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(new BulkImportResponse(3, 2, 0, 1), response.getBody());
+    }
+
+    @Test
+    @DisplayName("PUT/PATCH /api/products/{id} - Should update at the expected version and reject stale writes")
+    void testUpdateProduct() {
+        // Given
+        Product created = restTemplate.postForEntity(getBaseUrl(),
+                new CreateProductRequest("Monitor", new BigDecimal("200.00"), Country.FRANCE), Product.class).getBody();
+        String url = getBaseUrl() + "/" + created.getId();
+        HttpHeaders ifMatchV1 = new HttpHeaders();
+        ifMatchV1.setIfMatch("\"1\"");
+
+        // When
+        ResponseEntity<Product> put = restTemplate.exchange(url, HttpMethod.PUT, new HttpEntity<>(
+                new UpdateProductRequest("Monitor 4K", new BigDecimal("250.00"), Country.FRANCE, null, null, null),
+                ifMatchV1), Product.class);
+        ResponseEntity<Product> stalePatch = restTemplate.exchange(url, HttpMethod.PATCH, new HttpEntity<>(
+                new UpdateProductRequest(null, new BigDecimal("1.00"), null, null, null, null), ifMatchV1),
+                Product.class);
+        ResponseEntity<Product> patch = restTemplate.exchange(url, HttpMethod.PATCH, new HttpEntity<>(
+                new UpdateProductRequest(null, new BigDecimal("240.00"), null, null, null, 2L)), Product.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, put.getStatusCode());
+        assertEquals(2, put.getBody().getVersion());
+        assertEquals("\"2\"", put.getHeaders().getETag());
+
+        assertEquals(HttpStatus.CONFLICT, stalePatch.getStatusCode());
+        assertEquals(2, stalePatch.getBody().getVersion());
+
+        assertEquals(HttpStatus.OK, patch.getStatusCode());
+        assertEquals("Monitor 4K", patch.getBody().getName());
+        assertEquals(new BigDecimal("240.00"), patch.getBody().getPrice());
+        assertEquals(3, patch.getBody().getVersion());
+        assertEquals(new BigDecimal("288.00"), restTemplate.getForEntity(url + "/with-tax",
+                ProductWithTaxResponse.class).getBody().getFinalPrice());
+    }
+
+    @Test
+    @DisplayName("PUT /api/products/{id} - Should reject invalid or unknown products")
+    void testUpdateInvalidProduct() {
+        // Given
+        Product created = restTemplate.postForEntity(getBaseUrl(),
+                new CreateProductRequest("Keyboard", new BigDecimal("50.00"), Country.US), Product.class).getBody();
+        HttpEntity<UpdateProductRequest> missingPrice = new HttpEntity<>(
+                new UpdateProductRequest("Keyboard", null, Country.US, null, null, null));
+
+        // When & Then
+        assertEquals(HttpStatus.BAD_REQUEST, restTemplate.exchange(getBaseUrl() + "/" + created.getId(),
+                HttpMethod.PUT, missingPrice, Product.class).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, restTemplate.exchange(getBaseUrl() + "/999",
+                HttpMethod.PUT, missingPrice, Product.class).getStatusCode());
+    }
+
+    @Test
+    @DisplayName("DELETE /api/products/{id} - Should delete a product")
+    void testDeleteProduct() {
+        // Given
+        Product created = restTemplate.postForEntity(getBaseUrl(),
+                new CreateProductRequest("Mouse", new BigDecimal("20.00"), Country.CANADA), Product.class).getBody();
+        String url = getBaseUrl() + "/" + created.getId();
+        HttpHeaders staleVersion = new HttpHeaders();
+        staleVersion.setIfMatch("\"7\"");
+
+        // When & Then
+        assertEquals(HttpStatus.CONFLICT, restTemplate.exchange(url, HttpMethod.DELETE,
+                new HttpEntity<>(staleVersion), Product.class).getStatusCode());
+        assertEquals(HttpStatus.NO_CONTENT, restTemplate.exchange(url, HttpMethod.DELETE,
+                HttpEntity.EMPTY, Void.class).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, restTemplate.getForEntity(url, Product.class).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, restTemplate.exchange(url, HttpMethod.DELETE,
+                HttpEntity.EMPTY, Void.class).getStatusCode());
+    }
+}
@@ -0,0 +1,106 @@
+package com.euodia.tax_calculator.export;
+
+import com.euodia.tax_calculator.fx.FxRateService;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Currency;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.service.ProductQuoteService;
+import com.euodia.tax_calculator.service.ProductService;
+import com.euodia.tax_calculator.service.TaxCalculationService;
+import com.euodia.tax_calculator.strategy.CanadaTaxStrategy;
+import com.euodia.tax_calculator.strategy.FranceTaxStrategy;
+import com.euodia.tax_calculator.strategy.UsTaxStrategy;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour CatalogExportService
+ */
+@DisplayName("Catalog Export Service Tests")
+class CatalogExportServiceTest {
+
+    private ProductService productService;
+    private CatalogExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        productService = new ProductService();
+        ProductQuoteService quoteService = new ProductQuoteService(productService,
+                new TaxCalculationService(new UsTaxStrategy(), new CanadaTaxStrategy(), new FranceTaxStrategy()),
+                new FxRateService(new ByteArrayResource("USD,EUR,0.50\nUSD,CAD,1.25\nEUR,CAD,2.50\n".getBytes())),
+                new SimpleMeterRegistry());
+        exportService = new CatalogExportService(productService, quoteService);
+    }
+
+    private List<String> export(CatalogExportFormat format, boolean gzip, Currency currency) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exportService.export(Channels.newChannel(output), format, gzip, currency);
+        byte[] bytes = output.toByteArray();
+        if (gzip) {
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+                bytes = in.readAllBytes();
+            }
+        }
+        return new String(bytes, StandardCharsets.UTF_8).lines().toList();
+    }
+
+    @Test
+    @DisplayName("Should export priced products as CSV with escaped fields")
+    void testCsvExport() throws IOException {
+        // Given
+        Product product = productService.addProduct(
+                new Product("Chaise \"Louis XV\", noyer", new BigDecimal("100.00"), Country.FRANCE));
+
+        // When
+        List<String> lines = export(CatalogExportFormat.CSV, false, null);
+
+        // Then
+        assertEquals(2, lines.size());
+        assertEquals(CatalogExportService.CSV_HEADER, lines.get(0));
+        assertEquals(product.getId() + ",\"Chaise \"\"Louis XV\"\", noyer\",100.00,FRANCE,EUR,20.00,120.00,"
+                + "France Tax Strategy (20% TVA)", lines.get(1));
+    }
+
+    @Test
+    @DisplayName("Should export gzipped NDJSON matching the with-tax fields")
+    void testGzipNdjsonExport() throws IOException {
+        // Given - assez de produits pour remplir plusieurs fois le tampon
+        for (int i = 0; i < 5_000; i++) {
+            productService.addProduct(new Product("Produit été " + i, new BigDecimal("10.00"), Country.US));
+        }
+
+        // When
+        List<String> lines = export(CatalogExportFormat.NDJSON, true, Currency.EUR);
+
+        // Then
+        assertEquals(5_000, lines.size());
+        // Montants lus en BigDecimal exacts : l'échelle écrite (2 décimales) est vérifiée
+        ObjectMapper objectMapper = new ObjectMapper()
+                .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                .setNodeFactory(JsonNodeFactory.withExactBigDecimals(true));
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertTrue(first.get("name").asText().startsWith("Produit été "));
+        assertEquals("EUR", first.get("currency").asText());
+        assertEquals(new BigDecimal("5.00"), first.get("basePrice").decimalValue());
+        assertEquals(new BigDecimal("0.43"), first.get("taxAmount").decimalValue());
+        assertEquals(new BigDecimal("5.43"), first.get("finalPrice").decimalValue());
+    }
+}
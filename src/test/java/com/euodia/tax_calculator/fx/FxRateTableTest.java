@@ -0,0 +1,81 @@
+package com.euodia.tax_calculator.fx;
+
+import com.euodia.tax_calculator.model.Currency;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour FxRateTable
+ */
+@DisplayName("FX Rate Table Tests")
+class FxRateTableTest {
+
+    private static FxRateTable table(String content) throws IOException {
+        return FxRateTable.parse(new StringReader(content));
+    }
+
+    @Test
+    @DisplayName("Should convert amounts with HALF_UP rounding to minor units")
+    void testConvert() throws IOException {
+        // Given
+        FxRateTable rates = table("USD,EUR,0.92\nUSD,CAD,1.37\nEUR,CAD,1.49\n");
+
+        // When & Then
+        assertEquals(new BigDecimal("920.00"), rates.convert(new BigDecimal("1000.00"), Currency.USD, Currency.EUR));
+        assertEquals(new BigDecimal("0.01"), rates.convert(new BigDecimal("0.005"), Currency.USD, Currency.CAD));
+        assertEquals(1_370_000L, rates.convertMinorUnits(1_000_000L, Currency.USD, Currency.CAD));
+    }
+
+    @Test
+    @DisplayName("Should return the same amount when currencies are identical")
+    void testSameCurrency() throws IOException {
+        // Given
+        FxRateTable rates = table("USD,EUR,0.92\nUSD,CAD,1.37\nEUR,CAD,1.49\n");
+        BigDecimal amount = new BigDecimal("999.999");
+
+        // When & Then
+        assertSame(amount, rates.convert(amount, Currency.EUR, Currency.EUR));
+    }
+
+    @Test
+    @DisplayName("Should derive inverse rates unless given explicitly")
+    void testInverseRates() throws IOException {
+        // Given
+        FxRateTable rates = table("# commentaire\nUSD,EUR,0.80\nUSD,CAD,1.25\nCAD,USD,0.79\nEUR,CAD,1.50\n");
+
+        // When & Then
+        assertEquals(new BigDecimal("1.250000000"), rates.getRate(Currency.EUR, Currency.USD));
+        assertEquals(new BigDecimal("0.790000000"), rates.getRate(Currency.CAD, Currency.USD));
+        assertEquals(new BigDecimal("125.00"), rates.convert(new BigDecimal("100"), Currency.EUR, Currency.USD));
+    }
+
+    @Test
+    @DisplayName("Should fall back to exact arithmetic for very large amounts")
+    void testLargeAmount() throws IOException {
+        // Given
+        FxRateTable rates = table("USD,EUR,0.5\nUSD,CAD,2\nEUR,CAD,4\n");
+
+        // When
+        BigDecimal converted = rates.convert(new BigDecimal("100000000000000000.00"), Currency.USD, Currency.CAD);
+
+        // Then
+        assertEquals(new BigDecimal("200000000000000000.00"), converted);
+        assertThrows(ArithmeticException.class,
+                () -> rates.convertMinorUnits(Long.MAX_VALUE / 2, Currency.USD, Currency.CAD));
+    }
+
+    @Test
+    @DisplayName("Should reject incomplete or invalid rate files")
+    void testInvalidFiles() {
+        assertThrows(IllegalArgumentException.class, () -> table("USD,EUR,0.92\n"));
+        assertThrows(IllegalArgumentException.class, () -> table("USD,EUR,abc\nUSD,CAD,1.37\nEUR,CAD,1.49\n"));
+        assertThrows(IllegalArgumentException.class, () -> table("USD,GBP,0.79\n"));
+        assertThrows(IllegalArgumentException.class, () -> table("USD,EUR,-1\nUSD,CAD,1.37\nEUR,CAD,1.49\n"));
+    }
+}
@@ -0,0 +1,154 @@
+package com.euodia.tax_calculator.grpc;
+
+import com.euodia.tax_calculator.fx.FxRateService;
+import com.euodia.tax_calculator.grpc.proto.CountryCode;
+import com.euodia.tax_calculator.grpc.proto.CurrencyCode;
+import com.euodia.tax_calculator.grpc.proto.GetProductRequest;
+import com.euodia.tax_calculator.grpc.proto.ProductReply;
+import com.euodia.tax_calculator.grpc.proto.QuoteReply;
+import com.euodia.tax_calculator.grpc.proto.QuoteRequest;
+import com.euodia.tax_calculator.grpc.proto.QuoteStatus;
+import com.euodia.tax_calculator.grpc.proto.TaxQuoteServiceGrpc;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.service.ProductQuoteService;
+import com.euodia.tax_calculator.service.ProductService;
+import com.euodia.tax_calculator.service.TaxCalculationService;
+import com.euodia.tax_calculator.strategy.CanadaTaxStrategy;
+import com.euodia.tax_calculator.strategy.FranceTaxStrategy;
+import com.euodia.tax_calculator.strategy.UsTaxStrategy;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests pour TaxQuoteGrpcService, à travers un serveur gRPC local
+ */
+@DisplayName("Tax Quote gRPC Service Tests")
+class TaxQuoteGrpcServiceTest {
+
+    private ProductService productService;
+    private GrpcServer server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        productService = new ProductService();
+        TaxCalculationService taxCalculationService = new TaxCalculationService(
+                new UsTaxStrategy(), new CanadaTaxStrategy(), new FranceTaxStrategy());
+        FxRateService fxRateService = new FxRateService(
+                new ByteArrayResource("USD,EUR,0.50\nUSD,CAD,1.25\nEUR,CAD,2.50\n".getBytes()));
+        ProductQuoteService productQuoteService = new ProductQuoteService(productService, taxCalculationService,
+                fxRateService, new SimpleMeterRegistry());
+
+        server = new GrpcServer(new TaxQuoteGrpcService(productService, productQuoteService), true, 0,
+                Duration.ofSeconds(1));
+        server.start();
+        channel = Grpc.newChannelBuilderForAddress("localhost", server.getPort(), InsecureChannelCredentials.create())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(1, TimeUnit.SECONDS);
+        server.stop();
+    }
+
+    @Test
+    @DisplayName("Should return a product with its price in minor units")
+    void testGetProduct() {
+        // Given
+        Product saved = productService.addProduct(
+                new Product("Laptop", new BigDecimal("999.99"), Country.FRANCE).withCategory("electronics"));
+        TaxQuoteServiceGrpc.TaxQuoteServiceBlockingStub stub = TaxQuoteServiceGrpc.newBlockingStub(channel);
+
+        // When
+        ProductReply reply = stub.getProduct(GetProductRequest.newBuilder().setId(saved.getId()).build());
+        StatusRuntimeException unknown = assertThrows(StatusRuntimeException.class,
+                () -> stub.getProduct(GetProductRequest.newBuilder().setId(999L).build()));
+
+        // Then
+        assertEquals(saved.getId().longValue(), reply.getId());
+        assertEquals(99_999L, reply.getPriceMinor());
+        assertEquals(CurrencyCode.EUR, reply.getCurrency());
+        assertEquals(CountryCode.FRANCE, reply.getCountry());
+        assertEquals("electronics", reply.getCategory());
+        assertEquals(1L, reply.getVersion());
+        assertEquals(Status.Code.NOT_FOUND, unknown.getStatus().getCode());
+    }
+
+    @Test
+    @DisplayName("Should stream one quote per request, in request order")
+    void testStreamQuotes() throws Exception {
+        // Given - 1 USD = 0.50 EUR
+        Product laptop = productService.addProduct(new Product("Laptop", new BigDecimal("100.00"), Country.FRANCE));
+        Product phone = productService.addProduct(new Product("Phone", new BigDecimal("100.00"), Country.US));
+        Product subCent = productService.addProduct(new Product("Screw", new BigDecimal("0.005"), Country.US));
+
+        List<QuoteReply> replies = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> completed = new CompletableFuture<>();
+        StreamObserver<QuoteRequest> requests = TaxQuoteServiceGrpc.newStub(channel).streamQuotes(
+                new StreamObserver<>() {
+                    @Override
+                    public void onNext(QuoteReply reply) {
+                        replies.add(reply);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        completed.completeExceptionally(t);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        completed.complete(null);
+                    }
+                });
+
+        // When
+        requests.onNext(QuoteRequest.newBuilder().setRequestId(1).setProductId(laptop.getId()).build());
+        requests.onNext(QuoteRequest.newBuilder().setRequestId(2).setProductId(phone.getId())
+                .setCurrency(CurrencyCode.EUR).build());
+        requests.onNext(QuoteRequest.newBuilder().setRequestId(3).setProductId(999L).build());
+        requests.onNext(QuoteRequest.newBuilder().setRequestId(4).setProductId(subCent.getId()).build());
+        requests.onCompleted();
+        completed.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(List.of(1L, 2L, 3L, 4L), replies.stream().map(QuoteReply::getRequestId).toList());
+
+        QuoteReply france = replies.get(0);
+        assertEquals(QuoteStatus.OK, france.getStatus());
+        assertEquals(CurrencyCode.EUR, france.getCurrency());
+        assertEquals(10_000L, france.getBasePriceMinor());
+        assertEquals(2_000L, france.getTaxMinor());
+        assertEquals(12_000L, france.getFinalPriceMinor());
+        assertFalse(france.getTaxStrategy().isEmpty());
+
+        QuoteReply us = replies.get(1);
+        assertEquals(CurrencyCode.EUR, us.getCurrency());
+        assertEquals(5_000L, us.getBasePriceMinor());
+        assertEquals(425L, us.getTaxMinor());
+
+        assertEquals(QuoteStatus.NOT_FOUND, replies.get(2).getStatus());
+        assertEquals(QuoteStatus.INVALID, replies.get(3).getStatus());
+    }
+}
@@ -0,0 +1,136 @@
+package com.euodia.tax_calculator.ids;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour IdAllocator
+ */
+@DisplayName("Id Allocator Tests")
+class IdAllocatorTest {
+
+    @TempDir
+    Path leaseDirectory;
+
+    private static IdAllocator inMemory(int nodeId, int blockSize, int leaseSize) {
+        return new IdAllocator(() -> nodeId, (Path) null, blockSize, leaseSize);
+    }
+
+    @Test
+    @DisplayName("Should allocate consecutive IDs from 1 within a thread on node 0")
+    void testSequentialIds() {
+        // Given
+        IdAllocator allocator = new IdAllocator();
+
+        // When & Then
+        assertEquals(1L, allocator.nextId());
+        assertEquals(2L, allocator.nextId());
+        assertEquals(3L, allocator.nextId());
+        assertEquals(0, IdAllocator.nodeOf(3L));
+    }
+
+    @Test
+    @DisplayName("Should tag IDs with the node id and keep them below 2^53")
+    void testNodeIds() {
+        // Given
+        IdAllocator node7 = inMemory(7, 10, 100);
+        IdAllocator lastNode = inMemory(IdAllocator.MAX_NODE_ID, 10, 100);
+
+        // When
+        long id = node7.nextId();
+        long lastId = lastNode.nextId();
+
+        // Then
+        assertEquals(7, IdAllocator.nodeOf(id));
+        assertEquals(IdAllocator.MAX_NODE_ID, IdAllocator.nodeOf(lastId));
+        assertTrue(lastId < 1L << 53);
+        assertNotEquals(id, new IdAllocator().nextId());
+        assertThrows(IllegalArgumentException.class, () -> inMemory(1024, 10, 100));
+        assertThrows(IllegalArgumentException.class, () -> inMemory(-1, 10, 100));
+        assertThrows(IllegalArgumentException.class, () -> inMemory(0, 100, 10));
+    }
+
+    @Test
+    @DisplayName("Should allocate unique IDs from concurrent threads")
+    void testConcurrentIds() throws Exception {
+        // Given
+        IdAllocator allocator = inMemory(3, 16, 64);
+        int threads = 8;
+        int idsPerThread = 10_000;
+
+        // When
+        List<Future<long[]>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    long[] ids = new long[idsPerThread];
+                    for (int i = 0; i < idsPerThread; i++) {
+                        ids[i] = allocator.nextId();
+                    }
+                    return ids;
+                }));
+            }
+        }
+
+        // Then
+        Set<Long> unique = new HashSet<>();
+        for (Future<long[]> result : results) {
+            for (long id : result.get()) {
+                assertTrue(unique.add(id), "Duplicate id " + id);
+            }
+        }
+        assertEquals(threads * idsPerThread, unique.size());
+    }
+
+    @Test
+    @DisplayName("Should resume after the last persisted lease on restart")
+    void testRestart() {
+        // Given
+        IdAllocator first = new IdAllocator(() -> 0, leaseDirectory, 10, 100);
+        long lastBeforeRestart = 0;
+        for (int i = 0; i < 150; i++) {
+            lastBeforeRestart = first.nextId();
+        }
+
+        // When
+        IdAllocator restarted = new IdAllocator(() -> 0, leaseDirectory, 10, 100);
+        long afterRestart = restarted.nextId();
+
+        // Then - deux plages louées (1 à 100, 101 à 200) : le redémarrage repart après la seconde
+        assertEquals(150L, lastBeforeRestart);
+        assertEquals(201L, afterRestart);
+        assertEquals(1L, new IdAllocator(() -> 1, leaseDirectory, 10, 100).nextId() & ((1L << 43) - 1));
+    }
+
+    @Test
+    @DisplayName("Should allocate beyond replicated IDs of the same node")
+    void testObserve() {
+        // Given
+        IdAllocator allocator = new IdAllocator();
+        long first = allocator.nextId();
+
+        // When
+        allocator.observe(500L);
+        allocator.observe(200L);
+        allocator.observe((5L << 43) | 9_000L);
+
+        // Then - le bloc du thread (1 à 1000) est abandonné, les IDs suivants dépassent l'ID répliqué
+        long next = allocator.nextId();
+        assertEquals(1L, first);
+        assertTrue(next > 500L);
+        assertEquals(0, IdAllocator.nodeOf(next));
+        assertEquals(next + 1, allocator.nextId());
+    }
+}
@@ -0,0 +1,293 @@
+package com.euodia.tax_calculator.loadtest;
+
+import com.euodia.tax_calculator.loadtest.LoadTestConfig.Operation;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Générateur de charge en modèle ouvert contre une instance locale de l'application.
+ *
+ * Les requêtes partent à intervalles fixes (débit d'arrivée), sans attendre les réponses précédentes :
+ * la latence est mesurée depuis l'instant de départ prévu, et non effectif. Un serveur qui ralentit
+ * ne ralentit donc pas le générateur, et l'attente subie par les requêtes retardées est comptée
+ * (pas d'omission coordonnée). Au-delà de maxInFlight requêtes en vol, les suivantes attendent qu'une place
+ * se libère, leur latence courant toujours depuis l'instant prévu ; les requêtes qui n'ont pas abouti
+ * à la fin du tir sont comptées en échec avec une latence égale au temps écoulé jusqu'à cette fin.
+ *
+ * ./mvnw spring-boot:run
+ * ./mvnw -Ploadtest test-compile exec:java -Dloadtest.rate=500 -Dloadtest.duration=120
+ */
+public class LoadGenerator {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final String[] COUNTRIES = {"US", "CANADA", "FRANCE"};
+
+    // Plage de latences enregistrables : 1 µs à 1 h, 3 chiffres significatifs
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.HOURS.toNanos(1);
+
+    private final LoadTestConfig config;
+    private final HttpClient client;
+    private final Operation[] schedule;
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+    private final Set<Pending> inFlight = ConcurrentHashMap.newKeySet();
+    // Requêtes au-delà de maxInFlight, envoyées à mesure que des places se libèrent (protégé par lui-même)
+    private final Queue<Pending> waiting = new ArrayDeque<>();
+    private final AtomicLong created = new AtomicLong();
+    // Répartition des requêtes entre les instances, à tour de rôle
+    private final AtomicLong nextBaseUrl = new AtomicLong();
+
+    // IDs connus, pour les lectures
+    private final List<Long> productIds = new ArrayList<>();
+
+    private volatile boolean recording;
+
+    LoadGenerator(LoadTestConfig config, ExecutorService executor) {
+        this.config = config;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+        this.schedule = buildSchedule(config.mix());
+
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_NANOS, 3));
+            errors.put(operation, new AtomicLong());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            LoadGenerator generator = new LoadGenerator(config, executor);
+            generator.seed();
+            Map<Operation, Histogram> histograms = generator.run();
+            new LoadReport(config, histograms, generator.errorCounts()).write();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Crée les produits de départ, de façon synchrone
+    void seed() throws IOException, InterruptedException {
+        System.out.printf("Seeding %d products on %s%n", config.seedProducts(), config.baseUrls());
+        for (int i = 0; i < config.seedProducts(); i++) {
+            HttpResponse<String> response = client.send(createRequest(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException("Seeding failed with HTTP " + response.statusCode());
+            }
+            rememberId(response.body());
+        }
+    }
+
+    // Joue le tir à débit constant ; retourne les histogrammes de la phase de mesure
+    Map<Operation, Histogram> run() throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        long totalNanos = config.warmup().toNanos() + config.duration().toNanos();
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+
+        System.out.printf("Running %d req/s for %s (+%s warmup), mix %s%n",
+                config.rate(), config.duration(), config.warmup(), config.mix());
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended - start >= totalNanos) {
+                break;
+            }
+            if (!recording && intended >= measureFrom) {
+                // Fin de chauffe : les mesures accumulées jusque-là sont jetées
+                recorders.values().forEach(Recorder::reset);
+                errors.values().forEach(counter -> counter.set(0));
+                recording = true;
+            }
+
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            // En retard (GC, saturation) : la requête part tout de suite, mais garde son instant prévu
+            fire(schedule[(int) (i % schedule.length)], intended);
+        }
+
+        // Laisse les requêtes en vol se terminer
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!isIdle() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        recordUnfinished(System.nanoTime());
+
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) -> histograms.put(operation, recorder.getIntervalHistogram()));
+        return histograms;
+    }
+
+    Map<Operation, Long> errorCounts() {
+        Map<Operation, Long> counts = new EnumMap<>(Operation.class);
+        errors.forEach((operation, counter) -> counts.put(operation, counter.get()));
+        return counts;
+    }
+
+    private void fire(Operation operation, long intendedStart) {
+        Pending request = new Pending(operation, intendedStart);
+        synchronized (waiting) {
+            if (inFlight.size() >= config.maxInFlight()) {
+                waiting.add(request);
+                return;
+            }
+            inFlight.add(request);
+        }
+        send(request);
+    }
+
+    private void send(Pending request) {
+        client.sendAsync(buildRequest(request.operation()), HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, failure) -> {
+                    long latency = System.nanoTime() - request.intendedStart();
+                    if (!inFlight.remove(request)) {
+                        // Déjà comptée comme non aboutie à la fin du tir
+                        return;
+                    }
+
+                    Operation operation = request.operation();
+                    recorders.get(operation).recordValue(Math.min(latency, HIGHEST_TRACKABLE_NANOS));
+                    if (failure != null || response.statusCode() >= 400) {
+                        errors.get(operation).incrementAndGet();
+                    } else if (operation == Operation.CREATE) {
+                        rememberId(response.body());
+                    }
+
+                    Pending next;
+                    synchronized (waiting) {
+                        next = waiting.poll();
+                        if (next != null) {
+                            inFlight.add(next);
+                        }
+                    }
+                    if (next != null) {
+                        send(next);
+                    }
+                });
+    }
+
+    private boolean isIdle() {
+        synchronized (waiting) {
+            return inFlight.isEmpty() && waiting.isEmpty();
+        }
+    }
+
+    // Les requêtes encore en vol ou en attente ont duré au moins jusqu'à la fin du tir : comptées en échec
+    private void recordUnfinished(long cutoff) {
+        List<Pending> unfinished;
+        synchronized (waiting) {
+            unfinished = new ArrayList<>(waiting);
+            waiting.clear();
+        }
+        for (Pending request : inFlight) {
+            if (inFlight.remove(request)) {
+                unfinished.add(request);
+            }
+        }
+        for (Pending request : unfinished) {
+            long latency = cutoff - request.intendedStart();
+            recorders.get(request.operation()).recordValue(Math.min(latency, HIGHEST_TRACKABLE_NANOS));
+            errors.get(request.operation()).incrementAndGet();
+        }
+        if (!unfinished.isEmpty()) {
+            System.out.printf("%d requests unfinished at the end of the run%n", unfinished.size());
+        }
+    }
+
+    private HttpRequest buildRequest(Operation operation) {
+        return switch (operation) {
+            case CREATE -> createRequest();
+            case GET -> get("/api/products/" + randomId());
+            case WITH_TAX -> get("/api/products/" + randomId() + "/with-tax");
+            case LIST -> get("/api/products");
+        };
+    }
+
+    private HttpRequest createRequest() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String body = String.format(Locale.ROOT, "{\"name\":\"Load product %d\",\"price\":%d.%02d,\"country\":\"%s\"}",
+                created.incrementAndGet(), random.nextInt(1, 5000), random.nextInt(100),
+                COUNTRIES[random.nextInt(COUNTRIES.length)]);
+        return HttpRequest.newBuilder(baseUrl().resolve("/api/products"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUrl().resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private URI baseUrl() {
+        List<URI> baseUrls = config.baseUrls();
+        return baseUrls.get((int) (nextBaseUrl.getAndIncrement() % baseUrls.size()));
+    }
+
+    private long randomId() {
+        synchronized (productIds) {
+            return productIds.isEmpty() ? 1 : productIds.get(ThreadLocalRandom.current().nextInt(productIds.size()));
+        }
+    }
+
+    private void rememberId(String body) {
+        Matcher matcher = ID_PATTERN.matcher(body);
+        if (matcher.find()) {
+            synchronized (productIds) {
+                productIds.add(Long.parseLong(matcher.group(1)));
+            }
+        }
+    }
+
+    // Séquence d'opérations respectant les poids du mix, jouée en boucle
+    private static Operation[] buildSchedule(Map<Operation, Integer> mix) {
+        List<Operation> slots = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(operation);
+            }
+        });
+        Collections.shuffle(slots, new Random(42));
+        return slots.toArray(Operation[]::new);
+    }
+
+    // Requête prévue à intendedStart, instant propre à chaque requête du tir
+    private record Pending(Operation operation, long intendedStart) {
+    }
+}
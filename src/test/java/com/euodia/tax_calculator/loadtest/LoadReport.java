@@ -0,0 +1,78 @@
+package com.euodia.tax_calculator.loadtest;
+
+import com.euodia.tax_calculator.loadtest.LoadTestConfig.Operation;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Rapport d'un tir de charge : un résumé des percentiles par opération (report.txt)
+ * et la distribution complète de chaque histogramme (&lt;operation&gt;.hgrm, lisible par HdrHistogram Plotter).
+ */
+class LoadReport {
+
+    // Les histogrammes sont en nanosecondes, le rapport en millisecondes
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final LoadTestConfig config;
+    private final Map<Operation, Histogram> histograms;
+    private final Map<Operation, Long> errors;
+
+    LoadReport(LoadTestConfig config, Map<Operation, Histogram> histograms, Map<Operation, Long> errors) {
+        this.config = config;
+        this.histograms = histograms;
+        this.errors = errors;
+    }
+
+    void write() throws IOException {
+        Files.createDirectories(config.reportDirectory());
+
+        Path summary = config.reportDirectory().resolve("report.txt");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(summary), true)) {
+            writeSummary(out);
+        }
+        writeSummary(System.out);
+
+        for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+            if (entry.getValue().getTotalCount() == 0) {
+                continue;
+            }
+            Path file = config.reportDirectory().resolve(entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file), true)) {
+                entry.getValue().outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+
+        System.out.printf("Report written to %s%n", config.reportDirectory().toAbsolutePath());
+    }
+
+    private void writeSummary(PrintStream out) {
+        out.printf(Locale.ROOT, "Open-model load test against %s: %d req/s for %s, mix %s%n",
+                config.baseUrls(), config.rate(), config.duration(), config.mix());
+        out.printf(Locale.ROOT, "Latencies in ms, measured from intended start time%n%n");
+        out.printf(Locale.ROOT, "%-10s %10s %8s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "mean", "p50", "p90", "p99", "p99.9", "max");
+
+        for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            out.printf(Locale.ROOT, "%-10s %10d %8d %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(),
+                    histogram.getTotalCount(),
+                    errors.getOrDefault(entry.getKey(), 0L),
+                    histogram.getMean() / NANOS_PER_MILLI,
+                    histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                    histogram.getValueAtPercentile(90) / NANOS_PER_MILLI,
+                    histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                    histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                    histogram.getMaxValue() / NANOS_PER_MILLI);
+        }
+    }
+}
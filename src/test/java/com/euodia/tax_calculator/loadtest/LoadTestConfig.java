@@ -0,0 +1,96 @@
+package com.euodia.tax_calculator.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Paramètres d'un tir de charge, lus depuis les propriétés système (-Dloadtest.xxx=...)
+ *
+ * @param baseUrls les URLs des instances testées, sollicitées à tour de rôle (plusieurs nœuds en mode cluster)
+ * @param rate le débit d'arrivée visé, en requêtes par seconde
+ * @param warmup la durée de chauffe, exclue des mesures
+ * @param duration la durée de mesure
+ * @param mix les poids relatifs de chaque opération
+ * @param seedProducts le nombre de produits créés avant le tir
+ * @param maxInFlight le nombre maximum de requêtes en vol (au-delà, les requêtes attendent une place,
+ *                    leur latence courant depuis l'instant prévu)
+ * @param reportDirectory le répertoire du rapport
+ */
+record LoadTestConfig(List<URI> baseUrls, int rate, Duration warmup, Duration duration, Map<Operation, Integer> mix,
+                      int seedProducts, int maxInFlight, Path reportDirectory) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                parseBaseUrls(System.getProperty("loadtest.baseUrl", "http://localhost:8080")),
+                Integer.getInteger("loadtest.rate", 200),
+                Duration.ofSeconds(Integer.getInteger("loadtest.warmup", 10)),
+                Duration.ofSeconds(Integer.getInteger("loadtest.duration", 60)),
+                parseMix(System.getProperty("loadtest.mix", "create:10,get:40,withTax:40,list:10")),
+                Integer.getInteger("loadtest.seedProducts", 1000),
+                Integer.getInteger("loadtest.maxInFlight", 10_000),
+                Path.of(System.getProperty("loadtest.report", "target/loadtest")));
+    }
+
+    /**
+     * @param baseUrls par exemple "http://localhost:8081,http://localhost:8082"
+     * @return les URLs, dans l'ordre
+     */
+    static List<URI> parseBaseUrls(String baseUrls) {
+        List<URI> urls = Arrays.stream(baseUrls.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .map(URI::create)
+                .toList();
+        if (urls.isEmpty()) {
+            throw new IllegalArgumentException("At least one base URL is required: " + baseUrls);
+        }
+        return urls;
+    }
+
+    /**
+     * @param mix par exemple "create:10,get:40,withTax:40,list:10"
+     * @return les poids par opération
+     */
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] entry = part.trim().split(":");
+            if (entry.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry (expected operation:weight): " + part);
+            }
+            Operation operation = Operation.fromName(entry[0].trim());
+            int weight = Integer.parseInt(entry[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + operation);
+            }
+            weights.put(operation, weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Traffic mix must contain at least one positive weight: " + mix);
+        }
+        return weights;
+    }
+
+    /**
+     * Opérations jouées par le générateur de charge
+     */
+    enum Operation {
+        CREATE, GET, WITH_TAX, LIST;
+
+        static Operation fromName(String name) {
+            return switch (name.toLowerCase(Locale.ROOT)) {
+                case "create" -> CREATE;
+                case "get" -> GET;
+                case "withtax", "with-tax" -> WITH_TAX;
+                case "list" -> LIST;
+                default -> throw new IllegalArgumentException("Unknown operation: " + name);
+            };
+        }
+    }
+}
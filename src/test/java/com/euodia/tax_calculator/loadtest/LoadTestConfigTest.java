@@ -0,0 +1,47 @@
+package com.euodia.tax_calculator.loadtest;
+
+import com.euodia.tax_calculator.loadtest.LoadTestConfig.Operation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la configuration du générateur de charge
+ */
+@DisplayName("Load Test Config Tests")
+class LoadTestConfigTest {
+
+    @Test
+    @DisplayName("Should parse a traffic mix")
+    void testParseMix() {
+        // When
+        Map<Operation, Integer> mix = LoadTestConfig.parseMix("create:10, get:40,withTax:40,list:10");
+
+        // Then
+        assertEquals(Map.of(Operation.CREATE, 10, Operation.GET, 40, Operation.WITH_TAX, 40, Operation.LIST, 10), mix);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown operations and empty mixes")
+    void testParseInvalidMix() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parseMix("delete:10"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parseMix("get"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parseMix("get:0,list:0"));
+    }
+
+    @Test
+    @DisplayName("Should parse a comma-separated list of base URLs")
+    void testParseBaseUrls() {
+        // When
+        List<URI> urls = LoadTestConfig.parseBaseUrls("http://localhost:8081, http://localhost:8082,");
+
+        // Then
+        assertEquals(List.of(URI.create("http://localhost:8081"), URI.create("http://localhost:8082")), urls);
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.parseBaseUrls(" , "));
+    }
+}
@@ -0,0 +1,100 @@
+package com.euodia.tax_calculator.pricing;
+
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.strategy.CanadaTaxStrategy;
+import com.euodia.tax_calculator.strategy.FranceTaxStrategy;
+import com.euodia.tax_calculator.strategy.TaxStrategy;
+import com.euodia.tax_calculator.strategy.UsTaxStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour les noyaux de calcul des taxes en masse
+ */
+@DisplayName("Bulk Tax Kernel Tests")
+class BulkTaxKernelTest {
+
+    private static final List<BulkTaxKernel> KERNELS = List.of(new ScalarBulkTaxKernel(), new VectorBulkTaxKernel());
+    private static final List<TaxStrategy> STRATEGIES = List.of(
+            new UsTaxStrategy(), new CanadaTaxStrategy(), new FranceTaxStrategy());
+
+    // Prix aléatoires, plus les cas limites d'arrondi (demi-centimes) et les petits montants
+    private static long[] prices(int count) {
+        Random random = new Random(42);
+        long[] prices = new long[count];
+        for (int i = 0; i < count; i++) {
+            prices[i] = i < 2_000 ? i : (long) (random.nextDouble() * 10_000_000_000L);
+        }
+        return prices;
+    }
+
+    @Test
+    @DisplayName("Should compute the same taxes as the per-product strategies")
+    void testIdenticalToStrategies() {
+        // Given - une longueur qui n'est pas un multiple de la taille des vecteurs
+        int count = 10_007;
+        long[] prices = prices(count);
+
+        for (TaxStrategy strategy : STRATEGIES) {
+            TaxRate rate = TaxRate.of(strategy.getRate());
+            for (BulkTaxKernel kernel : KERNELS) {
+                // When
+                long[] taxes = new long[count];
+                kernel.computeTaxes(prices, taxes, count, rate);
+
+                // Then
+                for (int i = 0; i < count; i++) {
+                    Product product = new Product(1L, "P", MinorUnits.toAmount(prices[i]), Country.US);
+                    assertEquals(strategy.calculateTax(product), MinorUnits.toAmount(taxes[i]),
+                            kernel.getName() + " / " + strategy.getStrategyName() + " / price " + prices[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should stay exact up to the maximum supported price")
+    void testMaximumPrice() {
+        // Given
+        TaxRate rate = TaxRate.of(new BigDecimal("0.085"));
+        long max = rate.maxMinorUnits();
+        long[] prices = new long[64];
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = max - i;
+        }
+
+        for (BulkTaxKernel kernel : KERNELS) {
+            // When
+            long[] taxes = new long[prices.length];
+            kernel.computeTaxes(prices, taxes, prices.length, rate);
+
+            // Then
+            for (int i = 0; i < prices.length; i++) {
+                BigDecimal expected = MinorUnits.toAmount(prices[i]).multiply(rate.toBigDecimal())
+                        .setScale(2, RoundingMode.HALF_UP);
+                assertEquals(expected, MinorUnits.toAmount(taxes[i]), kernel.getName());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should convert rates and amounts to integer units")
+    void testRateAndMinorUnits() {
+        assertEquals(new TaxRate(85, 1000), TaxRate.of(new BigDecimal("0.085")));
+        assertEquals(new TaxRate(2, 10), TaxRate.of(new BigDecimal("0.20")));
+        assertEquals(new TaxRate(1, 1), TaxRate.of(BigDecimal.ONE));
+        assertThrows(IllegalArgumentException.class, () -> TaxRate.of(new BigDecimal("-0.1")));
+
+        assertEquals(99_999L, MinorUnits.of(new BigDecimal("999.99")));
+        assertEquals(100_000L, MinorUnits.of(new BigDecimal("1000.000")));
+        assertEquals(MinorUnits.NOT_REPRESENTABLE, MinorUnits.of(new BigDecimal("999.999")));
+    }
+}
@@ -0,0 +1,81 @@
+package com.euodia.tax_calculator.profiling;
+
+import com.euodia.tax_calculator.dto.RecordingStatusResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests pour l'endpoint /actuator/flightrecorder
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "profiling.jfr.directory=target/recordings")
+@DisplayName("Flight Recorder Endpoint Tests")
+class FlightRecorderEndpointTest {
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private String getBaseUrl() {
+        return "http://localhost:" + managementPort + "/actuator/flightrecorder";
+    }
+
+    @Test
+    @DisplayName("Should start, dump and stop a recording into a local file")
+    void testRecordingLifecycle() {
+        // When
+        ResponseEntity<RecordingStatusResponse> started = restTemplate.postForEntity(
+                getBaseUrl() + "/start", null, RecordingStatusResponse.class);
+        ResponseEntity<String> startedTwice = restTemplate.postForEntity(getBaseUrl() + "/start", null, String.class);
+        restTemplate.getForEntity("http://localhost:" + port + "/api/products", String.class);
+        ResponseEntity<RecordingStatusResponse> stopped = restTemplate.postForEntity(
+                getBaseUrl() + "/stop", null, RecordingStatusResponse.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, started.getStatusCode());
+        assertTrue(started.getBody().isRunning());
+        assertEquals(HttpStatus.CONFLICT, startedTwice.getStatusCode());
+        assertEquals(HttpStatus.OK, stopped.getStatusCode());
+        assertFalse(stopped.getBody().isRunning());
+        assertTrue(Files.exists(Path.of(stopped.getBody().getLastDump())));
+    }
+
+    @Test
+    @DisplayName("Should not expose the endpoint on the application port")
+    void testNotOnApplicationPort() {
+        // When
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                "http://localhost:" + port + "/actuator/flightrecorder/start", null, String.class);
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertNotEquals(port, managementPort);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown actions")
+    void testUnknownAction() {
+        // When
+        ResponseEntity<String> response = restTemplate.postForEntity(getBaseUrl() + "/restart", null, String.class);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+}
@@ -0,0 +1,122 @@
+package com.euodia.tax_calculator.profiling;
+
+import com.euodia.tax_calculator.dto.RecordingStatusResponse;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.service.ProductService;
+import com.euodia.tax_calculator.service.TaxCalculationService;
+import com.euodia.tax_calculator.strategy.CanadaTaxStrategy;
+import com.euodia.tax_calculator.strategy.FranceTaxStrategy;
+import com.euodia.tax_calculator.strategy.UsTaxStrategy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour FlightRecorderService et les événements JFR de l'application
+ */
+@DisplayName("Flight Recorder Service Tests")
+class FlightRecorderServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private FlightRecorderService flightRecorderService;
+
+    @BeforeEach
+    void setUp() {
+        flightRecorderService = new FlightRecorderService(directory, "default", Duration.ZERO, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        flightRecorderService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should record tax calculation and store events with their country and strategy")
+    void testRecordEvents() throws IOException {
+        // Given
+        ProductService productService = new ProductService();
+        TaxCalculationService taxCalculationService = new TaxCalculationService(
+                new UsTaxStrategy(), new CanadaTaxStrategy(), new FranceTaxStrategy());
+        flightRecorderService.start();
+
+        // When
+        Product product = productService.addProduct(new Product("Laptop", new BigDecimal("100.00"), Country.FRANCE));
+        taxCalculationService.calculateTax(productService.getProductById(product.getId()).orElseThrow());
+        RecordingStatusResponse status = flightRecorderService.stop();
+
+        // Then
+        assertFalse(status.isRunning());
+        Path file = Path.of(status.getLastDump());
+        assertTrue(Files.exists(file));
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+        RecordedEvent tax = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.euodia.tax_calculator.TaxCalculation"))
+                .findFirst().orElseThrow();
+        assertEquals(product.getId().longValue(), tax.getLong("productId"));
+        assertEquals("FRANCE", tax.getString("country"));
+        assertEquals("France Tax Strategy (20% TVA)", tax.getString("strategy"));
+        assertNull(tax.getString("rule"));
+
+        List<String> operations = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.euodia.tax_calculator.ProductStore"))
+                .map(event -> event.getString("operation"))
+                .toList();
+        assertEquals(List.of("create", "get"), operations);
+    }
+
+    @Test
+    @DisplayName("Should dump a running recording without stopping it")
+    void testDump() {
+        // Given
+        flightRecorderService.start();
+
+        // When
+        RecordingStatusResponse status = flightRecorderService.dump();
+
+        // Then
+        assertTrue(status.isRunning());
+        assertNotNull(status.getStartedAt());
+        assertTrue(Files.exists(Path.of(status.getLastDump())));
+        assertTrue(Path.of(status.getLastDump()).startsWith(directory.toAbsolutePath()));
+    }
+
+    @Test
+    @DisplayName("Should reject a second start and dump or stop without a recording")
+    void testInvalidTransitions() {
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> flightRecorderService.dump());
+        assertThrows(IllegalStateException.class, () -> flightRecorderService.stop());
+        flightRecorderService.start();
+        assertThrows(IllegalStateException.class, () -> flightRecorderService.start());
+        assertTrue(flightRecorderService.getStatus().isRunning());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown JFR settings")
+    void testUnknownSettings() {
+        // Given
+        FlightRecorderService service = new FlightRecorderService(directory, "unknown", Duration.ZERO,
+                Duration.ofMinutes(5));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, service::start);
+        assertFalse(service.getStatus().isRunning());
+    }
+}
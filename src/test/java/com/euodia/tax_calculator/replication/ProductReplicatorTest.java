@@ -0,0 +1,182 @@
+package com.euodia.tax_calculator.replication;
+
+import com.euodia.tax_calculator.TaxCalculatorApplication;
+import com.euodia.tax_calculator.dto.CreateProductRequest;
+import com.euodia.tax_calculator.dto.ProductWithTaxResponse;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.service.ProductService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.http.client.ClientHttpRequestFactorySettings;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.ServerSocket;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la réplication avec un leader et un suiveur sur localhost
+ */
+@DisplayName("Product Replicator Tests")
+@Timeout(30)
+class ProductReplicatorTest {
+
+    private static ConfigurableApplicationContext leader;
+    private static ConfigurableApplicationContext follower;
+    private static String leaderUrl;
+    private static String followerUrl;
+    private static final TestRestTemplate restTemplate = new TestRestTemplate();
+    // IDs attribués par le leader aux produits créés avant le démarrage du suiveur
+    private static final long[] snapshotIds = new long[6];
+
+    @BeforeAll
+    static void startNodes() throws IOException {
+        int leaderPort = freePort();
+        int followerPort = freePort();
+        leaderUrl = "http://localhost:" + leaderPort;
+        followerUrl = "http://localhost:" + followerPort;
+
+        // Journal de 4 mutations : le suiveur, démarré après 6 créations, doit recopier le catalogue
+        leader = new SpringApplicationBuilder(TaxCalculatorApplication.class)
+                .run("--server.port=" + leaderPort, "--products.changes.capacity=4");
+        for (int i = 0; i < snapshotIds.length; i++) {
+            snapshotIds[i] = restTemplate.postForEntity(leaderUrl + "/api/products",
+                    new CreateProductRequest("Snapshot product " + i, new BigDecimal("10.00"), Country.CANADA),
+                    Product.class).getBody().getId();
+        }
+        follower = new SpringApplicationBuilder(TaxCalculatorApplication.class)
+                .run("--server.port=" + followerPort, "--replication.leader=" + leaderUrl);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        follower.close();
+        leader.close();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve products created on the leader from the follower")
+    void testReplicatedReads() throws InterruptedException {
+        // Given
+        Product created = restTemplate.postForEntity(leaderUrl + "/api/products",
+                new CreateProductRequest("Replicated laptop", new BigDecimal("100.00"), Country.FRANCE),
+                Product.class).getBody();
+
+        // When - le suiveur applique la mutation en quelques interrogations
+        ResponseEntity<ProductWithTaxResponse> response;
+        do {
+            Thread.sleep(20);
+            response = restTemplate.getForEntity(
+                    followerUrl + "/api/products/" + created.getId() + "/with-tax", ProductWithTaxResponse.class);
+        } while (response.getStatusCode() != HttpStatus.OK);
+
+        // Then
+        assertEquals("Replicated laptop", response.getBody().getName());
+        assertEquals(new BigDecimal("120.00"), response.getBody().getFinalPrice());
+        assertNotNull(response.getHeaders().getFirst(FollowerRequestFilter.STALENESS_HEADER));
+
+        ResponseEntity<Map> list = restTemplate.getForEntity(followerUrl + "/api/products", Map.class);
+        assertTrue(list.getBody().containsKey(created.getId().toString()));
+    }
+
+    @Test
+    @DisplayName("Should copy the leader catalog when its change log no longer covers the follower")
+    void testResync() throws InterruptedException {
+        // Given
+        ProductService followerProducts = follower.getBean(ProductService.class);
+
+        // When
+        while (!follower.getBean(ProductReplicator.class).isFresh()) {
+            Thread.sleep(20);
+        }
+
+        // Then
+        for (int i = 0; i < snapshotIds.length; i++) {
+            assertEquals("Snapshot product " + i,
+                    followerProducts.getProductById(snapshotIds[i]).orElseThrow().getName());
+        }
+    }
+
+    @Test
+    @DisplayName("Should redirect writes to the leader")
+    void testWritesRedirected() {
+        // When
+        // La redirection n'est pas suivie : la réponse du suiveur est vérifiée
+        ResponseEntity<String> response = restTemplate
+                .withRedirects(ClientHttpRequestFactorySettings.Redirects.DONT_FOLLOW)
+                .postForEntity(followerUrl + "/api/products",
+                        new CreateProductRequest("Follower write", new BigDecimal("10.00"), Country.US), String.class);
+
+        // Then
+        assertEquals(HttpStatus.TEMPORARY_REDIRECT, response.getStatusCode());
+        assertEquals(leaderUrl + "/api/products", response.getHeaders().getFirst(HttpHeaders.LOCATION));
+    }
+
+    @Test
+    @DisplayName("Should expose the replication lag")
+    void testLagMetrics() throws InterruptedException {
+        // Given
+        ProductReplicator replicator = follower.getBean(ProductReplicator.class);
+        for (int i = 0; i < 20; i++) {
+            restTemplate.postForEntity(leaderUrl + "/api/products",
+                    new CreateProductRequest("Lag product " + i, new BigDecimal("10.00"), Country.US), Product.class);
+        }
+        long leaderSequence = leader.getBean(ProductService.class).getLastSequence();
+
+        // When
+        while (replicator.getAppliedSequence() < leaderSequence) {
+            Thread.sleep(20);
+        }
+
+        // Then
+        MeterRegistry registry = follower.getBean(MeterRegistry.class);
+        assertNotNull(registry.find("replication.lag.changes").gauge());
+        assertNotNull(registry.find("replication.lag.staleness").gauge());
+        assertTrue(replicator.getStalenessMillis() < 5000);
+        assertTrue(replicator.isFresh());
+        assertNull(leader.getBean(MeterRegistry.class).find("replication.lag.changes").gauge());
+    }
+
+    @Test
+    @DisplayName("Should replicate updates and deletions")
+    void testReplicatedUpdatesAndDeletions() throws InterruptedException {
+        // Given
+        ProductService leaderProducts = leader.getBean(ProductService.class);
+        ProductService followerProducts = follower.getBean(ProductService.class);
+        Product updated = leaderProducts.addProduct(new Product("Updated", new BigDecimal("10.00"), Country.US));
+        Product deleted = leaderProducts.addProduct(new Product("Deleted", new BigDecimal("10.00"), Country.US));
+
+        // When
+        leaderProducts.updateProduct(updated.getId(), 1, new Product("Updated", new BigDecimal("12.00"), Country.US));
+        leaderProducts.deleteProduct(deleted.getId(), null);
+        long leaderSequence = leaderProducts.getLastSequence();
+        while (follower.getBean(ProductReplicator.class).getAppliedSequence() < leaderSequence) {
+            Thread.sleep(20);
+        }
+
+        // Then
+        Product replicated = followerProducts.getProductById(updated.getId()).orElseThrow();
+        assertEquals(new BigDecimal("12.00"), replicated.getPrice());
+        assertEquals(2, replicated.getVersion());
+        assertTrue(followerProducts.getProductById(deleted.getId()).isEmpty());
+    }
+}
@@ -0,0 +1,210 @@
+package com.euodia.tax_calculator.repository;
+
+import com.euodia.tax_calculator.ids.IdAllocator;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Currency;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.service.ProductDeduplicator;
+import com.euodia.tax_calculator.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests pour JdbcProductRepository, sur une base H2 temporaire
+ */
+@DisplayName("JDBC Product Repository Tests")
+class JdbcProductRepositoryTest {
+
+    @TempDir
+    Path databaseDirectory;
+
+    private final List<JdbcProductRepository> opened = new ArrayList<>();
+
+    private String url() {
+        return "jdbc:h2:file:" + databaseDirectory.resolve("products").toAbsolutePath();
+    }
+
+    private JdbcProductRepository open(int batchSize) throws SQLException {
+        JdbcProductRepository repository = new JdbcProductRepository(url(), "sa", "", batchSize);
+        opened.add(repository);
+        return repository;
+    }
+
+    @AfterEach
+    void tearDown() {
+        opened.forEach(JdbcProductRepository::close);
+    }
+
+    @Test
+    @DisplayName("Should serve writes from memory and persist them across reopening")
+    void testPersistence() throws SQLException {
+        // Given
+        JdbcProductRepository repository = open(100);
+        Product laptop = new Product(1L, "Laptop", new BigDecimal("999.990"), Country.FRANCE, Currency.USD, "electronics", 2);
+        Product phone = new Product(2L, "Phone", new BigDecimal("0.005"), Country.US, null, null, 1);
+
+        // When
+        repository.save(laptop);
+        repository.save(phone);
+        Product cached = repository.findById(1L);
+        Product removed = repository.delete(2L);
+        repository.close();
+        JdbcProductRepository reopened = open(100);
+
+        // Then - prix relu avec son échelle d'origine
+        assertSame(laptop, cached);
+        assertSame(phone, removed);
+        assertEquals(laptop, reopened.findById(1L));
+        assertEquals(new BigDecimal("999.990"), reopened.findById(1L).getPrice());
+        assertNull(reopened.findById(2L));
+        assertNull(reopened.delete(2L));
+        assertEquals(1, reopened.findAll().size());
+    }
+
+    @Test
+    @DisplayName("Should load the whole catalog when opened and return the same instance afterwards")
+    void testLoadOnOpen() throws SQLException {
+        // Given
+        JdbcProductRepository repository = open(100);
+        repository.save(new Product(7L, "Cable", new BigDecimal("9.99"), Country.CANADA, null, null, 1));
+        repository.close();
+        JdbcProductRepository reopened = open(100);
+
+        // When
+        Product loaded = reopened.findAll().get(7L);
+        Product first = reopened.findById(7L);
+        Product second = reopened.findById(7L);
+
+        // Then
+        assertNotNull(loaded);
+        assertSame(loaded, first);
+        assertSame(first, second);
+        assertNull(reopened.findById(8L));
+    }
+
+    @Test
+    @DisplayName("Should set aside writes rejected by the database and persist the rest of the batch")
+    void testRejectedWrite() throws SQLException {
+        // Given - nom trop long pour la colonne, écrit directement sans passer par la validation du service
+        JdbcProductRepository repository = open(100);
+        Product oversized = new Product(1L, "x".repeat(Product.MAX_NAME_LENGTH + 1), new BigDecimal("10.00"),
+                Country.US, null, null, 1);
+        Product valid = new Product(2L, "Cable", new BigDecimal("9.99"), Country.US, null, null, 1);
+
+        // When
+        repository.save(oversized);
+        repository.save(valid);
+        repository.flush();
+
+        // Then
+        assertEquals(1, repository.getRejectedWrites());
+        assertEquals(0, repository.getPendingWrites());
+        repository.close();
+        JdbcProductRepository reopened = open(100);
+        assertEquals(valid, reopened.findById(2L));
+        assertNull(reopened.findById(1L));
+        reopened.close();
+        try (Connection connection = DriverManager.getConnection(url(), "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT id FROM product_rejected")) {
+            assertTrue(rows.next());
+            assertEquals(1L, rows.getLong("id"));
+            assertFalse(rows.next());
+        }
+    }
+
+    @Test
+    @DisplayName("Should acknowledge a product write only once its batch is in the database")
+    void testAcknowledgedWriteIsDurable() throws SQLException {
+        // Given
+        ProductService service = new ProductService(ProductDeduplicator.disabled(), 16, new IdAllocator(), open(100));
+
+        // When
+        Product saved = service.addProduct(new Product("Laptop", new BigDecimal("1000.00"), Country.FRANCE));
+
+        // Then - lu par une autre connexion, sans flush ni fermeture
+        try (Connection connection = DriverManager.getConnection(url(), "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT price, price_scale FROM product WHERE id = " + saved.getId())) {
+            assertTrue(rows.next());
+            assertEquals(0, new BigDecimal("1000.00").compareTo(rows.getBigDecimal("price")));
+            assertEquals(2, rows.getInt("price_scale"));
+        }
+        assertEquals(0, opened.get(0).getPendingWrites());
+    }
+
+    @Test
+    @DisplayName("Should fail the sync of a writer whose write was rejected by the database")
+    void testSyncReportsRejectedWrite() throws SQLException {
+        // Given
+        JdbcProductRepository repository = open(100);
+        repository.save(new Product(1L, "x".repeat(Product.MAX_NAME_LENGTH + 1), new BigDecimal("10.00"),
+                Country.US, null, null, 1));
+        repository.save(new Product(2L, "Cable", new BigDecimal("9.99"), Country.US, null, null, 1));
+
+        // When
+        IllegalStateException exception = assertThrows(IllegalStateException.class, repository::sync);
+
+        // Then - signalée une seule fois ; l'écriture suivante est acquittée normalement
+        assertTrue(exception.getMessage().contains("1 product writes rejected"));
+        repository.save(new Product(3L, "Phone", new BigDecimal("500.00"), Country.US, null, null, 1));
+        assertDoesNotThrow(repository::sync);
+        assertEquals(0, repository.getPendingWrites());
+    }
+
+    @Test
+    @DisplayName("Should write many products in batches, keeping only the latest version of each")
+    void testBatchedWrites() throws SQLException {
+        // Given
+        JdbcProductRepository repository = open(64);
+
+        // When
+        for (long id = 1; id <= 5_000; id++) {
+            repository.save(new Product(id, "Produit " + id, new BigDecimal("10.00"), Country.US, null, null, 1));
+        }
+        for (long id = 1; id <= 5_000; id += 2) {
+            repository.save(new Product(id, "Produit " + id, new BigDecimal("12.00"), Country.US, null, null, 2));
+        }
+        repository.delete(10L);
+        repository.flush();
+
+        // Then
+        assertEquals(0, repository.getPendingWrites());
+        repository.close();
+        JdbcProductRepository reopened = open(64);
+        assertEquals(4_999, reopened.findAll().size());
+        assertEquals(2, reopened.findById(4_999L).getVersion());
+        assertEquals(1, reopened.findById(5_000L).getVersion());
+    }
+
+    @Test
+    @DisplayName("Should reopen a catalog without reusing IDs")
+    void testProductServiceRestart() throws SQLException {
+        // Given
+        ProductService service = new ProductService(ProductDeduplicator.disabled(), 16, new IdAllocator(), open(100));
+        Product saved = service.addProduct(new Product("Laptop", new BigDecimal("1000.00"), Country.FRANCE));
+        opened.get(0).close();
+
+        // When
+        ProductService restarted = new ProductService(ProductDeduplicator.disabled(), 16, new IdAllocator(), open(100));
+        Product created = restarted.addProduct(new Product("Phone", new BigDecimal("500.00"), Country.US));
+
+        // Then
+        assertEquals(saved, restarted.getProductById(saved.getId()).orElseThrow());
+        assertTrue(created.getId() > saved.getId());
+    }
+}
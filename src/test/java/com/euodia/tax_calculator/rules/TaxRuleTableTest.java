@@ -0,0 +1,106 @@
+package com.euodia.tax_calculator.rules;
+
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.pricing.TaxRate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour TaxRuleTable
+ */
+@DisplayName("Tax Rule Table Tests")
+class TaxRuleTableTest {
+
+    private static TaxRuleTable table(String content) throws IOException {
+        return TaxRuleTable.parse(new StringReader(content));
+    }
+
+    @Test
+    @DisplayName("Should find reduced-rate and exemption rules by country and category")
+    void testFind() throws IOException {
+        // Given
+        TaxRuleTable rules = table("# commentaire\nFRANCE,food,0.055\nus,food,exempt\n\nFRANCE,books,0.055\n");
+
+        // When
+        TaxRule franceFood = rules.find(Country.FRANCE, "food");
+        TaxRule usFood = rules.find(Country.US, "food");
+
+        // Then
+        assertEquals(3, rules.getRuleCount());
+        assertEquals(2, rules.getCategoryCount());
+        assertEquals(new TaxRate(55, 1000), franceFood.rate());
+        assertFalse(franceFood.exempt());
+        assertEquals("food: 5.5%", franceFood.getDescription());
+        assertTrue(usFood.exempt());
+        assertEquals("food: exempt", usFood.getDescription());
+    }
+
+    @Test
+    @DisplayName("Should return no rule for unknown categories, missing countries and null values")
+    void testNoRule() throws IOException {
+        // Given
+        TaxRuleTable rules = table("FRANCE,food,0.055\n");
+
+        // When & Then
+        assertNull(rules.find(Country.CANADA, "food"));
+        assertNull(rules.find(Country.FRANCE, "Food"));
+        assertNull(rules.find(Country.FRANCE, "electronics"));
+        assertNull(rules.find(Country.FRANCE, null));
+        assertNull(rules.find(null, "food"));
+        assertNull(TaxRuleTable.empty().find(Country.FRANCE, "food"));
+    }
+
+    @Test
+    @DisplayName("Should compute taxes with HALF_UP rounding and zero for exemptions")
+    void testCalculateTax() throws IOException {
+        // Given
+        TaxRuleTable rules = table("FRANCE,food,0.055\nUS,food,EXEMPT\n");
+
+        // When & Then - 9.99 × 5.5 % = 0.54945
+        assertEquals(new BigDecimal("0.55"), rules.find(Country.FRANCE, "food").calculateTax(new BigDecimal("9.99")));
+        assertEquals(new BigDecimal("0.00"), rules.find(Country.US, "food").calculateTax(new BigDecimal("9.99")));
+        assertEquals(55L, rules.find(Country.FRANCE, "food").rate().taxOf(999L));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid lines, rates and duplicate rules")
+    void testInvalidRules() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> table("FRANCE,food\n"));
+        assertThrows(IllegalArgumentException.class, () -> table("FRANCE, ,0.055\n"));
+        assertThrows(IllegalArgumentException.class, () -> table("GERMANY,food,0.07\n"));
+        assertThrows(IllegalArgumentException.class, () -> table("FRANCE,food,abc\n"));
+        assertThrows(IllegalArgumentException.class, () -> table("FRANCE,food,1.5\n"));
+        assertThrows(IllegalArgumentException.class, () -> table("FRANCE,food,-0.1\n"));
+        assertThrows(IllegalArgumentException.class, () -> table("FRANCE,food,0.055\nFRANCE,food,0.10\n"));
+    }
+
+    @Test
+    @DisplayName("Should compile a thousand rules into a dense table")
+    void testManyRules() {
+        // Given
+        List<TaxRule> ruleList = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            Country country = Country.values()[i % Country.values().length];
+            BigDecimal rate = i % 7 == 0 ? null : BigDecimal.valueOf(i % 200, 3);
+            ruleList.add(TaxRuleTable.rule(country, "category-" + (i / Country.values().length), rate));
+        }
+
+        // When
+        TaxRuleTable rules = TaxRuleTable.compile(ruleList);
+
+        // Then
+        assertEquals(1_000, rules.getRuleCount());
+        for (TaxRule rule : ruleList) {
+            assertSame(rule, rules.find(rule.country(), rule.category()));
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.euodia.tax_calculator.service;
+
+import com.euodia.tax_calculator.dto.CountryOrderTotal;
+import com.euodia.tax_calculator.dto.OrderLineQuote;
+import com.euodia.tax_calculator.dto.OrderLineRequest;
+import com.euodia.tax_calculator.dto.OrderQuoteResponse;
+import com.euodia.tax_calculator.fx.FxRateService;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Currency;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.rules.TaxRuleService;
+import com.euodia.tax_calculator.strategy.CanadaTaxStrategy;
+import com.euodia.tax_calculator.strategy.FranceTaxStrategy;
+import com.euodia.tax_calculator.strategy.UsTaxStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour OrderQuoteService
+ */
+@DisplayName("Order Quote Service Tests")
+class OrderQuoteServiceTest {
+
+    private ProductService productService;
+    private TaxCalculationService taxCalculationService;
+    private OrderQuoteService orderQuoteService;
+
+    @BeforeEach
+    void setUp() {
+        productService = new ProductService();
+        taxCalculationService = new TaxCalculationService(
+                new UsTaxStrategy(), new CanadaTaxStrategy(), new FranceTaxStrategy(), new TaxRuleService(
+                new ByteArrayResource("FRANCE,food,0.055\nFRANCE,books,0.055\nUS,food,EXEMPT\n".getBytes())));
+        FxRateService fxRateService = new FxRateService(
+                new ByteArrayResource("USD,EUR,0.50\nUSD,CAD,1.25\nEUR,CAD,2.50\n".getBytes()));
+        orderQuoteService = new OrderQuoteService(productService, taxCalculationService, fxRateService, 10_000);
+    }
+
+    private Product add(String name, String price, Country country) {
+        return productService.addProduct(new Product(name, new BigDecimal(price), country));
+    }
+
+    private static OrderLineRequest line(Product product, int quantity) {
+        return new OrderLineRequest(product.getId(), quantity);
+    }
+
+    @Test
+    @DisplayName("Should compute per-line, per-country and grand totals")
+    void testQuote() {
+        // Given
+        Product laptop = add("Laptop", "100.00", Country.FRANCE);
+        Product mouse = add("Mouse", "19.99", Country.FRANCE);
+        Product book = add("Book", "10.00", Country.FRANCE);
+
+        // When
+        OrderQuoteResponse response = orderQuoteService.quote(
+                List.of(line(laptop, 3), line(mouse, 2), line(book, 1)), null);
+
+        // Then - 300.00 + 39.98 + 10.00, TVA 60.00 + 8.00 (7.996) + 2.00
+        assertEquals(Currency.EUR, response.getCurrency());
+        OrderLineQuote laptopLine = response.getLines().get(0);
+        assertEquals(laptop.getId(), laptopLine.getProductId());
+        assertEquals(new BigDecimal("100.00"), laptopLine.getUnitPrice());
+        assertEquals(new BigDecimal("300.00"), laptopLine.getNetAmount());
+        assertEquals(new BigDecimal("60.00"), laptopLine.getTaxAmount());
+        assertEquals(new BigDecimal("360.00"), laptopLine.getFinalAmount());
+        assertEquals(new BigDecimal("8.00"), response.getLines().get(1).getTaxAmount());
+
+        CountryOrderTotal france = response.getCountries().get(0);
+        assertEquals(Country.FRANCE, france.getCountry());
+        assertEquals(3, france.getLineCount());
+        assertEquals(new BigDecimal("349.98"), france.getNetTotal());
+        assertEquals(new BigDecimal("70.00"), france.getTaxTotal());
+        assertEquals(new BigDecimal("419.98"), france.getFinalTotal());
+        assertEquals(new BigDecimal("419.98"), response.getGrandTotal());
+    }
+
+    @Test
+    @DisplayName("Should tax the line amount rather than summing rounded unit taxes")
+    void testTaxOnLineAmount() {
+        // Given - 0.05 × 8.5 % = 0.00425 : taxe unitaire nulle, mais 0.01 sur la ligne de 3
+        Product candy = add("Candy", "0.05", Country.US);
+
+        // When
+        OrderQuoteResponse response = orderQuoteService.quote(List.of(line(candy, 3)), null);
+
+        // Then
+        assertEquals(new BigDecimal("0.15"), response.getNetTotal());
+        assertEquals(new BigDecimal("0.01"), response.getTaxTotal());
+    }
+
+    @Test
+    @DisplayName("Should group lines by country and express all amounts in the order currency")
+    void testMultipleCountriesAndCurrencies() {
+        // Given - 1 USD = 0.50 EUR, 1 EUR = 2.50 CAD
+        Product us = add("US product", "100.00", Country.US);
+        Product canada = add("Canada product", "100.00", Country.CANADA);
+        Product france = add("France product", "100.00", Country.FRANCE);
+
+        // When
+        OrderQuoteResponse response = orderQuoteService.quote(
+                List.of(line(us, 1), line(france, 1), line(canada, 1), line(us, 1)), Currency.EUR);
+
+        // Then - lignes dans l'ordre de la demande, pays dans l'ordre de l'énumération
+        assertEquals(List.of(us.getId(), france.getId(), canada.getId(), us.getId()),
+                response.getLines().stream().map(OrderLineQuote::getProductId).toList());
+        assertEquals(List.of(Country.US, Country.CANADA, Country.FRANCE),
+                response.getCountries().stream().map(CountryOrderTotal::getCountry).toList());
+
+        CountryOrderTotal usTotal = response.getCountries().get(0);
+        assertEquals(2, usTotal.getLineCount());
+        assertEquals(new BigDecimal("100.00"), usTotal.getNetTotal());
+        assertEquals(new BigDecimal("8.50"), usTotal.getTaxTotal());
+        CountryOrderTotal canadaTotal = response.getCountries().get(1);
+        assertEquals(new BigDecimal("40.00"), canadaTotal.getNetTotal());
+        assertEquals(new BigDecimal("4.80"), canadaTotal.getTaxTotal());
+        assertEquals(new BigDecimal("273.30"), response.getGrandTotal());
+    }
+
+    @Test
+    @DisplayName("Should apply category rates within a country")
+    void testCategoryRates() {
+        // Given
+        Product laptop = add("Laptop", "100.00", Country.FRANCE);
+        Product bread = productService.addProduct(
+                new Product("Bread", new BigDecimal("2.00"), Country.FRANCE).withCategory("food"));
+        Product book = productService.addProduct(
+                new Product("Book", new BigDecimal("10.00"), Country.FRANCE).withCategory("books"));
+        Product apple = productService.addProduct(
+                new Product("Apple", new BigDecimal("1.00"), Country.US).withCategory("food"));
+
+        // When
+        OrderQuoteResponse response = orderQuoteService.quote(
+                List.of(line(laptop, 1), line(bread, 3), line(book, 2), line(apple, 5)), Currency.USD);
+
+        // Then - TVA 20.00 + 0.33 + 1.10 EUR, soit 42.86 USD (1 EUR = 2 USD) ; nourriture exonérée aux US
+        assertEquals(new BigDecimal("0.66"), response.getLines().get(1).getTaxAmount());
+        assertEquals(new BigDecimal("2.20"), response.getLines().get(2).getTaxAmount());
+        assertEquals(new BigDecimal("0.00"), response.getLines().get(3).getTaxAmount());
+        CountryOrderTotal france = response.getCountries().get(1);
+        assertEquals(Country.FRANCE, france.getCountry());
+        assertEquals(3, france.getLineCount());
+        assertEquals(new BigDecimal("42.86"), france.getTaxTotal());
+    }
+
+    @Test
+    @DisplayName("Should require a currency when products use different currencies")
+    void testMixedCurrenciesRequireCurrency() {
+        // Given
+        Product us = add("US product", "100.00", Country.US);
+        Product france = add("France product", "100.00", Country.FRANCE);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> orderQuoteService.quote(List.of(line(us, 1), line(france, 1)), null));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown products, invalid quantities and empty orders")
+    void testInvalidOrders() {
+        // Given
+        Product product = add("Product", "10.00", Country.FRANCE);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> orderQuoteService.quote(List.of(new OrderLineRequest(999L, 1)), null));
+        assertThrows(IllegalArgumentException.class,
+                () -> orderQuoteService.quote(List.of(line(product, 0)), null));
+        assertThrows(IllegalArgumentException.class,
+                () -> orderQuoteService.quote(List.of(new OrderLineRequest(product.getId(), null)), null));
+        assertThrows(IllegalArgumentException.class, () -> orderQuoteService.quote(List.of(), null));
+    }
+
+    @Test
+    @DisplayName("Should match per-line BigDecimal computation on a large order")
+    void testLargeOrderMatchesStrategies() {
+        // Given - quelques prix à trois décimales passent par le calcul unitaire
+        Random random = new Random(11);
+        Country[] countries = Country.values();
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            BigDecimal price = BigDecimal.valueOf(random.nextInt(1_000_000), i % 50 == 0 ? 3 : 2);
+            Product product = new Product("Product " + i, price, countries[i % countries.length])
+                    .withCurrency(Currency.EUR)
+                    .withCategory(i % 4 == 0 ? "food" : i % 4 == 1 ? "books" : null);
+            products.add(productService.addProduct(product));
+        }
+        List<OrderLineRequest> lines = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            lines.add(line(products.get(random.nextInt(products.size())), 1 + random.nextInt(20)));
+        }
+
+        // When
+        OrderQuoteResponse response = orderQuoteService.quote(lines, null);
+
+        // Then
+        BigDecimal expectedTax = BigDecimal.ZERO;
+        BigDecimal lineTotal = BigDecimal.ZERO;
+        for (int i = 0; i < lines.size(); i++) {
+            Product product = productService.getProductById(lines.get(i).getProductId()).orElseThrow();
+            Product lineAmount = product.withPrice(product.getPrice()
+                    .multiply(BigDecimal.valueOf(lines.get(i).getQuantity())));
+            BigDecimal tax = taxCalculationService.calculateTax(lineAmount);
+            assertEquals(tax, response.getLines().get(i).getTaxAmount(), "line " + i);
+            expectedTax = expectedTax.add(tax);
+            lineTotal = lineTotal.add(response.getLines().get(i).getFinalAmount());
+        }
+        assertEquals(expectedTax, response.getTaxTotal());
+        assertEquals(lineTotal, response.getGrandTotal());
+        assertEquals(5_000, response.getCountries().stream().mapToInt(CountryOrderTotal::getLineCount).sum());
+    }
+}
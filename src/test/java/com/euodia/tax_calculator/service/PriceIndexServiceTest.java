@@ -0,0 +1,187 @@
+package com.euodia.tax_calculator.service;
+
+import com.euodia.tax_calculator.fx.FxRateService;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Currency;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.rules.TaxRuleService;
+import com.euodia.tax_calculator.strategy.CanadaTaxStrategy;
+import com.euodia.tax_calculator.strategy.FranceTaxStrategy;
+import com.euodia.tax_calculator.strategy.UsTaxStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour PriceIndexService
+ */
+@DisplayName("Price Index Service Tests")
+class PriceIndexServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private ProductService productService;
+    private PriceIndexService priceIndexService;
+
+    private static FxRateService fxRateService() {
+        return new FxRateService(new ByteArrayResource("USD,EUR,0.50\nUSD,CAD,1.25\nEUR,CAD,2.50\n".getBytes()));
+    }
+
+    @BeforeEach
+    void setUp() {
+        productService = new ProductService();
+        TaxCalculationService taxCalculationService = new TaxCalculationService(
+                new UsTaxStrategy(), new CanadaTaxStrategy(), new FranceTaxStrategy());
+        priceIndexService = new PriceIndexService(productService, taxCalculationService, fxRateService());
+    }
+
+    private Product add(String name, String price, Country country) {
+        return productService.addProduct(new Product(name, new BigDecimal(price), country));
+    }
+
+    @Test
+    @DisplayName("Should return most expensive products first, per country")
+    void testFindTopByFinalPrice() {
+        // Given
+        add("Cheap", "10.00", Country.FRANCE);
+        add("Expensive", "500.00", Country.FRANCE);
+        add("Medium", "100.00", Country.FRANCE);
+        add("US Luxury", "9999.00", Country.US);
+
+        // When
+        List<Product> top = priceIndexService.findTopByFinalPrice(Country.FRANCE, 2);
+
+        // Then
+        assertEquals(2, top.size());
+        assertEquals("Expensive", top.get(0).getName());
+        assertEquals("Medium", top.get(1).getName());
+    }
+
+    @Test
+    @DisplayName("Should keep products with the same final price")
+    void testSameFinalPrice() {
+        // Given
+        add("First", "100.00", Country.CANADA);
+        add("Second", "100.00", Country.CANADA);
+
+        // When
+        List<Product> top = priceIndexService.findTopByFinalPrice(Country.CANADA, 10);
+
+        // Then
+        assertEquals(2, top.size());
+    }
+
+    @Test
+    @DisplayName("Should filter on final price range, bounds included")
+    void testFindByFinalPriceRange() {
+        // Given - prix finaux France : 12.00, 120.00, 600.00
+        add("Cheap", "10.00", Country.FRANCE);
+        add("Medium", "100.00", Country.FRANCE);
+        add("Expensive", "500.00", Country.FRANCE);
+
+        // When
+        List<Product> range = priceIndexService.findByFinalPriceRange(
+                Country.FRANCE, new BigDecimal("12.00"), new BigDecimal("120"), 10);
+
+        // Then
+        assertEquals(List.of("Cheap", "Medium"), range.stream().map(Product::getName).toList());
+    }
+
+    @Test
+    @DisplayName("Should index final prices in the country currency")
+    void testForeignCurrencyProduct() {
+        // Given - 100 USD vendus en France : 120 USD taxes incluses, soit 60 EUR
+        add("Euro", "100.00", Country.FRANCE);
+        Product dollar = new Product("Dollar", new BigDecimal("100.00"), Country.FRANCE)
+                .withCurrency(Currency.USD);
+        productService.addProduct(dollar);
+
+        // When
+        List<Product> range = priceIndexService.findByFinalPriceRange(
+                Country.FRANCE, new BigDecimal("60.00"), new BigDecimal("60.00"), 10);
+
+        // Then
+        assertEquals(List.of("Dollar"), range.stream().map(Product::getName).toList());
+    }
+
+    @Test
+    @DisplayName("Should index products added before the index was created")
+    void testIndexesExistingProducts() {
+        // Given
+        ProductService service = new ProductService();
+        service.addProduct(new Product("Existing", new BigDecimal("50.00"), Country.US));
+
+        // When
+        PriceIndexService index = new PriceIndexService(service, new TaxCalculationService(
+                new UsTaxStrategy(), new CanadaTaxStrategy(), new FranceTaxStrategy()), fxRateService());
+
+        // Then
+        assertEquals(1, index.findTopByFinalPrice(Country.US, 10).size());
+    }
+
+    @Test
+    @DisplayName("Should return empty list for country without products")
+    void testEmptyCountry() {
+        assertTrue(priceIndexService.findTopByFinalPrice(Country.US, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should move updated products and drop deleted ones")
+    void testUpdateAndDelete() {
+        // Given
+        Product moved = add("Moved", "10.00", Country.FRANCE);
+        Product deleted = add("Deleted", "500.00", Country.FRANCE);
+        add("Kept", "100.00", Country.FRANCE);
+
+        // When
+        productService.updateProduct(moved.getId(), 1, new Product("Moved", new BigDecimal("1000.00"), Country.US));
+        productService.deleteProduct(deleted.getId(), null);
+
+        // Then
+        assertEquals(List.of("Kept"), priceIndexService.findTopByFinalPrice(Country.FRANCE, 10).stream()
+                .map(Product::getName).toList());
+        assertEquals(List.of("Moved"), priceIndexService.findTopByFinalPrice(Country.US, 10).stream()
+                .map(Product::getName).toList());
+    }
+
+    @Test
+    @DisplayName("Should reindex final prices when FX rates or tax rules change")
+    void testReindexOnRatesAndRulesChange() throws IOException {
+        // Given - 100 USD vendus en France, et 100 EUR de catégorie "food"
+        Path rates = directory.resolve("fx-rates.csv");
+        Path rules = directory.resolve("tax-rules.csv");
+        Files.writeString(rates, "USD,EUR,0.50\nUSD,CAD,1.25\nEUR,CAD,2.50\n");
+        Files.writeString(rules, "");
+        FxRateService fxRateService = new FxRateService(new FileSystemResource(rates));
+        TaxRuleService taxRuleService = new TaxRuleService(new FileSystemResource(rules));
+        ProductService service = new ProductService();
+        PriceIndexService index = new PriceIndexService(service, new TaxCalculationService(new UsTaxStrategy(),
+                new CanadaTaxStrategy(), new FranceTaxStrategy(), taxRuleService), fxRateService);
+        service.addProduct(new Product("Dollar", new BigDecimal("100.00"), Country.FRANCE).withCurrency(Currency.USD));
+        service.addProduct(new Product(null, "Bread", new BigDecimal("100.00"), Country.FRANCE, null, "food", 0));
+
+        // When - 120 USD valent 96 EUR au lieu de 60 ; le pain, taxé à 5,5 %, coûte 105,50 EUR au lieu de 120
+        Files.writeString(rates, "USD,EUR,0.80\nUSD,CAD,1.25\nEUR,CAD,2.50\n");
+        Files.writeString(rules, "FRANCE,food,0.055\n");
+        fxRateService.refresh();
+        taxRuleService.refresh();
+
+        // Then
+        assertEquals(List.of("Dollar", "Bread"), index.findByFinalPriceRange(Country.FRANCE,
+                new BigDecimal("90.00"), new BigDecimal("110.00"), 10).stream().map(Product::getName).toList());
+        assertTrue(index.findByFinalPriceRange(Country.FRANCE, new BigDecimal("60.00"), new BigDecimal("60.00"), 10)
+                .isEmpty());
+    }
+}
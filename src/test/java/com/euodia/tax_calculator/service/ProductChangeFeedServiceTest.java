@@ -0,0 +1,106 @@
+package com.euodia.tax_calculator.service;
+
+import com.euodia.tax_calculator.dto.ProductChangesResponse;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.model.ProductChange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour ProductChangeFeedService
+ */
+@DisplayName("Product Change Feed Service Tests")
+class ProductChangeFeedServiceTest {
+
+    private ProductService productService;
+    private ProductChangeFeedService feedService;
+
+    @BeforeEach
+    void setUp() {
+        // Journal limité à 8 mutations
+        productService = new ProductService(ProductDeduplicator.disabled(), 8);
+        feedService = new ProductChangeFeedService(productService, 60_000, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        feedService.shutdown();
+    }
+
+    private void addProducts(int count) {
+        for (int i = 0; i < count; i++) {
+            productService.addProduct(new Product("Produit " + i, new BigDecimal("10.00"), Country.FRANCE));
+        }
+    }
+
+    @Test
+    @DisplayName("Should page through changes after a sequence")
+    void testPoll() {
+        // Given
+        addProducts(5);
+
+        // When
+        ProductChangesResponse firstPage = feedService.poll(0, 3);
+        ProductChangesResponse secondPage = feedService.poll(3, 3);
+        ProductChangesResponse upToDate = feedService.poll(5, 3);
+
+        // Then
+        assertFalse(firstPage.isResyncRequired());
+        assertEquals(List.of(1L, 2L, 3L), firstPage.getChanges().stream().map(ProductChange::sequence).toList());
+        assertEquals(5, firstPage.getLastSequence());
+        assertEquals(List.of(4L, 5L), secondPage.getChanges().stream().map(ProductChange::sequence).toList());
+        assertEquals("Produit 4", secondPage.getChanges().get(1).product().getName());
+        assertTrue(upToDate.getChanges().isEmpty());
+        assertFalse(upToDate.isResyncRequired());
+    }
+
+    @Test
+    @DisplayName("Should require a resync when changes are no longer retained")
+    void testResyncAfterOverflow() {
+        // Given
+        addProducts(10);
+
+        // When
+        ProductChangesResponse response = feedService.poll(1, 100);
+
+        // Then
+        assertTrue(response.isResyncRequired());
+        assertTrue(response.getChanges().isEmpty());
+        assertEquals(10, response.getLastSequence());
+        assertFalse(feedService.poll(2, 100).isResyncRequired());
+    }
+
+    @Test
+    @DisplayName("Should require a resync for a sequence from a previous instance")
+    void testResyncForUnknownSequence() {
+        // Given
+        addProducts(2);
+
+        // When
+        ProductChangesResponse response = feedService.poll(42, 100);
+
+        // Then
+        assertTrue(response.isResyncRequired());
+        assertEquals(2, response.getLastSequence());
+    }
+
+    @Test
+    @DisplayName("Should limit the number of stream subscribers")
+    void testMaxSubscribers() {
+        // Given
+        feedService.subscribe(0);
+        feedService.subscribe(0);
+
+        // When & Then
+        assertEquals(2, feedService.getSubscriberCount());
+        assertThrows(IllegalStateException.class, () -> feedService.subscribe(0));
+    }
+}
@@ -0,0 +1,144 @@
+package com.euodia.tax_calculator.service;
+
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour ProductSearchService
+ */
+@DisplayName("Product Search Service Tests")
+class ProductSearchServiceTest {
+
+    private ProductService productService;
+    private ProductSearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        productService = new ProductService();
+        searchService = new ProductSearchService(productService);
+    }
+
+    private Product add(String name) {
+        return productService.addProduct(new Product(name, new BigDecimal("100.00"), Country.US));
+    }
+
+    private List<String> names(ProductSearchService.SearchPage page) {
+        return page.products().stream().map(Product::getName).toList();
+    }
+
+    @Test
+    @DisplayName("Should find products by a word of their name, ignoring case and accents")
+    void testSearchSingleTerm() {
+        // Given
+        add("iPhone 15 Pro");
+        add("Télévision OLED");
+        add("Samsung Galaxy");
+
+        // When & Then
+        assertEquals(List.of("iPhone 15 Pro"), names(searchService.search("IPHONE", 0, 10)));
+        assertEquals(List.of("Télévision OLED"), names(searchService.search("television", 0, 10)));
+    }
+
+    @Test
+    @DisplayName("Should rank products matching more terms first")
+    void testSearchRanking() {
+        // Given
+        add("iPhone 15");
+        add("iPhone 15 Pro");
+        add("MacBook Pro");
+
+        // When
+        ProductSearchService.SearchPage page = searchService.search("iphone pro", 0, 10);
+
+        // Then
+        assertEquals(3, page.totalHits());
+        assertEquals("iPhone 15 Pro", page.products().get(0).getName());
+    }
+
+    @Test
+    @DisplayName("Should paginate results")
+    void testSearchPagination() {
+        // Given
+        for (int i = 1; i <= 5; i++) {
+            add("Cable " + i);
+        }
+
+        // When
+        ProductSearchService.SearchPage secondPage = searchService.search("cable", 1, 2);
+
+        // Then
+        assertEquals(5, secondPage.totalHits());
+        assertEquals(List.of("Cable 3", "Cable 4"), names(secondPage));
+    }
+
+    @Test
+    @DisplayName("Should paginate ranked results")
+    void testSearchRankedPagination() {
+        // Given
+        add("Red Cable");
+        add("Blue Cable");
+        add("Red Shirt");
+
+        // When
+        ProductSearchService.SearchPage page = searchService.search("red cable", 1, 2);
+
+        // Then
+        assertEquals(3, page.totalHits());
+        assertEquals(List.of("Red Shirt"), names(page));
+    }
+
+    @Test
+    @DisplayName("Should return no result for unknown or blank query")
+    void testSearchNoResult() {
+        // Given
+        add("iPhone 15");
+
+        // When & Then
+        assertEquals(0, searchService.search("android", 0, 10).totalHits());
+        assertEquals(0, searchService.search("  ", 0, 10).totalHits());
+    }
+
+    @Test
+    @DisplayName("Should follow renamed and deleted products")
+    void testRenameAndDelete() {
+        // Given
+        Product renamed = add("Galaxy Tab");
+        Product deleted = add("Galaxy Watch");
+
+        // When
+        productService.updateProduct(renamed.getId(), 1, new Product("Pixel Tab", new BigDecimal("100.00"), Country.US));
+        productService.deleteProduct(deleted.getId(), null);
+
+        // Then
+        assertEquals(0, searchService.search("galaxy", 0, 10).totalHits());
+        assertEquals(List.of("Pixel Tab"), names(searchService.search("tab", 0, 10)));
+        assertEquals(List.of("Pixel Tab"), names(searchService.search("pixel", 0, 10)));
+        assertEquals(1, searchService.getIndexedProductCount());
+    }
+
+    @Test
+    @DisplayName("Should count each indexed product once, whatever the notifications replayed")
+    void testIndexedProductCount() {
+        // Given
+        Product kept = add("Galaxy Tab");
+        Product removed = add("Galaxy Watch");
+
+        // When - notifications rejouées (resynchronisation) et suppression notifiée deux fois
+        searchService.onProductAdded(kept);
+        searchService.onProductAdded(kept);
+        productService.deleteProduct(removed.getId(), null);
+        searchService.onProductRemoved(removed);
+
+        // Then
+        assertEquals(1, searchService.getIndexedProductCount());
+        assertEquals(List.of("Galaxy Tab"), names(searchService.search("galaxy", 0, 10)));
+    }
+}
@@ -1,12 +1,19 @@
 package com.euodia.tax_calculator.service;
 
+import com.euodia.tax_calculator.ids.IdAllocator;
 import com.euodia.tax_calculator.model.Country;
 import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.model.ProductChange;
+import com.euodia.tax_calculator.model.ProductChangeType;
+import com.euodia.tax_calculator.repository.InMemoryProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -82,6 +89,26 @@ class ProductServiceTest {
         assertTrue(exception.getMessage().contains("Product is not valid"));
     }
 
+    @Test
+    @DisplayName("Should reject values longer than the catalog columns")
+    void testAddOversizedProduct() {
+        // Given
+        Product longName = new Product("x".repeat(Product.MAX_NAME_LENGTH + 1), new BigDecimal("100.00"), Country.US);
+        Product longCategory = new Product(null, "Livre", new BigDecimal("10.00"), Country.FRANCE, null,
+                "c".repeat(Product.MAX_CATEGORY_LENGTH + 1), 0);
+        Product longPrice = new Product("Livre",
+                new BigDecimal("1".repeat(Product.MAX_PRICE_PRECISION - Product.MAX_PRICE_SCALE + 1)), Country.FRANCE);
+        Product finePrice = new Product("Livre", new BigDecimal("0." + "1".repeat(Product.MAX_PRICE_SCALE + 1)),
+                Country.FRANCE);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> productService.addProduct(longName));
+        assertThrows(IllegalArgumentException.class, () -> productService.addProduct(longCategory));
+        assertThrows(IllegalArgumentException.class, () -> productService.addProduct(longPrice));
+        assertThrows(IllegalArgumentException.class, () -> productService.addProduct(finePrice));
+        assertTrue(productService.getProductsView().isEmpty());
+    }
+
     @Test
     @DisplayName("Should retrieve product by ID")
     void testGetProductById() {
@@ -120,7 +147,7 @@ class ProductServiceTest {
 
     @Test
     @DisplayName("Should return all products")
-    void testGetAllProducts() {
+    void testGetProductsView() {
         // Given
         Product product1 = new Product("iPhone", new BigDecimal("999.99"), Country.US);
         Product product2 = new Product("Samsung", new BigDecimal("899.99"), Country.CANADA);
@@ -129,25 +156,328 @@ class ProductServiceTest {
         productService.addProduct(product2);
 
         // When
-        var allProducts = productService.getAllProducts();
+        var allProducts = productService.getProductsView();
 
         // Then
         assertEquals(2, allProducts.size());
     }
 
     @Test
-    @DisplayName("Should return defensive copy of all products")
-    void testGetAllProductsDefensiveCopy() {
+    @DisplayName("Should return a live read-only view of all products without copying")
+    void testGetProductsViewIsLive() {
+        // Given
+        Product product = productService.addProduct(new Product("iPhone", new BigDecimal("999.99"), Country.US));
+
+        // When
+        var allProducts1 = productService.getProductsView();
+        var allProducts2 = productService.getProductsView();
+
+        // Then
+        assertSame(allProducts1, allProducts2); // Aucune copie par lecture
+        assertThrows(UnsupportedOperationException.class, () -> allProducts1.remove(product.getId()));
+        Product added = productService.addProduct(new Product("Samsung", new BigDecimal("899.99"), Country.CANADA));
+        assertSame(added, allProducts1.get(added.getId()));
+    }
+
+    @Test
+    @DisplayName("Should store a new instance and leave the given product untouched")
+    void testAddProductDoesNotModifyInput() {
         // Given
         Product product = new Product("iPhone", new BigDecimal("999.99"), Country.US);
-        productService.addProduct(product);
 
         // When
-        var allProducts1 = productService.getAllProducts();
-        var allProducts2 = productService.getAllProducts();
+        ProductService.WriteResult result = productService.createProduct(product);
+
+        // Then
+        assertEquals(ProductService.WriteStatus.APPLIED, result.status());
+        assertNull(product.getId());
+        assertEquals(0, product.getVersion());
+        assertEquals(1, result.product().getVersion());
+        assertEquals(product.withId(result.product().getId()).withVersion(1), result.product());
+    }
+
+    private ProductService serviceWithDeduplication() {
+        return new ProductService(new ProductDeduplicator(true,
+                ProductDeduplicator.NaturalKeyField.values(), 1000, 0.01));
+    }
+
+    @Test
+    @DisplayName("Should return existing product instead of creating a duplicate when deduplication is enabled")
+    void testAddDuplicateProductWithDeduplication() {
+        // Given
+        ProductService service = serviceWithDeduplication();
+        Product original = service.addProduct(new Product("iPhone", new BigDecimal("999.99"), Country.US));
+
+        // When - même clé naturelle, casse et échelle du prix différentes
+        Product duplicate = service.addProduct(new Product(" IPHONE ", new BigDecimal("999.990"), Country.US));
+
+        // Then
+        assertSame(original, duplicate);
+        assertEquals(1, service.getProductsView().size());
+        assertEquals(ProductService.WriteStatus.DUPLICATE,
+                service.createProduct(new Product("iphone", new BigDecimal("999.99"), Country.US)).status());
+    }
+
+    @Test
+    @DisplayName("Should create products differing on a natural key field")
+    void testAddDifferentProductsWithDeduplication() {
+        // Given
+        ProductService service = serviceWithDeduplication();
+        service.addProduct(new Product("iPhone", new BigDecimal("999.99"), Country.US));
+
+        // When
+        service.addProduct(new Product("iPhone", new BigDecimal("999.99"), Country.FRANCE));
+        service.addProduct(new Product("iPhone", new BigDecimal("899.99"), Country.US));
+
+        // Then
+        assertEquals(3, service.getProductsView().size());
+    }
+
+    @Test
+    @DisplayName("Should keep creating duplicates when deduplication is disabled")
+    void testAddDuplicateProductWithoutDeduplication() {
+        // When
+        productService.addProduct(new Product("iPhone", new BigDecimal("999.99"), Country.US));
+        productService.addProduct(new Product("iPhone", new BigDecimal("999.99"), Country.US));
+
+        // Then
+        assertEquals(2, productService.getProductsView().size());
+    }
+
+    @Test
+    @DisplayName("Should summarize a bulk import")
+    void testImportProducts() {
+        // Given
+        ProductService service = serviceWithDeduplication();
+        List<Product> batch = Arrays.asList(
+                new Product("iPhone", new BigDecimal("999.99"), Country.US),
+                new Product("iPhone", new BigDecimal("999.99"), Country.US),
+                new Product("", new BigDecimal("10.00"), Country.US),
+                null,
+                new Product("Samsung", new BigDecimal("899.99"), Country.CANADA)
+        );
+
+        // When
+        ProductService.ImportSummary summary = service.importProducts(batch);
+
+        // Then
+        assertEquals(new ProductService.ImportSummary(5, 2, 1, 2), summary);
+        assertEquals(2, service.getProductsView().size());
+    }
+
+    @Test
+    @DisplayName("Should number each created product in the change log")
+    void testChangeSequence() {
+        // Given
+        ProductService service = serviceWithDeduplication();
+        assertEquals(0, service.getLastSequence());
+
+        // When - le doublon ne modifie pas le catalogue et n'est pas journalisé
+        Product first = service.addProduct(new Product("iPhone", new BigDecimal("999.99"), Country.US));
+        service.addProduct(new Product("iPhone", new BigDecimal("999.99"), Country.US));
+        Product second = service.addProduct(new Product("Samsung", new BigDecimal("899.99"), Country.CANADA));
+
+        // Then
+        assertEquals(2, service.getLastSequence());
+        List<ProductChange> changes = new ArrayList<>();
+        assertTrue(service.readChanges(0, 10, changes));
+        assertEquals(List.of(
+                new ProductChange(1, ProductChangeType.CREATED, first.getId(), first),
+                new ProductChange(2, ProductChangeType.CREATED, second.getId(), second)), changes);
+    }
+
+    @Test
+    @DisplayName("Should report changes that are no longer retained")
+    void testChangeLogOverflow() {
+        // Given - journal limité à 4 mutations
+        ProductService service = new ProductService(ProductDeduplicator.disabled(), 4);
+        for (int i = 0; i < 6; i++) {
+            service.addProduct(new Product("Produit " + i, new BigDecimal("10.00"), Country.US));
+        }
+        List<ProductChange> changes = new ArrayList<>();
+
+        // When & Then - les mutations 1 et 2 ont été écrasées
+        assertFalse(service.readChanges(0, 10, changes));
+        assertTrue(changes.isEmpty());
+        assertTrue(service.readChanges(2, 10, changes));
+        assertEquals(List.of(3L, 4L, 5L, 6L), changes.stream().map(ProductChange::sequence).toList());
+    }
+
+    @Test
+    @DisplayName("Should continue IDs and deduplication over an existing catalog")
+    void testExistingCatalog() {
+        // Given - catalogue déjà enregistré, comme une base rouverte au redémarrage
+        InMemoryProductRepository repository = new InMemoryProductRepository();
+        Product existing = new Product(41L, "iPhone", new BigDecimal("999.99"), Country.US, null, null, 3);
+        repository.save(existing);
+
+        // When
+        ProductService service = new ProductService(new ProductDeduplicator(true,
+                ProductDeduplicator.NaturalKeyField.values(), 1000, 0.01), 16, new IdAllocator(), repository);
+        ProductService.WriteResult duplicate = service.createProduct(
+                new Product("iPhone", new BigDecimal("999.99"), Country.US));
+        Product created = service.addProduct(new Product("Samsung", new BigDecimal("899.99"), Country.CANADA));
+
+        // Then
+        assertSame(existing, service.getProductById(41L).orElseThrow());
+        assertEquals(ProductService.WriteStatus.DUPLICATE, duplicate.status());
+        assertSame(existing, duplicate.product());
+        assertTrue(created.getId() > 41L);
+        assertSame(created, repository.findById(created.getId()));
+    }
+
+    @Test
+    @DisplayName("Should apply replicated products once, keeping their ID")
+    void testReplicateProduct() {
+        // Given
+        ProductService follower = new ProductService();
+        List<Product> indexed = new ArrayList<>();
+        follower.addListener(indexed::add);
+        Product replicated = new Product(42L, "Replicated", new BigDecimal("10.00"), Country.US);
+
+        // When
+        boolean added = follower.replicateProduct(replicated);
+        boolean addedAgain = follower.replicateProduct(new Product(42L, "Replicated", new BigDecimal("10.00"), Country.US));
+
+        // Then
+        assertTrue(added);
+        assertFalse(addedAgain);
+        assertEquals(List.of(replicated), indexed);
+        assertEquals(1, follower.getLastSequence());
+        assertTrue(follower.getProductById(42L).isPresent());
+        assertThrows(IllegalArgumentException.class,
+                () -> follower.replicateProduct(new Product("No id", new BigDecimal("1.00"), Country.US)));
+
+        // Une création locale ne réutilise pas l'ID répliqué
+        assertEquals(43L, follower.addProduct(new Product("Local", new BigDecimal("1.00"), Country.US)).getId().longValue());
+    }
+
+    @Test
+    @DisplayName("Should update a product only at the expected version")
+    void testUpdateProduct() {
+        // Given
+        Product saved = productService.addProduct(new Product("Laptop", new BigDecimal("1000.00"), Country.US));
+        Product changes = new Product("Laptop Pro", new BigDecimal("1200.00"), Country.US);
+
+        // When
+        ProductService.WriteResult updated = productService.updateProduct(saved.getId(), 1, changes);
+        ProductService.WriteResult stale = productService.updateProduct(saved.getId(), 1, changes);
+        ProductService.WriteResult missing = productService.updateProduct(999L, 1, changes);
+
+        // Then
+        assertEquals(ProductService.WriteStatus.APPLIED, updated.status());
+        assertEquals(2, updated.product().getVersion());
+        assertEquals("Laptop Pro", productService.getProductById(saved.getId()).orElseThrow().getName());
+        // L'instance lue avant la mise à jour n'est pas modifiée
+        assertEquals("Laptop", saved.getName());
+        assertEquals(1, saved.getVersion());
+
+        assertEquals(ProductService.WriteStatus.VERSION_CONFLICT, stale.status());
+        assertSame(updated.product(), stale.product());
+        assertEquals(ProductService.WriteStatus.NOT_FOUND, missing.status());
+        assertThrows(IllegalArgumentException.class, () -> productService.updateProduct(saved.getId(), 2,
+                new Product("", new BigDecimal("1.00"), Country.US)));
+    }
+
+    @Test
+    @DisplayName("Should delete a product, checking its version when given")
+    void testDeleteProduct() {
+        // Given
+        Product first = productService.addProduct(new Product("First", new BigDecimal("10.00"), Country.US));
+        Product second = productService.addProduct(new Product("Second", new BigDecimal("20.00"), Country.US));
+        List<Product> removed = new ArrayList<>();
+        productService.addListener(new ProductListener() {
+            @Override
+            public void onProductAdded(Product product) {
+            }
+
+            @Override
+            public void onProductRemoved(Product product) {
+                removed.add(product);
+            }
+        });
+
+        // When & Then
+        assertEquals(ProductService.WriteStatus.VERSION_CONFLICT, productService.deleteProduct(first.getId(), 5L).status());
+        assertEquals(ProductService.WriteStatus.APPLIED, productService.deleteProduct(first.getId(), 1L).status());
+        assertEquals(ProductService.WriteStatus.APPLIED, productService.deleteProduct(second.getId(), null).status());
+        assertEquals(ProductService.WriteStatus.NOT_FOUND, productService.deleteProduct(first.getId(), null).status());
+        assertTrue(productService.getProductsView().isEmpty());
+        assertEquals(List.of(first, second), removed);
+    }
+
+    @Test
+    @DisplayName("Should log updates and deletions in the change log")
+    void testUpdateAndDeleteChanges() {
+        // Given
+        Product saved = productService.addProduct(new Product("Tablet", new BigDecimal("300.00"), Country.FRANCE));
+        productService.updateProduct(saved.getId(), 1, new Product("Tablet", new BigDecimal("280.00"), Country.FRANCE));
+        productService.deleteProduct(saved.getId(), 2L);
+        List<ProductChange> changes = new ArrayList<>();
+
+        // When
+        productService.readChanges(0, 10, changes);
+
+        // Then
+        assertEquals(List.of(ProductChangeType.CREATED, ProductChangeType.UPDATED, ProductChangeType.DELETED),
+                changes.stream().map(ProductChange::type).toList());
+        assertEquals(new BigDecimal("280.00"), changes.get(1).product().getPrice());
+        assertNull(changes.get(2).product());
+        assertEquals(saved.getId(), changes.get(2).productId());
+    }
+
+    @Test
+    @DisplayName("Should not lose concurrent updates retried after a conflict")
+    void testConcurrentUpdates() throws InterruptedException {
+        // Given
+        Product saved = productService.addProduct(new Product("Counter", new BigDecimal("0"), Country.US));
+        int threads = 8;
+        int incrementsPerThread = 500;
+        Thread[] writers = new Thread[threads];
+
+        // When - chaque écrivain relit et réessaie tant que sa version est dépassée
+        for (int i = 0; i < threads; i++) {
+            writers[i] = new Thread(() -> {
+                for (int n = 0; n < incrementsPerThread; n++) {
+                    ProductService.WriteResult result;
+                    do {
+                        Product current = productService.getProductById(saved.getId()).orElseThrow();
+                        result = productService.updateProduct(saved.getId(), current.getVersion(), new Product(
+                                "Counter", current.getPrice().add(BigDecimal.ONE), Country.US));
+                    } while (result.status() == ProductService.WriteStatus.VERSION_CONFLICT);
+                }
+            });
+            writers[i].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        // Then
+        Product result = productService.getProductById(saved.getId()).orElseThrow();
+        assertEquals(new BigDecimal(threads * incrementsPerThread), result.getPrice());
+        assertEquals(1 + threads * incrementsPerThread, result.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should apply replicated updates and removals in version order")
+    void testReplicateUpdatesAndRemovals() {
+        // Given
+        ProductService follower = new ProductService();
+        follower.replicateProduct(new Product(7L, "Phone", new BigDecimal("500.00"), Country.US, null, null, 1));
+
+        // When
+        boolean newer = follower.replicateProduct(
+                new Product(7L, "Phone", new BigDecimal("450.00"), Country.US, null, null, 2));
+        boolean older = follower.replicateProduct(
+                new Product(7L, "Phone", new BigDecimal("500.00"), Country.US, null, null, 1));
 
         // Then
-        assertNotSame(allProducts1, allProducts2); // Différentes instances
-        assertEquals(allProducts1.size(), allProducts2.size());
+        assertTrue(newer);
+        assertFalse(older);
+        assertEquals(new BigDecimal("450.00"), follower.getProductById(7L).orElseThrow().getPrice());
+        assertTrue(follower.replicateRemoval(7L));
+        assertFalse(follower.replicateRemoval(7L));
+        assertTrue(follower.getProductById(7L).isEmpty());
     }
-}
\ No newline at end of file
+}
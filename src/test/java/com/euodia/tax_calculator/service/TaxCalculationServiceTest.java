@@ -2,6 +2,8 @@ package com.euodia.tax_calculator.service;
 
 import com.euodia.tax_calculator.model.Country;
 import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.pricing.TaxRate;
+import com.euodia.tax_calculator.rules.TaxRuleService;
 import com.euodia.tax_calculator.strategy.CanadaTaxStrategy;
 import com.euodia.tax_calculator.strategy.FranceTaxStrategy;
 import com.euodia.tax_calculator.strategy.TaxStrategy;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
 
 import java.math.BigDecimal;
 
@@ -175,4 +178,23 @@ class TaxCalculationServiceTest {
         assertSame(canadaTaxStrategy, canadaStrategy);
         assertSame(franceTaxStrategy, franceStrategy);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should apply category rules before the country standard rate")
+    void testCategoryRules() {
+        // Given
+        TaxCalculationService service = new TaxCalculationService(new UsTaxStrategy(), new CanadaTaxStrategy(),
+                new FranceTaxStrategy(), new TaxRuleService(new ByteArrayResource(
+                "FRANCE,food,0.055\nUS,food,EXEMPT\nCANADA,books,0.05\n".getBytes())));
+
+        // When & Then
+        assertEquals(new BigDecimal("5.50"), service.calculateTax(franceProduct.withCategory("food")));
+        assertEquals(new BigDecimal("0.00"), service.calculateTax(usProduct.withCategory("food")));
+        assertEquals(new BigDecimal("5.00"), service.calculateTax(canadaProduct.withCategory("books")));
+        assertEquals(new BigDecimal("20.00"), service.calculateTax(franceProduct.withCategory("electronics")));
+        assertEquals(new BigDecimal("8.50"), service.calculateTax(usProduct));
+        assertEquals(new TaxRate(55, 1000), service.getTaxRate(Country.FRANCE, "food"));
+        assertEquals(new TaxRate(2, 10), service.getTaxRate(Country.FRANCE, null));
+        assertNull(service.findRule(franceProduct));
+    }
+}
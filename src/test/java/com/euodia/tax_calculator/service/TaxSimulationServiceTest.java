@@ -0,0 +1,159 @@
+package com.euodia.tax_calculator.service;
+
+import com.euodia.tax_calculator.dto.CountryTaxSimulation;
+import com.euodia.tax_calculator.dto.ProductTaxImpact;
+import com.euodia.tax_calculator.dto.TaxSimulationResponse;
+import com.euodia.tax_calculator.fx.FxRateService;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Currency;
+import com.euodia.tax_calculator.model.Product;
+import com.euodia.tax_calculator.rules.TaxRuleService;
+import com.euodia.tax_calculator.strategy.CanadaTaxStrategy;
+import com.euodia.tax_calculator.strategy.FranceTaxStrategy;
+import com.euodia.tax_calculator.strategy.UsTaxStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour TaxSimulationService
+ */
+@DisplayName("Tax Simulation Service Tests")
+class TaxSimulationServiceTest {
+
+    private ProductService productService;
+    private TaxSimulationService simulationService;
+
+    @BeforeEach
+    void setUp() {
+        productService = new ProductService();
+        TaxCalculationService taxCalculationService = new TaxCalculationService(
+                new UsTaxStrategy(), new CanadaTaxStrategy(), new FranceTaxStrategy(),
+                new TaxRuleService(new ByteArrayResource("FRANCE,food,0.055\nFRANCE,medicine,EXEMPT\n".getBytes())));
+        FxRateService fxRateService = new FxRateService(
+                new ByteArrayResource("USD,EUR,0.50\nUSD,CAD,1.25\nEUR,CAD,2.50\n".getBytes()));
+        simulationService = new TaxSimulationService(productService, taxCalculationService, fxRateService, 4, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulationService.shutdown();
+    }
+
+    private Product add(String name, String price, Country country) {
+        return productService.addProduct(new Product(name, new BigDecimal(price), country));
+    }
+
+    @Test
+    @DisplayName("Should keep category rule rates when simulating the standard rate")
+    void testSimulateKeepsCategoryRules() {
+        // Given - 100.00 au taux normal, 100.00 de nourriture à 5.5 %, 100.00 de médicaments exonérés
+        add("Standard", "100.00", Country.FRANCE);
+        productService.addProduct(new Product("Food", new BigDecimal("100.00"), Country.FRANCE).withCategory("food"));
+        productService.addProduct(
+                new Product("Medicine", new BigDecimal("100.00"), Country.FRANCE).withCategory("medicine"));
+
+        // When
+        TaxSimulationResponse response = simulationService.simulate(Map.of(Country.FRANCE, new BigDecimal("0.25")), 10);
+
+        // Then
+        CountryTaxSimulation france = response.getCountries().get(0);
+        assertEquals(3, france.getProductCount());
+        assertEquals(new BigDecimal("25.50"), france.getCurrentTaxTotal());
+        assertEquals(new BigDecimal("30.50"), france.getSimulatedTaxTotal());
+        assertEquals("Standard", france.getMostAffected().get(0).getName());
+        assertEquals(new BigDecimal("0.00"), france.getMostAffected().get(1).getTaxDelta());
+    }
+
+    @Test
+    @DisplayName("Should compute tax totals and deltas for the simulated country only")
+    void testSimulateFranceRate() {
+        // Given - TVA actuelle 20 % : 20.00 + 10.00
+        add("Expensive", "100.00", Country.FRANCE);
+        add("Cheap", "50.00", Country.FRANCE);
+        add("US Product", "100.00", Country.US);
+
+        // When
+        TaxSimulationResponse response = simulationService.simulate(Map.of(Country.FRANCE, new BigDecimal("0.21")), 10);
+
+        // Then
+        assertEquals(2, response.getSimulatedProducts());
+        assertEquals(1, response.getCountries().size());
+        CountryTaxSimulation france = response.getCountries().get(0);
+        assertEquals(Country.FRANCE, france.getCountry());
+        assertEquals(Currency.EUR, france.getCurrency());
+        assertEquals(new BigDecimal("30.00"), france.getCurrentTaxTotal());
+        assertEquals(new BigDecimal("31.50"), france.getSimulatedTaxTotal());
+        assertEquals(new BigDecimal("1.50"), france.getTaxDelta());
+        assertEquals(List.of("Expensive", "Cheap"),
+                france.getMostAffected().stream().map(ProductTaxImpact::getName).toList());
+        assertEquals(new BigDecimal("1.00"), france.getMostAffected().get(0).getTaxDelta());
+    }
+
+    @Test
+    @DisplayName("Should match per-product BigDecimal computation on a large catalog")
+    void testLargeCatalogMatchesSequentialComputation() {
+        // Given - assez de produits pour découper le parcours en plusieurs tâches
+        Random random = new Random(7);
+        BigDecimal expectedCurrent = BigDecimal.ZERO;
+        BigDecimal expectedSimulated = BigDecimal.ZERO;
+        FranceTaxStrategy strategy = new FranceTaxStrategy();
+        for (int i = 0; i < 50_000; i++) {
+            // Quelques prix à trois décimales passent par le calcul unitaire
+            BigDecimal price = BigDecimal.valueOf(random.nextInt(1_000_000), i % 100 == 0 ? 3 : 2);
+            Product product = productService.addProduct(new Product("Product " + i, price, Country.FRANCE));
+            expectedCurrent = expectedCurrent.add(strategy.calculateTax(product));
+            expectedSimulated = expectedSimulated.add(price.multiply(new BigDecimal("0.055"))
+                    .setScale(2, RoundingMode.HALF_UP));
+        }
+
+        // When
+        TaxSimulationResponse response = simulationService.simulate(
+                Map.of(Country.FRANCE, new BigDecimal("0.055")), 5);
+
+        // Then
+        CountryTaxSimulation france = response.getCountries().get(0);
+        assertEquals(50_000, france.getProductCount());
+        assertEquals(0, response.getSkippedProducts());
+        assertEquals(expectedCurrent, france.getCurrentTaxTotal());
+        assertEquals(expectedSimulated, france.getSimulatedTaxTotal());
+        assertEquals(5, france.getMostAffected().size());
+    }
+
+    @Test
+    @DisplayName("Should express taxes of foreign-currency products in the country currency")
+    void testForeignCurrencyProduct() {
+        // Given - 100 USD vendus en France, 1 USD = 0.50 EUR
+        Product product = new Product("Dollar", new BigDecimal("100.00"), Country.FRANCE)
+                .withCurrency(Currency.USD);
+        productService.addProduct(product);
+
+        // When
+        CountryTaxSimulation france = simulationService
+                .simulate(Map.of(Country.FRANCE, new BigDecimal("0.10")), 1).getCountries().get(0);
+
+        // Then
+        assertEquals(new BigDecimal("10.00"), france.getCurrentTaxTotal());
+        assertEquals(new BigDecimal("5.00"), france.getSimulatedTaxTotal());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid rates")
+    void testInvalidRates() {
+        assertThrows(IllegalArgumentException.class,
+                () -> simulationService.simulate(Map.of(Country.FRANCE, new BigDecimal("-0.1")), 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> simulationService.simulate(Map.of(Country.FRANCE, new BigDecimal("1.5")), 10));
+        assertThrows(IllegalArgumentException.class, () -> simulationService.simulate(Map.of(), 10));
+    }
+}
@@ -0,0 +1,144 @@
+package com.euodia.tax_calculator.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour CompressedPostingList
+ */
+@DisplayName("Compressed Posting List Tests")
+class CompressedPostingListTest {
+
+    @Test
+    @DisplayName("Should keep ids sorted and distinct, even when added out of order")
+    void testOutOfOrderAdds() {
+        // Given
+        CompressedPostingList list = new CompressedPostingList();
+
+        // When
+        list.add(10);
+        list.add(300_000);
+        list.add(5);
+        list.add(42);
+        list.add(5);
+
+        // Then
+        assertArrayEquals(new long[]{5, 10, 42, 300_000}, list.toArray());
+        assertEquals(4, list.size());
+    }
+
+    @Test
+    @DisplayName("Should compress close ids to about one byte per id")
+    void testCompression() {
+        // Given
+        CompressedPostingList list = new CompressedPostingList();
+
+        // When
+        for (long id = 1; id <= 10_000; id++) {
+            list.add(id);
+        }
+
+        // Then
+        assertEquals(10_000, list.size());
+        assertTrue(list.sizeInBytes() < 20_000);
+    }
+
+    @Test
+    @DisplayName("Iterator should not see ids added after its creation")
+    void testIteratorSnapshot() {
+        // Given
+        CompressedPostingList list = new CompressedPostingList();
+        list.add(1);
+        list.add(2);
+
+        // When
+        PrimitiveIterator.OfLong cursor = list.iterator();
+        list.add(3);
+
+        // Then
+        assertEquals(1, cursor.nextLong());
+        assertEquals(2, cursor.nextLong());
+        assertFalse(cursor.hasNext());
+    }
+
+    @Test
+    @DisplayName("Should reject non positive ids")
+    void testRejectInvalidId() {
+        assertThrows(IllegalArgumentException.class, () -> new CompressedPostingList().add(0));
+    }
+
+    @Test
+    @DisplayName("Should remove ids, including pending ones, without affecting open iterators")
+    void testRemove() {
+        // Given
+        CompressedPostingList list = new CompressedPostingList();
+        list.add(10);
+        list.add(300);
+        list.add(5);
+        PrimitiveIterator.OfLong cursor = list.iterator();
+
+        // When
+        boolean removed = list.remove(300);
+        boolean removedPending = list.remove(5);
+        boolean removedMissing = list.remove(42);
+
+        // Then
+        assertTrue(removed);
+        assertTrue(removedPending);
+        assertFalse(removedMissing);
+        assertArrayEquals(new long[]{10}, list.toArray());
+        assertEquals(1, list.size());
+        assertEquals(5, cursor.nextLong());
+
+        // Un ID retiré peut être ajouté de nouveau
+        assertTrue(list.add(300));
+        assertArrayEquals(new long[]{10, 300}, list.toArray());
+    }
+
+    @Test
+    @DisplayName("Should keep a logarithmic number of runs when ids from per-thread blocks interleave")
+    void testInterleavedBlocks() {
+        // Given - 8 threads consommant chacun leurs blocs de 1000 IDs, un ID à tour de rôle
+        CompressedPostingList list = new CompressedPostingList();
+        TreeSet<Long> expected = new TreeSet<>();
+        Random random = new Random(42);
+        int threads = 8;
+        long[] next = new long[threads];
+        for (int t = 0; t < threads; t++) {
+            next[t] = 1 + t * 1_000L;
+        }
+        long nextBlock = threads * 1_000L + 1;
+
+        // When
+        for (int i = 0; i < 200_000; i++) {
+            int t = random.nextInt(threads);
+            long id = next[t]++;
+            if (next[t] % 1_000 == 1) {
+                next[t] = nextBlock;
+                nextBlock += 1_000;
+            }
+            list.add(id);
+            expected.add(id);
+        }
+
+        // Then
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(), list.toArray());
+        assertEquals(expected.size(), list.size());
+        assertTrue(list.getRunCount() <= 20, "runs: " + list.getRunCount());
+        assertTrue(list.sizeInBytes() < 3L * expected.size(), "bytes: " + list.sizeInBytes());
+
+        // Les suppressions et ajouts suivants restent cohérents avec plusieurs séries
+        assertTrue(list.remove(expected.first()));
+        assertTrue(list.remove(expected.last()));
+        assertFalse(list.remove(expected.last()));
+        expected.remove(expected.first());
+        expected.remove(expected.last());
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(), list.toArray());
+    }
+}
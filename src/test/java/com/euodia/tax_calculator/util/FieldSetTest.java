@@ -0,0 +1,102 @@
+package com.euodia.tax_calculator.util;
+
+import com.euodia.tax_calculator.dto.ProductField;
+import com.euodia.tax_calculator.dto.ProductWithTaxResponse;
+import com.euodia.tax_calculator.dto.QuoteField;
+import com.euodia.tax_calculator.model.Country;
+import com.euodia.tax_calculator.model.Currency;
+import com.euodia.tax_calculator.model.Product;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour FieldSet et SparseJson
+ */
+@DisplayName("Field Set Tests")
+class FieldSetTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static ProductWithTaxResponse quote() {
+        return new ProductWithTaxResponse(42L, "Laptop", new BigDecimal("100.00"), Country.FRANCE, Currency.EUR,
+                new BigDecimal("20.000"), new BigDecimal("120.000"), "France VAT 20%");
+    }
+
+    @Test
+    @DisplayName("Should parse requested fields in declaration order")
+    void testParse() {
+        // When
+        FieldSet<ProductWithTaxResponse> fields = QuoteField.SCHEMA.parse(" finalPrice, id,,id ");
+
+        // Then
+        assertTrue(fields.contains(QuoteField.ID));
+        assertTrue(fields.contains(QuoteField.FINAL_PRICE));
+        assertFalse(fields.contains(QuoteField.TAX_STRATEGY_USED));
+        assertTrue(fields.containsAny(QuoteField.TAX_AMOUNT, QuoteField.FINAL_PRICE));
+        assertEquals("[id, finalPrice]", fields.toString());
+        assertSame(fields, QuoteField.SCHEMA.parse(" finalPrice, id,,id "));
+        assertSame(QuoteField.SCHEMA.all(), QuoteField.SCHEMA.parse(
+                "id,name,basePrice,country,currency,taxAmount,finalPrice,taxStrategyUsed"));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown or empty field lists")
+    void testInvalidFields() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> QuoteField.SCHEMA.parse("id,price"));
+        assertThrows(IllegalArgumentException.class, () -> QuoteField.SCHEMA.parse(" , "));
+        assertThrows(IllegalArgumentException.class, () -> ProductField.SCHEMA.parse("finalPrice"));
+    }
+
+    @Test
+    @DisplayName("Should write only the requested fields, as the full serialization does")
+    void testSparseObject() throws Exception {
+        // Given
+        ProductWithTaxResponse quote = quote();
+        quote.setTaxStrategyUsed(null);
+
+        // When
+        String sparse = objectMapper.writeValueAsString(
+                SparseJson.of(quote, QuoteField.SCHEMA.parse("id,finalPrice,taxStrategyUsed")));
+        String all = objectMapper.writeValueAsString(SparseJson.of(quote, QuoteField.SCHEMA.all()));
+
+        // Then
+        assertEquals("{\"id\":42,\"finalPrice\":120.000,\"taxStrategyUsed\":null}", sparse);
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(quote)), objectMapper.readTree(all));
+    }
+
+    @Test
+    @DisplayName("Should project lists and product maps")
+    void testSparseCollections() throws Exception {
+        // Given
+        Product laptop = new Product(1L, "Laptop", new BigDecimal("999.99"), Country.US);
+        Product phone = new Product(2L, "Phone", new BigDecimal("500.00"), Country.CANADA, null, "electronics", 3);
+        Map<Long, Product> catalog = new LinkedHashMap<>();
+        catalog.put(1L, laptop);
+        catalog.put(2L, phone);
+
+        // When
+        JsonNode quotes = objectMapper.readTree(objectMapper.writeValueAsString(
+                SparseJson.list(List.of(quote(), quote()), QuoteField.SCHEMA.parse("finalPrice"))));
+        JsonNode products = objectMapper.readTree(objectMapper.writeValueAsString(
+                SparseJson.map(catalog, ProductField.SCHEMA.parse("currency,version"))));
+
+        // Then
+        assertEquals(2, quotes.size());
+        assertEquals(1, quotes.get(0).size());
+        assertEquals(120.0, quotes.get(1).get("finalPrice").asDouble());
+        assertEquals("USD", products.get("1").get("currency").asText());
+        assertEquals("CAD", products.get("2").get("currency").asText());
+        assertEquals(3, products.get("2").get("version").asLong());
+        assertEquals(2, products.get("2").size());
+    }
+}
@@ -0,0 +1,100 @@
+package com.euodia.tax_calculator.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour GzipWritableByteChannel
+ */
+@DisplayName("Gzip Writable Byte Channel Tests")
+class GzipWritableByteChannelTest {
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Test
+    @DisplayName("Should produce a valid gzip stream across many buffer refills")
+    void testRoundTrip() throws IOException {
+        // Given - données peu compressibles, bien plus grandes que le tampon de sortie
+        byte[] data = new byte[1_000_000];
+        new Random(42).nextBytes(data);
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        // When
+        try (GzipWritableByteChannel channel = new GzipWritableByteChannel(
+                Channels.newChannel(target), Deflater.BEST_SPEED, 4096)) {
+            for (int offset = 0; offset < data.length; offset += 10_000) {
+                ByteBuffer chunk = ByteBuffer.wrap(data, offset, Math.min(10_000, data.length - offset));
+                assertEquals(chunk.remaining(), channel.write(chunk));
+                assertFalse(chunk.hasRemaining());
+            }
+        }
+
+        // Then
+        assertArrayEquals(data, gunzip(target.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("Should let the caller reuse its buffer between writes")
+    void testReusedSourceBuffer() throws IOException {
+        // Given - un seul tampon direct, vidé puis rempli à nouveau à chaque écriture
+        byte[] data = "id,name\n1,Chaise\n2,Table\n".repeat(1000).getBytes();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        // When
+        try (GzipWritableByteChannel channel = new GzipWritableByteChannel(
+                Channels.newChannel(target), Deflater.BEST_SPEED, 4096)) {
+            for (int offset = 0; offset < data.length; offset += buffer.capacity()) {
+                buffer.clear();
+                buffer.put(data, offset, Math.min(buffer.capacity(), data.length - offset)).flip();
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        // Then
+        assertArrayEquals(data, gunzip(target.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("Should produce a valid gzip stream for empty input")
+    void testEmptyInput() throws IOException {
+        // Given
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        // When
+        new GzipWritableByteChannel(Channels.newChannel(target), Deflater.DEFAULT_COMPRESSION, 64).close();
+
+        // Then
+        assertEquals(0, gunzip(target.toByteArray()).length);
+    }
+
+    @Test
+    @DisplayName("Should reject writes after close")
+    void testWriteAfterClose() throws IOException {
+        // Given
+        GzipWritableByteChannel channel = new GzipWritableByteChannel(
+                Channels.newChannel(new ByteArrayOutputStream()), Deflater.BEST_SPEED, 64);
+        channel.close();
+
+        // When & Then
+        assertFalse(channel.isOpen());
+        assertThrows(ClosedChannelException.class, () -> channel.write(ByteBuffer.allocate(1)));
+    }
+}
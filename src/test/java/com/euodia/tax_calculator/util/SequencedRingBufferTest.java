@@ -0,0 +1,100 @@
+package com.euodia.tax_calculator.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour SequencedRingBuffer
+ */
+@DisplayName("Sequenced Ring Buffer Tests")
+class SequencedRingBufferTest {
+
+    @Test
+    @DisplayName("Should number elements and read them back after a sequence")
+    void testAppendAndRead() {
+        // Given
+        SequencedRingBuffer<String> buffer = new SequencedRingBuffer<>(8);
+
+        // When
+        long first = buffer.append("a");
+        buffer.append("b");
+        long last = buffer.append("c");
+
+        // Then
+        assertEquals(1, first);
+        assertEquals(3, last);
+        assertEquals(3, buffer.getLastSequence());
+        List<String> read = new ArrayList<>();
+        assertTrue(buffer.readAfter(1, 10, read));
+        assertEquals(List.of("b", "c"), read);
+    }
+
+    @Test
+    @DisplayName("Should read at most the requested number of elements")
+    void testReadLimit() {
+        // Given
+        SequencedRingBuffer<Integer> buffer = new SequencedRingBuffer<>(8);
+        for (int i = 1; i <= 5; i++) {
+            buffer.append(i);
+        }
+        List<Integer> read = new ArrayList<>();
+
+        // When & Then
+        assertTrue(buffer.readAfter(0, 2, read));
+        assertEquals(List.of(1, 2), read);
+        read.clear();
+        assertTrue(buffer.readAfter(5, 2, read));
+        assertTrue(read.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should detect overwritten elements and leave the target unchanged")
+    void testOverwrittenElements() {
+        // Given - capacité arrondie à 4
+        SequencedRingBuffer<Integer> buffer = new SequencedRingBuffer<>(3);
+        for (int i = 1; i <= 6; i++) {
+            buffer.append(i);
+        }
+        List<Integer> read = new ArrayList<>(List.of(0));
+
+        // When & Then
+        assertEquals(4, buffer.getCapacity());
+        assertFalse(buffer.readAfter(1, 10, read));
+        assertEquals(List.of(0), read);
+        assertTrue(buffer.readAfter(2, 10, read));
+        assertEquals(List.of(0, 3, 4, 5, 6), read);
+    }
+
+    @Test
+    @DisplayName("Should make reserved elements visible only once all previous ones are published")
+    void testPublishOutOfOrder() {
+        // Given
+        SequencedRingBuffer<String> buffer = new SequencedRingBuffer<>(8);
+        long first = buffer.reserve();
+        long second = buffer.reserve();
+
+        // When
+        buffer.publish(second, "b");
+        long beforeFirst = buffer.getLastSequence();
+        buffer.publish(first, "a");
+
+        // Then
+        assertEquals(0, beforeFirst);
+        assertEquals(2, buffer.getLastSequence());
+        List<String> read = new ArrayList<>();
+        assertTrue(buffer.readAfter(0, 10, read));
+        assertEquals(List.of("a", "b"), read);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid capacities")
+    void testInvalidCapacity() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new SequencedRingBuffer<>(0));
+    }
+}
@@ -0,0 +1,103 @@
+package com.euodia.tax_calculator.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour SingleFlight
+ */
+@DisplayName("Single Flight Tests")
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("Should run one computation for concurrent calls with the same key")
+    void testConcurrentCallsAreCoalesced() throws Exception {
+        // Given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            // When - le premier appel bloque tant que les autres ne sont pas arrivés
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                executions.incrementAndGet();
+                loaderStarted.countDown();
+                await(releaseLoader);
+                return "quote";
+            })));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                    executions.incrementAndGet();
+                    return "other";
+                })));
+            }
+            while (singleFlight.getCoalescedCount() < callers - 1) {
+                Thread.sleep(5);
+            }
+            releaseLoader.countDown();
+
+            // Then
+            for (Future<String> result : results) {
+                assertEquals("quote", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, executions.get());
+            assertEquals(1, singleFlight.getExecutionCount());
+            assertEquals(0.875, singleFlight.getCoalescingRatio(), 1e-9);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not cache results once the computation is finished")
+    void testNoCaching() {
+        // Given
+        SingleFlight<Long, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger executions = new AtomicInteger();
+
+        // When
+        singleFlight.execute(1L, executions::incrementAndGet);
+        singleFlight.execute(1L, executions::incrementAndGet);
+
+        // Then
+        assertEquals(2, executions.get());
+        assertEquals(0, singleFlight.getCoalescingRatio(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should propagate the computation exception")
+    void testExceptionPropagation() {
+        // Given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> singleFlight.execute(1L, () -> {
+            throw new IllegalArgumentException("unsupported country");
+        }));
+        assertEquals("ok", singleFlight.execute(1L, () -> "ok"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}